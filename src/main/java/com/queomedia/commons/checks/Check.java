@@ -3,8 +3,15 @@ package com.queomedia.commons.checks;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
 
 import com.queomedia.commons.equals.EqualsChecker;
 import com.queomedia.commons.equals.NativeEqualsChecker;
@@ -26,7 +33,7 @@ public final class Check {
      * Define the alternative action when the normal check fail action is deactivated.
      */
     @Deprecated
-    private static AlternativFailureAction alternativeFailureAction = AlternativFailureAction.NONE;
+    private static volatile AlternativFailureAction alternativeFailureAction = AlternativFailureAction.NONE;
 
     /**
      * Activate the check. If this value is true, then the check do its default
@@ -35,7 +42,32 @@ public final class Check {
      * failure.
      */
     @Deprecated
-    private static boolean activeArgumentCheck = true;
+    private static volatile boolean activeArgumentCheck = true;
+
+    /** Limit the lines written by the {@link AlternativFailureAction#LOG} failure action. */
+    private static volatile FailureLogLimiter failureLogLimiter = new FailureLogLimiter();
+
+    /** Receives all failures that are handled by the alternative failure action, can be {@code null}. */
+    private static volatile CheckFailureSink failureSink;
+
+    /** Enable the checks of cost tier {@link CheckCost#LINEAR}. Also read by {@link CheckResults}. */
+    static volatile boolean linearChecksEnabled = true;
+
+    /** Enable the checks of cost tier {@link CheckCost#SUPER_LINEAR}. Also read by {@link CheckResults}. */
+    static volatile boolean superLinearChecksEnabled = true;
+
+    /** Capture the stack trace of the exceptions of failed argument checks. */
+    private static volatile boolean failureStackTraces = true;
+
+    /** The maximal number of remembered {@link #NULL_HOSTILE_COLLECTIONS}. */
+    private static final int MAX_NULL_HOSTILE_COLLECTIONS = 64;
+
+    /** The collection classes whose {@code contains(null)} threw a {@code NullPointerException}. */
+    private static final ConcurrentMap<Class<?>, Boolean> NULL_HOSTILE_COLLECTIONS =
+            new ConcurrentHashMap<Class<?>, Boolean>();
+
+    /** Compiled patterns for the checks that take a regular expression as string. */
+    private static final PatternCache PATTERN_CACHE = new PatternCache(256);
 
     /**
      * Util classes need no constructor.
@@ -94,6 +126,133 @@ public final class Check {
         Check.activeArgumentCheck = activeArgumentCheck;
     }
 
+    /**
+     * Checks if the checks of the cost tier are enabled.
+     *
+     * @param costTier the cost tier
+     * @return true, if the checks are enabled ({@link CheckCost#CONSTANT} is always enabled)
+     */
+    public static boolean isCostTierEnabled(final CheckCost costTier) {
+        Check.notNullArgument(costTier, "costTier");
+
+        switch (costTier) {
+        case CONSTANT:
+            return true;
+        case LINEAR:
+            return Check.linearChecksEnabled;
+        case SUPER_LINEAR:
+            return Check.superLinearChecksEnabled;
+        default:
+            throw new NotImplementedCaseExecption("costTier " + costTier + " is not implemented");
+        }
+    }
+
+    /**
+     * Enable or disable the checks of the cost tier. A disabled check returns immediately.
+     * The tier {@link CheckCost#CONSTANT} can not be disabled.
+     *
+     * @param costTier the cost tier {@link CheckCost#LINEAR} or {@link CheckCost#SUPER_LINEAR}
+     * @param enabled true to enable the checks, false to disable them
+     * @throws IllegalArgumentException if the tier {@link CheckCost#CONSTANT} should be disabled - also if the
+     *             argument checks are not active
+     */
+    public static void setCostTierEnabled(final CheckCost costTier, final boolean enabled) {
+        Check.notNullArgument(costTier, "costTier");
+
+        switch (costTier) {
+        case CONSTANT:
+            if (!enabled) {
+                throw new IllegalArgumentException("the cost tier CONSTANT can not be disabled");
+            }
+            return;
+        case LINEAR:
+            Check.linearChecksEnabled = enabled;
+            return;
+        case SUPER_LINEAR:
+            Check.superLinearChecksEnabled = enabled;
+            return;
+        default:
+            throw new NotImplementedCaseExecption("costTier " + costTier + " is not implemented");
+        }
+    }
+
+    /**
+     * Checks if the exceptions of failed argument checks capture their stack trace.
+     *
+     * @return true, if the stack traces are captured (the default)
+     */
+    public static boolean isFailureStackTraces() {
+        return Check.failureStackTraces;
+    }
+
+    /**
+     * Enable or disable the stack traces of the exceptions of failed argument checks. Capturing the stack trace is
+     * most of the cost of a failed check, so a service that rejects many malformed requests can disable it.
+     *
+     * Without stack traces the failed constant time argument checks throw an {@link IllegalArgumentException}
+     * without stack trace, whose message is rendered when it is requested. Null arguments are still reported by an
+     * {@link ArgumentNullException} with stack trace. The check name of the statistics and the code location of the
+     * failure sink and the failure log limiter are unknown for exceptions without stack trace, unless the check uses
+     * a {@link CheckSite}.
+     *
+     * @param failureStackTraces true to capture the stack traces
+     */
+    public static void setFailureStackTraces(final boolean failureStackTraces) {
+        Check.failureStackTraces = failureStackTraces;
+    }
+
+    /**
+     * Gets the failure log limiter. It deduplicates and rate limits the lines that are written by the
+     * {@link AlternativFailureAction#LOG} failure action.
+     *
+     * @return the failure log limiter
+     */
+    public static FailureLogLimiter getFailureLogLimiter() {
+        return Check.failureLogLimiter;
+    }
+
+    /**
+     * Sets the failure log limiter. It deduplicates and rate limits the lines that are written by the
+     * {@link AlternativFailureAction#LOG} failure action.
+     *
+     * @param failureLogLimiter the new failure log limiter
+     */
+    public static void setFailureLogLimiter(final FailureLogLimiter failureLogLimiter) {
+        Check.notNullArgument(failureLogLimiter, "failureLogLimiter");
+
+        Check.failureLogLimiter = failureLogLimiter;
+    }
+
+    /**
+     * Gets the failure sink. The sink receives all failures of argument checks that are not active, see
+     * {@link #setActiveArgumentCheck(boolean)}.
+     *
+     * @return the failure sink or {@code null} if there is none
+     */
+    public static CheckFailureSink getFailureSink() {
+        return Check.failureSink;
+    }
+
+    /**
+     * Sets the failure sink. The sink receives all failures of argument checks that are not active, see
+     * {@link #setActiveArgumentCheck(boolean)}.
+     *
+     * @param failureSink the new failure sink - {@code null} to remove the sink
+     */
+    public static void setFailureSink(final CheckFailureSink failureSink) {
+        Check.failureSink = failureSink;
+    }
+
+    /**
+     * Gets the cache of compiled patterns, used by {@link #matchesArgument(String, String, String)} and
+     * {@link #matches(String, String, String)}. Can be used to monitor the hit and miss count.
+     *
+     * @return the pattern cache
+     */
+    public static PatternCache getPatternCache() {
+        return Check.PATTERN_CACHE;
+    }
+
     /**
      * Alternitive failure action.
      * 
@@ -119,1444 +278,3076 @@ public final class Check {
     }
 
     /**
-     * Alternitive failure action.
-     * 
-     * @param e
-     *            the e
+     * Alternitive failure action. The failure is passed to the {@link #getFailureSink() failure sink} and lines of
+     * the {@link AlternativFailureAction#LOG} action are passed through the {@link #getFailureLogLimiter() failure
+     * log limiter}, grouped by the check site.
+     *
+     * @param site the check site, or {@code null} to use the code location that invoked the check
+     * @param argumentName the name of the checked argument(s)
+     * @param e the e
      */
     @Deprecated
-    private static void alternativeFailureAction(final Exception e) {
-        Check.alternativeFailureAction(e.toString());
+    private static void alternativeFailureAction(final CheckSite site, final String argumentName,
+            final Exception e) {
+        CheckFailureSink sink = Check.failureSink;
+        if (sink != null) {
+            sink.failure(System.currentTimeMillis(),
+                    site != null ? site.getId() : Check.callSite(e).toString(),
+                    argumentName,
+                    e.toString());
+        }
+
+        if (Check.alternativeFailureAction == AlternativFailureAction.LOG) {
+            Check.failureLogLimiter.log(site != null ? site : Check.callSite(e), e.toString());
+        } else {
+            Check.alternativeFailureAction(e.toString());
+        }
     }
 
     /**
-     * Checks for (not) null argument.
-     * 
-     * @param argument
-     *            the argument
-     * @param argumentName
-     *            the argument name
-     * 
-     * @throws ArgumentNullException
-     *             if the argument is null
-     */
-    public static void notNullArgument(final Object argument, final String argumentName) throws ArgumentNullException {
-        if (argument == null) {
-            ArgumentNullException argNullException = new ArgumentNullException(argumentName);
-            if (Check.activeArgumentCheck) {
-                throw argNullException;
-            } else {
-                Check.alternativeFailureAction(argNullException);
+     * Return the code location that invoked the check - the first stack trace element of the exception after the
+     * elements of this class (the exception may be created by a helper like {@link CheckResult#toException()}). An
+     * exception without stack trace is located by its {@link LightweightArgumentException#getFailureKey() failure
+     * key}.
+     *
+     * @param e the exception created by the check
+     * @return the stack trace element or failure key, or the class name of the exception if there is neither
+     */
+    private static Object callSite(final Throwable e) {
+        if (e instanceof LightweightArgumentException) {
+            return ((LightweightArgumentException) e).getFailureKey();
+        }
+        boolean inCheck = false;
+        for (StackTraceElement element : e.getStackTrace()) {
+            if (element.getClassName().equals(Check.class.getName())) {
+                inCheck = true;
+            } else if (inCheck) {
+                return element;
             }
         }
+        return e.getClass().getName();
     }
 
     /**
-     * Checks for (not) empty String argument.
+     * Handle a failed argument check: record it in the current {@link ValidationScope}, throw the exception, or do
+     * the alternative failure action if the check is not active.
      *
-     * @param argument            the argument
-     * @param argumentName            the argument name
-     * @throws IllegalArgumentException             if the argument is empty
-     * @throws ArgumentNullException             if the argument is null
-     */
-    public static void notEmptyArgument(final String argument, final String argumentName)
-            throws IllegalArgumentException {
-        Check.notNullArgument(argument, argumentName);
-        Check.notNullArgument(argumentName, "argumentName");
-
-        if (argument.length() == 0) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - String argument " + argumentName + " must have length");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+     * @param argumentName the name of the checked argument(s)
+     * @param illegalArgExc the exception that describes the failure
+     */
+    private static void argumentFailure(final String argumentName, final IllegalArgumentException illegalArgExc) {
+        CheckStatistics.failed(argumentName, illegalArgExc);
+        ValidationScope scope = ValidationScope.current();
+        if (scope != null) {
+            scope.violation(illegalArgExc);
+        } else if (Check.activeArgumentCheck) {
+            throw illegalArgExc;
+        } else {
+            Check.alternativeFailureAction(null, argumentName, illegalArgExc);
         }
     }
 
     /**
-     * Checks for (not) empty Collection argument.
+     * Handle a failed argument check of a {@link CheckSite}: count the failure and record it in the current
+     * {@link ValidationScope}, throw the exception, or do the alternative failure action if the check is not active.
      *
-     * @param argument            the argument
-     * @param argumentName            the argument name
-     * @throws IllegalArgumentException             if the argument is empty
-     * @throws ArgumentNullException             if the argument is null
-     */
-    public static void notEmptyArgument(final Collection<?> argument, final String argumentName)
-            throws IllegalArgumentException {
-        Check.notNullArgument(argument, argumentName);
-        Check.notNullArgument(argumentName, "argumentName");
-
-        if (argument.isEmpty()) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - String argument " + argumentName + " must have length");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+     * @param site the check site
+     * @param illegalArgExc the exception that describes the failure
+     */
+    private static void argumentFailure(final CheckSite site, final IllegalArgumentException illegalArgExc) {
+        site.failed();
+        CheckStatistics.siteFailed(site, illegalArgExc);
+        ValidationScope scope = ValidationScope.current();
+        if (scope != null) {
+            scope.violation(illegalArgExc);
+        } else if (Check.activeArgumentCheck) {
+            throw illegalArgExc;
+        } else {
+            Check.alternativeFailureAction(site, site.getName(), illegalArgExc);
         }
     }
 
     /**
-     * Argument instance of.
+     * Handle the result of a {@link CheckResults} check or a {@link Rule}: do nothing if it passed, else handle the
+     * failure like every other failed argument check (see {@link #argumentFailure(String, IllegalArgumentException)}).
      *
-     * @param <T> the generic type
-     * @param argument            the argument
-     * @param type            the type
-     * @param argumentName            the argument name
-     * @return the T
+     * @param result the result
      */
-    @SuppressWarnings("unchecked")
-    public static <T> T argumentInstanceOf(final Object argument, final Class<T> type, final String argumentName) {
-        Check.notNullArgument(argument, argumentName);
-        Check.notNullArgument(argumentName, "argumentName");
-
-        if (!type.isAssignableFrom(argument.getClass())) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - type " + type.getName() + " expected for argument " + argumentName
-                            + " but get an object of type " + argument.getClass().getName());
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    static void argumentResult(final CheckResult result) {
+        if (result != CheckResult.OK) {
+            Check.argumentFailure(result);
         }
-        return (T) argument;
     }
 
     /**
-     * Checks that an argument collection does not contain an null element.
-     * 
-     * @param argument
-     *            the argument itself
-     * @param argumentName
-     *            the name of the argument
-     */
-    public static void notNullElementArgument(final Collection<?> argument, final String argumentName) {
-        Check.notNullArgument(argument, argumentName);
-        Check.notNullArgument(argumentName, "argumentName");
-
-        if (argument.contains(null)) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException("[Assertion failed] - collection "
-                    + argumentName + " should not contain a null element, but it has one or more - " + argumentName
-                    + " = " + argument);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+     * Handle a failed result. In a {@link ValidationScope} no exception is created, unless the statistics or the
+     * flight recorder need it.
+     *
+     * @param result the failed result
+     */
+    private static void argumentFailure(final CheckResult result) {
+        ValidationScope scope = ValidationScope.current();
+        if ((scope != null) && !CheckStatistics.isFailureTracked()) {
+            scope.violation(result);
+        } else if (Check.failureStackTraces || (result.getCode() == CheckResult.Code.NULL)) {
+            Check.argumentFailure(result.getArgumentName(), result.toException());
+        } else {
+            Check.argumentFailure(result.getArgumentName(), new LightweightArgumentException(result));
         }
     }
 
     /**
-     * False argument.
-     * 
-     * @param bool
-     *            the bool
-     * @param argumentName
-     *            the argument name
+     * Count a failed argument check of a {@link CheckSite} in the current {@link ValidationScope}, if neither the
+     * scope nor the statistics need its message - so the message is not even built.
+     *
+     * @param site the check site
+     * @return true, if the failure is counted, false if the message is needed: the caller must pass it to
+     *         {@link #argumentFailure(CheckSite, String)}
      */
-    public static void falseArgument(final boolean bool, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-        if (bool) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - boolean argument " + argumentName + " should be false but is true");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    private static boolean countedSiteFailure(final CheckSite site) {
+        ValidationScope scope = ValidationScope.current();
+        if ((scope != null) && !CheckStatistics.isFailureTracked() && !scope.retainsNextViolation()) {
+            site.failed();
+            scope.violation();
+            return true;
         }
+        return false;
     }
 
     /**
-     * Not zero.
-     * 
-     * @param value
-     *            the value
-     * @param argumentName
-     *            the argument name
-     */
-    public static void notZeroArgument(final int value, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-        if (value == 0) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - the int argument " + argumentName + " must not be zero");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+     * Handle a failed argument check of a {@link CheckSite}, the exception is created only if it is needed (see
+     * {@link #argumentFailure(CheckResult)}).
+     *
+     * @param site the check site
+     * @param message the message
+     */
+    private static void argumentFailure(final CheckSite site, final String message) {
+        ValidationScope scope = ValidationScope.current();
+        if ((scope != null) && !CheckStatistics.isFailureTracked()) {
+            site.failed();
+            scope.violation(message);
+        } else if (Check.failureStackTraces) {
+            Check.argumentFailure(site, new IllegalArgumentException(message));
+        } else {
+            Check.argumentFailure(site, new LightweightArgumentException(site, message));
         }
     }
 
+    /*
+     * The failure paths of the constant time argument checks. They are kept out of the check methods, so that a
+     * check method contains only its predicate and is small enough to be inlined into its callers (the JIT inlines
+     * methods up to 35 bytes of bytecode at every call site). The message is built only here, when the check fails,
+     * and not at all if a validation scope only counts the failure.
+     */
+
     /**
-     * Not zero.
-     * 
-     * @param value
-     *            the value
-     * @param argumentName
-     *            the argument name
+     * Report a null argument of a check site.
+     *
+     * @param site the check site
      */
-    public static void notZeroArgument(final long value, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-        if (value == 0) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - the int argument " + argumentName + " must not be zero");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    private static void failArgumentNull(final CheckSite site) {
+        Check.argumentFailure(site, new ArgumentNullException(site.getName()));
     }
 
     /**
-     * Not zero or negative.
-     * 
-     * @param value
-     *            the value
-     * @param argumentName
-     *            the argument name
+     * Report a failed argument check of a check site.
+     *
+     * @param site the check site
+     * @param messageEnd the message after the message prefix of the site
      */
-    public static void notZeroOrNegativeArgument(final int value, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-        if (value <= 0) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - the int argument " + argumentName + " must not be zero or negative");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    private static void failArgument(final CheckSite site, final String messageEnd) {
+        if (!Check.countedSiteFailure(site)) {
+            Check.argumentFailure(site, site.getMessagePrefix() + messageEnd);
         }
     }
 
     /**
-     * Not zero or negative.
-     * 
-     * @param value
-     *            the value
-     * @param argumentName
-     *            the argument name
+     * Report a failed argument check of a check site, the message ends with the value.
+     *
+     * @param site the check site
+     * @param messageEnd the message after the message prefix of the site
+     * @param value the value of the argument
      */
-    public static void notZeroOrNegativeArgument(final long value, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-        if (value <= 0) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - the int argument " + argumentName + " must not be zero or negative");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    private static void failArgument(final CheckSite site, final String messageEnd, final long value) {
+        if (!Check.countedSiteFailure(site)) {
+            Check.argumentFailure(site, site.getMessagePrefix() + messageEnd + value);
         }
     }
 
     /**
-     * Not zero argument.
+     * Report an argument of the wrong type of a check site.
      *
-     * @param value the value
-     * @param epsylon the epsylon
-     * @param argumentName the argument name
+     * @param argument the argument
+     * @param type the expected type
+     * @param site the check site
      */
-    public static void notZeroArgument(final double value, final double epsylon, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-        if (Math.abs(value) < epsylon) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - the int argument " + argumentName + " must not be zero");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    private static void failArgumentInstanceOf(final Object argument, final Class<?> type, final CheckSite site) {
+        if (!Check.countedSiteFailure(site)) {
+            Check.argumentFailure(site, site.getMessagePrefix() + " - type " + type.getName()
+                    + " expected but get an object of type " + argument.getClass().getName());
         }
     }
 
     /**
-     * Not zero or negative.
-     * 
-     * @param value
-     *            the value
-     * @param argumentName
-     *            the argument name
+     * Report an argument of a check site that is less than the minimum.
+     *
+     * @param min the minimum
+     * @param value the value of the argument
+     * @param site the check site
      */
-    public static void notNegativeArgument(final int value, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-        if (value < 0) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - the int argument " + argumentName + " must not negative");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    private static void failArgumentGreaterEquals(final int min, final int value, final CheckSite site) {
+        if (!Check.countedSiteFailure(site)) {
+            Check.argumentFailure(site,
+                    site.getMessagePrefix() + " must be greater or equals " + min + " but is " + value);
         }
     }
 
     /**
-     * Not zero or negative.
-     * 
-     * @param value
-     *            the value
-     * @param argumentName
-     *            the argument name
+     * Report an argument of a check site that is less than the minimum.
+     *
+     * @param min the minimum
+     * @param value the value of the argument
+     * @param site the check site
      */
-    public static void notNegativeArgument(final long value, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-        if (value < 0) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - the int argument " + argumentName + " must not negative");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    private static void failArgumentGreaterEquals(final double min, final double value, final CheckSite site) {
+        if (!Check.countedSiteFailure(site)) {
+            Check.argumentFailure(site,
+                    site.getMessagePrefix() + " must be greater or equals " + min + " but is " + value);
         }
     }
 
     /**
-     * Not zero or negative.
-     * 
-     * @param value
-     *            the value
-     * @param argumentName
-     *            the argument name
+     * Report an argument of a check site that is greater than the maximum.
+     *
+     * @param max the maximum
+     * @param value the value of the argument
+     * @param site the check site
      */
-    public static void notNegativeArgument(final double value, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-        if (value < 0) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - the int argument " + argumentName + " must not negative");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    private static void failArgumentLessEquals(final int max, final int value, final CheckSite site) {
+        if (!Check.countedSiteFailure(site)) {
+            Check.argumentFailure(site,
+                    site.getMessagePrefix() + " must be less or equals " + max + " but is " + value);
         }
     }
 
     /**
-     * Checks if is equals.
+     * Report an argument of a check site that is not between the minimum and the maximum (one failure branch keeps
+     * the calling check short enough to be inlined).
      *
-     * @param valueA            value of argument b
-     * @param valueB            value of argument a
-     * @param argumentNameA            the name of argument a
-     * @param argumentNameB            the name of argument b
+     * @param min the minimum
+     * @param max the maximum
+     * @param value the value of the argument
+     * @param site the check site
      */
-    public static void equalArguments(final Object valueA, final Object valueB, final String argumentNameA,
-            final String argumentNameB) {
-        if (valueA == null) {
-            if (valueB == null) {
-                return;
-            } else {
-                IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                        "[Assertion failed] - the arguments " + argumentNameA + " and " + argumentNameB
-                                + " are not equal, the firstone is " + valueA + " the second one is " + valueB);
-                if (Check.activeArgumentCheck) {
-                    throw illegalArgExc;
-                } else {
-                    Check.alternativeFailureAction(illegalArgExc);
-                }
-            }
+    private static void failArgumentBetween(final double min, final double max, final double value,
+            final CheckSite site) {
+        if (value < min) {
+            Check.failArgumentGreaterEquals(min, value, site);
         } else {
-            if (!valueA.equals(valueB)) {
-                IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                        "[Assertion failed] - the arguments " + argumentNameA + " and " + argumentNameB
-                                + " are not equal, the firstone is " + valueA + " the second one is " + valueB);
-                if (Check.activeArgumentCheck) {
-                    throw illegalArgExc;
-                } else {
-                    Check.alternativeFailureAction(illegalArgExc);
-                }
-            }
+            Check.failArgumentLessEquals(max, value, site);
         }
     }
 
     /**
-     * Checks if is equals.
+     * Report an argument of a check site that is greater than the maximum.
      *
-     * @param valueA            value of argument b
-     * @param valueB            value of argument a
-     * @param argumentNameA            the name of argument a
-     * @param argumentNameB            the name of argument b
+     * @param max the maximum
+     * @param value the value of the argument
+     * @param site the check site
      */
-    public static void equalArguments(final int valueA, final int valueB, final String argumentNameA,
-            final String argumentNameB) {
-
-        if (valueA != valueB) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - the arguments " + argumentNameA + " and " + argumentNameB
-                            + " are not equal, the firstone is " + valueA + " the second one is " + valueB);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    private static void failArgumentLessEquals(final double max, final double value, final CheckSite site) {
+        if (!Check.countedSiteFailure(site)) {
+            Check.argumentFailure(site,
+                    site.getMessagePrefix() + " must be less or equals " + max + " but is " + value);
         }
-
     }
 
     /**
-     * Checks that the value of an integer is between a minimal or a maximal
-     * value (min &lt;= value &lt;= max).
+     * Checks for (not) null argument.
      * 
-     * @param value
-     *            the value to check
-     * @param min
-     *            the minimal allowed value
-     * @param max
-     *            the maximal allowed value
+     * @param argument
+     *            the argument
      * @param argumentName
-     *            the name of the argument.
+     *            the argument name
+     * 
+     * @throws ArgumentNullException
+     *             if the argument is null
      */
-    public static void argumentBetween(final int value, final int min, final int max, final String argumentName) {
-        if (value < min) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - this String argument <code>" + argumentName //$NON-NLS-1$
-                            + "</code> must be greater or equals " + min + " but is " + value);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
-        if (value > max) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - this String argument <code>" + argumentName //$NON-NLS-1$
-                            + "</code> must be less or equals " + max + " but is " + value);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    public static void notNullArgument(final Object argument, final String argumentName) throws ArgumentNullException {
+        CheckStatistics.NOT_NULL_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notNullArgument(argument, argumentName));
     }
 
     /**
-     * Checks that the value of an double is between a minimal or a maximal
-     * value.
-     * 
-     * @param value
-     *            the value to check
-     * @param min
-     *            the minimal allowed value
-     * @param max
-     *            the maximal allowed value
-     * @param argumentName
-     *            the name of the argument.
+     * Checks for (not) null argument.
+     *
+     * @param argument the argument
+     * @param site the check site (must not be null)
+     * @throws ArgumentNullException if the argument is null
      */
-    public static void argumentBetween(final double value, final double min, final double max,
-            final String argumentName) {
-        if (value < min) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - this String argument <code>" + argumentName //$NON-NLS-1$
-                            + "</code> must be greater or equals " + min + " but is " + value);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
-        if (value > max) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - this String argument <code>" + argumentName //$NON-NLS-1$
-                            + "</code> must be less or equals " + max + " but is " + value);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    public static void notNullArgument(final Object argument, final CheckSite site) throws ArgumentNullException {
+        CheckStatistics.NOT_NULL_ARGUMENT.invoked(site);
+        if (argument == null) {
+            Check.failArgumentNull(site);
         }
     }
 
     /**
-     * Checks that the value of an double is greater or equals a minimal value.
+     * Checks for (not) empty String argument.
      *
-     * @param min            the minimal allowed value
-     * @param argumentValue            the value to check
-     * @param argumentName            the name of the argument.
+     * @param argument            the argument
+     * @param argumentName            the argument name
+     * @throws IllegalArgumentException             if the argument is empty
+     * @throws ArgumentNullException             if the argument is null
      */
-    public static void argumentGreaterEquals(final int min, final int argumentValue, final String argumentName) {
-        /**
-         * Do not change this to (argumentValue < min) because when
-         * argumentValue is NaN then (NaN < min) is true
-         */
-        if (!(argumentValue >= min)) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - this String argument <code>" + argumentName //$NON-NLS-1$
-                            + "</code> must be greater or equals " + min + " but is " + argumentValue);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    public static void notEmptyArgument(final String argument, final String argumentName)
+            throws IllegalArgumentException {
+        CheckStatistics.NOT_EMPTY_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notEmptyArgument(argument, argumentName));
     }
 
     /**
-     * Checks that the value of an double is greater or equals a minimal value.
+     * Checks for (not) empty String argument.
      *
-     * @param min            the minimal allowed value
-     * @param argumentValue            the value to check
-     * @param argumentName            the name of the argument.
+     * @param argument the argument
+     * @param site the check site (must not be null)
+     * @throws IllegalArgumentException if the argument is empty
+     * @throws ArgumentNullException if the argument is null
      */
-    public static void argumentGreaterEquals(final long min, final long argumentValue, final String argumentName) {
-        /**
-         * Do not change this to (argumentValue < min) because when
-         * argumentValue is NaN then (NaN < min) is true
-         */
-        if (!(argumentValue >= min)) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - this String argument <code>" + argumentName //$NON-NLS-1$
-                            + "</code> must be greater or equals " + min + " but is " + argumentValue);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    public static void notEmptyArgument(final String argument, final CheckSite site)
+            throws IllegalArgumentException {
+        CheckStatistics.NOT_EMPTY_ARGUMENT.invoked(site);
+        if (argument == null) {
+            Check.failArgumentNull(site);
+        } else if (argument.length() == 0) {
+            Check.failArgument(site, " must have length");
         }
     }
 
     /**
-     * Checks that the value of an double is greater or equals a minimal double
-     * value.
+     * Checks for (not) empty Collection argument.
      *
-     * @param min            the minimal allowed value
-     * @param argumentValue            the value to check
-     * @param argumentName            the name of the argument.
+     * @param argument            the argument
+     * @param argumentName            the argument name
+     * @throws IllegalArgumentException             if the argument is empty
+     * @throws ArgumentNullException             if the argument is null
      */
-    public static void argumentGreaterEquals(final double min, final double argumentValue, final String argumentName) {
-        /**
-         * Do not change this to (argumentValue < min) because when
-         * argumentValue is NaN then (NaN < min) is true
-         */
-        if (!(argumentValue >= min)) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - this String argument <code>" + argumentName //$NON-NLS-1$
-                            + "</code> must be greater or equals " + min + " but is " + argumentValue);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    public static void notEmptyArgument(final Collection<?> argument, final String argumentName)
+            throws IllegalArgumentException {
+        CheckStatistics.NOT_EMPTY_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notEmptyArgument(argument, argumentName));
     }
 
     /**
-     * Checks that the value of an double is less or equals a maximal value.
+     * Checks for (not) empty Collection argument.
      *
-     * @param max the max
-     * @param argumentValue            the value to check
-     * @param argumentName            the name of the argument.
+     * @param argument the argument
+     * @param site the check site (must not be null)
+     * @throws IllegalArgumentException if the argument is empty
+     * @throws ArgumentNullException if the argument is null
      */
-    public static void argumentLessEquals(final int max, final double argumentValue, final String argumentName) {
-        /**
-         * Do not change this to (argumentValue > max) because when
-         * argumentValue is NaN then (NaN > max) is true
-         */
-        if (!(argumentValue <= max)) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - this String argument <code>" + argumentName //$NON-NLS-1$
-                            + "</code> must be less or equals " + max + " but is " + argumentValue);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
+    public static void notEmptyArgument(final Collection<?> argument, final CheckSite site)
+            throws IllegalArgumentException {
+        CheckStatistics.NOT_EMPTY_ARGUMENT.invoked(site);
+        if (argument == null) {
+            Check.failArgumentNull(site);
+        } else if (argument.isEmpty()) {
+            Check.failArgument(site, " must have one or more elements");
         }
     }
 
     /**
-     * Assert that exactly {@code numberNotNullExpected} number of parameters and not null.
-     * 
-     * @param numberNotNullExpected
-     *            the number not null expected
-     * @param argumentNames
-     *            the parameter names
-     * @param arguments
-     *            the parameters
+     * Checks that a String argument is not longer than the maximal length.
+     *
+     * @param argument the argument
+     * @param maxLength the maximal allowed length (this value is allowed)
+     * @param argumentName the argument name
+     * @throws IllegalArgumentException if the argument is too long
+     * @throws ArgumentNullException if the argument is null
      */
-    public static void argumentExactNotNullCount(final int numberNotNullExpected, final String argumentNames,
-            final Object... arguments) {
-        int notNullFound = 0;
-
-        int size = arguments.length;
-        for (int i = 0; i < size; i++) {
-            if (arguments[i] != null) {
-                notNullFound++;
-            }
-        }
-
-        if (numberNotNullExpected != notNullFound) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException("[Assertion failed] - the arguments "
-                    + argumentNames + " contains " + notNullFound + " argument which are not null, but expected are "
-                    + numberNotNullExpected + " - parameters=" + Arrays.toString(arguments));
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    public static void maxLengthArgument(final String argument, final int maxLength, final String argumentName)
+            throws IllegalArgumentException {
+        CheckStatistics.MAX_LENGTH_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.maxLengthArgument(argument, maxLength, argumentName));
     }
 
     /**
-     * Check the assert that both collections has the same size and are not
-     * null.
-     * 
-     * @param collectionA
-     *            the collection a
-     * @param collectionB
-     *            the collection b
-     * @param argumentNameA
-     *            the argument name a
-     * @param argumentNameB
-     *            the argument name b
+     * Checks that a String argument is not shorter than the minimal length.
+     *
+     * @param argument the argument
+     * @param minLength the minimal allowed length (this value is allowed)
+     * @param argumentName the argument name
+     * @throws IllegalArgumentException if the argument is too short
+     * @throws ArgumentNullException if the argument is null
      */
-    public static void sameSizeArgument(final Collection<?> collectionA, final Collection<?> collectionB,
-            final String argumentNameA, final String argumentNameB) {
-        Check.notNullArgument(collectionA, argumentNameA);
-        Check.notNullArgument(collectionB, argumentNameB);
-        Check.notNullArgument(argumentNameA, "argumentNameA");
-        Check.notNullArgument(argumentNameB, "argumentNameB");
-
-        if (collectionA.size() != collectionB.size()) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - collections have different size: " + argumentNameA + ".size() = " //$NON-NLS-1$
-                            + collectionA.size() + " , " + argumentNameB + ".size() = " + collectionB.size()
-                            + "\n argumentNameA = " + argumentNameA + ",\n argumentNameB = " + argumentNameA);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    public static void minLengthArgument(final String argument, final int minLength, final String argumentName)
+            throws IllegalArgumentException {
+        CheckStatistics.MIN_LENGTH_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.minLengthArgument(argument, minLength, argumentName));
     }
 
     /**
-     * Check the assert that both collections has the same size and are not
-     * null.
+     * Checks that a String argument consists only of allowed characters.
+     * The check does not compile or use any regular expression.
      *
-     * @param <T> the generic type
-     * @param arrayA the array A
-     * @param arrayB the array B
-     * @param argumentNameA            the argument name a
-     * @param argumentNameB            the argument name b
+     * @param argument the argument
+     * @param allowedCharacters all characters that are allowed, for example {@code "0123456789abcdef"}
+     * @param argumentName the argument name
+     * @throws IllegalArgumentException if the argument contains a character that is not allowed
+     * @throws ArgumentNullException if the argument is null
      */
-    public static <T> void sameSizeArgument(final T[] arrayA, final T[] arrayB, final String argumentNameA,
-            final String argumentNameB) {
-        Check.notNullArgument(arrayA, argumentNameA);
-        Check.notNullArgument(arrayB, argumentNameB);
-        Check.notNullArgument(argumentNameA, "argumentNameA");
-        Check.notNullArgument(argumentNameB, "argumentNameB");
-
-        if (arrayA.length != arrayB.length) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - arrays have different length: " + argumentNameA + ".length = " + arrayA.length //$NON-NLS-1$
-                            + " , " + argumentNameB + ".length = " + arrayB.length + "\n argumentNameA = "
-                            + argumentNameA + ",\n argumentNameB = " + argumentNameA);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    public static void allowedCharactersArgument(final String argument, final String allowedCharacters,
+            final String argumentName) throws IllegalArgumentException {
+        CheckStatistics.ALLOWED_CHARACTERS_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.allowedCharactersArgument(argument, allowedCharacters, argumentName));
     }
 
     /**
-     * Min one element argument.
+     * Checks that a String argument matches the (precompiled) pattern.
+     * The complete argument must match, like {@link java.util.regex.Matcher#matches()}.
      *
-     * @param <T> the generic type
-     * @param array the array
+     * @param argument the argument
+     * @param pattern the pattern
      * @param argumentName the argument name
+     * @throws IllegalArgumentException if the argument does not match
+     * @throws ArgumentNullException if the argument is null
      */
-    public static <T> void minOneElementArgument(final T[] array, final String argumentName) {
-        Check.notNullArgument(array, argumentName);
-        Check.notNullArgument(argumentName, "argumentName");
-
-        if (array.length < 1) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException("[Assertion failed] - argument array " //$NON-NLS-1$
-                    + argumentName + " should have one or more element(s) - but it is empty");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    public static void matchesArgument(final String argument, final Pattern pattern, final String argumentName)
+            throws IllegalArgumentException {
+        CheckStatistics.MATCHES_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.matchesArgument(argument, pattern, argumentName));
     }
 
     /**
-     * Min one element argument.
+     * Checks that a String argument matches the regular expression.
+     * The compiled pattern is taken from the {@link #getPatternCache() pattern cache}, so the expression is not
+     * compiled on every invocation.
      *
-     * @param <T> the generic type
-     * @param collection the collection
+     * @param argument the argument
+     * @param regex the regular expression
      * @param argumentName the argument name
+     * @throws IllegalArgumentException if the argument does not match
+     * @throws ArgumentNullException if the argument is null
      */
-    public static <T> void minOneElementArgument(final Collection<T> collection, final String argumentName) {
-        Check.notNullArgument(collection, argumentName);
-        Check.notNullArgument(argumentName, "argumentName");
-
-        if (collection.size() < 1) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                    "[Assertion failed] - argument colection " + argumentName //$NON-NLS-1$
-                            + " should have one or more element(s) - but it is empty");
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    public static void matchesArgument(final String argument, final String regex, final String argumentName)
+            throws IllegalArgumentException {
+        CheckStatistics.MATCHES_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.matchesArgument(argument, regex, argumentName));
     }
 
     /**
-     * Make sure that the argument is equals to the expected object. If the
-     * expected object is null then the argument have to be null too.
+     * Argument instance of.
      *
      * @param <T> the generic type
-     * @param expected            the expected
      * @param argument            the argument
+     * @param type            the type
      * @param argumentName            the argument name
+     * @return the T
      */
-    public static <T> void equalsArgument(final T expected, final T argument, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-
-        // Ralph sagt: deckt auch den Fall ab, dass beide null sind!!!
-        // Beachten!!!!!!
-        if (expected == argument) {
-            return;
-        }
-        if ((expected != null) && (!expected.equals(argument))) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException("[Assertion failed] - argument " //$NON-NLS-1$
-                    + argumentName + " is not equals to " + expected + ", it was " + argument);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    @SuppressWarnings("unchecked")
+    public static <T> T argumentInstanceOf(final Object argument, final Class<T> type, final String argumentName) {
+        CheckStatistics.ARGUMENT_INSTANCE_OF.invoked();
+        Check.argumentResult(CheckResults.argumentInstanceOf(argument, type, argumentName));
+        return (T) argument;
     }
 
     /**
-     * Make sure that the argument, if it is not null, is equals to the expected
-     * object. If the expected object is null then the argument have to be null
-     * too. If the argument is null, then this assertion is allways true.
+     * Argument instance of.
      *
      * @param <T> the generic type
-     * @param expected            the expected
-     * @param argument            the argument
-     * @param argumentName            the argument name
+     * @param argument the argument
+     * @param type the type
+     * @param site the check site (must not be null)
+     * @return the T
      */
-    public static <T> void equalsOrNullArgument(final T expected, final T argument, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-
-        if (argument != null) {
-            Check.equalsArgument(expected, argument, argumentName);
+    @SuppressWarnings("unchecked")
+    public static <T> T argumentInstanceOf(final Object argument, final Class<T> type, final CheckSite site) {
+        CheckStatistics.ARGUMENT_INSTANCE_OF.invoked(site);
+        if (argument == null) {
+            Check.failArgumentNull(site);
+        } else if (!type.isInstance(argument)) {
+            Check.failArgumentInstanceOf(argument, type, site);
         }
+        return (T) argument;
     }
 
     /**
-     * Make sure that the argument is equals to the expected object. If the
-     * expected object is null then the argument have to be null too.
+     * Checks that an argument collection does not contain an null element.
      *
-     * @param <T> the generic type
-     * @param expected            the expected
-     * @param argument            the argument
-     * @param argumentName            the argument name
+     * This check works for null hostile collections too (for example concurrent collections or immutable
+     * collections that throw an {@code NullPointerException} on {@code contains(null)}), see
+     * {@link #containsNullElement(Collection)}.
+     * 
+     * @param argument
+     *            the argument itself
+     * @param argumentName
+     *            the name of the argument
      */
-    public static <T> void equalsArgument(final boolean expected, final boolean argument, final String argumentName) {
-        Check.notNullArgument(argumentName, "argumentName");
-
-        if (expected != argument) {
-            IllegalArgumentException illegalArgExc = new IllegalArgumentException("[Assertion failed] - argument " //$NON-NLS-1$
-                    + argumentName + " is not equals to " + expected + ", it was " + argument);
-            if (Check.activeArgumentCheck) {
-                throw illegalArgExc;
-            } else {
-                Check.alternativeFailureAction(illegalArgExc);
-            }
-        }
+    public static void notNullElementArgument(final Collection<?> argument, final String argumentName) {
+        Check.argumentResult(CheckResults.notNullElementArgument(argument, argumentName));
     }
 
     /**
-     * Check that the collection is empty.
+     * Create the exception of a collection that contains a null element, used by
+     * {@link #notNullElementArgument(Collection, String)} and the wrappers of {@link CheckedCollections}.
      *
-     * @param message            additional message for the failure description when the check
-     *            fails - can be {@code null}
-     * @param s the s
+     * @param argumentName the name of the collection
+     * @param argument the collection
+     * @return the exception
      */
-    public static void isEmpty(final String message, final String s) {
-        Check.notNullArgument(s, "s");
-        if (!s.isEmpty()) {
-            Check.failCompare(Check.format(message, "[Assertion failed] - empty string expected"), "", s);
-        }
+    static IllegalArgumentException nullElementException(final String argumentName, final Object argument) {
+        return CheckResult.failure(CheckResult.Code.NULL_ELEMENT, argumentName, argument, null).toException();
     }
 
     /**
-     * ******
-     * 
-     * 
-     * 
-     * 
-     * collection stuff
-     * 
-     * 
-     * 
-     * 
-     * 
-     * ****.
-     * 
-     * @param message
-     *            the message
-     * @param o1
-     *            the o1
-     * @param o2
-     *            the o2
-     */
-
-    /**
-     * Assert that both objects are not equals.
-     * 
-     * @param o1
-     *            the fist object
-     * @param o2
-     *            the second object
-     * @param message
-     *            additional message for the failure description when the check
-     *            fails - can be {@code null}
+     * Checks that an argument collection does not contain an null element.
+     *
+     * @param argument the argument itself
+     * @param site the check site (must not be null)
      */
-    public static void notEquals(final String message, final Object o1, final Object o2) {
-        if (o1 == o2) {
-            Check.fail(Check.format(message, "[Assertion failed] - both objects are same but should not be"));
-        }
-        if ((o1 == null) ^ (o2 == null)) {
+    public static void notNullElementArgument(final Collection<?> argument, final CheckSite site) {
+        if (!Check.linearChecksEnabled || ValidationMemo.passed(argument, ValidationMemo.NOT_NULL_ELEMENTS)) {
             return;
         }
 
-        assert (o1 != null);
-        assert (o2 != null);
-
-        if (o1.equals(o2)) {
-            Check.fail(Check.format(message, "[Assertion failed] - both objects are equals but should not be")); //$NON-NLS-1$
+        long sampleStart = CheckStatistics.NOT_NULL_ELEMENT_ARGUMENT.start(site);
+        if (argument == null) {
+            Check.argumentFailure(site, new ArgumentNullException(site.getName()));
+        } else if (Check.containsNullElement(argument)) {
+            Check.argumentFailure(site, new IllegalArgumentException(site.getMessagePrefix()
+                    + " should not contain a null element, but it has one or more - " + argument));
+        } else {
+            ValidationMemo.recordPassed(argument, ValidationMemo.NOT_NULL_ELEMENTS);
         }
-        return;
+
+        CheckStatistics.NOT_NULL_ELEMENT_ARGUMENT.end(sampleStart, argument);
     }
 
     /**
-     * Assert that both objects are not equals.
-     * 
-     * @param o1
-     *            the fist object
-     * @param o2
-     *            the second object
+     * Check if the collection contains a null element.
+     *
+     * The collection is asked by {@code contains(null)}, so it can use its own lookup (O(1) for hash sets and the
+     * key sets of hash maps, O(log n) for tree sets) and its own locking (the {@code Collections.synchronized*}
+     * wrappers). Collections that do not permit the null query are traversed by their iterator instead: the
+     * collections of the {@code java.util.concurrent} package and the immutable collections of {@code List.of} and
+     * {@code Set.of} are known to reject it, every other class is remembered when its {@code contains(null)} throws
+     * a {@code NullPointerException}, so the exception is thrown at most once per class (for the first 64 classes).
+     * The iterators of the concurrent collections are weakly consistent, so no snapshot copy is taken.
+     *
+     * @param collection the collection
+     * @return true if the collection contains at least one null element
      */
-    public static void notEquals(final Object o1, final Object o2) {
-        Check.notEquals(null, o1, o2);
+    static boolean containsNullElement(final Collection<?> collection) {
+        Class<?> type = collection.getClass();
+        String typeName = type.getName();
+        if (!typeName.startsWith("java.util.concurrent.") && !typeName.startsWith("java.util.ImmutableCollections")
+                && !NULL_HOSTILE_COLLECTIONS.containsKey(type)) {
+            try {
+                return collection.contains(null);
+            } catch (NullPointerException e) {
+                if (NULL_HOSTILE_COLLECTIONS.size() < MAX_NULL_HOSTILE_COLLECTIONS) {
+                    NULL_HOSTILE_COLLECTIONS.put(type, Boolean.TRUE);
+                }
+            }
+        }
+        if (typeName.startsWith("java.util.Collections$Synchronized")) {
+            /* the synchronized wrappers must be iterated while holding their lock */
+            synchronized (collection) {
+                return Check.iteratesNullElement(collection);
+            }
+        }
+        return Check.iteratesNullElement(collection);
     }
 
     /**
-     * Asserts that two Strings are equal if there whitespace are striped.
+     * Check if the iterator of the collection returns a null element.
      *
-     * @param message            additional message for the failure description when the check
-     *            fails - can be {@code null} - can be null
-     * @param expected            the expected
-     * @param found            the found
+     * @param collection the collection
+     * @return true if the collection contains at least one null element
+     */
+    private static boolean iteratesNullElement(final Collection<?> collection) {
+        for (Object element : collection) {
+            if (element == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks that an argument map does neither contain a null key nor a null value.
+     *
+     * Keys and values are checked in one traversal of the entry set. The check never calls
+     * {@code containsKey(null)} or {@code containsValue(null)}, so it can be used for concurrent maps too
+     * (their iterators are weakly consistent, so the check sees the state at some point during the iteration).
+     *
+     * @param argument the argument itself
+     * @param argumentName the name of the argument
+     */
+    public static void notNullEntriesArgument(final Map<?, ?> argument, final String argumentName) {
+        CheckStatistics.NOT_NULL_ENTRIES_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notNullEntriesArgument(argument, argumentName));
+    }
+
+    /**
+     * Checks that an argument map does not contain null keys or values, and that all values are between a minimal
+     * and a maximal value (min &lt;= value.longValue() &lt;= max).
+     *
+     * The map is checked in one traversal of the entry set and is safe for concurrent maps, see
+     * {@link #notNullEntriesArgument(Map, String)}.
+     *
+     * @param argument the argument itself
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @param argumentName the name of the argument
+     */
+    public static void valuesBetweenArgument(final Map<?, ? extends Number> argument, final long min,
+            final long max, final String argumentName) {
+        CheckStatistics.VALUES_BETWEEN_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.valuesBetweenArgument(argument, min, max, argumentName));
+    }
+
+    /**
+     * Checks that an argument map does not contain null keys or values, and that all values are between a minimal
+     * and a maximal value (min &lt;= value.doubleValue() &lt;= max). {@code NaN} values are not between.
+     *
+     * The map is checked in one traversal of the entry set and is safe for concurrent maps, see
+     * {@link #notNullEntriesArgument(Map, String)}.
+     *
+     * @param argument the argument itself
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @param argumentName the name of the argument
+     */
+    public static void valuesBetweenArgument(final Map<?, ? extends Number> argument, final double min,
+            final double max, final String argumentName) {
+        CheckStatistics.VALUES_BETWEEN_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.valuesBetweenArgument(argument, min, max, argumentName));
+    }
+
+    /**
+     * Checks that an argument map contains all the required keys. The map can contain other keys too.
+     *
+     * This costs one {@code containsKey} lookup per required key, so it does not traverse the map at all.
+     * The required keys must not contain {@code null}, so no {@code containsKey(null)} is invoked on concurrent
+     * maps.
+     *
+     * @param <K> the key type
+     * @param argument the argument itself
+     * @param requiredKeys the keys the map must contain
+     * @param argumentName the name of the argument
+     */
+    public static <K> void containsKeysArgument(final Map<K, ?> argument, final Collection<? extends K> requiredKeys,
+            final String argumentName) {
+        CheckStatistics.CONTAINS_KEYS_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.containsKeysArgument(argument, requiredKeys, argumentName));
+    }
+
+    /**
+     * Checks that the size of an argument map is between a minimal and a maximal size (min &lt;= size &lt;= max).
+     *
+     * @param argument the argument itself
+     * @param min the minimal allowed size
+     * @param max the maximal allowed size
+     * @param argumentName the name of the argument
+     */
+    public static void sizeBetweenArgument(final Map<?, ?> argument, final int min, final int max,
+            final String argumentName) {
+        CheckStatistics.SIZE_BETWEEN_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.sizeBetweenArgument(argument, min, max, argumentName));
+    }
+
+    /**
+     * False argument.
+     *
+     * @param bool
+     *            the bool
+     * @param argumentName
+     *            the argument name
+     */
+    public static void falseArgument(final boolean bool, final String argumentName) {
+        CheckStatistics.FALSE_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.falseArgument(bool, argumentName));
+    }
+
+    /**
+     * False argument.
+     *
+     * @param bool the bool
+     * @param site the check site (must not be null)
+     */
+    public static void falseArgument(final boolean bool, final CheckSite site) {
+        CheckStatistics.FALSE_ARGUMENT.invoked(site);
+        if (bool) {
+            Check.failArgument(site, " should be false but is true");
+        }
+    }
+
+    /**
+     * Not zero.
+     * 
+     * @param value
+     *            the value
+     * @param argumentName
+     *            the argument name
+     */
+    public static void notZeroArgument(final int value, final String argumentName) {
+        CheckStatistics.NOT_ZERO_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notZeroArgument(value, argumentName));
+    }
+
+    /**
+     * Not zero.
+     *
+     * @param value the value
+     * @param site the check site (must not be null)
+     */
+    public static void notZeroArgument(final int value, final CheckSite site) {
+        CheckStatistics.NOT_ZERO_ARGUMENT.invoked(site);
+        if (value == 0) {
+            Check.failArgument(site, " must not be zero");
+        }
+    }
+
+    /**
+     * Not zero.
+     * 
+     * @param value
+     *            the value
+     * @param argumentName
+     *            the argument name
+     */
+    public static void notZeroArgument(final long value, final String argumentName) {
+        CheckStatistics.NOT_ZERO_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notZeroArgument(value, argumentName));
+    }
+
+    /**
+     * Not zero.
+     *
+     * @param value the value
+     * @param site the check site (must not be null)
+     */
+    public static void notZeroArgument(final long value, final CheckSite site) {
+        CheckStatistics.NOT_ZERO_ARGUMENT.invoked(site);
+        if (value == 0) {
+            Check.failArgument(site, " must not be zero");
+        }
+    }
+
+    /**
+     * Not zero or negative.
+     * 
+     * @param value
+     *            the value
+     * @param argumentName
+     *            the argument name
+     */
+    public static void notZeroOrNegativeArgument(final int value, final String argumentName) {
+        CheckStatistics.NOT_ZERO_OR_NEGATIVE_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notZeroOrNegativeArgument(value, argumentName));
+    }
+
+    /**
+     * Not zero or negative.
+     *
+     * @param value the value
+     * @param site the check site (must not be null)
+     */
+    public static void notZeroOrNegativeArgument(final int value, final CheckSite site) {
+        CheckStatistics.NOT_ZERO_OR_NEGATIVE_ARGUMENT.invoked(site);
+        if (value <= 0) {
+            Check.failArgument(site, " must not be zero or negative - but is ", value);
+        }
+    }
+
+    /**
+     * Not zero or negative.
+     * 
+     * @param value
+     *            the value
+     * @param argumentName
+     *            the argument name
+     */
+    public static void notZeroOrNegativeArgument(final long value, final String argumentName) {
+        CheckStatistics.NOT_ZERO_OR_NEGATIVE_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notZeroOrNegativeArgument(value, argumentName));
+    }
+
+    /**
+     * Not zero or negative.
+     *
+     * @param value the value
+     * @param site the check site (must not be null)
+     */
+    public static void notZeroOrNegativeArgument(final long value, final CheckSite site) {
+        CheckStatistics.NOT_ZERO_OR_NEGATIVE_ARGUMENT.invoked(site);
+        if (value <= 0) {
+            Check.failArgument(site, " must not be zero or negative - but is ", value);
+        }
+    }
+
+    /**
+     * Not zero argument.
+     *
+     * @param value the value
+     * @param epsylon the epsylon
+     * @param argumentName the argument name
+     */
+    public static void notZeroArgument(final double value, final double epsylon, final String argumentName) {
+        CheckStatistics.NOT_ZERO_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notZeroArgument(value, epsylon, argumentName));
+    }
+
+    /**
+     * Not zero or negative.
+     * 
+     * @param value
+     *            the value
+     * @param argumentName
+     *            the argument name
+     */
+    public static void notNegativeArgument(final int value, final String argumentName) {
+        CheckStatistics.NOT_NEGATIVE_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notNegativeArgument(value, argumentName));
+    }
+
+    /**
+     * Not negative.
+     *
+     * @param value the value
+     * @param site the check site (must not be null)
+     */
+    public static void notNegativeArgument(final int value, final CheckSite site) {
+        CheckStatistics.NOT_NEGATIVE_ARGUMENT.invoked(site);
+        if (value < 0) {
+            Check.failArgument(site, " must not be negative - but is ", value);
+        }
+    }
+
+    /**
+     * Not zero or negative.
+     * 
+     * @param value
+     *            the value
+     * @param argumentName
+     *            the argument name
+     */
+    public static void notNegativeArgument(final long value, final String argumentName) {
+        CheckStatistics.NOT_NEGATIVE_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notNegativeArgument(value, argumentName));
+    }
+
+    /**
+     * Not negative.
+     *
+     * @param value the value
+     * @param site the check site (must not be null)
+     */
+    public static void notNegativeArgument(final long value, final CheckSite site) {
+        CheckStatistics.NOT_NEGATIVE_ARGUMENT.invoked(site);
+        if (value < 0) {
+            Check.failArgument(site, " must not be negative - but is ", value);
+        }
+    }
+
+    /**
+     * Not zero or negative.
+     * 
+     * @param value
+     *            the value
+     * @param argumentName
+     *            the argument name
+     */
+    public static void notNegativeArgument(final double value, final String argumentName) {
+        CheckStatistics.NOT_NEGATIVE_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.notNegativeArgument(value, argumentName));
+    }
+
+    /**
+     * Checks if is equals.
+     *
+     * @param valueA            value of argument b
+     * @param valueB            value of argument a
+     * @param argumentNameA            the name of argument a
+     * @param argumentNameB            the name of argument b
+     */
+    public static void equalArguments(final Object valueA, final Object valueB, final String argumentNameA,
+            final String argumentNameB) {
+        CheckStatistics.EQUAL_ARGUMENTS.invoked();
+        Check.argumentResult(CheckResults.equalArguments(valueA, valueB, argumentNameA, argumentNameB));
+    }
+
+    /**
+     * Checks if is equals.
+     *
+     * @param valueA            value of argument b
+     * @param valueB            value of argument a
+     * @param argumentNameA            the name of argument a
+     * @param argumentNameB            the name of argument b
+     */
+    public static void equalArguments(final int valueA, final int valueB, final String argumentNameA,
+            final String argumentNameB) {
+        CheckStatistics.EQUAL_ARGUMENTS.invoked();
+        Check.argumentResult(CheckResults.equalArguments(valueA, valueB, argumentNameA, argumentNameB));
+    }
+
+    /**
+     * Checks that the value of an integer is between a minimal or a maximal
+     * value (min &lt;= value &lt;= max).
+     * 
+     * @param value
+     *            the value to check
+     * @param min
+     *            the minimal allowed value
+     * @param max
+     *            the maximal allowed value
+     * @param argumentName
+     *            the name of the argument.
+     */
+    public static void argumentBetween(final int value, final int min, final int max, final String argumentName) {
+        CheckStatistics.ARGUMENT_BETWEEN.invoked();
+        Check.argumentResult(CheckResults.argumentBetween(value, min, max, argumentName));
+    }
+
+    /**
+     * Checks that the value of an int is between a minimal or a maximal
+     * value (min &lt;= value &lt;= max).
+     *
+     * @param value the value to check
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @param site the check site (must not be null)
+     */
+    public static void argumentBetween(final int value, final int min, final int max, final CheckSite site) {
+        CheckStatistics.ARGUMENT_BETWEEN.invoked(site);
+        if (value < min) {
+            Check.failArgumentGreaterEquals(min, value, site);
+        }
+        if (value > max) {
+            Check.failArgumentLessEquals(max, value, site);
+        }
+    }
+
+    /**
+     * Checks that the value of an double is between a minimal or a maximal
+     * value.
+     * 
+     * @param value
+     *            the value to check
+     * @param min
+     *            the minimal allowed value
+     * @param max
+     *            the maximal allowed value
+     * @param argumentName
+     *            the name of the argument.
+     */
+    public static void argumentBetween(final double value, final double min, final double max,
+            final String argumentName) {
+        CheckStatistics.ARGUMENT_BETWEEN.invoked();
+        Check.argumentResult(CheckResults.argumentBetween(value, min, max, argumentName));
+    }
+
+    /**
+     * Checks that the value of an double is between a minimal or a maximal
+     * value (min &lt;= value &lt;= max).
+     *
+     * @param value the value to check
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @param site the check site (must not be null)
+     */
+    public static void argumentBetween(final double value, final double min, final double max,
+            final CheckSite site) {
+        CheckStatistics.ARGUMENT_BETWEEN.invoked(site);
+        if (value < min || value > max) {
+            Check.failArgumentBetween(min, max, value, site);
+        }
+    }
+
+    /**
+     * Checks that the value of an double is greater or equals a minimal value.
+     *
+     * @param min            the minimal allowed value
+     * @param argumentValue            the value to check
+     * @param argumentName            the name of the argument.
+     */
+    public static void argumentGreaterEquals(final int min, final int argumentValue, final String argumentName) {
+        CheckStatistics.ARGUMENT_GREATER_EQUALS.invoked();
+        Check.argumentResult(CheckResults.argumentGreaterEquals(min, argumentValue, argumentName));
+    }
+
+    /**
+     * Checks that the value of an double is greater or equals a minimal value.
+     *
+     * @param min            the minimal allowed value
+     * @param argumentValue            the value to check
+     * @param argumentName            the name of the argument.
+     */
+    public static void argumentGreaterEquals(final long min, final long argumentValue, final String argumentName) {
+        CheckStatistics.ARGUMENT_GREATER_EQUALS.invoked();
+        Check.argumentResult(CheckResults.argumentGreaterEquals(min, argumentValue, argumentName));
+    }
+
+    /**
+     * Checks that the value of an double is greater or equals a minimal double
+     * value.
+     *
+     * @param min            the minimal allowed value
+     * @param argumentValue            the value to check
+     * @param argumentName            the name of the argument.
+     */
+    public static void argumentGreaterEquals(final double min, final double argumentValue, final String argumentName) {
+        CheckStatistics.ARGUMENT_GREATER_EQUALS.invoked();
+        Check.argumentResult(CheckResults.argumentGreaterEquals(min, argumentValue, argumentName));
+    }
+
+    /**
+     * Checks that the value of an double is less or equals a maximal value.
+     *
+     * @param max the max
+     * @param argumentValue            the value to check
+     * @param argumentName            the name of the argument.
+     */
+    public static void argumentLessEquals(final int max, final double argumentValue, final String argumentName) {
+        CheckStatistics.ARGUMENT_LESS_EQUALS.invoked();
+        Check.argumentResult(CheckResults.argumentLessEquals(max, argumentValue, argumentName));
+    }
+
+    /**
+     * Assert that exactly {@code numberNotNullExpected} number of parameters and not null.
+     * 
+     * @param numberNotNullExpected
+     *            the number not null expected
+     * @param argumentNames
+     *            the parameter names
+     * @param arguments
+     *            the parameters
+     */
+    public static void argumentExactNotNullCount(final int numberNotNullExpected, final String argumentNames,
+            final Object... arguments) {
+        CheckStatistics.ARGUMENT_EXACT_NOT_NULL_COUNT.invoked();
+        Check.argumentResult(CheckResults.argumentExactNotNullCount(numberNotNullExpected, argumentNames, arguments));
+    }
+
+    /**
+     * Check the assert that both collections has the same size and are not
+     * null.
+     * 
+     * @param collectionA
+     *            the collection a
+     * @param collectionB
+     *            the collection b
+     * @param argumentNameA
+     *            the argument name a
+     * @param argumentNameB
+     *            the argument name b
+     */
+    public static void sameSizeArgument(final Collection<?> collectionA, final Collection<?> collectionB,
+            final String argumentNameA, final String argumentNameB) {
+        CheckStatistics.SAME_SIZE_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.sameSizeArgument(collectionA, collectionB, argumentNameA, argumentNameB));
+    }
+
+    /**
+     * Check the assert that both collections has the same size and are not
+     * null.
+     *
+     * @param <T> the generic type
+     * @param arrayA the array A
+     * @param arrayB the array B
+     * @param argumentNameA            the argument name a
+     * @param argumentNameB            the argument name b
+     */
+    public static <T> void sameSizeArgument(final T[] arrayA, final T[] arrayB, final String argumentNameA,
+            final String argumentNameB) {
+        CheckStatistics.SAME_SIZE_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.sameSizeArgument(arrayA, arrayB, argumentNameA, argumentNameB));
+    }
+
+    /**
+     * Min one element argument.
+     *
+     * @param <T> the generic type
+     * @param array the array
+     * @param argumentName the argument name
+     */
+    public static <T> void minOneElementArgument(final T[] array, final String argumentName) {
+        CheckStatistics.MIN_ONE_ELEMENT_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.minOneElementArgument(array, argumentName));
+    }
+
+    /**
+     * Min one element argument.
+     *
+     * @param <T> the generic type
+     * @param collection the collection
+     * @param argumentName the argument name
+     */
+    public static <T> void minOneElementArgument(final Collection<T> collection, final String argumentName) {
+        CheckStatistics.MIN_ONE_ELEMENT_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.minOneElementArgument(collection, argumentName));
+    }
+
+    /**
+     * Checks that the elements of an argument are sorted (ascending) with respect to the comparator.
+     * Equal neighbours are allowed.
+     * The check stops at the first element that is out of order.
+     *
+     * @param <T> the generic type
+     * @param argument the argument - a list or any other iterable with a stable iteration order
+     * @param comparator the comparator that defines the order
+     * @param argumentName the argument name
+     */
+    public static <T> void sortedArgument(final Iterable<T> argument, final Comparator<? super T> comparator,
+            final String argumentName) {
+        CheckStatistics.SORTED_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.sortedArgument(argument, comparator, argumentName));
+    }
+
+    /**
+     * Checks that the elements of an argument array are sorted (ascending) with respect to the comparator.
+     * Equal neighbours are allowed.
+     * The check stops at the first element that is out of order.
+     *
+     * @param <T> the generic type
+     * @param argument the argument array
+     * @param comparator the comparator that defines the order
+     * @param argumentName the argument name
+     */
+    public static <T> void sortedArgument(final T[] argument, final Comparator<? super T> comparator,
+            final String argumentName) {
+        CheckStatistics.SORTED_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.sortedArgument(argument, comparator, argumentName));
+    }
+
+    /**
+     * Checks that the elements of an argument are strictly increasing with respect to the comparator,
+     * so the argument is sorted and does not contain two equal elements.
+     * The check stops at the first element that is out of order.
+     *
+     * @param <T> the generic type
+     * @param argument the argument - a list or any other iterable with a stable iteration order
+     * @param comparator the comparator that defines the order
+     * @param argumentName the argument name
+     */
+    public static <T> void strictlyIncreasingArgument(final Iterable<T> argument,
+            final Comparator<? super T> comparator, final String argumentName) {
+        CheckStatistics.STRICTLY_INCREASING_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.strictlyIncreasingArgument(argument, comparator, argumentName));
+    }
+
+    /**
+     * Checks that the elements of an argument array are strictly increasing with respect to the comparator,
+     * so the argument is sorted and does not contain two equal elements.
+     * The check stops at the first element that is out of order.
+     *
+     * @param <T> the generic type
+     * @param argument the argument array
+     * @param comparator the comparator that defines the order
+     * @param argumentName the argument name
+     */
+    public static <T> void strictlyIncreasingArgument(final T[] argument, final Comparator<? super T> comparator,
+            final String argumentName) {
+        CheckStatistics.STRICTLY_INCREASING_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.strictlyIncreasingArgument(argument, comparator, argumentName));
+    }
+
+    /**
+     * Make sure that the argument is equals to the expected object. If the
+     * expected object is null then the argument have to be null too.
+     *
+     * @param <T> the generic type
+     * @param expected            the expected
+     * @param argument            the argument
+     * @param argumentName            the argument name
+     */
+    public static <T> void equalsArgument(final T expected, final T argument, final String argumentName) {
+        CheckStatistics.EQUALS_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.equalsArgument(expected, argument, argumentName));
+    }
+
+    /**
+     * Make sure that the argument, if it is not null, is equals to the expected
+     * object. If the expected object is null then the argument have to be null
+     * too. If the argument is null, then this assertion is allways true.
+     *
+     * @param <T> the generic type
+     * @param expected            the expected
+     * @param argument            the argument
+     * @param argumentName            the argument name
+     */
+    public static <T> void equalsOrNullArgument(final T expected, final T argument, final String argumentName) {
+        CheckStatistics.EQUALS_OR_NULL_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.equalsOrNullArgument(expected, argument, argumentName));
+    }
+
+    /**
+     * Make sure that the argument is equals to the expected object. If the
+     * expected object is null then the argument have to be null too.
+     *
+     * @param <T> the generic type
+     * @param expected            the expected
+     * @param argument            the argument
+     * @param argumentName            the argument name
+     */
+    public static <T> void equalsArgument(final boolean expected, final boolean argument, final String argumentName) {
+        CheckStatistics.EQUALS_ARGUMENT.invoked();
+        Check.argumentResult(CheckResults.equalsArgument(expected, argument, argumentName));
+    }
+
+    /**
+     * Check that the collection is empty.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param s the s
+     */
+    public static void isEmpty(final String message, final String s) {
+        Check.notNullArgument(s, "s");
+        if (!s.isEmpty()) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - empty string expected"), "", s);
+        }
+    }
+
+    /**
+     * ******
+     * 
+     * 
+     * 
+     * 
+     * collection stuff
+     * 
+     * 
+     * 
+     * 
+     * 
+     * ****.
+     * 
+     * @param message
+     *            the message
+     * @param o1
+     *            the o1
+     * @param o2
+     *            the o2
+     */
+
+    /**
+     * Assert that both objects are not equals.
+     * 
+     * @param o1
+     *            the fist object
+     * @param o2
+     *            the second object
+     * @param message
+     *            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     */
+    public static void notEquals(final String message, final Object o1, final Object o2) {
+        if (o1 == o2) {
+            Check.fail(Check.format(message, "[Assertion failed] - both objects are same but should not be"));
+        }
+        if ((o1 == null) ^ (o2 == null)) {
+            return;
+        }
+
+        assert (o1 != null);
+        assert (o2 != null);
+
+        if (o1.equals(o2)) {
+            Check.fail(Check.format(message, "[Assertion failed] - both objects are equals but should not be")); //$NON-NLS-1$
+        }
+        return;
+    }
+
+    /**
+     * Assert that both objects are not equals.
+     * 
+     * @param o1
+     *            the fist object
+     * @param o2
+     *            the second object
+     */
+    public static void notEquals(final Object o1, final Object o2) {
+        Check.notEquals(null, o1, o2);
+    }
+
+    /**
+     * Asserts that two Strings are equal if there whitespace are striped.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null} - can be null
+     * @param expected            the expected
+     * @param found            the found
+     */
+    public static void equalsWithoutWhitespace(final String message, final String expected, final String found) {
+        Check.equalsWithoutWhitespace(message, (CharSequence) expected, (CharSequence) found);
+    }
+
+    /**
+     * Asserts that two Strings are equal if there whitespace are striped.
+     * 
+     * @param expected
+     *            the expected
+     * @param found
+     *            the found
+     */
+    public static void equalsWithoutWhitespace(final String expected, final String found) {
+        Check.equalsWithoutWhitespace(null, expected, found);
+    }
+
+    /**
+     * Asserts that two character sequences are equal if there whitespace are striped.
+     *
+     * Whitespace are all characters that are {@link Character#isWhitespace(char) whitespace} or
+     * {@link Character#isSpaceChar(char) space characters}, so tabs, line breaks and no-break spaces are striped too.
+     * The sequences are compared in place, so nothing is allocated if they are equal.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            the expected
+     * @param found            the found
+     */
+    public static void equalsWithoutWhitespace(final String message, final CharSequence expected,
+            final CharSequence found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+
+        if (!Check.equalsIgnoreWhitespace(expected, found)) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - trimed strings are not equal"),
+                    Check.removeWhitespace(expected),
+                    Check.removeWhitespace(found));
+        }
+    }
+
+    /**
+     * Asserts that two character sequences are equal if there whitespace are striped.
+     *
+     * @param expected            the expected
+     * @param found            the found
+     */
+    public static void equalsWithoutWhitespace(final CharSequence expected, final CharSequence found) {
+        Check.equalsWithoutWhitespace(null, expected, found);
+    }
+
+    /**
+     * Compare two character sequences, whitespace is skipped in both sequences.
+     *
+     * All whitespace characters are in the basic multilingual plane, so surrogate pairs are compared char by char.
+     *
+     * @param a the first sequence
+     * @param b the second sequence
+     * @return true if the sequences are equal without their whitespace
+     */
+    private static boolean equalsIgnoreWhitespace(final CharSequence a, final CharSequence b) {
+        int lengthA = a.length();
+        int lengthB = b.length();
+        int indexA = 0;
+        int indexB = 0;
+        while (true) {
+            while ((indexA < lengthA) && Check.isWhitespace(a.charAt(indexA))) {
+                indexA++;
+            }
+            while ((indexB < lengthB) && Check.isWhitespace(b.charAt(indexB))) {
+                indexB++;
+            }
+            if ((indexA == lengthA) || (indexB == lengthB)) {
+                return (indexA == lengthA) && (indexB == lengthB);
+            }
+            if (a.charAt(indexA) != b.charAt(indexB)) {
+                return false;
+            }
+            indexA++;
+            indexB++;
+        }
+    }
+
+    /**
+     * Return the sequence without whitespace. Only used to build a failure message.
+     *
+     * @param sequence the sequence
+     * @return the string without whitespace
+     */
+    private static String removeWhitespace(final CharSequence sequence) {
+        int length = sequence.length();
+        StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            char c = sequence.charAt(i);
+            if (!Check.isWhitespace(c)) {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Checks if the character is a whitespace (including Unicode space characters like the no-break space).
+     *
+     * @param c the character
+     * @return true, if it is a whitespace
+     */
+    private static boolean isWhitespace(final char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    /**
+     * Check that the String matches the (precompiled) pattern. The complete string must match.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param pattern            the pattern
+     * @param found            the string
+     */
+    public static void matches(final String message, final Pattern pattern, final String found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        Check.notNullArgument(pattern, "pattern");
+        Check.notNullArgument(found, "found");
+
+        if (!pattern.matcher(found).matches()) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - string does not match the pattern"),
+                    pattern.pattern(),
+                    found);
+        }
+    }
+
+    /**
+     * Check that the String matches the regular expression. The compiled pattern is taken from the
+     * {@link #getPatternCache() pattern cache}.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param regex            the regular expression
+     * @param found            the string
+     */
+    public static void matches(final String message, final String regex, final String found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        Check.notNullArgument(regex, "regex");
+
+        Check.matches(message, Check.PATTERN_CACHE.getPattern(regex), found);
+    }
+
+    /**
+     * Check that the String matches the (precompiled) pattern.
+     *
+     * @param pattern            the pattern
+     * @param found            the string
+     */
+    public static void matches(final Pattern pattern, final String found) {
+        Check.matches(null, pattern, found);
+    }
+
+    /**
+     * Check that the collection is empty.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param collection            the collection
+     */
+    public static void isEmpty(final String message, final Collection<?> collection) {
+        Check.notNullArgument(collection, "collection");
+        if (collection.size() != 0) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - no elements excected"), 0, collection.size());
+        }
+    }
+
+    /**
+     * Checks if is empty.
+     * 
+     * @param collection
+     *            the collection
+     */
+    public static void isEmpty(final Collection<?> collection) {
+        Check.isEmpty(null, collection);
+    }
+
+    /**
+     * Checks for the correct size size.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expectedSize            the expected size
+     * @param foundCollection            the collection
+     */
+    public static void hasSize(final String message, final int expectedSize, final Collection<?> foundCollection) {
+        Check.notNullArgument(foundCollection, "collection");
+
+        if (expectedSize != foundCollection.size()) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - collection has wrong size"),
+                    expectedSize,
+                    foundCollection.size());
+        }
+    }
+
+    /**
+     * Checks for the correct size size.
+     * 
+     * @param size
+     *            the expected size
+     * @param collection
+     *            the collection
+     */
+    public static void hasSize(final int size, final Collection<?> collection) {
+        Check.hasSize(null, size, collection);
+    }
+
+    /**
+     * Checks for the correct size size. Checks for {@code foundCollection.size
+     * >= minExpectedSize}
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param minExpectedSize            the minimal expected size (this value is allowed)
+     * @param foundCollection            the collection
+     */
+    public static void hasSizeAtLeast(final String message, final int minExpectedSize,
+            final Collection<?> foundCollection) {
+        Check.notNullArgument(foundCollection, "collection");
+
+        if (foundCollection.size() < minExpectedSize) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - collection have not minimal size"),
+                    minExpectedSize,
+                    foundCollection.size());
+        }
+    }
+
+    /**
+     * Checks for the correct size size. Checks for {@code collection.size >=
+     * minExpectedSize}
+     * 
+     * @param minExpectedSize
+     *            the minimal expected size (this value is allowed)
+     * @param collection
+     *            the collection
+     */
+    public static void hasSizeAtLeast(final int minExpectedSize, final Collection<?> collection) {
+        Check.hasSizeAtLeast(null, minExpectedSize, collection);
+    }
+
+    /**
+     * Checks hat both collections have the same size.
+     *
+     * @param <T> the generic type
+     * @param <K> the key type
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            the expected collection (size)
+     * @param found            the found collection (size)
+     */
+    public static <T, K> void sameSize(final String message, final Collection<T> expected, final Collection<K> found) {
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+
+        if (found.size() != expected.size()) {
+            Check.failCompare(Check.format(message,
+                    "[Assertion failed] - collections does not habe the same size - expected collection=" + expected
+                            + " found collection=" + found),
+                    expected.size(),
+                    found.size());
+        }
+    }
+
+    /**
+     * Checks hat both collections have the same size.
+     * 
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param expected
+     *            the expected collection (size)
+     * @param found
+     *            the found collection (size)
+     */
+    public static <T, K> void sameSize(final Collection<T> expected, final Collection<K> found) {
+        Check.sameSize(null, expected, found);
+    }
+
+    /**
+     * Check that the two collections contains exactly equals elements. The
+     * order doesn't matter.
+     *
+     * @param <T> the generic type
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            one collection
+     * @param found            the other collection
+     */
+    public static <T> void containsExact(final String message, final Collection<? extends T> expected,
+            final Collection<? extends T> found) {
+        if (!Check.superLinearChecksEnabled || ValidationMemo.passedContainsExact(expected, found)) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.CONTAINS_EXACT.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+
+        Check.sameSize(message, expected, found);
+        for (T expectedItem : expected) {
+            if (!found.contains(expectedItem)) {
+                Check.failCompare(
+                        Check.format(message,
+                                "[Assertion failed] - collection + " + found + " does not contrain " + expectedItem),
+                        expected,
+                        found);
+            }
+        }
+        ValidationMemo.recordContainsExact(expected, found);
+
+        CheckStatistics.CONTAINS_EXACT.end(sampleStart, found);
+    }
+
+    /**
+     * Contains exact.
+     * 
+     * @param <T> the generic type
+     * @param expected
+     *            the expected
+     * @param found
+     *            the found
+     */
+    public static <T> void containsExact(final Collection<? extends T> expected, final Collection<? extends T> found) {
+        Check.containsExact(null, expected, found);
+    }
+
+    /**
+     * Check that the collection contains exactly the one element.
+     *
+     * @param <T> the generic type
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expectedItem            the expected item can be {@code null}
+     * @param found            the found
+     */
+    public static <T> void containsExact(final String message, final T expectedItem, final Collection<T> found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        /* expectedItem can be null */
+        Check.notNullArgument(found, "found");
+
+        if (found.size() != 1) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - collection does not have exactly one item"),
+                    expectedItem,
+                    found);
+        }
+        if (!found.contains(expectedItem)) {
+            Check.failCompare(
+                    Check.format(message, "[Assertion failed] - collection does not contrain expected element"),
+                    expectedItem,
+                    found);
+        }
+    }
+
+    /**
+     * Contains exact.
+     * 
+     * @param <T> the generic type
+     * @param expectedItem
+     *            the expected item can be {@code null}
+     * @param found
+     *            the found
+     */
+    public static <T> void containsExact(final T expectedItem, final Collection<T> found) {
+        Check.containsExact(null, expectedItem, found);
+    }
+
+    /**
+     * Check that the two collections contains equals (by a specific definition)
+     * elements. The order doesn't matter.
+     * 
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param message
+     *            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected
+     *            one collection
+     * @param found
+     *            the found
+     * @param equalsChecker
+     *            the equals checker
+     */
+    public static <T, K> void containsExact(final String message, final Collection<T> expected,
+            final Collection<K> found, final EqualsChecker<T, K> equalsChecker) {
+        if (!Check.superLinearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.CONTAINS_EXACT.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        Check.sameSize(message, expected, found);
+        for (T expectedObject : expected) {
+            boolean ok = false;
+            for (K foundObject : found) {
+                if (equalsChecker.equals(expectedObject, foundObject)) {
+                    ok = true;
+                    break;
+                }
+            }
+            if (!ok) {
+                Check.failCompare(Check.format(message,
+                        "collections does not contain equal elements " + "first not found element=" + expectedObject),
+                        expected,
+                        found);
+            }
+        }
+
+        CheckStatistics.CONTAINS_EXACT.end(sampleStart, found);
+    }
+
+    /**
+     * Check that the two collections contains equals (by a specific definition)
+     * elements. The order doesn't matter.
+     * 
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param expected
+     *            one collection
+     * @param found
+     *            the found
+     * @param equalsChecker
+     *            the equals checker
+     */
+    public static <T, K> void containsExact(final Collection<T> expected, final Collection<K> found,
+            final EqualsChecker<T, K> equalsChecker) {
+        Check.containsExact(null, expected, found, equalsChecker);
+    }
+
+    /**
+     * Check that the two collections contains equals (by a specific definition)
+     * elements. The order doesn't matter.
+     *
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expectedObject            the expected object
+     * @param found            the found collection
+     * @param equalsChecker            the equals checker
+     */
+    public static <T, K> void containsExact(final String message, final T expectedObject, final Collection<K> found,
+            final EqualsChecker<T, K> equalsChecker) {
+        Check.notNullArgument(found, "found");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        Check.hasSize(message, 1, found);
+        if (!equalsChecker.equals(expectedObject, found.iterator().next())) {
+            Check.failCompare(Check.format(message, "collection does not contain expected (one) element"),
+                    expectedObject,
+                    found);
+        }
+    }
+
+    /**
+     * Check that the two collections contains equals (by a specific definition)
+     * elements. The order doesn't matter.
+     * 
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param expectedObject
+     *            the expected object
+     * @param found
+     *            the found collection
+     * @param equalsChecker
+     *            the equals checker
+     */
+    public static <T, K> void containsExact(final T expectedObject, final Collection<K> found,
+            final EqualsChecker<T, K> equalsChecker) {
+        Check.containsExact(null, expectedObject, found, equalsChecker);
+    }
+
+    /**
+     * Check that two arrays have the same length.
+     *
+     * @param message additional message for the failure description when the check fails - can be {@code null}
+     * @param expectedLength the length of the expected array
+     * @param foundLength the length of the found array
+     */
+    private static void sameLength(final String message, final int expectedLength, final int foundLength) {
+        if (expectedLength != foundLength) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - arrays does not have the same length"),
+                    expectedLength,
+                    foundLength);
+        }
+    }
+
+    /**
+     * Check that the two {@code int} arrays contain exactly the same values. The order doesn't matter.
+     *
+     * The values are compared without boxing, by a hash set of the found values, so the check is linear.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            one array
+     * @param found            the other array
+     */
+    public static void containsExact(final String message, final int[] expected, final int[] found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.CONTAINS_EXACT.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+
+        Check.sameLength(message, expected.length, found.length);
+        IntHashSet foundValues = new IntHashSet(found.length);
+        for (int value : found) {
+            foundValues.add(value);
+        }
+        for (int expectedValue : expected) {
+            if (!foundValues.contains(expectedValue)) {
+                Check.failCompare(
+                        Check.format(message,
+                                "[Assertion failed] - array " + Arrays.toString(found) + " does not contain "
+                                        + expectedValue),
+                        Arrays.toString(expected),
+                        Arrays.toString(found));
+            }
+        }
+
+        CheckStatistics.CONTAINS_EXACT.end(sampleStart, found.length);
+    }
+
+    /**
+     * Check that the two {@code int} arrays contain exactly the same values. The order doesn't matter.
+     *
+     * @param expected            one array
+     * @param found            the other array
+     */
+    public static void containsExact(final int[] expected, final int[] found) {
+        Check.containsExact(null, expected, found);
+    }
+
+    /**
+     * Check that the two {@code int} arrays contain equal (by a specific definition) values. The order doesn't
+     * matter.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            one array
+     * @param found            the other array
+     * @param equalsChecker            the equals definition
+     */
+    public static void containsExact(final String message, final int[] expected, final int[] found,
+            final IntEqualsChecker equalsChecker) {
+        if (!Check.superLinearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.CONTAINS_EXACT.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        Check.sameLength(message, expected.length, found.length);
+        for (int expectedValue : expected) {
+            boolean ok = false;
+            for (int foundValue : found) {
+                if (equalsChecker.equals(expectedValue, foundValue)) {
+                    ok = true;
+                    break;
+                }
+            }
+            if (!ok) {
+                Check.failCompare(
+                        Check.format(message,
+                                "arrays does not contain equal values first not found value=" + expectedValue),
+                        Arrays.toString(expected),
+                        Arrays.toString(found));
+            }
+        }
+
+        CheckStatistics.CONTAINS_EXACT.end(sampleStart, found.length);
+    }
+
+    /**
+     * Check that the two {@code int} arrays contain equal (by a specific definition) values. The order doesn't
+     * matter.
+     *
+     * @param expected            one array
+     * @param found            the other array
+     * @param equalsChecker            the equals definition
+     */
+    public static void containsExact(final int[] expected, final int[] found,
+            final IntEqualsChecker equalsChecker) {
+        Check.containsExact(null, expected, found, equalsChecker);
+    }
+
+    /**
+     * Check that the two {@code long} arrays contain exactly the same values. The order doesn't matter.
+     *
+     * The values are compared without boxing, by a hash set of the found values, so the check is linear.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            one array
+     * @param found            the other array
+     */
+    public static void containsExact(final String message, final long[] expected, final long[] found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.CONTAINS_EXACT.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+
+        Check.sameLength(message, expected.length, found.length);
+        LongHashSet foundValues = new LongHashSet(found.length);
+        for (long value : found) {
+            foundValues.add(value);
+        }
+        for (long expectedValue : expected) {
+            if (!foundValues.contains(expectedValue)) {
+                Check.failCompare(
+                        Check.format(message,
+                                "[Assertion failed] - array " + Arrays.toString(found) + " does not contain "
+                                        + expectedValue),
+                        Arrays.toString(expected),
+                        Arrays.toString(found));
+            }
+        }
+
+        CheckStatistics.CONTAINS_EXACT.end(sampleStart, found.length);
+    }
+
+    /**
+     * Check that the two {@code long} arrays contain exactly the same values. The order doesn't matter.
+     *
+     * @param expected            one array
+     * @param found            the other array
+     */
+    public static void containsExact(final long[] expected, final long[] found) {
+        Check.containsExact(null, expected, found);
+    }
+
+    /**
+     * Check that the two {@code long} arrays contain equal (by a specific definition) values. The order doesn't
+     * matter.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            one array
+     * @param found            the other array
+     * @param equalsChecker            the equals definition
+     */
+    public static void containsExact(final String message, final long[] expected, final long[] found,
+            final LongEqualsChecker equalsChecker) {
+        if (!Check.superLinearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.CONTAINS_EXACT.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        Check.sameLength(message, expected.length, found.length);
+        for (long expectedValue : expected) {
+            boolean ok = false;
+            for (long foundValue : found) {
+                if (equalsChecker.equals(expectedValue, foundValue)) {
+                    ok = true;
+                    break;
+                }
+            }
+            if (!ok) {
+                Check.failCompare(
+                        Check.format(message,
+                                "arrays does not contain equal values first not found value=" + expectedValue),
+                        Arrays.toString(expected),
+                        Arrays.toString(found));
+            }
+        }
+
+        CheckStatistics.CONTAINS_EXACT.end(sampleStart, found.length);
+    }
+
+    /**
+     * Check that the two {@code long} arrays contain equal (by a specific definition) values. The order doesn't
+     * matter.
+     *
+     * @param expected            one array
+     * @param found            the other array
+     * @param equalsChecker            the equals definition
+     */
+    public static void containsExact(final long[] expected, final long[] found,
+            final LongEqualsChecker equalsChecker) {
+        Check.containsExact(null, expected, found, equalsChecker);
+    }
+
+    /**
+     * Check that the two collections contains exactly equals elements in the
+     * same order.
+     *
+     * @param <T> the generic type
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            one collection
+     * @param found            the found
+     */
+    public static <T> void sameOrder(final String message, final List<T> expected, final List<T> found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.SAME_ORDER.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+
+        if (found.size() != expected.size()) {
+            Check.failSameOrder(message, -1, expected, found, NativeEqualsChecker.<T> getInstance());
+        }
+        int size = expected.size();
+        for (int i = 0; i < size; i++) {
+            if (!expected.get(i).equals(found.get(i))) {
+                Check.failSameOrder(message, i, expected, found, NativeEqualsChecker.<T> getInstance());
+            }
+        }
+
+        CheckStatistics.SAME_ORDER.end(sampleStart, found);
+    }
+
+    /**
+     * Check that the two collections contains exactly equals elements in the
+     * same order.
+     * 
+     * @param <T> the generic type
+     * @param expected
+     *            one collection
+     * @param found
+     *            the found
+     */
+    public static <T> void sameOrder(final List<T> expected, final List<T> found) {
+        Check.sameOrder(null, expected, found);
+    }
+
+    /**
+     * Check that the two collections contains exactly equals (by a specific
+     * definition) elements in the same order.
+     *
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            one collection
+     * @param found            the found
+     * @param equalsChecker            the equals definition
+     */
+    public static <T, K> void sameOrder(final String message, final List<T> expected, final List<K> found,
+            final EqualsChecker<T, K> equalsChecker) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.SAME_ORDER.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+
+        if (found.size() != expected.size()) {
+            Check.failSameOrder(message, -1, expected, found, equalsChecker);
+        }
+        int size = expected.size();
+        for (int i = 0; i < size; i++) {
+            try {
+                if (!equalsChecker.equals(expected.get(i), found.get(i))) {
+                    Check.failSameOrder(message, i, expected, found, equalsChecker);
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(
+                        "[Exception while assertion check] - the elements have not the same order"
+                                + "(first difference at index " + i + " (expected=" + expected.get(i) + " found="
+                                + found.get(i) + ")) - expected list + " + expected + " found list " + found,
+                        e);
+            }
+        }
+
+        CheckStatistics.SAME_ORDER.end(sampleStart, found);
+    }
+
+    /**
+     * Check that the two collections contains exactly equals (by a specific
+     * definition) elements in the same order.
+     *
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param expected            one collection
+     * @param found            the found
+     * @param equalsChecker            the equals definition
+     */
+    public static <T, K> void sameOrder(final List<T> expected, final List<K> found,
+            final EqualsChecker<T, K> equalsChecker) {
+        Check.sameOrder(null, expected, found, equalsChecker);
+    }
+
+    /**
+     * Fail the {@code sameOrder} check of two lists, with the minimal edit script in the message, so that one
+     * inserted or deleted element is not reported as a difference at every following index.
+     *
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param message additional message for the failure description - can be {@code null}
+     * @param index the index of the first difference, -1 if the lists do not have the same size
+     * @param expected the expected list
+     * @param found the found list
+     * @param equalsChecker the equals definition
+     */
+    private static <T, K> void failSameOrder(final String message, final int index, final List<T> expected,
+            final List<K> found, final EqualsChecker<T, K> equalsChecker) {
+        String editScript = SequenceDiff.of(expected, found, equalsChecker).describe();
+        if (index < 0) {
+            Check.failCompare(Check.format(message,
+                    "[Assertion failed] - collections does not habe the same size - expected collection=" + expected
+                            + " found collection=" + found + editScript),
+                    expected.size(),
+                    found.size());
+        }
+        Check.failCompare(Check.format(message,
+                "[Assertion failed] - the elements have not the same order - " + "first difference at index " + index
+                        + " - expected element=" + expected.get(index) + ", found element=" + found.get(index)
+                        + editScript),
+                expected,
+                found);
+    }
+
+    /**
+     * Check that the two {@code int} arrays contain exactly the same values in the same order.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            one array
+     * @param found            the other array
+     */
+    public static void sameOrder(final String message, final int[] expected, final int[] found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.SAME_ORDER.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+
+        if (expected.length != found.length) {
+            Check.failSameOrder(message, -1, expected, found, null);
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != found[i]) {
+                Check.failSameOrder(message, i, expected, found, null);
+            }
+        }
+
+        CheckStatistics.SAME_ORDER.end(sampleStart, found.length);
+    }
+
+    /**
+     * Check that the two {@code int} arrays contain exactly the same values in the same order.
+     *
+     * @param expected            one array
+     * @param found            the other array
+     */
+    public static void sameOrder(final int[] expected, final int[] found) {
+        Check.sameOrder(null, expected, found);
+    }
+
+    /**
+     * Check that the two {@code int} arrays contain equal (by a specific definition) values in the same order.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            one array
+     * @param found            the other array
+     * @param equalsChecker            the equals definition
+     */
+    public static void sameOrder(final String message, final int[] expected, final int[] found,
+            final IntEqualsChecker equalsChecker) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.SAME_ORDER.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        if (expected.length != found.length) {
+            Check.failSameOrder(message, -1, expected, found, equalsChecker);
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (!equalsChecker.equals(expected[i], found[i])) {
+                Check.failSameOrder(message, i, expected, found, equalsChecker);
+            }
+        }
+
+        CheckStatistics.SAME_ORDER.end(sampleStart, found.length);
+    }
+
+    /**
+     * Check that the two {@code int} arrays contain equal (by a specific definition) values in the same order.
+     *
+     * @param expected            one array
+     * @param found            the other array
+     * @param equalsChecker            the equals definition
      */
-    public static void equalsWithoutWhitespace(final String message, final String expected, final String found) {
+    public static void sameOrder(final int[] expected, final int[] found, final IntEqualsChecker equalsChecker) {
+        Check.sameOrder(null, expected, found, equalsChecker);
+    }
+
+    /**
+     * Fail the {@code sameOrder} check of two {@code int} arrays, with the minimal edit script in the message.
+     *
+     * @param message additional message for the failure description - can be {@code null}
+     * @param index the index of the first difference, -1 if the arrays do not have the same length
+     * @param expected the expected array
+     * @param found the found array
+     * @param equalsChecker the equals definition, {@code null} for {@code ==}
+     */
+    private static void failSameOrder(final String message, final int index, final int[] expected,
+            final int[] found, final IntEqualsChecker equalsChecker) {
+        String editScript = SequenceDiff.of(expected, found, equalsChecker).describe();
+        if (index < 0) {
+            Check.failCompare(
+                    Check.format(message, "[Assertion failed] - arrays does not have the same length" + editScript),
+                    expected.length,
+                    found.length);
+        }
+        Check.failCompare(
+                Check.format(message,
+                        "[Assertion failed] - the elements have not the same order - first difference at index "
+                                + index + " - expected element=" + expected[index] + ", found element="
+                                + found[index] + editScript),
+                Arrays.toString(expected),
+                Arrays.toString(found));
+    }
+
+    /**
+     * Check that the two {@code long} arrays contain exactly the same values in the same order.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expected            one array
+     * @param found            the other array
+     */
+    public static void sameOrder(final String message, final long[] expected, final long[] found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.SAME_ORDER.start();
         Check.notNullArgument(expected, "expected");
         Check.notNullArgument(found, "found");
-        String expectedNormalized = expected.replace(" ", "");
-        String foundNormalized = found.replace(" ", "");
 
-        if (!expectedNormalized.equals(foundNormalized)) {
-            Check.failCompare(Check.format(message, "[Assertion failed] - trimed strings are not equal"),
-                    expectedNormalized,
-                    foundNormalized);
+        if (expected.length != found.length) {
+            Check.failSameOrder(message, -1, expected, found, null);
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != found[i]) {
+                Check.failSameOrder(message, i, expected, found, null);
+            }
         }
+
+        CheckStatistics.SAME_ORDER.end(sampleStart, found.length);
     }
 
     /**
-     * Asserts that two Strings are equal if there whitespace are striped.
-     * 
-     * @param expected
-     *            the expected
-     * @param found
-     *            the found
+     * Check that the two {@code long} arrays contain exactly the same values in the same order.
+     *
+     * @param expected            one array
+     * @param found            the other array
      */
-    public static void equalsWithoutWhitespace(final String expected, final String found) {
-        Check.equalsWithoutWhitespace(null, expected, found);
+    public static void sameOrder(final long[] expected, final long[] found) {
+        Check.sameOrder(null, expected, found);
     }
 
     /**
-     * Check that the collection is empty.
+     * Check that the two {@code long} arrays contain equal (by a specific definition) values in the same order.
      *
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param collection            the collection
+     * @param expected            one array
+     * @param found            the other array
+     * @param equalsChecker            the equals definition
      */
-    public static void isEmpty(final String message, final Collection<?> collection) {
-        Check.notNullArgument(collection, "collection");
-        if (collection.size() != 0) {
-            Check.failCompare(Check.format(message, "[Assertion failed] - no elements excected"), 0, collection.size());
+    public static void sameOrder(final String message, final long[] expected, final long[] found,
+            final LongEqualsChecker equalsChecker) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.SAME_ORDER.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        if (expected.length != found.length) {
+            Check.failSameOrder(message, -1, expected, found, equalsChecker);
         }
+        for (int i = 0; i < expected.length; i++) {
+            if (!equalsChecker.equals(expected[i], found[i])) {
+                Check.failSameOrder(message, i, expected, found, equalsChecker);
+            }
+        }
+
+        CheckStatistics.SAME_ORDER.end(sampleStart, found.length);
     }
 
     /**
-     * Checks if is empty.
-     * 
-     * @param collection
-     *            the collection
+     * Check that the two {@code long} arrays contain equal (by a specific definition) values in the same order.
+     *
+     * @param expected            one array
+     * @param found            the other array
+     * @param equalsChecker            the equals definition
      */
-    public static void isEmpty(final Collection<?> collection) {
-        Check.isEmpty(null, collection);
+    public static void sameOrder(final long[] expected, final long[] found, final LongEqualsChecker equalsChecker) {
+        Check.sameOrder(null, expected, found, equalsChecker);
     }
 
     /**
-     * Checks for the correct size size.
+     * Fail the {@code sameOrder} check of two {@code long} arrays, with the minimal edit script in the message.
      *
-     * @param message            additional message for the failure description when the check
+     * @param message additional message for the failure description - can be {@code null}
+     * @param index the index of the first difference, -1 if the arrays do not have the same length
+     * @param expected the expected array
+     * @param found the found array
+     * @param equalsChecker the equals definition, {@code null} for {@code ==}
+     */
+    private static void failSameOrder(final String message, final int index, final long[] expected,
+            final long[] found, final LongEqualsChecker equalsChecker) {
+        String editScript = SequenceDiff.of(expected, found, equalsChecker).describe();
+        if (index < 0) {
+            Check.failCompare(
+                    Check.format(message, "[Assertion failed] - arrays does not have the same length" + editScript),
+                    expected.length,
+                    found.length);
+        }
+        Check.failCompare(
+                Check.format(message,
+                        "[Assertion failed] - the elements have not the same order - first difference at index "
+                                + index + " - expected element=" + expected[index] + ", found element="
+                                + found[index] + editScript),
+                Arrays.toString(expected),
+                Arrays.toString(found));
+    }
+
+    /**
+     * Check that the elements of expects are element of found too (by a
+     * specific definition) elements. The order doesn't matter. {@code found}
+     * can have some more elements.
+     * 
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param message
+     *            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param expectedSize            the expected size
-     * @param foundCollection            the collection
+     * @param expectedObject
+     *            the expected object
+     * @param found
+     *            the found
+     * @param equalsChecker
+     *            the specific equals definition
      */
-    public static void hasSize(final String message, final int expectedSize, final Collection<?> foundCollection) {
-        Check.notNullArgument(foundCollection, "collection");
+    public static <T, K> void containsAtLeast(final String message, final T expectedObject, final Collection<K> found,
+            final EqualsChecker<T, K> equalsChecker) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
 
-        if (expectedSize != foundCollection.size()) {
-            Check.failCompare(Check.format(message, "[Assertion failed] - collection has wrong size"),
-                    expectedSize,
-                    foundCollection.size());
+        Check.notNullArgument(found, "found");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        for (K foundObject : found) {
+            if (equalsChecker.equals(expectedObject, foundObject)) {
+                return;
+            }
         }
+        Check.failCompare(Check.format(message, "[Assertion failed] - expected object not found in collection"),
+                expectedObject,
+                found);
     }
 
     /**
-     * Checks for the correct size size.
+     * Check that the elements of expects are element of found too (by a
+     * specific definition) elements. The order doesn't matter. {@code found}
+     * can have some more elements.
      * 
-     * @param size
-     *            the expected size
-     * @param collection
-     *            the collection
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param expectedObject
+     *            the expected object
+     * @param found
+     *            the found
+     * @param equalsChecker
+     *            the specific equals definition
      */
-    public static void hasSize(final int size, final Collection<?> collection) {
-        Check.hasSize(null, size, collection);
+    public static <T, K> void containsAtLeast(final T expectedObject, final Collection<K> found,
+            final EqualsChecker<T, K> equalsChecker) {
+        Check.containsAtLeast(null, expectedObject, found, equalsChecker);
     }
 
     /**
-     * Checks for the correct size size. Checks for {@code foundCollection.size
-     * >= minExpectedSize}
+     * Check that the elements of expects are element of found too (by a
+     * specific definition) elements. The order doesn't matter. {@code found}
+     * can have some more elements.
      *
+     * @param <T> the generic type
+     * @param <K> the generic type
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param minExpectedSize            the minimal expected size (this value is allowed)
-     * @param foundCollection            the collection
+     * @param expected            one collection
+     * @param found            the found
+     * @param equalsChecker            the specific equals definition
      */
-    public static void hasSizeAtLeast(final String message, final int minExpectedSize,
-            final Collection<?> foundCollection) {
-        Check.notNullArgument(foundCollection, "collection");
+    public static <T, K> void containsAtLeast(final String message, final Collection<T> expected,
+            final Collection<K> found, final EqualsChecker<T, K> equalsChecker) {
+        if (!Check.superLinearChecksEnabled) {
+            return;
+        }
 
-        if (foundCollection.size() < minExpectedSize) {
-            Check.failCompare(Check.format(message, "[Assertion failed] - collection have not minimal size"),
-                    minExpectedSize,
-                    foundCollection.size());
+        long sampleStart = CheckStatistics.CONTAINS_AT_LEAST.start();
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        for (T expectedObject : expected) {
+            Check.containsAtLeast(message, expectedObject, found, equalsChecker);
         }
+
+        CheckStatistics.CONTAINS_AT_LEAST.end(sampleStart, found);
     }
 
     /**
-     * Checks for the correct size size. Checks for {@code collection.size >=
-     * minExpectedSize}
-     * 
-     * @param minExpectedSize
-     *            the minimal expected size (this value is allowed)
-     * @param collection
-     *            the collection
+     * Check that the elements of expects are element of found too (by a
+     * specific definition) elements. The order doesn't matter. {@code found}
+     * can have some more elements.
+     *
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param expected            one collection
+     * @param found            the found
+     * @param equalsChecker            the specific equals definition
      */
-    public static void hasSizeAtLeast(final int minExpectedSize, final Collection<?> collection) {
-        Check.hasSizeAtLeast(null, minExpectedSize, collection);
+    public static <T, K> void containsAtLeast(final Collection<T> expected, final Collection<K> found,
+            final EqualsChecker<T, K> equalsChecker) {
+        Check.containsAtLeast(null, expected, found, equalsChecker);
     }
 
     /**
-     * Checks hat both collections have the same size.
+     * Assert that the collection contains the item. The Collection can have
+     * other items too.
      *
      * @param <T> the generic type
-     * @param <K> the key type
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param expected            the expected collection (size)
-     * @param found            the found collection (size)
+     * @param expectedItem            the expected item
+     * @param found            the found
      */
-    public static <T, K> void sameSize(final String message, final Collection<T> expected, final Collection<K> found) {
-        Check.notNullArgument(expected, "expected");
+    public static <T> void contains(final String message, final T expectedItem, final Collection<T> found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
         Check.notNullArgument(found, "found");
 
-        if (found.size() != expected.size()) {
-            Check.failCompare(Check.format(message,
-                    "[Assertion failed] - collections does not habe the same size - expected collection=" + expected
-                            + " found collection=" + found),
-                    expected.size(),
-                    found.size());
+        if (!found.contains(expectedItem)) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - collection does not contrain expected item"),
+                    expectedItem,
+                    found);
         }
     }
 
     /**
-     * Checks hat both collections have the same size.
+     * Contains.
      * 
      * @param <T> the generic type
-     * @param <K> the generic type
-     * @param expected
-     *            the expected collection (size)
+     * @param expectedItem
+     *            the expected item
      * @param found
-     *            the found collection (size)
+     *            the found
+     */
+    public static <T> void contains(final T expectedItem, final Collection<T> found) {
+        Check.contains(null, expectedItem, found);
+    }
+
+    /**
+     * Assert that the collection contains the expected items. The Collection
+     * can have other items too.
+     *
+     * @param <T> the generic type
+     * @param expectedItems            the expected items
+     * @param found            the found
+     */
+    public static <T> void contains(final Collection<T> expectedItems, final Collection<T> found) {
+        if (!Check.superLinearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.CONTAINS.start();
+        Check.notNullArgument(expectedItems, "expectedItems");
+        Check.notNullArgument(found, "found");
+
+        for (T exptetedItem : expectedItems) {
+            Check.contains(exptetedItem, found);
+        }
+
+        CheckStatistics.CONTAINS.end(sampleStart, found);
+    }
+
+    /**
+     * Assert that the collection contains the instance, compared by identity ({@code ==}). The collection can have
+     * other items too.
+     *
+     * The check never invokes {@code equals}, {@code hashCode} or {@code toString} of the elements, so it can be
+     * used for persistent entities, where these methods can be expensive or trigger lazy loading.
+     *
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expectedInstance            the expected instance, can be {@code null}
+     * @param found            the found collection
+     */
+    public static void containsInstance(final String message, final Object expectedInstance,
+            final Collection<?> found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.CONTAINS_INSTANCE.start();
+        Check.notNullArgument(found, "found");
+
+        boolean contained = false;
+        for (Object item : found) {
+            if (item == expectedInstance) {
+                contained = true;
+                break;
+            }
+        }
+        if (!contained) {
+            Check.fail(Check.format(message,
+                    "[Assertion failed] - collection does not contain the expected instance "
+                            + IdentitySet.describe(expectedInstance)));
+        }
+
+        CheckStatistics.CONTAINS_INSTANCE.end(sampleStart, found);
+    }
+
+    /**
+     * Assert that the collection contains the instance, compared by identity ({@code ==}).
+     *
+     * @param expectedInstance            the expected instance, can be {@code null}
+     * @param found            the found collection
+     * @see #containsInstance(String, Object, Collection)
      */
-    public static <T, K> void sameSize(final Collection<T> expected, final Collection<K> found) {
-        Check.sameSize(null, expected, found);
+    public static void containsInstance(final Object expectedInstance, final Collection<?> found) {
+        Check.containsInstance(null, expectedInstance, found);
     }
 
     /**
-     * Check that the two collections contains exactly equals elements. The
-     * order doesn't matter.
+     * Assert that the collection contains all expected instances, compared by identity ({@code ==}). The collection
+     * can have other items too.
+     *
+     * The found instances are stored in an identity hash table, so the check is linear and never invokes
+     * {@code equals}, {@code hashCode} or {@code toString} of the elements.
      *
-     * @param <T> the generic type
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param expected            one collection
-     * @param found            the other collection
+     * @param expectedInstances            the expected instances
+     * @param found            the found collection
      */
-    public static <T> void containsExact(final String message, final Collection<? extends T> expected,
-            final Collection<? extends T> found) {
-        Check.notNullArgument(expected, "expected");
+    public static void containsInstances(final String message, final Collection<?> expectedInstances,
+            final Collection<?> found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.CONTAINS_INSTANCES.start();
+        Check.notNullArgument(expectedInstances, "expectedInstances");
         Check.notNullArgument(found, "found");
 
-        Check.sameSize(message, expected, found);
-        for (T expectedItem : expected) {
-            if (!found.contains(expectedItem)) {
-                Check.failCompare(
-                        Check.format(message,
-                                "[Assertion failed] - collection + " + found + " does not contrain " + expectedItem),
-                        expected,
-                        found);
+        IdentitySet foundInstances = new IdentitySet(found.size());
+        for (Object item : found) {
+            foundInstances.add(item);
+        }
+        for (Object expectedInstance : expectedInstances) {
+            if (!foundInstances.contains(expectedInstance)) {
+                Check.fail(Check.format(message,
+                        "[Assertion failed] - collection does not contain the expected instance "
+                                + IdentitySet.describe(expectedInstance)));
             }
         }
+
+        CheckStatistics.CONTAINS_INSTANCES.end(sampleStart, found);
     }
 
     /**
-     * Contains exact.
-     * 
-     * @param <T> the generic type
-     * @param expected
-     *            the expected
-     * @param found
-     *            the found
+     * Assert that the collection contains all expected instances, compared by identity ({@code ==}).
+     *
+     * @param expectedInstances            the expected instances
+     * @param found            the found collection
+     * @see #containsInstances(String, Collection, Collection)
      */
-    public static <T> void containsExact(final Collection<? extends T> expected, final Collection<? extends T> found) {
-        Check.containsExact(null, expected, found);
+    public static void containsInstances(final Collection<?> expectedInstances, final Collection<?> found) {
+        Check.containsInstances(null, expectedInstances, found);
     }
 
     /**
-     * Check that the collection contains exactly the one element.
+     * Assert that the collection does not contains the item. The Collection can
+     * have other items.
      *
      * @param <T> the generic type
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param expectedItem            the expected item can be {@code null}
+     * @param notExpectedItem            the not expected item
      * @param found            the found
      */
-    public static <T> void containsExact(final String message, final T expectedItem, final Collection<T> found) {
-        /* expectedItem can be null */
+    public static <T> void containsNot(final String message, final T notExpectedItem, final Set<T> found) {
         Check.notNullArgument(found, "found");
 
-        if (found.size() != 1) {
-            Check.failCompare(Check.format(message, "[Assertion failed] - collection does not have exactly one item"),
-                    expectedItem,
-                    found);
-        }
-        if (!found.contains(expectedItem)) {
-            Check.failCompare(
-                    Check.format(message, "[Assertion failed] - collection does not contrain expected element"),
-                    expectedItem,
-                    found);
+        if (found.contains(notExpectedItem)) {
+            Check.fail(Check.format(message,
+                    "[Assertion failed] - colection + " + found + " does contrain the not expected item "
+                            + notExpectedItem));
         }
     }
 
     /**
-     * Contains exact.
+     * Contains not.
      * 
      * @param <T> the generic type
-     * @param expectedItem
-     *            the expected item can be {@code null}
-     * @param found
-     *            the found
+     * @param notExpectedItem the not expected item
+     * @param found the found
      */
-    public static <T> void containsExact(final T expectedItem, final Collection<T> found) {
-        Check.containsExact(null, expectedItem, found);
+    public static <T> void containsNot(final T notExpectedItem, final Set<T> found) {
+        Check.containsNot(null, notExpectedItem, found);
     }
 
     /**
-     * Check that the two collections contains equals (by a specific definition)
-     * elements. The order doesn't matter.
-     * 
-     * @param <T> the generic type
-     * @param <K> the generic type
-     * @param message
-     *            additional message for the failure description when the check
+     * Assert that the collection does not contain the instance, compared by identity ({@code ==}). The collection
+     * can contain other instances that are equal to it.
+     *
+     * The check never invokes {@code equals}, {@code hashCode} or {@code toString} of the elements.
+     *
+     * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param expected
-     *            one collection
-     * @param found
-     *            the found
-     * @param equalsChecker
-     *            the equals checker
+     * @param notExpectedInstance            the not expected instance, can be {@code null}
+     * @param found            the found collection
      */
-    public static <T, K> void containsExact(final String message, final Collection<T> expected,
-            final Collection<K> found, final EqualsChecker<T, K> equalsChecker) {
-        Check.notNullArgument(expected, "expected");
+    public static void containsNotInstance(final String message, final Object notExpectedInstance,
+            final Collection<?> found) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.CONTAINS_NOT_INSTANCE.start();
         Check.notNullArgument(found, "found");
-        Check.notNullArgument(equalsChecker, "equalsChecker");
 
-        Check.sameSize(message, expected, found);
-        for (T expectedObject : expected) {
-            boolean ok = false;
-            for (K foundObject : found) {
-                if (equalsChecker.equals(expectedObject, foundObject)) {
-                    ok = true;
-                    break;
-                }
-            }
-            if (!ok) {
-                Check.failCompare(Check.format(message,
-                        "collections does not contain equal elements " + "first not found element=" + expectedObject),
-                        expected,
-                        found);
+        for (Object item : found) {
+            if (item == notExpectedInstance) {
+                Check.fail(Check.format(message,
+                        "[Assertion failed] - collection does contain the not expected instance "
+                                + IdentitySet.describe(notExpectedInstance)));
             }
         }
+
+        CheckStatistics.CONTAINS_NOT_INSTANCE.end(sampleStart, found);
     }
 
     /**
-     * Check that the two collections contains equals (by a specific definition)
-     * elements. The order doesn't matter.
-     * 
-     * @param <T> the generic type
-     * @param <K> the generic type
-     * @param expected
-     *            one collection
-     * @param found
-     *            the found
-     * @param equalsChecker
-     *            the equals checker
+     * Assert that the collection does not contain the instance, compared by identity ({@code ==}).
+     *
+     * @param notExpectedInstance            the not expected instance, can be {@code null}
+     * @param found            the found collection
+     * @see #containsNotInstance(String, Object, Collection)
      */
-    public static <T, K> void containsExact(final Collection<T> expected, final Collection<K> found,
-            final EqualsChecker<T, K> equalsChecker) {
-        Check.containsExact(null, expected, found, equalsChecker);
+    public static void containsNotInstance(final Object notExpectedInstance, final Collection<?> found) {
+        Check.containsNotInstance(null, notExpectedInstance, found);
     }
 
     /**
-     * Check that the two collections contains equals (by a specific definition)
-     * elements. The order doesn't matter.
+     * Check that the elements are sorted (ascending) with respect to the comparator. Equal neighbours are allowed.
+     * The check stops at the first element that is out of order.
      *
      * @param <T> the generic type
-     * @param <K> the generic type
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param expectedObject            the expected object
-     * @param found            the found collection
-     * @param equalsChecker            the equals checker
+     * @param found            the elements - a list or any other iterable with a stable iteration order
+     * @param comparator            the comparator that defines the order
      */
-    public static <T, K> void containsExact(final String message, final T expectedObject, final Collection<K> found,
-            final EqualsChecker<T, K> equalsChecker) {
+    public static <T> void sorted(final String message, final Iterable<T> found,
+            final Comparator<? super T> comparator) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
         Check.notNullArgument(found, "found");
-        Check.notNullArgument(equalsChecker, "equalsChecker");
+        Check.notNullArgument(comparator, "comparator");
 
-        Check.hasSize(message, 1, found);
-        if (!equalsChecker.equals(expectedObject, found.iterator().next())) {
-            Check.failCompare(Check.format(message, "collection does not contain expected (one) element"),
-                    expectedObject,
-                    found);
+        int index = Check.firstUnsortedIndex(found, comparator, false);
+        if (index >= 0) {
+            Check.fail(Check.format(message, "[Assertion failed] - the elements are not sorted - "
+                    + Check.describeUnsortedIndex(found, index) + " - elements=" + found));
         }
     }
 
     /**
-     * Check that the two collections contains equals (by a specific definition)
-     * elements. The order doesn't matter.
-     * 
+     * Check that the elements are sorted (ascending) with respect to the comparator. Equal neighbours are allowed.
+     *
      * @param <T> the generic type
-     * @param <K> the generic type
-     * @param expectedObject
-     *            the expected object
-     * @param found
-     *            the found collection
-     * @param equalsChecker
-     *            the equals checker
+     * @param found            the elements
+     * @param comparator            the comparator that defines the order
      */
-    public static <T, K> void containsExact(final T expectedObject, final Collection<K> found,
-            final EqualsChecker<T, K> equalsChecker) {
-        Check.containsExact(null, expectedObject, found, equalsChecker);
+    public static <T> void sorted(final Iterable<T> found, final Comparator<? super T> comparator) {
+        Check.sorted(null, found, comparator);
     }
 
     /**
-     * Check that the two collections contains exactly equals elements in the
-     * same order.
+     * Check that the array elements are sorted (ascending) with respect to the comparator. Equal neighbours are
+     * allowed. The check stops at the first element that is out of order.
      *
      * @param <T> the generic type
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param expected            one collection
-     * @param found            the found
+     * @param found            the elements
+     * @param comparator            the comparator that defines the order
      */
-    public static <T> void sameOrder(final String message, final List<T> expected, final List<T> found) {
-        Check.notNullArgument(expected, "expected");
+    public static <T> void sorted(final String message, final T[] found, final Comparator<? super T> comparator) {
         Check.notNullArgument(found, "found");
 
-        Check.sameSize(message, expected, found);
-        int size = expected.size();
-        for (int i = 0; i < size; i++) {
-            if (!expected.get(i).equals(found.get(i))) {
-                Check.failCompare(Check.format(message,
-                        "[Assertion failed] - the elements have not the same order - " + "first difference at index "
-                                + i + " - expected element=" + expected.get(i) + ", found element=" + found.get(i)),
-                        expected,
-                        found);
-            }
-        }
+        Check.sorted(message, Arrays.asList(found), comparator);
     }
 
     /**
-     * Check that the two collections contains exactly equals elements in the
-     * same order.
-     * 
+     * Check that the array elements are sorted (ascending) with respect to the comparator. Equal neighbours are
+     * allowed.
+     *
      * @param <T> the generic type
-     * @param expected
-     *            one collection
-     * @param found
-     *            the found
+     * @param found            the elements
+     * @param comparator            the comparator that defines the order
      */
-    public static <T> void sameOrder(final List<T> expected, final List<T> found) {
-        Check.sameOrder(null, expected, found);
+    public static <T> void sorted(final T[] found, final Comparator<? super T> comparator) {
+        Check.sorted(null, found, comparator);
     }
 
     /**
-     * Check that the two collections contains exactly equals (by a specific
-     * definition) elements in the same order.
+     * Check that the elements are strictly increasing with respect to the comparator, so they are sorted and there
+     * are no two equal elements. The check stops at the first element that is out of order.
      *
      * @param <T> the generic type
-     * @param <K> the generic type
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param expected            one collection
-     * @param found            the found
-     * @param equalsChecker            the equals definition
+     * @param found            the elements - a list or any other iterable with a stable iteration order
+     * @param comparator            the comparator that defines the order
      */
-    public static <T, K> void sameOrder(final String message, final List<T> expected, final List<K> found,
-            final EqualsChecker<T, K> equalsChecker) {
-        Check.notNullArgument(expected, "expected");
+    public static <T> void strictlyIncreasing(final String message, final Iterable<T> found,
+            final Comparator<? super T> comparator) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
         Check.notNullArgument(found, "found");
+        Check.notNullArgument(comparator, "comparator");
 
-        Check.sameSize(expected, found);
-        int size = expected.size();
-        for (int i = 0; i < size; i++) {
-            try {
-                if (!equalsChecker.equals(expected.get(i), found.get(i))) {
-                    Check.failCompare(Check.format(message,
-                            "[Assertion failed] - the elements have not the same order - "
-                                    + "first difference at index " + i + " - expected element=" + expected.get(i)
-                                    + ", found element=" + found.get(i)),
-                            expected,
-                            found);
-                }
-            } catch (RuntimeException e) {
-                throw new IllegalArgumentException(
-                        "[Exception while assertion check] - the elements have not the same order"
-                                + "(first difference at index " + i + " (expected=" + expected.get(i) + " found="
-                                + found.get(i) + ")) - expected list + " + expected + " found list " + found,
-                        e);
-            }
+        int index = Check.firstUnsortedIndex(found, comparator, true);
+        if (index >= 0) {
+            Check.fail(Check.format(message, "[Assertion failed] - the elements are not strictly increasing - "
+                    + Check.describeUnsortedIndex(found, index) + " - elements=" + found));
         }
     }
 
     /**
-     * Check that the two collections contains exactly equals (by a specific
-     * definition) elements in the same order.
+     * Check that the elements are strictly increasing with respect to the comparator.
      *
      * @param <T> the generic type
-     * @param <K> the generic type
-     * @param expected            one collection
-     * @param found            the found
-     * @param equalsChecker            the equals definition
+     * @param found            the elements
+     * @param comparator            the comparator that defines the order
      */
-    public static <T, K> void sameOrder(final List<T> expected, final List<K> found,
-            final EqualsChecker<T, K> equalsChecker) {
-        Check.sameOrder(null, expected, found, equalsChecker);
+    public static <T> void strictlyIncreasing(final Iterable<T> found, final Comparator<? super T> comparator) {
+        Check.strictlyIncreasing(null, found, comparator);
     }
 
     /**
-     * Check that the elements of expects are element of found too (by a
-     * specific definition) elements. The order doesn't matter. {@code found}
-     * can have some more elements.
-     * 
+     * Check that the array elements are strictly increasing with respect to the comparator.
+     *
      * @param <T> the generic type
-     * @param <K> the generic type
-     * @param message
-     *            additional message for the failure description when the check
+     * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param expectedObject
-     *            the expected object
-     * @param found
-     *            the found
-     * @param equalsChecker
-     *            the specific equals definition
+     * @param found            the elements
+     * @param comparator            the comparator that defines the order
      */
-    public static <T, K> void containsAtLeast(final String message, final T expectedObject, final Collection<K> found,
-            final EqualsChecker<T, K> equalsChecker) {
+    public static <T> void strictlyIncreasing(final String message, final T[] found,
+            final Comparator<? super T> comparator) {
         Check.notNullArgument(found, "found");
-        Check.notNullArgument(equalsChecker, "equalsChecker");
 
-        for (K foundObject : found) {
-            if (equalsChecker.equals(expectedObject, foundObject)) {
-                return;
-            }
-        }
-        Check.failCompare(Check.format(message, "[Assertion failed] - expected object not found in collection"),
-                expectedObject,
-                found);
+        Check.strictlyIncreasing(message, Arrays.asList(found), comparator);
     }
 
-    /**
-     * Check that the elements of expects are element of found too (by a
-     * specific definition) elements. The order doesn't matter. {@code found}
-     * can have some more elements.
-     * 
-     * @param <T> the generic type
-     * @param <K> the generic type
-     * @param expectedObject
-     *            the expected object
-     * @param found
-     *            the found
-     * @param equalsChecker
-     *            the specific equals definition
+    /**
+     * Check that the array elements are strictly increasing with respect to the comparator.
+     *
+     * @param <T> the generic type
+     * @param found            the elements
+     * @param comparator            the comparator that defines the order
      */
-    public static <T, K> void containsAtLeast(final T expectedObject, final Collection<K> found,
-            final EqualsChecker<T, K> equalsChecker) {
-        Check.containsAtLeast(null, expectedObject, found, equalsChecker);
+    public static <T> void strictlyIncreasing(final T[] found, final Comparator<? super T> comparator) {
+        Check.strictlyIncreasing(null, found, comparator);
     }
 
     /**
-     * Check that the elements of expects are element of found too (by a
-     * specific definition) elements. The order doesn't matter. {@code found}
-     * can have some more elements.
+     * Assert that the sorted list contains the item, by binary search in O(log n).
+     * The list must be sorted with respect to the comparator, and the comparator defines the equality of the
+     * elements. The list can have other items too.
      *
      * @param <T> the generic type
-     * @param <K> the generic type
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param expected            one collection
-     * @param found            the found
-     * @param equalsChecker            the specific equals definition
+     * @param expectedItem            the expected item
+     * @param sortedFound            the found elements, sorted by the comparator
+     *            (should be a {@link java.util.RandomAccess} list)
+     * @param comparator            the comparator that defines order and equality
      */
-    public static <T, K> void containsAtLeast(final String message, final Collection<T> expected,
-            final Collection<K> found, final EqualsChecker<T, K> equalsChecker) {
-        Check.notNullArgument(expected, "expected");
-        Check.notNullArgument(found, "found");
-        Check.notNullArgument(equalsChecker, "equalsChecker");
+    public static <T> void containsSorted(final String message, final T expectedItem,
+            final List<? extends T> sortedFound, final Comparator<? super T> comparator) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
 
-        for (T expectedObject : expected) {
-            Check.containsAtLeast(message, expectedObject, found, equalsChecker);
+        Check.notNullArgument(sortedFound, "sortedFound");
+        Check.notNullArgument(comparator, "comparator");
+
+        if (Collections.binarySearch(sortedFound, expectedItem, comparator) < 0) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - sorted list does not contain expected item"),
+                    expectedItem,
+                    sortedFound);
         }
     }
 
     /**
-     * Check that the elements of expects are element of found too (by a
-     * specific definition) elements. The order doesn't matter. {@code found}
-     * can have some more elements.
+     * Assert that the sorted list contains the item, by binary search in O(log n).
      *
      * @param <T> the generic type
-     * @param <K> the generic type
-     * @param expected            one collection
-     * @param found            the found
-     * @param equalsChecker            the specific equals definition
+     * @param expectedItem            the expected item
+     * @param sortedFound            the found elements, sorted by the comparator
+     * @param comparator            the comparator that defines order and equality
      */
-    public static <T, K> void containsAtLeast(final Collection<T> expected, final Collection<K> found,
-            final EqualsChecker<T, K> equalsChecker) {
-        Check.containsAtLeast(null, expected, found, equalsChecker);
+    public static <T> void containsSorted(final T expectedItem, final List<? extends T> sortedFound,
+            final Comparator<? super T> comparator) {
+        Check.containsSorted(null, expectedItem, sortedFound, comparator);
     }
 
     /**
-     * Assert that the collection contains the item. The Collection can have
-     * other items too.
+     * Assert that the sorted array contains the item, by binary search in O(log n).
      *
      * @param <T> the generic type
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
      * @param expectedItem            the expected item
-     * @param found            the found
+     * @param sortedFound            the found elements, sorted by the comparator
+     * @param comparator            the comparator that defines order and equality
      */
-    public static <T> void contains(final String message, final T expectedItem, final Collection<T> found) {
-        Check.notNullArgument(found, "found");
+    public static <T> void containsSorted(final String message, final T expectedItem, final T[] sortedFound,
+            final Comparator<? super T> comparator) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
 
-        if (!found.contains(expectedItem)) {
-            Check.failCompare(Check.format(message, "[Assertion failed] - collection does not contrain expected item"),
+        Check.notNullArgument(sortedFound, "sortedFound");
+        Check.notNullArgument(comparator, "comparator");
+
+        if (Arrays.binarySearch(sortedFound, expectedItem, comparator) < 0) {
+            Check.failCompare(Check.format(message, "[Assertion failed] - sorted array does not contain expected item"),
                     expectedItem,
-                    found);
+                    Arrays.asList(sortedFound));
         }
     }
 
     /**
-     * Contains.
-     * 
+     * Assert that the sorted list contains all expected items, by one binary search per item, so the check
+     * costs O(n log m) instead of O(n * m). The expected items do not need to be sorted.
+     *
      * @param <T> the generic type
-     * @param expectedItem
-     *            the expected item
-     * @param found
-     *            the found
+     * @param message            additional message for the failure description when the check
+     *            fails - can be {@code null}
+     * @param expectedItems            the expected items
+     * @param sortedFound            the found elements, sorted by the comparator
+     *            (should be a {@link java.util.RandomAccess} list)
+     * @param comparator            the comparator that defines order and equality
      */
-    public static <T> void contains(final T expectedItem, final Collection<T> found) {
-        Check.contains(null, expectedItem, found);
+    public static <T> void containsSorted(final String message, final Collection<? extends T> expectedItems,
+            final List<? extends T> sortedFound, final Comparator<? super T> comparator) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        Check.notNullArgument(expectedItems, "expectedItems");
+        Check.notNullArgument(sortedFound, "sortedFound");
+        Check.notNullArgument(comparator, "comparator");
+
+        for (T expectedItem : expectedItems) {
+            if (Collections.binarySearch(sortedFound, expectedItem, comparator) < 0) {
+                Check.failCompare(
+                        Check.format(message,
+                                "[Assertion failed] - sorted list does not contain expected item " + expectedItem),
+                        expectedItems,
+                        sortedFound);
+            }
+        }
     }
 
     /**
-     * Assert that the collection contains the expected items. The Collection
-     * can have other items too.
+     * Assert that the sorted list contains all expected items, by one binary search per item.
      *
      * @param <T> the generic type
      * @param expectedItems            the expected items
-     * @param found            the found
+     * @param sortedFound            the found elements, sorted by the comparator
+     * @param comparator            the comparator that defines order and equality
      */
-    public static <T> void contains(final Collection<T> expectedItems, final Collection<T> found) {
-        Check.notNullArgument(expectedItems, "expectedItems");
-        Check.notNullArgument(found, "found");
-
-        for (T exptetedItem : expectedItems) {
-            Check.contains(exptetedItem, found);
-        }
+    public static <T> void containsSorted(final Collection<? extends T> expectedItems,
+            final List<? extends T> sortedFound, final Comparator<? super T> comparator) {
+        Check.containsSorted(null, expectedItems, sortedFound, comparator);
     }
 
     /**
-     * Assert that the collection does not contains the item. The Collection can
-     * have other items.
+     * Check that the elements of {@code sortedExpected} are elements of {@code sortedFound} too, where both are
+     * sorted by the comparator and the comparator defines the equality. {@code sortedFound} can have some more
+     * elements.
+     *
+     * Both sequences are walked once in parallel (merge join), so the check costs O(n + m) and works on any
+     * iterable. An element that breaks the sort order of one of the sequences is reported as failure too, because
+     * the merge would otherwise produce wrong results.
      *
      * @param <T> the generic type
      * @param message            additional message for the failure description when the check
      *            fails - can be {@code null}
-     * @param notExpectedItem            the not expected item
-     * @param found            the found
+     * @param sortedExpected            the expected elements, sorted by the comparator
+     * @param sortedFound            the found elements, sorted by the comparator
+     * @param comparator            the comparator that defines order and equality
      */
-    public static <T> void containsNot(final String message, final T notExpectedItem, final Set<T> found) {
-        Check.notNullArgument(found, "found");
+    public static <T> void containsAtLeastSorted(final String message, final Iterable<? extends T> sortedExpected,
+            final Iterable<? extends T> sortedFound, final Comparator<? super T> comparator) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
 
-        if (found.contains(notExpectedItem)) {
-            Check.fail(Check.format(message,
-                    "[Assertion failed] - colection + " + found + " does contrain the not expected item "
-                            + notExpectedItem));
+        Check.notNullArgument(sortedExpected, "sortedExpected");
+        Check.notNullArgument(sortedFound, "sortedFound");
+        Check.notNullArgument(comparator, "comparator");
+
+        Iterator<? extends T> foundIterator = sortedFound.iterator();
+        boolean hasFound = false;
+        T foundItem = null;
+
+        boolean hasPreviousExpected = false;
+        T previousExpected = null;
+        for (T expectedItem : sortedExpected) {
+            if (hasPreviousExpected && (comparator.compare(previousExpected, expectedItem) > 0)) {
+                Check.fail(Check.format(message, "[Assertion failed] - expected elements are not sorted - "
+                        + previousExpected + " is followed by " + expectedItem));
+            }
+            hasPreviousExpected = true;
+            previousExpected = expectedItem;
+
+            int compare = hasFound ? comparator.compare(foundItem, expectedItem) : -1;
+            while (compare < 0) {
+                if (!foundIterator.hasNext()) {
+                    Check.failCompare(Check.format(message,
+                            "[Assertion failed] - expected object not found in sorted collection"),
+                            String.valueOf(expectedItem),
+                            sortedFound.toString());
+                }
+                T nextFound = foundIterator.next();
+                if (hasFound && (comparator.compare(foundItem, nextFound) > 0)) {
+                    Check.fail(Check.format(message, "[Assertion failed] - found elements are not sorted - "
+                            + foundItem + " is followed by " + nextFound));
+                }
+                hasFound = true;
+                foundItem = nextFound;
+                compare = comparator.compare(foundItem, expectedItem);
+            }
+            if (compare > 0) {
+                Check.failCompare(
+                        Check.format(message, "[Assertion failed] - expected object not found in sorted collection"),
+                        String.valueOf(expectedItem),
+                        sortedFound.toString());
+            }
         }
     }
 
     /**
-     * Contains not.
-     * 
+     * Check that the elements of {@code sortedExpected} are elements of {@code sortedFound} too, by a merge join in
+     * O(n + m).
+     *
      * @param <T> the generic type
-     * @param notExpectedItem the not expected item
-     * @param found the found
+     * @param sortedExpected            the expected elements, sorted by the comparator
+     * @param sortedFound            the found elements, sorted by the comparator
+     * @param comparator            the comparator that defines order and equality
      */
-    public static <T> void containsNot(final T notExpectedItem, final Set<T> found) {
-        Check.containsNot(null, notExpectedItem, found);
+    public static <T> void containsAtLeastSorted(final Iterable<? extends T> sortedExpected,
+            final Iterable<? extends T> sortedFound, final Comparator<? super T> comparator) {
+        Check.containsAtLeastSorted(null, sortedExpected, sortedFound, comparator);
+    }
+
+    /**
+     * Return the index of the first element that is out of order, or -1 if all elements are in order.
+     *
+     * @param <T> the generic type
+     * @param elements the elements
+     * @param comparator the comparator that defines the order
+     * @param strict true if equal neighbours are not allowed
+     * @return the index of the first element that is not greater (or equal) than its predecessor
+     */
+    static <T> int firstUnsortedIndex(final Iterable<T> elements, final Comparator<? super T> comparator,
+            final boolean strict) {
+        Iterator<T> iterator = elements.iterator();
+        if (!iterator.hasNext()) {
+            return -1;
+        }
+        T previous = iterator.next();
+        int index = 1;
+        while (iterator.hasNext()) {
+            T current = iterator.next();
+            int compare = comparator.compare(previous, current);
+            if ((compare > 0) || (strict && (compare == 0))) {
+                return index;
+            }
+            previous = current;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Describe the two elements around the index returned by {@link #firstUnsortedIndex(Iterable, Comparator,
+     * boolean)}. Only used to build a failure message.
+     *
+     * @param elements the elements
+     * @param index the index of the element that is out of order
+     * @return the description
+     */
+    static String describeUnsortedIndex(final Iterable<?> elements, final int index) {
+        Object previous = null;
+        Object current = null;
+        int i = 0;
+        for (Object element : elements) {
+            if (i == index - 1) {
+                previous = element;
+            } else if (i == index) {
+                current = element;
+                break;
+            }
+            i++;
+        }
+        return "element[" + (index - 1) + "]: " + previous + ", element[" + index + "]: " + current;
     }
 
     /**
@@ -1724,31 +3515,7 @@ public final class Check {
      */
     public static <T> void uniqueElementsArgument(final Collection<T> collection,
             final EqualsChecker<T, T> equalsChecker, final String argumentName) {
-        Check.notNullArgument(collection, "collection");
-        Check.notNullArgument(equalsChecker, "equalsChecker");
-        Check.notNullArgument(argumentName, "argumentName");
-
-        List<T> elements = new ArrayList<T>(collection);
-        int size = elements.size();
-        for (int i = 0; i < size; i++) {
-            T elementI = elements.get(i);
-            for (int k = i + 1; k < size; k++) {
-                T elementK = elements.get(k);
-                if (equalsChecker.equals(elementI, elementK)) {
-
-                    IllegalArgumentException illegalArgExc = new IllegalArgumentException(
-                            "[Assertion failed] - collection on argument <code>" + argumentName //$NON-NLS-1$
-                                    + "</code> has not unique element -  two (or more) elements are equals with respect to an equals definition - equals element[" //$NON-NLS-1$
-                                    + i + "]: " + elementI + ", equals element[" + k + "]: " + elementK //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
-                                    + ", collection=" + collection);
-                    if (Check.activeArgumentCheck) {
-                        throw illegalArgExc;
-                    } else {
-                        Check.alternativeFailureAction(illegalArgExc);
-                    }
-                }
-            }
-        }
+        Check.argumentResult(CheckResults.uniqueElementsArgument(collection, equalsChecker, argumentName));
     }
 
     /**
@@ -1759,10 +3526,7 @@ public final class Check {
      * @param argumentName the name of the argument
      */
     public static <T> void uniqueElementsArgument(final Collection<T> collection, final String argumentName) {
-        Check.notNullArgument(collection, "collection");
-        Check.notNullArgument(argumentName, "argumentName");
-
-        uniqueElementsArgument(collection, NativeEqualsChecker.<T> getInstance(), argumentName);
+        Check.argumentResult(CheckResults.uniqueElementsArgument(collection, argumentName));
     }
 
     /**
@@ -1775,6 +3539,13 @@ public final class Check {
      */
     public static <T> void uniqueElements(final String message, final Collection<T> collection,
             final EqualsChecker<T, T> equalsChecker) {
+        boolean nativeEquals = equalsChecker instanceof NativeEqualsChecker;
+        if (!Check.superLinearChecksEnabled
+                || (nativeEquals && ValidationMemo.passed(collection, ValidationMemo.UNIQUE_ELEMENTS))) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.UNIQUE_ELEMENTS.start();
         Check.notNullArgument(collection, "collection");
         Check.notNullArgument(equalsChecker, "equalsChecker");
 
@@ -1792,6 +3563,11 @@ public final class Check {
                 }
             }
         }
+        if (nativeEquals) {
+            ValidationMemo.recordPassed(collection, ValidationMemo.UNIQUE_ELEMENTS);
+        }
+
+        CheckStatistics.UNIQUE_ELEMENTS.end(sampleStart, collection);
     }
 
     /**
@@ -1833,6 +3609,231 @@ public final class Check {
         uniqueElements(null, collection);
     }
 
+    /**
+     * Check that no instance appears twice in the collection, compared by identity ({@code ==}). Equal but distinct
+     * instances are allowed.
+     *
+     * The instances are stored in an identity hash table, so the check is linear and never invokes {@code equals},
+     * {@code hashCode} or {@code toString} of the elements - it can be used for persistent entities, where these
+     * methods can be expensive or trigger lazy loading.
+     *
+     * @param message a message if the check fails
+     * @param collection the collection of proven elements
+     */
+    public static void uniqueInstances(final String message, final Collection<?> collection) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.UNIQUE_INSTANCES.start();
+        Check.notNullArgument(collection, "collection");
+
+        IdentitySet instances = new IdentitySet(collection.size());
+        int index = 0;
+        for (Object element : collection) {
+            if (!instances.add(element)) {
+                Check.fail(Check.format(message,
+                        "[Assertion failed] - collection has not unique instances - element[" + index + "]: "
+                                + IdentitySet.describe(element) + " is contained more than once"));
+            }
+            index++;
+        }
+
+        CheckStatistics.UNIQUE_INSTANCES.end(sampleStart, collection);
+    }
+
+    /**
+     * Check that no instance appears twice in the collection, compared by identity ({@code ==}).
+     *
+     * @param collection the collection of proven elements
+     * @see #uniqueInstances(String, Collection)
+     */
+    public static void uniqueInstances(final Collection<?> collection) {
+        Check.uniqueInstances(null, collection);
+    }
+
+    /**
+     * Check that all values of the {@code int} array are unique.
+     *
+     * The values are compared without boxing, by a hash set, so the check is linear.
+     *
+     * @param message a message if the check fails
+     * @param array the array of proven values
+     */
+    public static void uniqueElements(final String message, final int[] array) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.UNIQUE_ELEMENTS.start();
+        Check.notNullArgument(array, "array");
+
+        IntHashSet values = new IntHashSet(array.length);
+        for (int k = 0; k < array.length; k++) {
+            if (!values.add(array[k])) {
+                int i = 0;
+                while (array[i] != array[k]) {
+                    i++;
+                }
+                Check.failUniqueElements(message, i, k, array);
+            }
+        }
+
+        CheckStatistics.UNIQUE_ELEMENTS.end(sampleStart, array.length);
+    }
+
+    /**
+     * Check that all values of the {@code int} array are unique.
+     *
+     * @param array the array of proven values
+     */
+    public static void uniqueElements(final int[] array) {
+        Check.uniqueElements(null, array);
+    }
+
+    /**
+     * Check that all values of the {@code int} array are unique with respect to the equals checker.
+     *
+     * @param message a message if the check fails
+     * @param array the array of proven values
+     * @param equalsChecker used to check the equality between two values.
+     */
+    public static void uniqueElements(final String message, final int[] array,
+            final IntEqualsChecker equalsChecker) {
+        if (!Check.superLinearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.UNIQUE_ELEMENTS.start();
+        Check.notNullArgument(array, "array");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        for (int i = 0; i < array.length; i++) {
+            for (int k = i + 1; k < array.length; k++) {
+                if (equalsChecker.equals(array[i], array[k])) {
+                    Check.failUniqueElements(message, i, k, array);
+                }
+            }
+        }
+
+        CheckStatistics.UNIQUE_ELEMENTS.end(sampleStart, array.length);
+    }
+
+    /**
+     * Check that all values of the {@code int} array are unique with respect to the equals checker.
+     *
+     * @param array the array of proven values
+     * @param equalsChecker used to check the equality between two values.
+     */
+    public static void uniqueElements(final int[] array, final IntEqualsChecker equalsChecker) {
+        Check.uniqueElements(null, array, equalsChecker);
+    }
+
+    /**
+     * Fail the {@code uniqueElements} check of a {@code int} array.
+     *
+     * @param message a message if the check fails - can be {@code null}
+     * @param i the index of the first equal value
+     * @param k the index of the second equal value
+     * @param array the array
+     */
+    private static void failUniqueElements(final String message, final int i, final int k, final int[] array) {
+        Check.fail(Check.format(message,
+                "[Assertion failed] - array has not unique values - equals element[" + i + "]: " + array[i]
+                        + ", equals element[" + k + "]: " + array[k] + ", array=" + Arrays.toString(array)));
+    }
+
+    /**
+     * Check that all values of the {@code long} array are unique.
+     *
+     * The values are compared without boxing, by a hash set, so the check is linear.
+     *
+     * @param message a message if the check fails
+     * @param array the array of proven values
+     */
+    public static void uniqueElements(final String message, final long[] array) {
+        if (!Check.linearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.UNIQUE_ELEMENTS.start();
+        Check.notNullArgument(array, "array");
+
+        LongHashSet values = new LongHashSet(array.length);
+        for (int k = 0; k < array.length; k++) {
+            if (!values.add(array[k])) {
+                int i = 0;
+                while (array[i] != array[k]) {
+                    i++;
+                }
+                Check.failUniqueElements(message, i, k, array);
+            }
+        }
+
+        CheckStatistics.UNIQUE_ELEMENTS.end(sampleStart, array.length);
+    }
+
+    /**
+     * Check that all values of the {@code long} array are unique.
+     *
+     * @param array the array of proven values
+     */
+    public static void uniqueElements(final long[] array) {
+        Check.uniqueElements(null, array);
+    }
+
+    /**
+     * Check that all values of the {@code long} array are unique with respect to the equals checker.
+     *
+     * @param message a message if the check fails
+     * @param array the array of proven values
+     * @param equalsChecker used to check the equality between two values.
+     */
+    public static void uniqueElements(final String message, final long[] array,
+            final LongEqualsChecker equalsChecker) {
+        if (!Check.superLinearChecksEnabled) {
+            return;
+        }
+
+        long sampleStart = CheckStatistics.UNIQUE_ELEMENTS.start();
+        Check.notNullArgument(array, "array");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        for (int i = 0; i < array.length; i++) {
+            for (int k = i + 1; k < array.length; k++) {
+                if (equalsChecker.equals(array[i], array[k])) {
+                    Check.failUniqueElements(message, i, k, array);
+                }
+            }
+        }
+
+        CheckStatistics.UNIQUE_ELEMENTS.end(sampleStart, array.length);
+    }
+
+    /**
+     * Check that all values of the {@code long} array are unique with respect to the equals checker.
+     *
+     * @param array the array of proven values
+     * @param equalsChecker used to check the equality between two values.
+     */
+    public static void uniqueElements(final long[] array, final LongEqualsChecker equalsChecker) {
+        Check.uniqueElements(null, array, equalsChecker);
+    }
+
+    /**
+     * Fail the {@code uniqueElements} check of a {@code long} array.
+     *
+     * @param message a message if the check fails - can be {@code null}
+     * @param i the index of the first equal value
+     * @param k the index of the second equal value
+     * @param array the array
+     */
+    private static void failUniqueElements(final String message, final int i, final int k, final long[] array) {
+        Check.fail(Check.format(message,
+                "[Assertion failed] - array has not unique values - equals element[" + i + "]: " + array[i]
+                        + ", equals element[" + k + "]: " + array[k] + ", array=" + Arrays.toString(array)));
+    }
+
     /**
      * Fails a test with the given message.
      * 
@@ -1840,7 +3841,9 @@ public final class Check {
      *            failure description - can be {@code null}
      */
     static public void fail(final String message) {
-        throw new ConstraintViolationException(message);
+        ConstraintViolationException failure = new ConstraintViolationException(message);
+        CheckStatistics.failed(null, failure);
+        throw failure;
     }
 
     /**
@@ -1854,7 +3857,10 @@ public final class Check {
      *            the actual
      */
     static public void failCompare(final String message, final String expected, final String actual) {
-        throw new ConstraintViolationException(message + " expected <" + expected + "> but was <" + actual + ">");
+        ConstraintViolationException failure = new ConstraintViolationException(
+                message + " expected <" + expected + "> but was <" + actual + ">");
+        CheckStatistics.failed(null, failure);
+        throw failure;
     }
 
     /**
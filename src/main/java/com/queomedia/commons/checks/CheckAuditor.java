@@ -0,0 +1,444 @@
+package com.queomedia.commons.checks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.queomedia.commons.equals.EqualsChecker;
+
+/**
+ * Run expensive collection checks (like {@link Check#uniqueElements(Collection)}) asynchronously, so that the
+ * invoking thread does not need to wait for the result.
+ *
+ * The auditor takes a snapshot (a copy of the element references) of the collections and runs the check in a
+ * bounded thread pool. A failed check does not throw an exception at the invoker, but is reported to the
+ * {@link FailureHandler}.
+ *
+ * The auditor has a back-pressure: if the queue is full, or the queued snapshots would contain more than
+ * {@code maxQueuedElements} elements, then the check is dropped (and counted), instead of blocking the invoker.
+ *
+ * The elements are not copied, so they should be immutable (at least with respect to equals). Equals checkers are
+ * invoked by the audit threads, so they must be thread safe.
+ *
+ * This class is thread safe.
+ */
+public final class CheckAuditor {
+
+    /**
+     * Receives the failures of the asynchronous checks.
+     */
+    public interface FailureHandler {
+
+        /**
+         * Handle a failed check. Invoked by an audit thread.
+         *
+         * @param checkName the name of the failed check, for example {@code "uniqueElements"}
+         * @param failure the exception thrown by the check
+         */
+        void auditFailed(String checkName, RuntimeException failure);
+    }
+
+    /** The executor that runs the checks. */
+    private final ThreadPoolExecutor executor;
+
+    /** The maximal number of elements in all queued snapshots. */
+    private final long maxQueuedElements;
+
+    /** The handler for failed checks. */
+    private final FailureHandler failureHandler;
+
+    /** The number of elements in all queued (or running) snapshots. */
+    private final AtomicLong queuedElements = new AtomicLong();
+
+    /** The number of accepted checks. */
+    private final AtomicLong submittedCount = new AtomicLong();
+
+    /** The number of dropped checks. */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /** The number of failed checks. */
+    private final AtomicLong failureCount = new AtomicLong();
+
+    /**
+     * Instantiates a new check auditor.
+     *
+     * @param threads the number of audit threads
+     * @param queueCapacity the maximal number of waiting checks
+     * @param maxQueuedElements the maximal number of elements of all waiting (and running) snapshots
+     * @param failureHandler the handler for failed checks
+     */
+    public CheckAuditor(final int threads, final int queueCapacity, final long maxQueuedElements,
+            final FailureHandler failureHandler) {
+        Check.notZeroOrNegativeArgument(threads, "threads");
+        Check.notZeroOrNegativeArgument(queueCapacity, "queueCapacity");
+        Check.notZeroOrNegativeArgument(maxQueuedElements, "maxQueuedElements");
+        Check.notNullArgument(failureHandler, "failureHandler");
+
+        this.maxQueuedElements = maxQueuedElements;
+        this.failureHandler = failureHandler;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity), new AuditThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Check asynchronously that all elements are unique, see {@link Check#uniqueElements(String, Collection)}.
+     *
+     * @param <T> the generic type
+     * @param message a message if the check fails
+     * @param collection the collection of proven elements
+     * @return true if the check was accepted, false if it was dropped
+     */
+    public <T> boolean uniqueElements(final String message, final Collection<T> collection) {
+        Check.notNullArgument(collection, "collection");
+
+        return this.submit("uniqueElements", collection.size(), new AuditCheck() {
+
+            /** The snapshot. */
+            private List<T> snapshot;
+
+            @Override
+            void takeSnapshot() {
+                this.snapshot = CheckAuditor.snapshot(collection);
+            }
+
+            @Override
+            public void run() {
+                Check.uniqueElements(message, this.snapshot);
+            }
+        });
+    }
+
+    /**
+     * Check asynchronously that all elements are unique with respect to the equals checker, see
+     * {@link Check#uniqueElements(String, Collection, EqualsChecker)}.
+     *
+     * @param <T> the generic type
+     * @param message a message if the check fails
+     * @param collection the collection of proven elements
+     * @param equalsChecker used to check the equality between two elements (must be thread safe)
+     * @return true if the check was accepted, false if it was dropped
+     */
+    public <T> boolean uniqueElements(final String message, final Collection<T> collection,
+            final EqualsChecker<T, T> equalsChecker) {
+        Check.notNullArgument(collection, "collection");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        return this.submit("uniqueElements", collection.size(), new AuditCheck() {
+
+            /** The snapshot. */
+            private List<T> snapshot;
+
+            @Override
+            void takeSnapshot() {
+                this.snapshot = CheckAuditor.snapshot(collection);
+            }
+
+            @Override
+            public void run() {
+                Check.uniqueElements(message, this.snapshot, equalsChecker);
+            }
+        });
+    }
+
+    /**
+     * Check asynchronously that the two collections contains exactly equals elements, see
+     * {@link Check#containsExact(String, Collection, Collection)}.
+     *
+     * @param <T> the generic type
+     * @param message additional message for the failure description - can be {@code null}
+     * @param expected one collection
+     * @param found the other collection
+     * @return true if the check was accepted, false if it was dropped
+     */
+    public <T> boolean containsExact(final String message, final Collection<? extends T> expected,
+            final Collection<? extends T> found) {
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+
+        return this.submit("containsExact", expected.size() + found.size(), new AuditCheck() {
+
+            /** The snapshot of the expected elements. */
+            private List<? extends T> expectedSnapshot;
+
+            /** The snapshot of the found elements. */
+            private List<? extends T> foundSnapshot;
+
+            @Override
+            void takeSnapshot() {
+                this.expectedSnapshot = CheckAuditor.snapshot(expected);
+                this.foundSnapshot = CheckAuditor.snapshot(found);
+            }
+
+            @Override
+            public void run() {
+                Check.<T> containsExact(message, this.expectedSnapshot, this.foundSnapshot);
+            }
+        });
+    }
+
+    /**
+     * Check asynchronously that the two collections contains equals (by a specific definition) elements, see
+     * {@link Check#containsExact(String, Collection, Collection, EqualsChecker)}.
+     *
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param message additional message for the failure description - can be {@code null}
+     * @param expected one collection
+     * @param found the other collection
+     * @param equalsChecker the equals checker (must be thread safe)
+     * @return true if the check was accepted, false if it was dropped
+     */
+    public <T, K> boolean containsExact(final String message, final Collection<T> expected,
+            final Collection<K> found, final EqualsChecker<T, K> equalsChecker) {
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        return this.submit("containsExact", expected.size() + found.size(), new AuditCheck() {
+
+            /** The snapshot of the expected elements. */
+            private List<T> expectedSnapshot;
+
+            /** The snapshot of the found elements. */
+            private List<K> foundSnapshot;
+
+            @Override
+            void takeSnapshot() {
+                this.expectedSnapshot = CheckAuditor.snapshot(expected);
+                this.foundSnapshot = CheckAuditor.snapshot(found);
+            }
+
+            @Override
+            public void run() {
+                Check.containsExact(message, this.expectedSnapshot, this.foundSnapshot, equalsChecker);
+            }
+        });
+    }
+
+    /**
+     * Check asynchronously that the two lists contains exactly equals elements in the same order, see
+     * {@link Check#sameOrder(String, List, List)}.
+     *
+     * @param <T> the generic type
+     * @param message additional message for the failure description - can be {@code null}
+     * @param expected one list
+     * @param found the other list
+     * @return true if the check was accepted, false if it was dropped
+     */
+    public <T> boolean sameOrder(final String message, final List<T> expected, final List<T> found) {
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+
+        return this.submit("sameOrder", expected.size() + found.size(), new AuditCheck() {
+
+            /** The snapshot of the expected elements. */
+            private List<T> expectedSnapshot;
+
+            /** The snapshot of the found elements. */
+            private List<T> foundSnapshot;
+
+            @Override
+            void takeSnapshot() {
+                this.expectedSnapshot = CheckAuditor.snapshot(expected);
+                this.foundSnapshot = CheckAuditor.snapshot(found);
+            }
+
+            @Override
+            public void run() {
+                Check.sameOrder(message, this.expectedSnapshot, this.foundSnapshot);
+            }
+        });
+    }
+
+    /**
+     * Check asynchronously that the two lists contains exactly equals (by a specific definition) elements in the
+     * same order, see {@link Check#sameOrder(String, List, List, EqualsChecker)}.
+     *
+     * @param <T> the generic type
+     * @param <K> the generic type
+     * @param message additional message for the failure description - can be {@code null}
+     * @param expected one list
+     * @param found the other list
+     * @param equalsChecker the equals definition (must be thread safe)
+     * @return true if the check was accepted, false if it was dropped
+     */
+    public <T, K> boolean sameOrder(final String message, final List<T> expected, final List<K> found,
+            final EqualsChecker<T, K> equalsChecker) {
+        Check.notNullArgument(expected, "expected");
+        Check.notNullArgument(found, "found");
+        Check.notNullArgument(equalsChecker, "equalsChecker");
+
+        return this.submit("sameOrder", expected.size() + found.size(), new AuditCheck() {
+
+            /** The snapshot of the expected elements. */
+            private List<T> expectedSnapshot;
+
+            /** The snapshot of the found elements. */
+            private List<K> foundSnapshot;
+
+            @Override
+            void takeSnapshot() {
+                this.expectedSnapshot = CheckAuditor.snapshot(expected);
+                this.foundSnapshot = CheckAuditor.snapshot(found);
+            }
+
+            @Override
+            public void run() {
+                Check.sameOrder(message, this.expectedSnapshot, this.foundSnapshot, equalsChecker);
+            }
+        });
+    }
+
+    /**
+     * Submit the check, if the element bound and the queue allow it. The elements are reserved against the bound
+     * before the snapshot is taken, so a dropped check does not copy the collections.
+     *
+     * @param checkName the check name
+     * @param elements the number of elements of the snapshots
+     * @param check the check
+     * @return true if the check was accepted, false if it was dropped
+     */
+    private boolean submit(final String checkName, final int elements, final AuditCheck check) {
+        if (this.queuedElements.addAndGet(elements) > this.maxQueuedElements) {
+            this.queuedElements.addAndGet(-elements);
+            this.droppedCount.incrementAndGet();
+            return false;
+        }
+
+        boolean snapshotTaken = false;
+        try {
+            check.takeSnapshot();
+            snapshotTaken = true;
+        } finally {
+            if (!snapshotTaken) {
+                this.queuedElements.addAndGet(-elements);
+            }
+        }
+
+        try {
+            this.executor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        check.run();
+                    } catch (RuntimeException e) {
+                        CheckAuditor.this.failureCount.incrementAndGet();
+                        CheckAuditor.this.failureHandler.auditFailed(checkName, e);
+                    } finally {
+                        CheckAuditor.this.queuedElements.addAndGet(-elements);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.queuedElements.addAndGet(-elements);
+            this.droppedCount.incrementAndGet();
+            return false;
+        }
+        this.submittedCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * A check of snapshots, the snapshots are taken by the invoking thread after the elements are reserved.
+     */
+    private abstract static class AuditCheck implements Runnable {
+
+        /**
+         * Take the snapshots of the checked collections.
+         */
+        abstract void takeSnapshot();
+    }
+
+    /**
+     * Create an unmodifiable snapshot of the collection. Only the references are copied.
+     *
+     * @param <T> the generic type
+     * @param collection the collection
+     * @return the snapshot
+     */
+    private static <T> List<T> snapshot(final Collection<T> collection) {
+        return Collections.unmodifiableList(new ArrayList<T>(collection));
+    }
+
+    /**
+     * Stop accepting new checks. Already accepted checks are still executed.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     * Wait until all accepted checks are executed, after a {@link #shutdown()}.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout argument
+     * @return true if all checks are executed, false if the timeout elapsed before
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return this.executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Gets the number of accepted checks.
+     *
+     * @return the submitted count
+     */
+    public long getSubmittedCount() {
+        return this.submittedCount.get();
+    }
+
+    /**
+     * Gets the number of checks that were dropped because of the back-pressure.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return this.droppedCount.get();
+    }
+
+    /**
+     * Gets the number of failed checks.
+     *
+     * @return the failure count
+     */
+    public long getFailureCount() {
+        return this.failureCount.get();
+    }
+
+    /**
+     * Gets the number of elements of all waiting and running snapshots.
+     *
+     * @return the queued element count
+     */
+    public long getQueuedElementCount() {
+        return this.queuedElements.get();
+    }
+
+    /**
+     * Create daemon threads, so that the auditor does not prevent the JVM from exiting.
+     */
+    private static final class AuditThreadFactory implements ThreadFactory {
+
+        /** The number of the last created thread, of all auditors. */
+        private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(runnable, "check-auditor-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
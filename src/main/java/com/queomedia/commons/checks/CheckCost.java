@@ -0,0 +1,54 @@
+package com.queomedia.commons.checks;
+
+/**
+ * The cost tier of a check, with respect to the size of the checked collection or string.
+ *
+ * The tiers {@link #LINEAR} and {@link #SUPER_LINEAR} can be disabled at runtime by
+ * {@link Check#setCostTierEnabled(CheckCost, boolean)}, for example to skip the expensive checks on a production
+ * system. A disabled check returns immediately, without validating its arguments.
+ *
+ * The tier of a check is the tier of its worst case.
+ */
+public enum CheckCost {
+
+    /**
+     * O(1) - all checks that are not listed in one of the other tiers, for example
+     * {@link Check#notNullArgument(Object, String)}, {@link Check#argumentBetween(int, int, int, String)} or
+     * {@link Check#hasSize(int, java.util.Collection)}.
+     *
+     * This tier can not be disabled, because the test if it is enabled would cost as much as the check itself.
+     */
+    CONSTANT,
+
+    /**
+     * O(n) and O(n log n) - checks that visit every element once, or search in a sorted list:
+     * <ul>
+     * <li>{@code notNullElementArgument}, {@code notNullEntriesArgument}, {@code valuesBetweenArgument},
+     * {@code containsKeysArgument}</li>
+     * <li>{@code allowedCharactersArgument}, {@code matchesArgument}, {@code matches},
+     * {@code equalsWithoutWhitespace}</li>
+     * <li>{@code sortedArgument}, {@code strictlyIncreasingArgument}, {@code sorted}, {@code strictlyIncreasing},
+     * {@code containsSorted}, {@code containsAtLeastSorted}</li>
+     * <li>{@code sameOrder}, {@code contains} and {@code containsAtLeast} with one expected item,
+     * {@code containsExact} with one expected item without equals checker</li>
+     * <li>{@code containsExact} and {@code uniqueElements} of {@code int} and {@code long} arrays without equals
+     * checker</li>
+     * <li>{@code uniqueInstances}, {@code containsInstance}, {@code containsInstances},
+     * {@code containsNotInstance}</li>
+     * </ul>
+     */
+    LINEAR,
+
+    /**
+     * O(n * m) and O(n^2) - checks that compare every element with every other element:
+     * <ul>
+     * <li>{@code uniqueElementsArgument}, {@code uniqueElements}</li>
+     * <li>{@code containsExact}, {@code contains} and {@code containsAtLeast} with a collection of expected
+     * items</li>
+     * <li>{@code containsExact} and {@code uniqueElements} of {@code int} and {@code long} arrays with an equals
+     * checker</li>
+     * </ul>
+     */
+    SUPER_LINEAR;
+
+}
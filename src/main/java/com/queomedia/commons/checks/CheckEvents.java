@@ -0,0 +1,63 @@
+package com.queomedia.commons.checks;
+
+/**
+ * Emits Java Flight Recorder events for failed checks and for slow collection checks.
+ *
+ * This is the Java 6 version, that does nothing: the library is build as multi release jar, and on Java 11 and newer
+ * the version in {@code src/main/java11} is used instead. It emits the events
+ * {@code com.queomedia.commons.checks.CheckFailure} (check method, argument name and exception type) and
+ * {@code com.queomedia.commons.checks.SlowCollectionCheck} (check method, duration and collection size, for checks
+ * that take at least the value of the system property {@code com.queomedia.commons.checks.slowCheckThresholdMillis},
+ * default 10 ms). Both events are disabled unless they are enabled in the recording settings, and as long as they
+ * are disabled, the checks do not measure anything.
+ */
+final class CheckEvents {
+
+    /**
+     * Util classes need no constructor.
+     */
+    private CheckEvents() {
+        super();
+    }
+
+    /**
+     * Checks if the failure event is enabled.
+     *
+     * @return true, if enabled
+     */
+    static boolean isFailureEnabled() {
+        return false;
+    }
+
+    /**
+     * Checks if the slow collection check event is enabled.
+     *
+     * @return true, if enabled
+     */
+    static boolean isCollectionCheckEnabled() {
+        return false;
+    }
+
+    /**
+     * Emit a failure event.
+     *
+     * @param checkName the name of the check method
+     * @param argumentName the name of the checked argument, {@code null} for not argument checks
+     * @param failure the exception that describes the failure
+     */
+    static void failure(final String checkName, final String argumentName, final Throwable failure) {
+        /* no flight recorder before Java 11 */
+    }
+
+    /**
+     * Emit a slow collection check event, if the check took longer than the threshold.
+     *
+     * @param checkName the name of the check method
+     * @param startNanos the {@link System#nanoTime()} when the check started
+     * @param size the size of the checked collection
+     */
+    static void collectionCheck(final String checkName, final long startNanos, final int size) {
+        /* no flight recorder before Java 11 */
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.queomedia.commons.checks;
+
+/**
+ * Receives the failures of argument checks that are not active (see {@link Check#setActiveArgumentCheck(boolean)}),
+ * for example to record them for a later analysis.
+ *
+ * The sink is invoked by the thread that failed the check, so implementations must be thread safe and should be
+ * fast. They should not throw exceptions.
+ *
+ * @see Check#setFailureSink(CheckFailureSink)
+ */
+public interface CheckFailureSink {
+
+    /**
+     * Receive a failure.
+     *
+     * @param timestampMillis the time of the failure, like {@link System#currentTimeMillis()}
+     * @param checkId the id of the check - the {@link CheckSite#getId() site id} or the code location that invoked
+     *            the check (without {@link Check#setFailureStackTraces(boolean) failure stack traces}: the failure
+     *            code and the argument name, e.g. {@code TOO_LARGE(size)})
+     * @param argumentName the name of the checked argument(s)
+     * @param message the failure description
+     */
+    void failure(long timestampMillis, String checkId, String argumentName, String message);
+
+}
@@ -0,0 +1,204 @@
+package com.queomedia.commons.checks;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import com.queomedia.commons.exceptions.NotImplementedCaseExecption;
+
+/**
+ * The {@link MessageTemplate message templates} of the failure messages of the {@link CheckResult} codes, used by
+ * {@link CheckResult#getMessage()} and so by the argument checks of {@link Check} with an argument name.
+ *
+ * The messages can be localized by a {@link ResourceBundle}: its keys are the names of the {@link CheckResult.Code}s,
+ * its values are patterns with the arguments
+ * <ul>
+ * <li><code>{0}</code> - the argument name</li>
+ * <li><code>{1}</code> - the value of the argument (or the part of it that failed the check)</li>
+ * <li><code>{2}</code> - the bound or the expected value</li>
+ * <li><code>{3}</code> - the second bound, the index of a not allowed character, or the keys of a map</li>
+ * <li><code>{4}</code> - the name of the second argument of {@link CheckResult.Code#ARGUMENTS_NOT_EQUAL},
+ * {@link CheckResult.Code#DIFFERENT_SIZE} and {@link CheckResult.Code#DIFFERENT_LENGTH}</li>
+ * </ul>
+ *
+ * <pre>
+ * TOO_LARGE=argument {0} must not exceed {2}, but is {1}
+ * </pre>
+ *
+ * Codes without key in the bundle keep the default message. The patterns are parsed once, when the bundle is set.
+ *
+ * This class is thread safe.
+ */
+public final class CheckMessages {
+
+    /** The number of arguments of the patterns. */
+    static final int ARGUMENT_COUNT = 5;
+
+    /** The default templates by code ordinal. */
+    private static final MessageTemplate[] DEFAULT_TEMPLATES = CheckMessages.compile(null);
+
+    /** The current templates by code ordinal. */
+    private static volatile MessageTemplate[] templates = DEFAULT_TEMPLATES;
+
+    /**
+     * Util classes need no constructor.
+     */
+    private CheckMessages() {
+        super();
+    }
+
+    /**
+     * Use the patterns of the resource bundle.
+     *
+     * @param bundle the resource bundle, {@code null} to restore the default messages
+     * @throws IllegalArgumentException if a pattern of the bundle references an unknown argument
+     */
+    public static void setResourceBundle(final ResourceBundle bundle) {
+        CheckMessages.templates = bundle != null ? CheckMessages.compile(bundle) : DEFAULT_TEMPLATES;
+    }
+
+    /**
+     * Use the patterns of the resource bundle for the locale.
+     *
+     * @param baseName the base name of the resource bundle
+     * @param locale the locale
+     * @throws java.util.MissingResourceException if there is no such bundle
+     */
+    public static void useResourceBundle(final String baseName, final Locale locale) {
+        Check.notNullArgument(baseName, "baseName");
+        Check.notNullArgument(locale, "locale");
+
+        CheckMessages.setResourceBundle(ResourceBundle.getBundle(baseName, locale));
+    }
+
+    /**
+     * Gets the current pattern of the code.
+     *
+     * @param code the code, not {@link CheckResult.Code#OK}
+     * @return the pattern
+     * @throws IllegalArgumentException if the code is {@link CheckResult.Code#OK}
+     */
+    public static String getPattern(final CheckResult.Code code) {
+        return CheckMessages.template(code).getPattern();
+    }
+
+    /**
+     * Gets the current template of the code.
+     *
+     * @param code the code, not {@link CheckResult.Code#OK}
+     * @return the template
+     * @throws IllegalArgumentException if the code is {@link CheckResult.Code#OK}
+     */
+    static MessageTemplate template(final CheckResult.Code code) {
+        Check.notNullArgument(code, "code");
+        if (code == CheckResult.Code.OK) {
+            /* not by Check.falseArgument - a relaxing validation scope would skip it and return no template */
+            throw new IllegalArgumentException("the code OK has no message");
+        }
+
+        return CheckMessages.templates[code.ordinal()];
+    }
+
+    /**
+     * Compile the templates of all codes (but {@link CheckResult.Code#OK}).
+     *
+     * @param bundle the resource bundle, {@code null} for the default patterns
+     * @return the templates by code ordinal
+     */
+    private static MessageTemplate[] compile(final ResourceBundle bundle) {
+        CheckResult.Code[] codes = CheckResult.Code.values();
+        MessageTemplate[] compiled = new MessageTemplate[codes.length];
+        for (CheckResult.Code code : codes) {
+            if (code == CheckResult.Code.OK) {
+                continue;
+            }
+            String pattern;
+            if ((bundle != null) && bundle.containsKey(code.name())) {
+                pattern = bundle.getString(code.name());
+            } else {
+                pattern = CheckMessages.defaultPattern(code);
+            }
+            compiled[code.ordinal()] = MessageTemplate.compile(pattern, ARGUMENT_COUNT);
+        }
+        return compiled;
+    }
+
+    /**
+     * Return the default pattern of the code.
+     *
+     * @param code the code
+     * @return the pattern
+     */
+    static String defaultPattern(final CheckResult.Code code) {
+        switch (code) {
+        case NULL:
+            return "[Assertion failed] - argument {0} must not be null";
+        case EMPTY:
+            return "[Assertion failed] - String argument {0} must have length";
+        case NO_ELEMENT:
+            return "[Assertion failed] - argument {2} {0} should have one or more element(s) - but it is empty";
+        case TOO_LONG:
+            return "[Assertion failed] - String argument {0} must have a maximal length of {2} but has length {1}";
+        case TOO_SHORT:
+            return "[Assertion failed] - String argument {0} must have a minimal length of {2} but has length {1}";
+        case WRONG_TYPE:
+            return "[Assertion failed] - type {2} expected for argument {0} but get an object of type {1}";
+        case NOT_FALSE:
+            return "[Assertion failed] - boolean argument {0} should be false but is true";
+        case ZERO:
+            return "[Assertion failed] - the int argument {0} must not be zero";
+        case ZERO_OR_NEGATIVE:
+            return "[Assertion failed] - the int argument {0} must not be zero or negative";
+        case NEGATIVE:
+            return "[Assertion failed] - the int argument {0} must not negative";
+        case TOO_SMALL:
+            return "[Assertion failed] - this String argument <code>{0}</code> must be greater or equals {2} but is"
+                    + " {1}";
+        case TOO_LARGE:
+            return "[Assertion failed] - this String argument <code>{0}</code> must be less or equals {2} but is {1}";
+        case SIZE_OUT_OF_RANGE:
+            return "[Assertion failed] - map {0} must have between {2} and {3} entries - but it has {1}";
+        case NOT_EQUAL:
+            return "[Assertion failed] - argument {0} is not equals to {2}, it was {1}";
+        case ARGUMENTS_NOT_EQUAL:
+            return "[Assertion failed] - the arguments {0} and {4} are not equal, the firstone is {1} the second one is"
+                    + " {2}";
+        case NOT_MATCHING:
+            return "[Assertion failed] - String argument {0} must match the pattern {2} but is \"{1}\"";
+        case NOT_ALLOWED_CHARACTER:
+            return "[Assertion failed] - String argument {0} must contain only the characters \"{2}\" but has the"
+                    + " character '{1}' at index {3}";
+        case NOT_NULL_COUNT:
+            return "[Assertion failed] - the arguments {0} contains {1} argument which are not null, but expected are"
+                    + " {2} - parameters={3}";
+        case NULL_ELEMENT:
+            return "[Assertion failed] - collection {0} should not contain a null element, but it has one or more -"
+                    + " {0} = {1}";
+        case NULL_ENTRY:
+            return "[Assertion failed] - map {0} should not contain a null key or null value, but it has one or more"
+                    + " - entry {1}";
+        case VALUE_OUT_OF_RANGE:
+            return "[Assertion failed] - map {0} must contain only not null keys with values between {2} and {3} -"
+                    + " but found entry {1}";
+        case MISSING_KEY:
+            return "[Assertion failed] - map {0} must contain the keys {2} - but the key {1} is missing - keys={3}";
+        case NOT_SORTED:
+            return "[Assertion failed] - the elements of argument {0} are not sorted - {2} - {0} = {1}";
+        case NOT_STRICTLY_INCREASING:
+            return "[Assertion failed] - the elements of argument {0} are not strictly increasing - {2} - {0} = {1}";
+        case NOT_UNIQUE:
+            return "[Assertion failed] - collection on argument <code>{0}</code> has not unique element -  two (or"
+                    + " more) elements are equals with respect to an equals definition - {2}, collection={1}";
+        case DIFFERENT_SIZE:
+            return "[Assertion failed] - collections have different size: {0}.size() = {1} , {4}.size() = {2}\n"
+                    + " argumentNameA = {0},\n argumentNameB = {0}";
+        case DIFFERENT_LENGTH:
+            return "[Assertion failed] - arrays have different length: {0}.length = {1} , {4}.length = {2}\n"
+                    + " argumentNameA = {0},\n argumentNameB = {0}";
+        case RULE_VIOLATED:
+            return "[Assertion failed] - argument {0} violates the rule {2} - it is {1}";
+        default:
+            throw new NotImplementedCaseExecption("code " + code + " is not implemented");
+        }
+    }
+
+}
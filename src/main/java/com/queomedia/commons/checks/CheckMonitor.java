@@ -0,0 +1,171 @@
+package com.queomedia.commons.checks;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Exposes the statistics and the failure policy of the checks as MXBean, so that an operator can see which checks
+ * fail or cost time, and change the policy of a running system (for example disable an expensive cost tier).
+ *
+ * <pre>
+ * CheckMonitor.register();
+ * </pre>
+ *
+ * The statistics are disabled until a sampling rate is set. Then the argument checks and the expensive collection
+ * checks count their invocations (by method name, and by {@link CheckSite} for the checks with a site), the
+ * expensive collection checks (the ones that are listed in {@link CheckCost#LINEAR} and
+ * {@link CheckCost#SUPER_LINEAR} that compare collections) measure the time of every n-th invocation, and all checks
+ * count their failures. The counters are striped, so the checks of different threads do not contend for them.
+ */
+public class CheckMonitor implements CheckMonitorMXBean {
+
+    /** The object name under which the monitor is registered. */
+    public static final String OBJECT_NAME = "com.queomedia.commons.checks:type=CheckMonitor";
+
+    /**
+     * Register a monitor at the platform MBean server.
+     *
+     * @throws JMException if the registration fails, for example if a monitor is already registered
+     */
+    public static void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(new CheckMonitor(), new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * Unregister the monitor from the platform MBean server.
+     *
+     * @throws JMException if the monitor is not registered
+     */
+    public static void unregister() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.unregisterMBean(new ObjectName(OBJECT_NAME));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public boolean isActiveArgumentCheck() {
+        return Check.getActiveArgumentCheck();
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public void setActiveArgumentCheck(final boolean activeArgumentCheck) {
+        Check.setActiveArgumentCheck(activeArgumentCheck);
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public String getAlternativeFailureAction() {
+        return Check.getAlternativeFailureAction().name();
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public void setAlternativeFailureAction(final String alternativeFailureAction) {
+        Check.notNullArgument(alternativeFailureAction, "alternativeFailureAction");
+
+        Check.setAlternativeFailureAction(AlternativFailureAction.valueOf(alternativeFailureAction));
+    }
+
+    @Override
+    public boolean isFailureStackTraces() {
+        return Check.isFailureStackTraces();
+    }
+
+    @Override
+    public void setFailureStackTraces(final boolean failureStackTraces) {
+        Check.setFailureStackTraces(failureStackTraces);
+    }
+
+    @Override
+    public boolean isLinearChecksEnabled() {
+        return Check.isCostTierEnabled(CheckCost.LINEAR);
+    }
+
+    @Override
+    public void setLinearChecksEnabled(final boolean enabled) {
+        Check.setCostTierEnabled(CheckCost.LINEAR, enabled);
+    }
+
+    @Override
+    public boolean isSuperLinearChecksEnabled() {
+        return Check.isCostTierEnabled(CheckCost.SUPER_LINEAR);
+    }
+
+    @Override
+    public void setSuperLinearChecksEnabled(final boolean enabled) {
+        Check.setCostTierEnabled(CheckCost.SUPER_LINEAR, enabled);
+    }
+
+    @Override
+    public int getSamplingRate() {
+        return CheckStatistics.getSamplingRate();
+    }
+
+    @Override
+    public void setSamplingRate(final int samplingRate) {
+        CheckStatistics.setSamplingRate(samplingRate);
+    }
+
+    @Override
+    public Map<String, Long> getInvocationCounts() {
+        return CheckStatistics.getInvocationCounts();
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+        return CheckStatistics.getFailureCounts();
+    }
+
+    @Override
+    public Map<String, Long> getSiteFailureCounts() {
+        return CheckStatistics.getSiteFailureCounts();
+    }
+
+    @Override
+    public Map<String, Long> getSiteInvocationCounts() {
+        return CheckStatistics.getSiteInvocationCounts();
+    }
+
+    @Override
+    public Map<String, Long> getAverageNanos() {
+        return CheckStatistics.getAverageNanos();
+    }
+
+    @Override
+    public boolean isInvariantAuditMode() {
+        return InvariantRegistry.isAuditMode();
+    }
+
+    @Override
+    public void setInvariantAuditMode(final boolean auditMode) {
+        InvariantRegistry.setAuditMode(auditMode);
+    }
+
+    @Override
+    public Map<String, Long> getInvariantEvaluationCounts() {
+        return InvariantRegistry.getEvaluationCounts();
+    }
+
+    @Override
+    public Map<String, Long> getInvariantFailureCounts() {
+        return InvariantRegistry.getFailureCounts();
+    }
+
+    @Override
+    public Map<String, Long> getInvariantAverageNanos() {
+        return InvariantRegistry.getAverageNanos();
+    }
+
+    @Override
+    public void resetStatistics() {
+        CheckStatistics.reset();
+        InvariantRegistry.resetStatistics();
+    }
+
+}
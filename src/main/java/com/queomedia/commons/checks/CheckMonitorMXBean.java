@@ -0,0 +1,177 @@
+package com.queomedia.commons.checks;
+
+import java.util.Map;
+
+/**
+ * Management interface of the checks: live statistics and the failure policy, see {@link CheckMonitor}.
+ */
+public interface CheckMonitorMXBean {
+
+    /**
+     * Checks if the argument checks throw their exceptions, see {@link Check#setActiveArgumentCheck(boolean)}.
+     *
+     * @return true, if the argument checks are active
+     */
+    boolean isActiveArgumentCheck();
+
+    /**
+     * Activate or deactivate the argument checks, see {@link Check#setActiveArgumentCheck(boolean)}.
+     *
+     * @param activeArgumentCheck the new active argument check
+     */
+    void setActiveArgumentCheck(boolean activeArgumentCheck);
+
+    /**
+     * Gets the name of the {@link AlternativFailureAction}.
+     *
+     * @return the alternative failure action
+     */
+    String getAlternativeFailureAction();
+
+    /**
+     * Sets the {@link AlternativFailureAction} by its name.
+     *
+     * @param alternativeFailureAction the name of the new alternative failure action
+     */
+    void setAlternativeFailureAction(String alternativeFailureAction);
+
+    /**
+     * Checks if the exceptions of failed argument checks capture their stack trace, see
+     * {@link Check#setFailureStackTraces(boolean)}.
+     *
+     * @return true, if the stack traces are captured
+     */
+    boolean isFailureStackTraces();
+
+    /**
+     * Enable or disable the stack traces of the exceptions of failed argument checks, see
+     * {@link Check#setFailureStackTraces(boolean)}.
+     *
+     * @param failureStackTraces true to capture the stack traces
+     */
+    void setFailureStackTraces(boolean failureStackTraces);
+
+    /**
+     * Checks if the checks of cost tier {@link CheckCost#LINEAR} are enabled.
+     *
+     * @return true, if enabled
+     */
+    boolean isLinearChecksEnabled();
+
+    /**
+     * Enable or disable the checks of cost tier {@link CheckCost#LINEAR}.
+     *
+     * @param enabled the new state
+     */
+    void setLinearChecksEnabled(boolean enabled);
+
+    /**
+     * Checks if the checks of cost tier {@link CheckCost#SUPER_LINEAR} are enabled.
+     *
+     * @return true, if enabled
+     */
+    boolean isSuperLinearChecksEnabled();
+
+    /**
+     * Enable or disable the checks of cost tier {@link CheckCost#SUPER_LINEAR}.
+     *
+     * @param enabled the new state
+     */
+    void setSuperLinearChecksEnabled(boolean enabled);
+
+    /**
+     * Gets the sampling rate of the statistics: the time of every n-th invocation of an expensive check is measured,
+     * 0 means that the statistics are disabled.
+     *
+     * @return the sampling rate
+     */
+    int getSamplingRate();
+
+    /**
+     * Sets the sampling rate of the statistics, 0 disables the statistics.
+     *
+     * @param samplingRate the new sampling rate
+     */
+    void setSamplingRate(int samplingRate);
+
+    /**
+     * Gets the number of invocations of the argument checks and the expensive collection checks, by check method
+     * name.
+     *
+     * @return the invocation counts
+     */
+    Map<String, Long> getInvocationCounts();
+
+    /**
+     * Gets the number of failures by check method name - or, without {@link #setFailureStackTraces(boolean) failure
+     * stack traces}, by site id or by failure code and argument name, e.g. {@code TOO_LARGE(size)}.
+     *
+     * @return the failure counts
+     */
+    Map<String, Long> getFailureCounts();
+
+    /**
+     * Gets the number of failures by {@link CheckSite} id, for all sites that failed while the statistics were
+     * enabled.
+     *
+     * @return the site failure counts
+     */
+    Map<String, Long> getSiteFailureCounts();
+
+    /**
+     * Gets the number of invocations by {@link CheckSite} id, for all sites that were invoked while the statistics
+     * were enabled.
+     *
+     * @return the site invocation counts
+     */
+    Map<String, Long> getSiteInvocationCounts();
+
+    /**
+     * Gets the average time of the measured invocations of the expensive collection checks in nanoseconds, by check
+     * method name.
+     *
+     * @return the average time
+     */
+    Map<String, Long> getAverageNanos();
+
+    /**
+     * Checks if the invariants with {@link InvariantPolicy#AUDIT} are evaluated, see {@link InvariantRegistry}.
+     *
+     * @return true, if in audit mode
+     */
+    boolean isInvariantAuditMode();
+
+    /**
+     * Enable or disable the audit mode of the {@link InvariantRegistry}.
+     *
+     * @param auditMode the new audit mode
+     */
+    void setInvariantAuditMode(boolean auditMode);
+
+    /**
+     * Gets the number of evaluations of the registered invariants, by class name.
+     *
+     * @return the evaluation counts
+     */
+    Map<String, Long> getInvariantEvaluationCounts();
+
+    /**
+     * Gets the number of failed evaluations of the registered invariants, by class name.
+     *
+     * @return the failure counts
+     */
+    Map<String, Long> getInvariantFailureCounts();
+
+    /**
+     * Gets the average evaluation time of the registered invariants in nanoseconds, by class name.
+     *
+     * @return the average time
+     */
+    Map<String, Long> getInvariantAverageNanos();
+
+    /**
+     * Reset the statistics, including the statistics of the {@link InvariantRegistry}.
+     */
+    void resetStatistics();
+
+}
@@ -0,0 +1,402 @@
+package com.queomedia.commons.checks;
+
+import com.queomedia.commons.exceptions.ArgumentNullException;
+
+/**
+ * The result of an argument check of {@link CheckResults}: {@link #OK} or a failure with an error code.
+ *
+ * A successful check returns the shared instance {@link #OK}, so a check allocates nothing on success. A failure
+ * keeps only the code and the values that describe it, the message is rendered when {@link #getMessage()} is called.
+ *
+ * This class is immutable.
+ */
+public final class CheckResult {
+
+    /**
+     * The error code of a check result.
+     */
+    public enum Code {
+
+        /** The check passed. */
+        OK,
+
+        /** The argument is null. */
+        NULL,
+
+        /** The string or collection argument is empty. */
+        EMPTY,
+
+        /** The array or collection argument has no element. */
+        NO_ELEMENT,
+
+        /** The string argument is longer than the maximal length. */
+        TOO_LONG,
+
+        /** The string argument is shorter than the minimal length. */
+        TOO_SHORT,
+
+        /** The argument is not an instance of the expected type. */
+        WRONG_TYPE,
+
+        /** The boolean argument is true. */
+        NOT_FALSE,
+
+        /** The number argument is zero. */
+        ZERO,
+
+        /** The number argument is zero or negative. */
+        ZERO_OR_NEGATIVE,
+
+        /** The number argument is negative. */
+        NEGATIVE,
+
+        /** The number argument is less than the minimum (or NaN). */
+        TOO_SMALL,
+
+        /** The number argument is greater than the maximum (or NaN). */
+        TOO_LARGE,
+
+        /** The size of the map argument is out of range. */
+        SIZE_OUT_OF_RANGE,
+
+        /** The argument is not equal to the expected value. */
+        NOT_EQUAL,
+
+        /** Two arguments are not equal. */
+        ARGUMENTS_NOT_EQUAL,
+
+        /** The string argument does not match the pattern. */
+        NOT_MATCHING,
+
+        /** The string argument contains a character that is not allowed. */
+        NOT_ALLOWED_CHARACTER,
+
+        /** The number of not null arguments is not the expected one. */
+        NOT_NULL_COUNT,
+
+        /** The collection argument contains a null element. */
+        NULL_ELEMENT,
+
+        /** The map argument contains a null key or a null value. */
+        NULL_ENTRY,
+
+        /** The map argument contains a null key or a value that is out of range. */
+        VALUE_OUT_OF_RANGE,
+
+        /** The map argument does not contain a required key. */
+        MISSING_KEY,
+
+        /** The elements of the argument are not sorted. */
+        NOT_SORTED,
+
+        /** The elements of the argument are not strictly increasing. */
+        NOT_STRICTLY_INCREASING,
+
+        /** The collection argument contains two equal elements. */
+        NOT_UNIQUE,
+
+        /** Two collection arguments have a different size. */
+        DIFFERENT_SIZE,
+
+        /** Two array arguments have a different length. */
+        DIFFERENT_LENGTH,
+
+        /** The argument violates a composed {@link Rule}. */
+        RULE_VIOLATED;
+    }
+
+    /** The result of a passed check. */
+    public static final CheckResult OK = new CheckResult(Code.OK, null, null, null, null, null);
+
+    /** The error code. */
+    private final Code code;
+
+    /** The name of the checked argument. */
+    private final String argumentName;
+
+    /**
+     * The name of the second argument, for {@link Code#ARGUMENTS_NOT_EQUAL}, {@link Code#DIFFERENT_SIZE} and
+     * {@link Code#DIFFERENT_LENGTH}.
+     */
+    private final String otherArgumentName;
+
+    /** The (part of the) argument that failed the check. */
+    private final Object value;
+
+    /** The bound or expected value the argument was compared with. */
+    private final Object bound;
+
+    /**
+     * The second bound, for {@link Code#SIZE_OUT_OF_RANGE} and {@link Code#VALUE_OUT_OF_RANGE}, the index for
+     * {@link Code#NOT_ALLOWED_CHARACTER} and the present keys for {@link Code#MISSING_KEY}.
+     */
+    private final Object otherBound;
+
+    /**
+     * Instantiates a new check result.
+     *
+     * @param code the code
+     * @param argumentName the argument name
+     * @param otherArgumentName the name of the second argument
+     * @param value the value
+     * @param bound the bound
+     * @param otherBound the second bound
+     */
+    private CheckResult(final Code code, final String argumentName, final String otherArgumentName,
+            final Object value, final Object bound, final Object otherBound) {
+        this.code = code;
+        this.argumentName = argumentName;
+        this.otherArgumentName = otherArgumentName;
+        this.value = value;
+        this.bound = bound;
+        this.otherBound = otherBound;
+    }
+
+    /**
+     * Create a failure.
+     *
+     * @param code the code
+     * @param argumentName the argument name
+     * @return the result
+     */
+    static CheckResult failure(final Code code, final String argumentName) {
+        return new CheckResult(code, argumentName, null, null, null, null);
+    }
+
+    /**
+     * Create a failure.
+     *
+     * @param code the code
+     * @param argumentName the argument name
+     * @param value the value
+     * @param bound the bound
+     * @return the result
+     */
+    static CheckResult failure(final Code code, final String argumentName, final Object value, final Object bound) {
+        return new CheckResult(code, argumentName, null, value, bound, null);
+    }
+
+    /**
+     * Create a failure.
+     *
+     * @param code the code
+     * @param argumentName the argument name
+     * @param value the value
+     * @param bound the bound
+     * @param otherBound the second bound
+     * @return the result
+     */
+    static CheckResult failure(final Code code, final String argumentName, final Object value, final Object bound,
+            final Object otherBound) {
+        return new CheckResult(code, argumentName, null, value, bound, otherBound);
+    }
+
+    /**
+     * Create a failure for a null argument.
+     *
+     * @param argumentName the argument name
+     * @return the result
+     */
+    static CheckResult nullArgument(final String argumentName) {
+        return new CheckResult(Code.NULL, argumentName, null, null, null, null);
+    }
+
+    /**
+     * Create a failure for an int value and bound (boxed only here, so that the checks stay small).
+     *
+     * @param code the code
+     * @param argumentName the argument name
+     * @param value the value
+     * @param bound the bound
+     * @return the result
+     */
+    static CheckResult failure(final Code code, final String argumentName, final int value, final int bound) {
+        return new CheckResult(code, argumentName, null, value, bound, null);
+    }
+
+    /**
+     * Create a {@link Code#TOO_SMALL} failure.
+     *
+     * @param argumentName the argument name
+     * @param value the value
+     * @param min the minimum
+     * @return the result
+     */
+    static CheckResult tooSmall(final String argumentName, final int value, final int min) {
+        return new CheckResult(Code.TOO_SMALL, argumentName, null, value, min, null);
+    }
+
+    /**
+     * Create a {@link Code#TOO_SMALL} failure.
+     *
+     * @param argumentName the argument name
+     * @param value the value
+     * @param min the minimum
+     * @return the result
+     */
+    static CheckResult tooSmall(final String argumentName, final long value, final long min) {
+        return new CheckResult(Code.TOO_SMALL, argumentName, null, value, min, null);
+    }
+
+    /**
+     * Create a {@link Code#TOO_SMALL} failure.
+     *
+     * @param argumentName the argument name
+     * @param value the value
+     * @param min the minimum
+     * @return the result
+     */
+    static CheckResult tooSmall(final String argumentName, final double value, final double min) {
+        return new CheckResult(Code.TOO_SMALL, argumentName, null, value, min, null);
+    }
+
+    /**
+     * Create a {@link Code#TOO_LARGE} failure.
+     *
+     * @param argumentName the argument name
+     * @param value the value
+     * @param max the maximum
+     * @return the result
+     */
+    static CheckResult tooLarge(final String argumentName, final int value, final int max) {
+        return new CheckResult(Code.TOO_LARGE, argumentName, null, value, max, null);
+    }
+
+    /**
+     * Create a {@link Code#TOO_LARGE} failure.
+     *
+     * @param argumentName the argument name
+     * @param value the value
+     * @param max the maximum
+     * @return the result
+     */
+    static CheckResult tooLarge(final String argumentName, final double value, final int max) {
+        return new CheckResult(Code.TOO_LARGE, argumentName, null, value, max, null);
+    }
+
+    /**
+     * Create a {@link Code#TOO_LARGE} failure.
+     *
+     * @param argumentName the argument name
+     * @param value the value
+     * @param max the maximum
+     * @return the result
+     */
+    static CheckResult tooLarge(final String argumentName, final double value, final double max) {
+        return new CheckResult(Code.TOO_LARGE, argumentName, null, value, max, null);
+    }
+
+    /**
+     * Create a failure for two int arguments that are not equal.
+     *
+     * @param valueA the value of argument a
+     * @param valueB the value of argument b
+     * @param argumentNameA the name of argument a
+     * @param argumentNameB the name of argument b
+     * @return the result
+     */
+    static CheckResult argumentsNotEqual(final int valueA, final int valueB, final String argumentNameA,
+            final String argumentNameB) {
+        return new CheckResult(Code.ARGUMENTS_NOT_EQUAL, argumentNameA, argumentNameB, valueA, valueB, null);
+    }
+
+    /**
+     * Create a failure for two arguments that are not equal.
+     *
+     * @param valueA the value of argument a
+     * @param valueB the value of argument b
+     * @param argumentNameA the name of argument a
+     * @param argumentNameB the name of argument b
+     * @return the result
+     */
+    static CheckResult argumentsNotEqual(final Object valueA, final Object valueB, final String argumentNameA,
+            final String argumentNameB) {
+        return new CheckResult(Code.ARGUMENTS_NOT_EQUAL, argumentNameA, argumentNameB, valueA, valueB, null);
+    }
+
+    /**
+     * Create a failure for two collection or array arguments of different size.
+     *
+     * @param code {@link Code#DIFFERENT_SIZE} or {@link Code#DIFFERENT_LENGTH}
+     * @param sizeA the size of argument a
+     * @param sizeB the size of argument b
+     * @param argumentNameA the name of argument a
+     * @param argumentNameB the name of argument b
+     * @return the result
+     */
+    static CheckResult differentSize(final Code code, final int sizeA, final int sizeB, final String argumentNameA,
+            final String argumentNameB) {
+        return new CheckResult(code, argumentNameA, argumentNameB, sizeA, sizeB, null);
+    }
+
+    /**
+     * Checks if the check passed.
+     *
+     * @return true, if ok
+     */
+    public boolean isOk() {
+        return this.code == Code.OK;
+    }
+
+    /**
+     * Gets the error code.
+     *
+     * @return the code
+     */
+    public Code getCode() {
+        return this.code;
+    }
+
+    /**
+     * Gets the name of the checked argument, for the checks of two arguments the names of both arguments.
+     *
+     * @return the argument name, {@code null} for {@link #OK}
+     */
+    public String getArgumentName() {
+        if (this.otherArgumentName != null) {
+            return this.argumentName + ", " + this.otherArgumentName;
+        }
+        return this.argumentName;
+    }
+
+    /**
+     * Render the failure message - the same message as the one of the exception that {@link Check} throws, except
+     * for {@link Code#NULL}: {@link Check} throws an {@link ArgumentNullException}, whose message is built by the
+     * exception itself, while this message is rendered from the {@link CheckMessages} template of the code.
+     *
+     * @return the message, {@code null} for {@link #OK}
+     */
+    public String getMessage() {
+        if (this.code == Code.OK) {
+            return null;
+        }
+        return CheckMessages.template(this.code).render(this.argumentName, this.value, this.bound, this.otherBound,
+                this.otherArgumentName);
+    }
+
+    /**
+     * Create the exception that {@link Check} throws for this failure: an {@link ArgumentNullException} for
+     * {@link Code#NULL}, else an {@link IllegalArgumentException}.
+     *
+     * @return the exception
+     * @throws IllegalStateException if this is {@link #OK}
+     */
+    public IllegalArgumentException toException() {
+        if (this.code == Code.OK) {
+            throw new IllegalStateException("the check passed, there is no failure");
+        }
+        if (this.code == Code.NULL) {
+            return new ArgumentNullException(this.argumentName);
+        }
+        return new IllegalArgumentException(this.getMessage());
+    }
+
+    @Override
+    public String toString() {
+        if (this.code == Code.OK) {
+            return "CheckResult [OK]";
+        }
+        return "CheckResult [code=" + this.code + ", message=" + this.getMessage() + "]";
+    }
+
+}
@@ -0,0 +1,1110 @@
+package com.queomedia.commons.checks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.queomedia.commons.checks.CheckResult.Code;
+import com.queomedia.commons.equals.EqualsChecker;
+import com.queomedia.commons.equals.NativeEqualsChecker;
+
+/**
+ * The argument checks of {@link Check}, but without exceptions: every check returns a {@link CheckResult}.
+ *
+ * This is for code that validates a lot of untrusted input, where failed checks are expected and catching the
+ * exceptions would cost more than the checks themselves.
+ *
+ * <pre>
+ * CheckResult result = CheckResults.maxLengthArgument(name, 100, "name");
+ * if (!result.isOk()) {
+ *     return badRequest(result.getMessage());
+ * }
+ * </pre>
+ *
+ * A passed check returns {@link CheckResult#OK} and allocates nothing. A failed check allocates only the small
+ * result object, the message is rendered on demand. The checks are the same as the ones of {@link Check} (which
+ * throws the {@link CheckResult#toException() exception} of a failed result): the same conditions, the same error
+ * for a {@code null} argument name, the same messages, and the checks of a disabled {@link CheckCost} tier pass.
+ *
+ * All argument checks of {@link Check} with an argument name have a counterpart here, the ones with a
+ * {@link CheckSite} do not. The collection checks of {@link Check} that throw a {@code ConstraintViolationException}
+ * (like {@code containsExact} or {@code sameOrder}) are assertions about the state of the program, not about
+ * untrusted input, and their messages describe the difference of whole collections - they are not worth a result
+ * code.
+ */
+public final class CheckResults {
+
+    /**
+     * Util classes need no constructor.
+     */
+    private CheckResults() {
+        super();
+    }
+
+    /**
+     * Checks for (not) null argument.
+     *
+     * @param argument the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NULL} if the argument is null
+     */
+    public static CheckResult notNullArgument(final Object argument, final String argumentName) {
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Checks for (not) empty String argument.
+     *
+     * @param argument the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#EMPTY} if the argument is empty
+     */
+    public static CheckResult notEmptyArgument(final String argument, final String argumentName) {
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (argument.length() == 0) {
+            return CheckResult.failure(Code.EMPTY, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Checks for (not) empty collection argument.
+     *
+     * @param argument the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#EMPTY} if the argument is empty
+     */
+    public static CheckResult notEmptyArgument(final Collection<?> argument, final String argumentName) {
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (argument.isEmpty()) {
+            return CheckResult.failure(Code.EMPTY, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the string argument is not longer than the maximal length.
+     *
+     * @param argument the argument
+     * @param maxLength the maximal length
+     * @param argumentName the argument name
+     * @return the result, {@link Code#TOO_LONG} if the argument is too long
+     */
+    public static CheckResult maxLengthArgument(final String argument, final int maxLength,
+            final String argumentName) {
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (argument.length() > maxLength) {
+            return CheckResult.failure(Code.TOO_LONG, argumentName, argument.length(), maxLength);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the string argument is not shorter than the minimal length.
+     *
+     * @param argument the argument
+     * @param minLength the minimal length
+     * @param argumentName the argument name
+     * @return the result, {@link Code#TOO_SHORT} if the argument is too short
+     */
+    public static CheckResult minLengthArgument(final String argument, final int minLength,
+            final String argumentName) {
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (argument.length() < minLength) {
+            return CheckResult.failure(Code.TOO_SHORT, argumentName, argument.length(), minLength);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the string argument contains only allowed characters. This is a {@link CheckCost#LINEAR} check.
+     *
+     * @param argument the argument
+     * @param allowedCharacters the allowed characters
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_ALLOWED_CHARACTER} for the first character that is not allowed
+     */
+    public static CheckResult allowedCharactersArgument(final String argument, final String allowedCharacters,
+            final String argumentName) {
+        if (!Check.linearChecksEnabled) {
+            return CheckResult.OK;
+        }
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (allowedCharacters == null) {
+            return CheckResult.nullArgument("allowedCharacters");
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+
+        int length = argument.length();
+        for (int i = 0; i < length; i++) {
+            char c = argument.charAt(i);
+            if (allowedCharacters.indexOf(c) < 0) {
+                return CheckResult.failure(Code.NOT_ALLOWED_CHARACTER, argumentName, c, allowedCharacters, i);
+            }
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the string argument matches the pattern. This is a {@link CheckCost#LINEAR} check.
+     *
+     * @param argument the argument
+     * @param pattern the pattern
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_MATCHING} if the argument does not match
+     */
+    public static CheckResult matchesArgument(final String argument, final Pattern pattern,
+            final String argumentName) {
+        if (!Check.linearChecksEnabled) {
+            return CheckResult.OK;
+        }
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (pattern == null) {
+            return CheckResult.nullArgument("pattern");
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (!pattern.matcher(argument).matches()) {
+            return CheckResult.failure(Code.NOT_MATCHING, argumentName, argument, pattern.pattern());
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the string argument matches the regular expression, the compiled pattern is cached. This is a
+     * {@link CheckCost#LINEAR} check.
+     *
+     * @param argument the argument
+     * @param regex the regular expression
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_MATCHING} if the argument does not match
+     */
+    public static CheckResult matchesArgument(final String argument, final String regex, final String argumentName) {
+        if (!Check.linearChecksEnabled) {
+            return CheckResult.OK;
+        }
+        if (regex == null) {
+            return CheckResult.nullArgument("regex");
+        }
+        return CheckResults.matchesArgument(argument, Check.getPatternCache().getPattern(regex), argumentName);
+    }
+
+    /**
+     * Check that the argument is an instance of the type.
+     *
+     * @param argument the argument
+     * @param type the expected type
+     * @param argumentName the argument name
+     * @return the result, {@link Code#WRONG_TYPE} if the argument has an other type
+     */
+    public static CheckResult argumentInstanceOf(final Object argument, final Class<?> type,
+            final String argumentName) {
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (!type.isAssignableFrom(argument.getClass())) {
+            return CheckResult.failure(Code.WRONG_TYPE, argumentName, argument.getClass().getName(),
+                    type.getName());
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the size of the map argument is between min and max (inclusive).
+     *
+     * @param argument the argument
+     * @param min the minimal size
+     * @param max the maximal size
+     * @param argumentName the argument name
+     * @return the result, {@link Code#SIZE_OUT_OF_RANGE} if the size is out of range
+     */
+    public static CheckResult sizeBetweenArgument(final Map<?, ?> argument, final int min, final int max,
+            final String argumentName) {
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        int size = argument.size();
+        if ((size < min) || (size > max)) {
+            return CheckResult.failure(Code.SIZE_OUT_OF_RANGE, argumentName, size, min, max);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the boolean argument is false.
+     *
+     * @param bool the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_FALSE} if the argument is true
+     */
+    public static CheckResult falseArgument(final boolean bool, final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (bool) {
+            return CheckResult.failure(Code.NOT_FALSE, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is not zero.
+     *
+     * @param value the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#ZERO} if the argument is zero
+     */
+    public static CheckResult notZeroArgument(final int value, final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (value == 0) {
+            return CheckResult.failure(Code.ZERO, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is not zero.
+     *
+     * @param value the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#ZERO} if the argument is zero
+     */
+    public static CheckResult notZeroArgument(final long value, final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (value == 0) {
+            return CheckResult.failure(Code.ZERO, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is not zero (its absolute value is not less than epsylon).
+     *
+     * @param value the argument
+     * @param epsylon the epsylon
+     * @param argumentName the argument name
+     * @return the result, {@link Code#ZERO} if the argument is zero
+     */
+    public static CheckResult notZeroArgument(final double value, final double epsylon, final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (Math.abs(value) < epsylon) {
+            return CheckResult.failure(Code.ZERO, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is not zero or negative.
+     *
+     * @param value the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#ZERO_OR_NEGATIVE} if the argument is zero or negative
+     */
+    public static CheckResult notZeroOrNegativeArgument(final int value, final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (value <= 0) {
+            return CheckResult.failure(Code.ZERO_OR_NEGATIVE, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is not zero or negative.
+     *
+     * @param value the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#ZERO_OR_NEGATIVE} if the argument is zero or negative
+     */
+    public static CheckResult notZeroOrNegativeArgument(final long value, final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (value <= 0) {
+            return CheckResult.failure(Code.ZERO_OR_NEGATIVE, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is not negative.
+     *
+     * @param value the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NEGATIVE} if the argument is negative
+     */
+    public static CheckResult notNegativeArgument(final int value, final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (value < 0) {
+            return CheckResult.failure(Code.NEGATIVE, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is not negative.
+     *
+     * @param value the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NEGATIVE} if the argument is negative
+     */
+    public static CheckResult notNegativeArgument(final long value, final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (value < 0) {
+            return CheckResult.failure(Code.NEGATIVE, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is not negative.
+     *
+     * @param value the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NEGATIVE} if the argument is negative
+     */
+    public static CheckResult notNegativeArgument(final double value, final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (value < 0) {
+            return CheckResult.failure(Code.NEGATIVE, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is between min and max (min &lt;= value &lt;= max).
+     *
+     * @param value the argument
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @param argumentName the argument name
+     * @return the result, {@link Code#TOO_SMALL} or {@link Code#TOO_LARGE} if the argument is out of range
+     */
+    public static CheckResult argumentBetween(final int value, final int min, final int max,
+            final String argumentName) {
+        if (value < min) {
+            return CheckResult.tooSmall(argumentName, value, min);
+        }
+        if (value > max) {
+            return CheckResult.tooLarge(argumentName, value, max);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is between min and max (min &lt;= value &lt;= max).
+     *
+     * @param value the argument
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @param argumentName the argument name
+     * @return the result, {@link Code#TOO_SMALL} or {@link Code#TOO_LARGE} if the argument is out of range
+     */
+    public static CheckResult argumentBetween(final double value, final double min, final double max,
+            final String argumentName) {
+        if (value < min) {
+            return CheckResult.tooSmall(argumentName, value, min);
+        }
+        if (value > max) {
+            return CheckResult.tooLarge(argumentName, value, max);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is greater or equals than min.
+     *
+     * @param min the minimal allowed value
+     * @param argumentValue the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#TOO_SMALL} if the argument is less than min
+     */
+    public static CheckResult argumentGreaterEquals(final int min, final int argumentValue,
+            final String argumentName) {
+        if (!(argumentValue >= min)) {
+            return CheckResult.tooSmall(argumentName, argumentValue, min);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is greater or equals than min.
+     *
+     * @param min the minimal allowed value
+     * @param argumentValue the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#TOO_SMALL} if the argument is less than min
+     */
+    public static CheckResult argumentGreaterEquals(final long min, final long argumentValue,
+            final String argumentName) {
+        if (!(argumentValue >= min)) {
+            return CheckResult.tooSmall(argumentName, argumentValue, min);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is greater or equals than min.
+     *
+     * @param min the minimal allowed value
+     * @param argumentValue the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#TOO_SMALL} if the argument is less than min or NaN
+     */
+    public static CheckResult argumentGreaterEquals(final double min, final double argumentValue,
+            final String argumentName) {
+        /*
+         * Do not change this to (argumentValue < min) because when argumentValue is NaN then (NaN < min) is false
+         */
+        if (!(argumentValue >= min)) {
+            return CheckResult.tooSmall(argumentName, argumentValue, min);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is less or equals than max.
+     *
+     * @param max the maximal allowed value
+     * @param argumentValue the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#TOO_LARGE} if the argument is greater than max or NaN
+     */
+    public static CheckResult argumentLessEquals(final int max, final double argumentValue,
+            final String argumentName) {
+        /*
+         * Do not change this to (argumentValue > max) because when argumentValue is NaN then (NaN > max) is false
+         */
+        if (!(argumentValue <= max)) {
+            return CheckResult.tooLarge(argumentName, argumentValue, max);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the array argument has at least one element.
+     *
+     * @param array the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NO_ELEMENT} if the array is empty
+     */
+    public static CheckResult minOneElementArgument(final Object[] array, final String argumentName) {
+        if (array == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (array.length < 1) {
+            return CheckResult.failure(Code.NO_ELEMENT, argumentName, null, "array");
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the collection argument has at least one element.
+     *
+     * @param collection the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NO_ELEMENT} if the collection is empty
+     */
+    public static CheckResult minOneElementArgument(final Collection<?> collection, final String argumentName) {
+        if (collection == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (collection.size() < 1) {
+            return CheckResult.failure(Code.NO_ELEMENT, argumentName, null, "colection");
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is equal to the expected value (or both are null).
+     *
+     * @param expected the expected value
+     * @param argument the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_EQUAL} if the argument is not equal
+     */
+    public static CheckResult equalsArgument(final Object expected, final Object argument,
+            final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (expected == argument) {
+            return CheckResult.OK;
+        }
+        if ((expected != null) && (!expected.equals(argument))) {
+            return CheckResult.failure(Code.NOT_EQUAL, argumentName, argument, expected);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the boolean argument is equal to the expected value.
+     *
+     * @param expected the expected value
+     * @param argument the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_EQUAL} if the argument is not equal
+     */
+    public static CheckResult equalsArgument(final boolean expected, final boolean argument,
+            final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (expected != argument) {
+            return CheckResult.failure(Code.NOT_EQUAL, argumentName, argument, expected);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the argument is null or equal to the expected value.
+     *
+     * @param expected the expected value
+     * @param argument the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_EQUAL} if the argument is not null and not equal
+     */
+    public static CheckResult equalsOrNullArgument(final Object expected, final Object argument,
+            final String argumentName) {
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        if (argument != null) {
+            return CheckResults.equalsArgument(expected, argument, argumentName);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that two arguments are equal (or both are null).
+     *
+     * @param valueA the value of argument a
+     * @param valueB the value of argument b
+     * @param argumentNameA the name of argument a
+     * @param argumentNameB the name of argument b
+     * @return the result, {@link Code#ARGUMENTS_NOT_EQUAL} if the arguments are not equal
+     */
+    public static CheckResult equalArguments(final Object valueA, final Object valueB, final String argumentNameA,
+            final String argumentNameB) {
+        if ((valueA == null) ? (valueB != null) : !valueA.equals(valueB)) {
+            return CheckResult.argumentsNotEqual(valueA, valueB, argumentNameA, argumentNameB);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that two int arguments are equal.
+     *
+     * @param valueA the value of argument a
+     * @param valueB the value of argument b
+     * @param argumentNameA the name of argument a
+     * @param argumentNameB the name of argument b
+     * @return the result, {@link Code#ARGUMENTS_NOT_EQUAL} if the arguments are not equal
+     */
+    public static CheckResult equalArguments(final int valueA, final int valueB, final String argumentNameA,
+            final String argumentNameB) {
+        if (valueA != valueB) {
+            return CheckResult.argumentsNotEqual(valueA, valueB, argumentNameA, argumentNameB);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that exactly the expected number of arguments is not null.
+     *
+     * @param numberNotNullExpected the number of not null arguments that is expected
+     * @param argumentNames the argument names
+     * @param arguments the arguments
+     * @return the result, {@link Code#NOT_NULL_COUNT} if an other number of arguments is not null
+     */
+    public static CheckResult argumentExactNotNullCount(final int numberNotNullExpected, final String argumentNames,
+            final Object... arguments) {
+        int notNullFound = 0;
+        for (Object argument : arguments) {
+            if (argument != null) {
+                notNullFound++;
+            }
+        }
+        if (notNullFound != numberNotNullExpected) {
+            return CheckResult.failure(Code.NOT_NULL_COUNT, argumentNames, notNullFound, numberNotNullExpected,
+                    Arrays.toString(arguments));
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the collection argument does not contain a null element. This is a {@link CheckCost#LINEAR} check,
+     * it works for null hostile collections too and remembers a passed collection in the {@link ValidationMemo}.
+     *
+     * @param argument the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NULL_ELEMENT} if the collection contains a null element
+     */
+    public static CheckResult notNullElementArgument(final Collection<?> argument, final String argumentName) {
+        if (!Check.linearChecksEnabled || ValidationMemo.passed(argument, ValidationMemo.NOT_NULL_ELEMENTS)) {
+            return CheckResult.OK;
+        }
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+
+        long sampleStart = CheckStatistics.NOT_NULL_ELEMENT_ARGUMENT.start();
+        CheckResult result = CheckResult.OK;
+        if (Check.containsNullElement(argument)) {
+            result = CheckResult.failure(Code.NULL_ELEMENT, argumentName, argument, null);
+        } else {
+            ValidationMemo.recordPassed(argument, ValidationMemo.NOT_NULL_ELEMENTS);
+        }
+        CheckStatistics.NOT_NULL_ELEMENT_ARGUMENT.end(sampleStart, argument);
+        return result;
+    }
+
+    /**
+     * Check that the map argument does neither contain a null key nor a null value. This is a
+     * {@link CheckCost#LINEAR} check.
+     *
+     * @param argument the argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NULL_ENTRY} for the first entry with a null key or value
+     */
+    public static CheckResult notNullEntriesArgument(final Map<?, ?> argument, final String argumentName) {
+        if (!Check.linearChecksEnabled) {
+            return CheckResult.OK;
+        }
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+
+        for (Map.Entry<?, ?> entry : argument.entrySet()) {
+            if ((entry.getKey() == null) || (entry.getValue() == null)) {
+                return CheckResult.failure(Code.NULL_ENTRY, argumentName, CheckResults.describeEntry(entry), null);
+            }
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the map argument does not contain null keys or values, and that all values are between a minimal
+     * and a maximal value (min &lt;= value.longValue() &lt;= max). This is a {@link CheckCost#LINEAR} check.
+     *
+     * @param argument the argument
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @param argumentName the argument name
+     * @return the result, {@link Code#VALUE_OUT_OF_RANGE} for the first invalid entry
+     */
+    public static CheckResult valuesBetweenArgument(final Map<?, ? extends Number> argument, final long min,
+            final long max, final String argumentName) {
+        if (!Check.linearChecksEnabled) {
+            return CheckResult.OK;
+        }
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+
+        for (Map.Entry<?, ? extends Number> entry : argument.entrySet()) {
+            Number value = entry.getValue();
+            if ((entry.getKey() == null) || (value == null) || (value.longValue() < min)
+                    || (value.longValue() > max)) {
+                return CheckResult.failure(Code.VALUE_OUT_OF_RANGE, argumentName, CheckResults.describeEntry(entry),
+                        min, max);
+            }
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the map argument does not contain null keys or values, and that all values are between a minimal
+     * and a maximal value (min &lt;= value.doubleValue() &lt;= max). {@code NaN} values are not between. This is a
+     * {@link CheckCost#LINEAR} check.
+     *
+     * @param argument the argument
+     * @param min the minimal allowed value
+     * @param max the maximal allowed value
+     * @param argumentName the argument name
+     * @return the result, {@link Code#VALUE_OUT_OF_RANGE} for the first invalid entry
+     */
+    public static CheckResult valuesBetweenArgument(final Map<?, ? extends Number> argument, final double min,
+            final double max, final String argumentName) {
+        if (!Check.linearChecksEnabled) {
+            return CheckResult.OK;
+        }
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+
+        for (Map.Entry<?, ? extends Number> entry : argument.entrySet()) {
+            Number value = entry.getValue();
+            /* Do not change this to (value < min) || (value > max) because of NaN */
+            if ((entry.getKey() == null) || (value == null)
+                    || !((value.doubleValue() >= min) && (value.doubleValue() <= max))) {
+                return CheckResult.failure(Code.VALUE_OUT_OF_RANGE, argumentName, CheckResults.describeEntry(entry),
+                        min, max);
+            }
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Describe a map entry of a failure message as {@code key=value}. The entry itself is not kept, because the
+     * entries of some maps are reused or change with the map.
+     *
+     * @param entry the entry
+     * @return the description
+     */
+    private static String describeEntry(final Map.Entry<?, ?> entry) {
+        return entry.getKey() + "=" + entry.getValue();
+    }
+
+    /**
+     * Check that the map argument contains all the required keys. The map can contain other keys too. This is a
+     * {@link CheckCost#LINEAR} check (in the number of required keys).
+     *
+     * @param <K> the key type
+     * @param argument the argument
+     * @param requiredKeys the keys the map must contain, without {@code null}
+     * @param argumentName the argument name
+     * @return the result, {@link Code#MISSING_KEY} for the first missing key
+     */
+    public static <K> CheckResult containsKeysArgument(final Map<K, ?> argument,
+            final Collection<? extends K> requiredKeys, final String argumentName) {
+        if (!Check.linearChecksEnabled) {
+            return CheckResult.OK;
+        }
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (requiredKeys == null) {
+            return CheckResult.nullArgument("requiredKeys");
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+
+        for (K requiredKey : requiredKeys) {
+            if (requiredKey == null) {
+                return CheckResult.nullArgument("requiredKey");
+            }
+            if (!argument.containsKey(requiredKey)) {
+                return CheckResult.failure(Code.MISSING_KEY, argumentName, requiredKey, requiredKeys,
+                        argument.keySet());
+            }
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that the elements of the argument are sorted (ascending) with respect to the comparator, equal
+     * neighbours are allowed. This is a {@link CheckCost#LINEAR} check.
+     *
+     * @param <T> the generic type
+     * @param argument the argument - a list or any other iterable with a stable iteration order
+     * @param comparator the comparator that defines the order
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_SORTED} for the first element that is out of order
+     */
+    public static <T> CheckResult sortedArgument(final Iterable<T> argument, final Comparator<? super T> comparator,
+            final String argumentName) {
+        return CheckResults.sortedArgument(argument, comparator, false, argumentName);
+    }
+
+    /**
+     * Check that the elements of the argument array are sorted (ascending) with respect to the comparator, equal
+     * neighbours are allowed. This is a {@link CheckCost#LINEAR} check.
+     *
+     * @param <T> the generic type
+     * @param argument the argument array
+     * @param comparator the comparator that defines the order
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_SORTED} for the first element that is out of order
+     */
+    public static <T> CheckResult sortedArgument(final T[] argument, final Comparator<? super T> comparator,
+            final String argumentName) {
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        return CheckResults.sortedArgument(Arrays.asList(argument), comparator, false, argumentName);
+    }
+
+    /**
+     * Check that the elements of the argument are strictly increasing with respect to the comparator, so the
+     * argument is sorted and does not contain two equal elements. This is a {@link CheckCost#LINEAR} check.
+     *
+     * @param <T> the generic type
+     * @param argument the argument - a list or any other iterable with a stable iteration order
+     * @param comparator the comparator that defines the order
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_STRICTLY_INCREASING} for the first element that is out of order
+     */
+    public static <T> CheckResult strictlyIncreasingArgument(final Iterable<T> argument,
+            final Comparator<? super T> comparator, final String argumentName) {
+        return CheckResults.sortedArgument(argument, comparator, true, argumentName);
+    }
+
+    /**
+     * Check that the elements of the argument array are strictly increasing with respect to the comparator, so the
+     * argument is sorted and does not contain two equal elements. This is a {@link CheckCost#LINEAR} check.
+     *
+     * @param <T> the generic type
+     * @param argument the argument array
+     * @param comparator the comparator that defines the order
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_STRICTLY_INCREASING} for the first element that is out of order
+     */
+    public static <T> CheckResult strictlyIncreasingArgument(final T[] argument,
+            final Comparator<? super T> comparator, final String argumentName) {
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        return CheckResults.sortedArgument(Arrays.asList(argument), comparator, true, argumentName);
+    }
+
+    /**
+     * Implementation of {@link #sortedArgument(Iterable, Comparator, String)} and
+     * {@link #strictlyIncreasingArgument(Iterable, Comparator, String)}.
+     *
+     * @param <T> the generic type
+     * @param argument the argument
+     * @param comparator the comparator that defines the order
+     * @param strict true if equal neighbours are not allowed
+     * @param argumentName the argument name
+     * @return the result
+     */
+    private static <T> CheckResult sortedArgument(final Iterable<T> argument, final Comparator<? super T> comparator,
+            final boolean strict, final String argumentName) {
+        if (!Check.linearChecksEnabled) {
+            return CheckResult.OK;
+        }
+        if (argument == null) {
+            return CheckResult.nullArgument(argumentName);
+        }
+        if (comparator == null) {
+            return CheckResult.nullArgument("comparator");
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+
+        int index = Check.firstUnsortedIndex(argument, comparator, strict);
+        if (index >= 0) {
+            return CheckResult.failure(strict ? Code.NOT_STRICTLY_INCREASING : Code.NOT_SORTED, argumentName,
+                    argument, Check.describeUnsortedIndex(argument, index));
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that all elements of the collection argument are unique with respect to the equals checker. This is a
+     * {@link CheckCost#SUPER_LINEAR} check, a collection that passed with the native equals is remembered in the
+     * {@link ValidationMemo}.
+     *
+     * @param <T> the generic type
+     * @param collection the collection argument
+     * @param equalsChecker used to check the equality between two elements
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_UNIQUE} for the first two equal elements
+     */
+    public static <T> CheckResult uniqueElementsArgument(final Collection<T> collection,
+            final EqualsChecker<T, T> equalsChecker, final String argumentName) {
+        boolean nativeEquals = equalsChecker instanceof NativeEqualsChecker;
+        if (!Check.superLinearChecksEnabled
+                || (nativeEquals && ValidationMemo.passed(collection, ValidationMemo.UNIQUE_ELEMENTS))) {
+            return CheckResult.OK;
+        }
+        if (collection == null) {
+            return CheckResult.nullArgument("collection");
+        }
+        if (equalsChecker == null) {
+            return CheckResult.nullArgument("equalsChecker");
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+
+        long sampleStart = CheckStatistics.UNIQUE_ELEMENTS_ARGUMENT.start();
+        CheckResult result = CheckResults.firstEqualElements(collection, equalsChecker, argumentName);
+        if ((result == CheckResult.OK) && nativeEquals) {
+            ValidationMemo.recordPassed(collection, ValidationMemo.UNIQUE_ELEMENTS);
+        }
+        CheckStatistics.UNIQUE_ELEMENTS_ARGUMENT.end(sampleStart, collection);
+        return result;
+    }
+
+    /**
+     * Check that all elements of the collection argument are unique with respect to their equals method. This is a
+     * {@link CheckCost#SUPER_LINEAR} check.
+     *
+     * @param <T> the generic type
+     * @param collection the collection argument
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_UNIQUE} for the first two equal elements
+     */
+    public static <T> CheckResult uniqueElementsArgument(final Collection<T> collection, final String argumentName) {
+        if (collection == null) {
+            return CheckResult.nullArgument("collection");
+        }
+        if (argumentName == null) {
+            return CheckResult.nullArgument("argumentName");
+        }
+        return CheckResults.uniqueElementsArgument(collection, NativeEqualsChecker.<T> getInstance(), argumentName);
+    }
+
+    /**
+     * Find the first two equal elements of {@link #uniqueElementsArgument(Collection, EqualsChecker, String)}.
+     *
+     * @param <T> the generic type
+     * @param collection the collection argument
+     * @param equalsChecker used to check the equality between two elements
+     * @param argumentName the argument name
+     * @return the result, {@link Code#NOT_UNIQUE} for the first two equal elements
+     */
+    private static <T> CheckResult firstEqualElements(final Collection<T> collection,
+            final EqualsChecker<T, T> equalsChecker, final String argumentName) {
+        List<T> elements = new ArrayList<T>(collection);
+        int size = elements.size();
+        for (int i = 0; i < size; i++) {
+            T elementI = elements.get(i);
+            for (int k = i + 1; k < size; k++) {
+                T elementK = elements.get(k);
+                if (equalsChecker.equals(elementI, elementK)) {
+                    return CheckResult.failure(Code.NOT_UNIQUE, argumentName, collection, "equals element[" + i
+                            + "]: " + elementI + ", equals element[" + k + "]: " + elementK);
+                }
+            }
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that both collection arguments have the same size.
+     *
+     * @param collectionA the collection a
+     * @param collectionB the collection b
+     * @param argumentNameA the name of collection a
+     * @param argumentNameB the name of collection b
+     * @return the result, {@link Code#DIFFERENT_SIZE} if the sizes are different
+     */
+    public static CheckResult sameSizeArgument(final Collection<?> collectionA, final Collection<?> collectionB,
+            final String argumentNameA, final String argumentNameB) {
+        if (collectionA == null) {
+            return CheckResult.nullArgument(argumentNameA);
+        }
+        if (collectionB == null) {
+            return CheckResult.nullArgument(argumentNameB);
+        }
+        if (argumentNameA == null) {
+            return CheckResult.nullArgument("argumentNameA");
+        }
+        if (argumentNameB == null) {
+            return CheckResult.nullArgument("argumentNameB");
+        }
+        if (collectionA.size() != collectionB.size()) {
+            return CheckResult.differentSize(Code.DIFFERENT_SIZE, collectionA.size(), collectionB.size(),
+                    argumentNameA, argumentNameB);
+        }
+        return CheckResult.OK;
+    }
+
+    /**
+     * Check that both array arguments have the same length.
+     *
+     * @param <T> the generic type
+     * @param arrayA the array a
+     * @param arrayB the array b
+     * @param argumentNameA the name of array a
+     * @param argumentNameB the name of array b
+     * @return the result, {@link Code#DIFFERENT_LENGTH} if the lengths are different
+     */
+    public static <T> CheckResult sameSizeArgument(final T[] arrayA, final T[] arrayB, final String argumentNameA,
+            final String argumentNameB) {
+        if (arrayA == null) {
+            return CheckResult.nullArgument(argumentNameA);
+        }
+        if (arrayB == null) {
+            return CheckResult.nullArgument(argumentNameB);
+        }
+        if (argumentNameA == null) {
+            return CheckResult.nullArgument("argumentNameA");
+        }
+        if (argumentNameB == null) {
+            return CheckResult.nullArgument("argumentNameB");
+        }
+        if (arrayA.length != arrayB.length) {
+            return CheckResult.differentSize(Code.DIFFERENT_LENGTH, arrayA.length, arrayB.length, argumentNameA,
+                    argumentNameB);
+        }
+        return CheckResult.OK;
+    }
+
+}
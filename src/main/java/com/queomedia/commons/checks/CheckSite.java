@@ -0,0 +1,196 @@
+package com.queomedia.commons.checks;
+
+/**
+ * A place in the code where an argument is checked - declared once as constant, instead of passing the argument
+ * name on every invocation.
+ *
+ * <pre>
+ * private static final CheckSite ORDER_ID = new CheckSite(OrderService.class, "orderId");
+ *
+ * public void cancel(final Long orderId) {
+ *     Check.notNullArgument(orderId, ORDER_ID);
+ *     ...
+ * }
+ * </pre>
+ *
+ * The site is validated once at construction time, so the {@code Check} methods that take a site do not need to
+ * validate the argument name again. The message prefix is computed once too, and the site counts its failures - and
+ * its invocations while the {@link CheckMonitor#setSamplingRate(int) statistics} are enabled. The counters are
+ * {@link StripedCounter striped}, so the threads that check the same site do not contend for them, and they are
+ * created on the first count, so a site that never fails costs no counter memory.
+ *
+ * This class is thread safe.
+ */
+public final class CheckSite {
+
+    /** The argument name. */
+    private final String name;
+
+    /** The category, typically the name of the class that declares the site. */
+    private final String category;
+
+    /** The id of this site: {@code category#name}. */
+    private final String id;
+
+    /** The precomputed begin of all failure messages of this site. */
+    private final String messagePrefix;
+
+    /** The number of failed checks for this site, {@code null} until the first failure. */
+    private volatile StripedCounter failures;
+
+    /** The number of counted invocations of this site, {@code null} until the first counted invocation. */
+    private volatile StripedCounter invocations;
+
+    /**
+     * Instantiates a new check site.
+     *
+     * @param category the category, for example the name of the class that declares the site
+     * @param name the argument name
+     */
+    public CheckSite(final String category, final String name) {
+        Check.notNullArgument(category, "category");
+        Check.notEmptyArgument(name, "name");
+
+        this.category = category;
+        this.name = name;
+        this.id = category + "#" + name;
+        this.messagePrefix = "[Assertion failed] - argument " + name + " (" + category + ")";
+    }
+
+    /**
+     * Instantiates a new check site, with the name of the declaring class as category.
+     *
+     * @param owner the class that declares the site
+     * @param name the argument name
+     */
+    public CheckSite(final Class<?> owner, final String name) {
+        this(CheckSite.ownerName(owner), name);
+    }
+
+    /**
+     * Return the name of the class that declares the site.
+     *
+     * @param owner the class that declares the site
+     * @return the class name
+     */
+    private static String ownerName(final Class<?> owner) {
+        Check.notNullArgument(owner, "owner");
+
+        return owner.getName();
+    }
+
+    /**
+     * Gets the argument name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the category.
+     *
+     * @return the category
+     */
+    public String getCategory() {
+        return this.category;
+    }
+
+    /**
+     * Gets the id of this site: {@code category#name}.
+     *
+     * @return the id
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the begin of all failure messages of this site:
+     * {@code "[Assertion failed] - argument <name> (<category>)"}.
+     *
+     * @return the message prefix
+     */
+    public String getMessagePrefix() {
+        return this.messagePrefix;
+    }
+
+    /**
+     * Gets the number of failed checks for this site.
+     *
+     * @return the failure count
+     */
+    public long getFailureCount() {
+        StripedCounter counter = this.failures;
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * Gets the number of invocations of this site, counted while the {@link CheckMonitor#setSamplingRate(int)
+     * statistics} are enabled.
+     *
+     * @return the invocation count
+     */
+    public long getInvocationCount() {
+        StripedCounter counter = this.invocations;
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * Count a failed check.
+     */
+    void failed() {
+        StripedCounter counter = this.failures;
+        if (counter == null) {
+            counter = this.createFailures();
+        }
+        counter.increment();
+    }
+
+    /**
+     * Create the failure counter, if no other thread created it.
+     *
+     * @return the failure counter
+     */
+    private synchronized StripedCounter createFailures() {
+        if (this.failures == null) {
+            this.failures = new StripedCounter();
+        }
+        return this.failures;
+    }
+
+    /**
+     * Count an invocation.
+     *
+     * @return true, if this is the first counted invocation - the invocation counter was created
+     */
+    boolean invoked() {
+        StripedCounter counter = this.invocations;
+        if (counter != null) {
+            counter.increment();
+            return false;
+        }
+        synchronized (this) {
+            boolean created = this.invocations == null;
+            if (created) {
+                this.invocations = new StripedCounter();
+            }
+            this.invocations.increment();
+            return created;
+        }
+    }
+
+    /**
+     * Reset the invocation count, the next counted invocation creates a new counter.
+     */
+    synchronized void resetInvocations() {
+        this.invocations = null;
+    }
+
+    @Override
+    public String toString() {
+        return "CheckSite [category=" + this.category + ", name=" + this.name + "]";
+    }
+
+}
@@ -0,0 +1,463 @@
+package com.queomedia.commons.checks;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Invocation, failure and time statistics per check method, see {@link CheckMonitor}.
+ *
+ * The statistics are disabled by default. If they are enabled (sampling rate &gt; 0), then all argument checks and
+ * the expensive collection checks count every invocation (the checks with a {@link CheckSite} count it for the site
+ * too), and the collection checks measure the time of every n-th invocation. Failures of all checks are counted.
+ * All counters are {@link StripedCounter striped}, so the checks do not contend for them.
+ */
+final class CheckStatistics {
+
+    /** Marker for a not sampled invocation. */
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    /** The statistics by check name. */
+    private static final ConcurrentMap<String, CheckStatistics> STATISTICS =
+            new ConcurrentHashMap<String, CheckStatistics>();
+
+    /** The sites with failures by id, for their failure counts. */
+    private static final ConcurrentMap<String, CheckSite> FAILED_SITES = new ConcurrentHashMap<String, CheckSite>();
+
+    /** The sites with counted invocations by id, for their invocation counts. */
+    private static final ConcurrentMap<String, CheckSite> INVOKED_SITES = new ConcurrentHashMap<String, CheckSite>();
+
+    /** Statistics of {@code notNullArgument}. */
+    static final CheckStatistics NOT_NULL_ARGUMENT = CheckStatistics.of("notNullArgument");
+
+    /** Statistics of {@code notEmptyArgument}. */
+    static final CheckStatistics NOT_EMPTY_ARGUMENT = CheckStatistics.of("notEmptyArgument");
+
+    /** Statistics of {@code maxLengthArgument}. */
+    static final CheckStatistics MAX_LENGTH_ARGUMENT = CheckStatistics.of("maxLengthArgument");
+
+    /** Statistics of {@code minLengthArgument}. */
+    static final CheckStatistics MIN_LENGTH_ARGUMENT = CheckStatistics.of("minLengthArgument");
+
+    /** Statistics of {@code allowedCharactersArgument}. */
+    static final CheckStatistics ALLOWED_CHARACTERS_ARGUMENT = CheckStatistics.of("allowedCharactersArgument");
+
+    /** Statistics of {@code matchesArgument}. */
+    static final CheckStatistics MATCHES_ARGUMENT = CheckStatistics.of("matchesArgument");
+
+    /** Statistics of {@code argumentInstanceOf}. */
+    static final CheckStatistics ARGUMENT_INSTANCE_OF = CheckStatistics.of("argumentInstanceOf");
+
+    /** Statistics of {@code notNullEntriesArgument}. */
+    static final CheckStatistics NOT_NULL_ENTRIES_ARGUMENT = CheckStatistics.of("notNullEntriesArgument");
+
+    /** Statistics of {@code valuesBetweenArgument}. */
+    static final CheckStatistics VALUES_BETWEEN_ARGUMENT = CheckStatistics.of("valuesBetweenArgument");
+
+    /** Statistics of {@code containsKeysArgument}. */
+    static final CheckStatistics CONTAINS_KEYS_ARGUMENT = CheckStatistics.of("containsKeysArgument");
+
+    /** Statistics of {@code sizeBetweenArgument}. */
+    static final CheckStatistics SIZE_BETWEEN_ARGUMENT = CheckStatistics.of("sizeBetweenArgument");
+
+    /** Statistics of {@code falseArgument}. */
+    static final CheckStatistics FALSE_ARGUMENT = CheckStatistics.of("falseArgument");
+
+    /** Statistics of {@code notZeroArgument}. */
+    static final CheckStatistics NOT_ZERO_ARGUMENT = CheckStatistics.of("notZeroArgument");
+
+    /** Statistics of {@code notZeroOrNegativeArgument}. */
+    static final CheckStatistics NOT_ZERO_OR_NEGATIVE_ARGUMENT = CheckStatistics.of("notZeroOrNegativeArgument");
+
+    /** Statistics of {@code notNegativeArgument}. */
+    static final CheckStatistics NOT_NEGATIVE_ARGUMENT = CheckStatistics.of("notNegativeArgument");
+
+    /** Statistics of {@code equalArguments}. */
+    static final CheckStatistics EQUAL_ARGUMENTS = CheckStatistics.of("equalArguments");
+
+    /** Statistics of {@code argumentBetween}. */
+    static final CheckStatistics ARGUMENT_BETWEEN = CheckStatistics.of("argumentBetween");
+
+    /** Statistics of {@code argumentGreaterEquals}. */
+    static final CheckStatistics ARGUMENT_GREATER_EQUALS = CheckStatistics.of("argumentGreaterEquals");
+
+    /** Statistics of {@code argumentLessEquals}. */
+    static final CheckStatistics ARGUMENT_LESS_EQUALS = CheckStatistics.of("argumentLessEquals");
+
+    /** Statistics of {@code argumentExactNotNullCount}. */
+    static final CheckStatistics ARGUMENT_EXACT_NOT_NULL_COUNT = CheckStatistics.of("argumentExactNotNullCount");
+
+    /** Statistics of {@code sameSizeArgument}. */
+    static final CheckStatistics SAME_SIZE_ARGUMENT = CheckStatistics.of("sameSizeArgument");
+
+    /** Statistics of {@code minOneElementArgument}. */
+    static final CheckStatistics MIN_ONE_ELEMENT_ARGUMENT = CheckStatistics.of("minOneElementArgument");
+
+    /** Statistics of {@code sortedArgument}. */
+    static final CheckStatistics SORTED_ARGUMENT = CheckStatistics.of("sortedArgument");
+
+    /** Statistics of {@code strictlyIncreasingArgument}. */
+    static final CheckStatistics STRICTLY_INCREASING_ARGUMENT = CheckStatistics.of("strictlyIncreasingArgument");
+
+    /** Statistics of {@code equalsArgument}. */
+    static final CheckStatistics EQUALS_ARGUMENT = CheckStatistics.of("equalsArgument");
+
+    /** Statistics of {@code equalsOrNullArgument}. */
+    static final CheckStatistics EQUALS_OR_NULL_ARGUMENT = CheckStatistics.of("equalsOrNullArgument");
+
+    /** Statistics of {@code notNullElementArgument}. */
+    static final CheckStatistics NOT_NULL_ELEMENT_ARGUMENT = CheckStatistics.of("notNullElementArgument");
+
+    /** Statistics of {@code uniqueElementsArgument}. */
+    static final CheckStatistics UNIQUE_ELEMENTS_ARGUMENT = CheckStatistics.of("uniqueElementsArgument");
+
+    /** Statistics of {@code uniqueElements}. */
+    static final CheckStatistics UNIQUE_ELEMENTS = CheckStatistics.of("uniqueElements");
+
+    /** Statistics of {@code uniqueInstances}. */
+    static final CheckStatistics UNIQUE_INSTANCES = CheckStatistics.of("uniqueInstances");
+
+    /** Statistics of {@code containsExact}. */
+    static final CheckStatistics CONTAINS_EXACT = CheckStatistics.of("containsExact");
+
+    /** Statistics of {@code sameOrder}. */
+    static final CheckStatistics SAME_ORDER = CheckStatistics.of("sameOrder");
+
+    /** Statistics of {@code containsAtLeast}. */
+    static final CheckStatistics CONTAINS_AT_LEAST = CheckStatistics.of("containsAtLeast");
+
+    /** Statistics of {@code contains}. */
+    static final CheckStatistics CONTAINS = CheckStatistics.of("contains");
+
+    /** Statistics of {@code containsInstance}. */
+    static final CheckStatistics CONTAINS_INSTANCE = CheckStatistics.of("containsInstance");
+
+    /** Statistics of {@code containsInstances}. */
+    static final CheckStatistics CONTAINS_INSTANCES = CheckStatistics.of("containsInstances");
+
+    /** Statistics of {@code containsNotInstance}. */
+    static final CheckStatistics CONTAINS_NOT_INSTANCE = CheckStatistics.of("containsNotInstance");
+
+    /** Measure the time of every n-th invocation, 0 disables the statistics. */
+    private static volatile int samplingRate;
+
+    /** The check name. */
+    private final String checkName;
+
+    /** The number of invocations (only counted if the statistics are enabled). */
+    private final StripedCounter invocations = new StripedCounter();
+
+    /** The number of failures (only counted if the statistics are enabled). */
+    private final StripedCounter failures = new StripedCounter();
+
+    /** The number of measured invocations. */
+    private final StripedCounter sampledInvocations = new StripedCounter();
+
+    /** The time of all measured invocations. */
+    private final StripedCounter sampledNanos = new StripedCounter();
+
+    /**
+     * Instantiates new statistics.
+     *
+     * @param checkName the check name
+     */
+    private CheckStatistics(final String checkName) {
+        this.checkName = checkName;
+    }
+
+    /**
+     * Return the statistics of the check, they are created if they do not exist.
+     *
+     * @param checkName the check name
+     * @return the statistics
+     */
+    static CheckStatistics of(final String checkName) {
+        CheckStatistics statistics = STATISTICS.get(checkName);
+        if (statistics == null) {
+            CheckStatistics newStatistics = new CheckStatistics(checkName);
+            statistics = STATISTICS.putIfAbsent(checkName, newStatistics);
+            if (statistics == null) {
+                statistics = newStatistics;
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Gets the sampling rate: the time of every n-th invocation is measured, 0 means disabled.
+     *
+     * @return the sampling rate
+     */
+    static int getSamplingRate() {
+        return CheckStatistics.samplingRate;
+    }
+
+    /**
+     * Sets the sampling rate: the time of every n-th invocation is measured, 0 disables the statistics.
+     *
+     * @param samplingRate the new sampling rate
+     */
+    static void setSamplingRate(final int samplingRate) {
+        Check.notNegativeArgument(samplingRate, "samplingRate");
+
+        CheckStatistics.samplingRate = samplingRate;
+    }
+
+    /**
+     * Count the invocation of the check.
+     *
+     * @return the start time if this invocation is measured (for the statistics or for a {@link CheckEvents flight
+     *         recorder event}), else an internal marker - to be passed to {@link #end(long, Collection)}
+     */
+    long start() {
+        int rate = CheckStatistics.samplingRate;
+        if ((rate != 0) && (this.invocations.increment() % rate == 0)) {
+            return System.nanoTime();
+        }
+        if (CheckEvents.isCollectionCheckEnabled()) {
+            return System.nanoTime();
+        }
+        return NOT_SAMPLED;
+    }
+
+    /**
+     * Count the invocation of a check that is not measured, if the statistics are enabled.
+     */
+    void invoked() {
+        if (CheckStatistics.samplingRate != 0) {
+            this.invocations.increment();
+        }
+    }
+
+    /**
+     * Count the invocation of a check with a site, for the check and for the site, if the statistics are enabled.
+     *
+     * @param site the check site
+     */
+    void invoked(final CheckSite site) {
+        if (CheckStatistics.samplingRate != 0) {
+            this.invocations.increment();
+            CheckStatistics.siteInvoked(site);
+        }
+    }
+
+    /**
+     * Count the invocation of a measured check with a site, like {@link #start()}, and for the site too.
+     *
+     * @param site the check site
+     * @return the start time or {@link #NOT_SAMPLED}
+     */
+    long start(final CheckSite site) {
+        if (CheckStatistics.samplingRate != 0) {
+            CheckStatistics.siteInvoked(site);
+        }
+        return this.start();
+    }
+
+    /**
+     * Count the invocation of a site, and register the site on its first counted invocation.
+     *
+     * @param site the check site
+     */
+    private static void siteInvoked(final CheckSite site) {
+        if (site.invoked()) {
+            INVOKED_SITES.putIfAbsent(site.getId(), site);
+        }
+    }
+
+    /**
+     * Record the time of a successful invocation, if it is measured.
+     *
+     * @param start the value returned by {@link #start()}
+     * @param collection the checked collection, for the flight recorder event - can be {@code null}
+     */
+    void end(final long start, final Collection<?> collection) {
+        if (start == NOT_SAMPLED) {
+            return;
+        }
+        this.end(start, collection != null ? collection.size() : 0);
+    }
+
+    /**
+     * Record the time of a successful invocation, if it is measured.
+     *
+     * @param start the value returned by {@link #start()}
+     * @param size the size of the checked collection or array, for the flight recorder event
+     */
+    void end(final long start, final int size) {
+        if (start == NOT_SAMPLED) {
+            return;
+        }
+        if (CheckStatistics.samplingRate != 0) {
+            this.sampledNanos.add(System.nanoTime() - start);
+            this.sampledInvocations.increment();
+        }
+        if (CheckEvents.isCollectionCheckEnabled()) {
+            CheckEvents.collectionCheck(this.checkName, start, size);
+        }
+    }
+
+    /**
+     * Checks if the failures are counted by check name or emitted to the flight recorder - both need the exception
+     * of the failure.
+     *
+     * @return true, if the failures are tracked
+     */
+    static boolean isFailureTracked() {
+        return (CheckStatistics.samplingRate != 0) || CheckEvents.isFailureEnabled();
+    }
+
+    /**
+     * Count a failure of a check and emit the {@link CheckEvents flight recorder event}, if enabled. The check is the
+     * outermost method of {@link Check} in the stack trace of the failure.
+     *
+     * @param argumentName the name of the checked argument, {@code null} for not argument checks
+     * @param failure the exception that describes the failure
+     */
+    static void failed(final String argumentName, final Throwable failure) {
+        boolean statistics = CheckStatistics.samplingRate != 0;
+        boolean event = CheckEvents.isFailureEnabled();
+        if (!statistics && !event) {
+            return;
+        }
+        String checkName = CheckStatistics.checkName(failure);
+        if (statistics) {
+            CheckStatistics.of(checkName).failures.increment();
+        }
+        if (event) {
+            CheckEvents.failure(checkName, argumentName, failure);
+        }
+    }
+
+    /**
+     * Return the name of the check that failed: the outermost method of {@link Check} in the stack trace, or the
+     * {@link LightweightArgumentException#getFailureKey() failure key} of an exception without stack trace.
+     *
+     * @param failure the exception that describes the failure
+     * @return the check name, "unknown" if the failure was not created within {@link Check}
+     */
+    private static String checkName(final Throwable failure) {
+        if (failure instanceof LightweightArgumentException) {
+            return ((LightweightArgumentException) failure).getFailureKey();
+        }
+        String checkName = "unknown";
+        boolean inCheck = false;
+        for (StackTraceElement element : failure.getStackTrace()) {
+            if (element.getClassName().equals(Check.class.getName())) {
+                checkName = element.getMethodName();
+                inCheck = true;
+            } else if (inCheck) {
+                break;
+            }
+        }
+        return checkName;
+    }
+
+    /**
+     * Count a failure of a check with a {@link CheckSite}, if the statistics are enabled. The site itself counts its
+     * failures always, it is only registered here for {@link #getSiteFailureCounts()}.
+     *
+     * @param site the site
+     * @param failure the exception that describes the failure
+     */
+    static void siteFailed(final CheckSite site, final Throwable failure) {
+        if (CheckStatistics.samplingRate != 0) {
+            FAILED_SITES.putIfAbsent(site.getId(), site);
+        }
+        CheckStatistics.failed(site.getName(), failure);
+    }
+
+    /**
+     * Gets the invocation counts by check name (only for checks with invocations).
+     *
+     * @return the invocation counts
+     */
+    static Map<String, Long> getInvocationCounts() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (CheckStatistics statistics : STATISTICS.values()) {
+            long count = statistics.invocations.sum();
+            if (count > 0) {
+                result.put(statistics.checkName, count);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the failure counts by check name (only for checks with failures).
+     *
+     * @return the failure counts
+     */
+    static Map<String, Long> getFailureCounts() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (CheckStatistics statistics : STATISTICS.values()) {
+            long count = statistics.failures.sum();
+            if (count > 0) {
+                result.put(statistics.checkName, count);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the average time of the measured invocations, in nanoseconds by check name.
+     *
+     * @return the average nanos
+     */
+    static Map<String, Long> getAverageNanos() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (CheckStatistics statistics : STATISTICS.values()) {
+            long count = statistics.sampledInvocations.sum();
+            if (count > 0) {
+                result.put(statistics.checkName, statistics.sampledNanos.sum() / count);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the failure counts of the sites that failed while the statistics were enabled, by site id.
+     *
+     * @return the site failure counts
+     */
+    static Map<String, Long> getSiteFailureCounts() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (CheckSite site : FAILED_SITES.values()) {
+            result.put(site.getId(), site.getFailureCount());
+        }
+        return result;
+    }
+
+    /**
+     * Gets the invocation counts of the sites that were invoked while the statistics were enabled, by site id.
+     *
+     * @return the site invocation counts
+     */
+    static Map<String, Long> getSiteInvocationCounts() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (CheckSite site : INVOKED_SITES.values()) {
+            result.put(site.getId(), site.getInvocationCount());
+        }
+        return result;
+    }
+
+    /**
+     * Reset all statistics.
+     */
+    static void reset() {
+        for (CheckStatistics statistics : STATISTICS.values()) {
+            statistics.invocations.reset();
+            statistics.failures.reset();
+            statistics.sampledInvocations.reset();
+            statistics.sampledNanos.reset();
+        }
+        FAILED_SITES.clear();
+        for (CheckSite site : INVOKED_SITES.values()) {
+            site.resetInvocations();
+        }
+        INVOKED_SITES.clear();
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.queomedia.commons.checks;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Factory of collection wrappers that enforce {@link CollectionInvariant invariants} of their elements on every
+ * modification ({@code add}, {@code set}, {@code addAll}), in O(1) amortized time per element - instead of checking
+ * the whole collection with {@link Check#notNullElementArgument(java.util.Collection, String)} or
+ * {@link Check#uniqueElementsArgument(java.util.Collection, String)} in O(n) or O(n^2) after each modification.
+ *
+ * <pre>
+ * List&lt;Item&gt; items = CheckedCollections.checkedList(new ArrayList&lt;Item&gt;(),
+ *         CollectionInvariant.NOT_NULL_ELEMENTS, CollectionInvariant.UNIQUE_ELEMENTS);
+ * </pre>
+ *
+ * The uniqueness of a list is maintained by a hash index of its elements, so the elements must have a consistent
+ * {@code hashCode} and must not be changed in a way that changes their {@code equals} while they are in the list.
+ *
+ * A violation always throws the exception of the corresponding {@code Check} method - independent of
+ * {@link Check#isActiveArgumentCheck()} and {@link ValidationScope}, because the wrapper must never contain an
+ * element that violates its invariants. A modification of several elements ({@code addAll}) is validated completely
+ * before the first element is added.
+ *
+ * The wrappers are views of the given collection, all modifications must be done by the wrapper. They are not
+ * thread safe.
+ */
+public final class CheckedCollections {
+
+    /**
+     * Util classes need no constructor.
+     */
+    private CheckedCollections() {
+        super();
+    }
+
+    /**
+     * Wrap the list, so that every modification is checked against the invariants.
+     *
+     * @param <T> the element type
+     * @param list the list, its current elements must already fulfill the invariants
+     * @param invariants the invariants
+     * @return the checked list
+     */
+    public static <T> List<T> checkedList(final List<T> list, final CollectionInvariant... invariants) {
+        Check.notNullArgument(list, "list");
+
+        Set<CollectionInvariant> invariantSet = CheckedCollections.toSet(invariants);
+        return new CheckedList<T>(list, invariantSet.contains(CollectionInvariant.NOT_NULL_ELEMENTS),
+                invariantSet.contains(CollectionInvariant.UNIQUE_ELEMENTS));
+    }
+
+    /**
+     * Wrap the set, so that every modification is checked against the invariants.
+     *
+     * @param <T> the element type
+     * @param set the set, its current elements must already fulfill the invariants
+     * @param invariants the invariants ({@link CollectionInvariant#UNIQUE_ELEMENTS} is always fulfilled by a set)
+     * @return the checked set
+     */
+    public static <T> Set<T> checkedSet(final Set<T> set, final CollectionInvariant... invariants) {
+        Check.notNullArgument(set, "set");
+
+        return new CheckedSet<T>(set,
+                CheckedCollections.toSet(invariants).contains(CollectionInvariant.NOT_NULL_ELEMENTS));
+    }
+
+    /**
+     * Convert the invariants to a set.
+     *
+     * @param invariants the invariants
+     * @return the set
+     */
+    private static Set<CollectionInvariant> toSet(final CollectionInvariant... invariants) {
+        Check.notNullArgument(invariants, "invariants");
+        Check.notNullElementArgument(Arrays.asList(invariants), "invariants");
+
+        Set<CollectionInvariant> invariantSet = EnumSet.noneOf(CollectionInvariant.class);
+        invariantSet.addAll(Arrays.asList(invariants));
+        return invariantSet;
+    }
+
+}
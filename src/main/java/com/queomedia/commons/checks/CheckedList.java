@@ -0,0 +1,179 @@
+package com.queomedia.commons.checks;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * A list view that checks every added element against the invariants, see {@link CheckedCollections}.
+ *
+ * The uniqueness is maintained by a hash set of the elements (the index), so checking one added element is O(1).
+ *
+ * @param <T> the element type
+ */
+final class CheckedList<T> extends AbstractList<T> {
+
+    /** The wrapped list. */
+    private final List<T> list;
+
+    /** True if {@code null} elements are rejected. */
+    private final boolean notNullElements;
+
+    /** The index of the elements, {@code null} if the elements do not need to be unique. */
+    private final Set<Object> index;
+
+    /**
+     * Instantiates a new checked list.
+     *
+     * @param list the wrapped list, its elements must fulfill the invariants
+     * @param notNullElements true if {@code null} elements are rejected
+     * @param uniqueElements true if equal elements are rejected
+     */
+    CheckedList(final List<T> list, final boolean notNullElements, final boolean uniqueElements) {
+        this.list = list;
+        this.notNullElements = notNullElements;
+        this.index = uniqueElements ? new HashSet<Object>(list.size() * 2) : null;
+
+        for (T element : list) {
+            this.checkNotNull(element, "list", list);
+            if ((this.index != null) && !this.index.add(element)) {
+                throw CheckedList.duplicate(element);
+            }
+        }
+    }
+
+    @Override
+    public T get(final int index) {
+        return this.list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.list.size();
+    }
+
+    @Override
+    public boolean contains(final Object element) {
+        if (this.index != null) {
+            return this.index.contains(element);
+        }
+        return this.list.contains(element);
+    }
+
+    @Override
+    public T set(final int position, final T element) {
+        this.checkNotNull(element, "element", null);
+        if (this.index == null) {
+            return this.list.set(position, element);
+        }
+
+        T old = this.list.get(position);
+        if ((old == null) ? (element == null) : old.equals(element)) {
+            return this.list.set(position, element);
+        }
+        if (this.index.contains(element)) {
+            throw CheckedList.duplicate(element);
+        }
+        this.list.set(position, element);
+        this.index.remove(old);
+        this.index.add(element);
+        return old;
+    }
+
+    @Override
+    public void add(final int position, final T element) {
+        this.checkNotNull(element, "element", null);
+        if ((this.index != null) && this.index.contains(element)) {
+            throw CheckedList.duplicate(element);
+        }
+
+        this.list.add(position, element);
+        if (this.index != null) {
+            this.index.add(element);
+        }
+        this.modCount++;
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends T> elements) {
+        return this.addAll(this.list.size(), elements);
+    }
+
+    @Override
+    public boolean addAll(final int position, final Collection<? extends T> elements) {
+        Check.notNullArgument(elements, "elements");
+
+        this.checkAll(elements);
+        boolean changed = this.list.addAll(position, elements);
+        if (this.index != null) {
+            this.index.addAll(elements);
+        }
+        this.modCount++;
+        return changed;
+    }
+
+    @Override
+    public T remove(final int position) {
+        T old = this.list.remove(position);
+        if (this.index != null) {
+            this.index.remove(old);
+        }
+        this.modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        this.list.clear();
+        if (this.index != null) {
+            this.index.clear();
+        }
+        this.modCount++;
+    }
+
+    /**
+     * Check all elements, before the first one is added.
+     *
+     * @param elements the elements to add
+     */
+    private void checkAll(final Collection<? extends T> elements) {
+        Set<Object> added = (this.index != null) ? new HashSet<Object>(elements.size() * 2) : null;
+        for (T element : elements) {
+            this.checkNotNull(element, "elements", elements);
+            if ((added != null) && (this.index.contains(element) || !added.add(element))) {
+                throw CheckedList.duplicate(element);
+            }
+        }
+    }
+
+    /**
+     * Check that the element is not {@code null}, if {@code null} elements are rejected - a violation throws the
+     * exception of {@link Check#notNullElementArgument(Collection, String)}.
+     *
+     * @param element the element
+     * @param argumentName the name of the checked elements
+     * @param elements the checked elements, {@code null} for the single element
+     */
+    private void checkNotNull(final T element, final String argumentName, final Collection<?> elements) {
+        if (this.notNullElements && (element == null)) {
+            throw Check.nullElementException(argumentName,
+                    elements != null ? elements : Collections.singletonList(element));
+        }
+    }
+
+    /**
+     * Create the exception for a duplicate element.
+     *
+     * @param element the element
+     * @return the exception
+     */
+    private static IllegalArgumentException duplicate(final Object element) {
+        return new IllegalArgumentException("[Assertion failed] - collection has not unique element - "
+                + "the list contains already an element that is equals to " + element);
+    }
+
+}
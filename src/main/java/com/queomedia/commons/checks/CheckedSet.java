@@ -0,0 +1,95 @@
+package com.queomedia.commons.checks;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+
+
+/**
+ * A set view that checks every added element against the invariants, see {@link CheckedCollections}.
+ *
+ * @param <T> the element type
+ */
+final class CheckedSet<T> extends AbstractSet<T> {
+
+    /** The wrapped set. */
+    private final Set<T> set;
+
+    /** True if {@code null} elements are rejected. */
+    private final boolean notNullElements;
+
+    /**
+     * Instantiates a new checked set.
+     *
+     * @param set the wrapped set, its elements must fulfill the invariants
+     * @param notNullElements true if {@code null} elements are rejected
+     */
+    CheckedSet(final Set<T> set, final boolean notNullElements) {
+        this.set = set;
+        this.notNullElements = notNullElements;
+
+        for (T element : set) {
+            this.checkNotNull(element, "set", set);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this.set.iterator();
+    }
+
+    @Override
+    public int size() {
+        return this.set.size();
+    }
+
+    @Override
+    public boolean contains(final Object element) {
+        return this.set.contains(element);
+    }
+
+    @Override
+    public boolean add(final T element) {
+        this.checkNotNull(element, "element", null);
+
+        return this.set.add(element);
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends T> elements) {
+        Check.notNullArgument(elements, "elements");
+
+        for (T element : elements) {
+            this.checkNotNull(element, "elements", elements);
+        }
+        return this.set.addAll(elements);
+    }
+
+    @Override
+    public boolean remove(final Object element) {
+        return this.set.remove(element);
+    }
+
+    @Override
+    public void clear() {
+        this.set.clear();
+    }
+
+    /**
+     * Check that the element is not {@code null}, if {@code null} elements are rejected - a violation throws the
+     * exception of {@link Check#notNullElementArgument(Collection, String)}.
+     *
+     * @param element the element
+     * @param argumentName the name of the checked elements
+     * @param elements the checked elements, {@code null} for the single element
+     */
+    private void checkNotNull(final T element, final String argumentName, final Collection<?> elements) {
+        if (this.notNullElements && (element == null)) {
+            throw Check.nullElementException(argumentName,
+                    elements != null ? elements : Collections.singletonList(element));
+        }
+    }
+
+}
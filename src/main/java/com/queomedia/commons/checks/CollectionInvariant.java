@@ -0,0 +1,22 @@
+package com.queomedia.commons.checks;
+
+/**
+ * An invariant of the elements of a collection, that is enforced by the wrappers of {@link CheckedCollections} on
+ * every modification - instead of checking the whole collection again after each modification.
+ */
+public enum CollectionInvariant {
+
+    /**
+     * The collection does not contain {@code null}, like {@link Check#notNullElementArgument(java.util.Collection,
+     * String)}. A violation throws the same {@link IllegalArgumentException}.
+     */
+    NOT_NULL_ELEMENTS,
+
+    /**
+     * The elements are unique with respect to their {@code equals}, like
+     * {@link Check#uniqueElementsArgument(java.util.Collection, String)}. A violation throws an
+     * {@link IllegalArgumentException}. Sets fulfill this invariant by definition.
+     */
+    UNIQUE_ELEMENTS;
+
+}
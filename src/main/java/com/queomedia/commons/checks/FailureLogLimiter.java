@@ -0,0 +1,251 @@
+package com.queomedia.commons.checks;
+
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limit the log lines that are written for failed checks in the {@link AlternativFailureAction#LOG} mode, so that
+ * a systemic failure, that occurs on every request, does not flood the log.
+ *
+ * The failures are grouped by their check site (a {@link CheckSite} or the code location that invoked the check).
+ * Every site has a token bucket: one line is written per token, and a new token is added every refill interval, up
+ * to the burst size. Failures without token are suppressed and only counted. The suppressed failures of a site are
+ * reported by a summary line ("suppressed 12345 identical failures") - before the next line of this site is
+ * written, when the summary interval is over, or when the site is evicted.
+ *
+ * The number of sites is bounded, the least recently failed site is evicted first.
+ *
+ * This class is thread safe.
+ */
+public final class FailureLogLimiter {
+
+    /** The default maximal number of sites. */
+    public static final int DEFAULT_MAX_SITES = 1000;
+
+    /** The default number of lines that can be written in a row for one site. */
+    public static final int DEFAULT_BURST = 10;
+
+    /** The default interval (in milliseconds) after which a site gets one more line. */
+    public static final long DEFAULT_REFILL_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(1);
+
+    /** The default interval (in milliseconds) between two summary runs. */
+    public static final long DEFAULT_SUMMARY_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    /** The maximal number of sites. */
+    private final int maxSites;
+
+    /** The maximal number of tokens of a site. */
+    private final int burst;
+
+    /** The interval (in milliseconds) after which a site gets one more token. */
+    private final long refillIntervalMillis;
+
+    /** The interval (in milliseconds) between two summary runs. */
+    private final long summaryIntervalMillis;
+
+    /** The target of all lines. */
+    private final PrintStream out;
+
+    /** The state by site, in access order. Guarded by {@code this}. */
+    private final LinkedHashMap<Object, SiteState> sites;
+
+    /** Time of the last summary run. Guarded by {@code this}. */
+    private long lastSummaryMillis;
+
+    /** Total number of suppressed failures. Guarded by {@code this}. */
+    private long suppressedCount;
+
+    /**
+     * Instantiates a new failure log limiter with the default settings, writing to {@code System.out}.
+     */
+    public FailureLogLimiter() {
+        this(DEFAULT_MAX_SITES, DEFAULT_BURST, DEFAULT_REFILL_INTERVAL_MILLIS, DEFAULT_SUMMARY_INTERVAL_MILLIS,
+                System.out);
+    }
+
+    /**
+     * Instantiates a new failure log limiter.
+     *
+     * @param maxSites the maximal number of sites that are tracked
+     * @param burst the number of lines that can be written in a row for one site
+     * @param refillIntervalMillis the interval (in milliseconds) after which a site gets one more line
+     * @param summaryIntervalMillis the interval (in milliseconds) between two summary runs
+     * @param out the target of all lines
+     */
+    public FailureLogLimiter(final int maxSites, final int burst, final long refillIntervalMillis,
+            final long summaryIntervalMillis, final PrintStream out) {
+        Check.notZeroOrNegativeArgument(maxSites, "maxSites");
+        Check.notZeroOrNegativeArgument(burst, "burst");
+        Check.notZeroOrNegativeArgument(refillIntervalMillis, "refillIntervalMillis");
+        Check.notZeroOrNegativeArgument(summaryIntervalMillis, "summaryIntervalMillis");
+        Check.notNullArgument(out, "out");
+
+        this.maxSites = maxSites;
+        this.burst = burst;
+        this.refillIntervalMillis = refillIntervalMillis;
+        this.summaryIntervalMillis = summaryIntervalMillis;
+        this.out = out;
+        this.sites = new LinkedHashMap<Object, SiteState>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -2817461937211407567L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, SiteState> eldest) {
+                if (size() > FailureLogLimiter.this.maxSites) {
+                    FailureLogLimiter.this.writeSummary(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Write the failure message, if the site has a token left, else count it as suppressed.
+     *
+     * @param site the site - a {@link CheckSite} or any other object with equals and hashCode that identifies the
+     *            code location
+     * @param message the failure message
+     * @return true if the line was written, false if it was suppressed
+     */
+    public boolean log(final Object site, final String message) {
+        return this.log(site, message, System.currentTimeMillis());
+    }
+
+    /**
+     * Write the failure message, if the site has a token left, else count it as suppressed.
+     *
+     * @param site the site
+     * @param message the failure message
+     * @param nowMillis the current time in milliseconds
+     * @return true if the line was written, false if it was suppressed
+     */
+    synchronized boolean log(final Object site, final String message, final long nowMillis) {
+        Check.notNullArgument(site, "site");
+
+        if (nowMillis - this.lastSummaryMillis >= this.summaryIntervalMillis) {
+            this.writeSummaries(nowMillis);
+            this.lastSummaryMillis = nowMillis;
+        }
+
+        SiteState state = this.sites.get(site);
+        if (state == null) {
+            state = new SiteState(this.burst, nowMillis);
+            this.sites.put(site, state);
+        }
+        state.refill(nowMillis, this.burst, this.refillIntervalMillis);
+
+        if (state.tokens > 0) {
+            state.tokens--;
+            this.writeSummary(site, state);
+            this.out.println("Check failure - message=" + message);
+            return true;
+        } else {
+            state.suppressed++;
+            this.suppressedCount++;
+            return false;
+        }
+    }
+
+    /**
+     * Write the summary lines of all sites with suppressed failures now.
+     */
+    public synchronized void flushSummaries() {
+        this.writeSummaries(System.currentTimeMillis());
+    }
+
+    /**
+     * Write the summary lines of all sites with suppressed failures. Sites without suppressed failures whose tokens
+     * are refilled completely are removed, they are in the same state as a new site.
+     *
+     * @param nowMillis the current time in milliseconds
+     */
+    private void writeSummaries(final long nowMillis) {
+        for (Iterator<Map.Entry<Object, SiteState>> it = this.sites.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<Object, SiteState> entry = it.next();
+            SiteState state = entry.getValue();
+            state.refill(nowMillis, this.burst, this.refillIntervalMillis);
+            if (state.suppressed > 0) {
+                this.writeSummary(entry.getKey(), state);
+            } else if (state.tokens >= this.burst) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Write the summary line of the site, if it has suppressed failures, and reset the suppressed counter.
+     *
+     * @param site the site
+     * @param state the state of the site
+     */
+    private void writeSummary(final Object site, final SiteState state) {
+        if (state.suppressed > 0) {
+            this.out.println("Check failure - suppressed " + state.suppressed + " identical failures - site=" + site);
+            state.suppressed = 0;
+        }
+    }
+
+    /**
+     * Gets the total number of suppressed failures.
+     *
+     * @return the suppressed count
+     */
+    public synchronized long getSuppressedCount() {
+        return this.suppressedCount;
+    }
+
+    /**
+     * Gets the number of tracked sites.
+     *
+     * @return the site count
+     */
+    public synchronized int getSiteCount() {
+        return this.sites.size();
+    }
+
+    /**
+     * The token bucket and suppressed counter of one site. Guarded by the enclosing limiter.
+     */
+    private static final class SiteState {
+
+        /** The available tokens. */
+        private int tokens;
+
+        /** The time of the last added token. */
+        private long lastRefillMillis;
+
+        /** The number of suppressed failures since the last summary. */
+        private long suppressed;
+
+        /**
+         * Instantiates a new site state with a full bucket.
+         *
+         * @param tokens the tokens
+         * @param nowMillis the current time
+         */
+        SiteState(final int tokens, final long nowMillis) {
+            this.tokens = tokens;
+            this.lastRefillMillis = nowMillis;
+        }
+
+        /**
+         * Add the tokens for the time since the last refill.
+         *
+         * @param nowMillis the current time
+         * @param burst the maximal number of tokens
+         * @param refillIntervalMillis the interval after which one token is added
+         */
+        void refill(final long nowMillis, final int burst, final long refillIntervalMillis) {
+            long newTokens = (nowMillis - this.lastRefillMillis) / refillIntervalMillis;
+            if (newTokens > 0) {
+                this.tokens = (int) Math.min(burst, this.tokens + newTokens);
+                this.lastRefillMillis += newTokens * refillIntervalMillis;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.queomedia.commons.checks;
+
+/**
+ * A minimal set of object instances with open addressing (linear probing), like the table of
+ * {@link java.util.IdentityHashMap}, for the identity based checks.
+ *
+ * The set compares the instances by {@code ==} and distributes them by {@link System#identityHashCode(Object)}, so
+ * it never invokes {@code equals} or {@code hashCode} of the elements - which can be expensive or trigger lazy
+ * loading for persistent entities. {@code null} is a valid element.
+ */
+final class IdentitySet {
+
+    /** The slot value that represents {@code null}, because {@code null} marks an empty slot. */
+    private static final Object NULL = new Object();
+
+    /** The slots, the length is a power of two. */
+    private Object[] table;
+
+    /** {@code table.length - 1}. */
+    private int mask;
+
+    /** The number of elements. */
+    private int size;
+
+    /**
+     * Instantiates a new set that can hold the expected number of elements without resizing.
+     *
+     * @param expectedSize the expected number of elements, at most {@link OpenAddressing#MAX_EXPECTED_SIZE}
+     */
+    IdentitySet(final int expectedSize) {
+        int capacity = OpenAddressing.capacity(expectedSize);
+        this.table = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Return the first slot of the element.
+     *
+     * @param element the element (not {@code null})
+     * @return the slot index
+     */
+    private int slot(final Object element) {
+        return OpenAddressing.slot(System.identityHashCode(element), this.mask);
+    }
+
+    /**
+     * Add the element.
+     *
+     * @param element the element, can be {@code null}
+     * @return true, if the element was added, false if the set already contained the same instance
+     */
+    boolean add(final Object element) {
+        Object key = element != null ? element : NULL;
+        if (OpenAddressing.needsResize(this.size, this.table.length)) {
+            this.resize();
+        }
+        int i = this.slot(key);
+        while (this.table[i] != null) {
+            if (this.table[i] == key) {
+                return false;
+            }
+            i = (i + 1) & this.mask;
+        }
+        this.table[i] = key;
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Checks if the set contains the instance.
+     *
+     * @param element the element, can be {@code null}
+     * @return true, if the set contains the same instance
+     */
+    boolean contains(final Object element) {
+        Object key = element != null ? element : NULL;
+        int i = this.slot(key);
+        while (this.table[i] != null) {
+            if (this.table[i] == key) {
+                return true;
+            }
+            i = (i + 1) & this.mask;
+        }
+        return false;
+    }
+
+    /**
+     * Double the capacity.
+     */
+    private void resize() {
+        Object[] oldTable = this.table;
+        this.table = new Object[oldTable.length * 2];
+        this.mask = this.table.length - 1;
+        for (Object key : oldTable) {
+            if (key != null) {
+                int i = this.slot(key);
+                while (this.table[i] != null) {
+                    i = (i + 1) & this.mask;
+                }
+                this.table[i] = key;
+            }
+        }
+    }
+
+    /**
+     * Describe the instance without invoking its {@code toString}: {@code <class name>@<identity hash code>}.
+     *
+     * @param element the element, can be {@code null}
+     * @return the description
+     */
+    static String describe(final Object element) {
+        if (element == null) {
+            return "null";
+        }
+        return element.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(element));
+    }
+
+}
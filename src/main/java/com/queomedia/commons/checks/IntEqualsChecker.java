@@ -0,0 +1,18 @@
+package com.queomedia.commons.checks;
+
+/**
+ * Equals definition for two {@code int} values, the primitive counterpart of
+ * {@link com.queomedia.commons.equals.EqualsChecker} that compares without boxing.
+ */
+public interface IntEqualsChecker {
+
+    /**
+     * Check if the two values are equal by this definition.
+     *
+     * @param valueT the first value
+     * @param valueK the second value
+     * @return true, if equal
+     */
+    boolean equals(int valueT, int valueK);
+
+}
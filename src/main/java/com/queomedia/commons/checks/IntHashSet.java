@@ -0,0 +1,109 @@
+package com.queomedia.commons.checks;
+
+/**
+ * A minimal hash set of {@code int} values with open addressing (linear probing), for the checks of primitive arrays.
+ * The values are not boxed, so adding and looking up a value does not allocate memory.
+ *
+ * The slot value 0 marks an empty slot, the value 0 itself is recorded in an extra flag.
+ */
+final class IntHashSet {
+
+    /** The slots, the length is a power of two. */
+    private int[] table;
+
+    /** {@code table.length - 1}. */
+    private int mask;
+
+    /** The number of values in the table (without the 0 value). */
+    private int size;
+
+    /** True if the set contains the value 0. */
+    private boolean containsZero;
+
+    /**
+     * Instantiates a new set that can hold the expected number of values without resizing.
+     *
+     * @param expectedSize the expected number of values, at most {@link OpenAddressing#MAX_EXPECTED_SIZE}
+     */
+    IntHashSet(final int expectedSize) {
+        int capacity = OpenAddressing.capacity(expectedSize);
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Return the first slot of the value.
+     *
+     * @param value the value
+     * @return the slot index
+     */
+    private int slot(final int value) {
+        return OpenAddressing.slot(value, this.mask);
+    }
+
+    /**
+     * Add the value.
+     *
+     * @param value the value
+     * @return true, if the value was added, false if the set already contained it
+     */
+    boolean add(final int value) {
+        if (value == 0) {
+            boolean added = !this.containsZero;
+            this.containsZero = true;
+            return added;
+        }
+        if (OpenAddressing.needsResize(this.size, this.table.length)) {
+            this.resize();
+        }
+        int i = this.slot(value);
+        while (this.table[i] != 0) {
+            if (this.table[i] == value) {
+                return false;
+            }
+            i = (i + 1) & this.mask;
+        }
+        this.table[i] = value;
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Checks if the set contains the value.
+     *
+     * @param value the value
+     * @return true, if the set contains the value
+     */
+    boolean contains(final int value) {
+        if (value == 0) {
+            return this.containsZero;
+        }
+        int i = this.slot(value);
+        while (this.table[i] != 0) {
+            if (this.table[i] == value) {
+                return true;
+            }
+            i = (i + 1) & this.mask;
+        }
+        return false;
+    }
+
+    /**
+     * Double the capacity.
+     */
+    private void resize() {
+        int[] oldTable = this.table;
+        this.table = new int[oldTable.length * 2];
+        this.mask = this.table.length - 1;
+        for (int value : oldTable) {
+            if (value != 0) {
+                int i = this.slot(value);
+                while (this.table[i] != 0) {
+                    i = (i + 1) & this.mask;
+                }
+                this.table[i] = value;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.queomedia.commons.checks;
+
+/**
+ * An invariant of the objects of a class, registered at the {@link InvariantRegistry}.
+ *
+ * <pre>
+ * new Invariant&lt;Order&gt;() {
+ *     public void check(final Order order) {
+ *         Check.notNegativeArgument(order.getTotal(), "total");
+ *         Check.uniqueElements(order.getItems());
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the checked objects
+ */
+public interface Invariant<T> {
+
+    /**
+     * Check the invariant by the {@link Check} methods, a violation throws their exception.
+     *
+     * @param object the checked object, not {@code null}
+     */
+    void check(T object);
+
+}
@@ -0,0 +1,108 @@
+package com.queomedia.commons.checks;
+
+/**
+ * How often the invariants of a class are evaluated by {@link InvariantRegistry#checkInvariants(Object)}.
+ *
+ * This class is immutable.
+ */
+public final class InvariantPolicy {
+
+    /**
+     * The kind of the policy.
+     */
+    public enum Kind {
+
+        /** Evaluate on every call. */
+        ALWAYS,
+
+        /**
+         * Evaluate on every n-th call. The calls are counted in striped counters, so with concurrent callers the
+         * distance between two evaluations is only approximately n.
+         */
+        EVERY_NTH_CALL,
+
+        /** Evaluate at most once per interval - the first call after the interval is evaluated. */
+        INTERVAL,
+
+        /** Evaluate only in {@link InvariantRegistry#setAuditMode(boolean) audit mode}, then on every call. */
+        AUDIT;
+    }
+
+    /** Evaluate on every call. */
+    public static final InvariantPolicy ALWAYS = new InvariantPolicy(Kind.ALWAYS, 0);
+
+    /** Evaluate only in audit mode. */
+    public static final InvariantPolicy AUDIT = new InvariantPolicy(Kind.AUDIT, 0);
+
+    /** The kind. */
+    private final Kind kind;
+
+    /** The n of {@link Kind#EVERY_NTH_CALL} or the interval in nanoseconds of {@link Kind#INTERVAL}. */
+    private final long parameter;
+
+    /**
+     * Instantiates a new policy.
+     *
+     * @param kind the kind
+     * @param parameter the parameter
+     */
+    private InvariantPolicy(final Kind kind, final long parameter) {
+        this.kind = kind;
+        this.parameter = parameter;
+    }
+
+    /**
+     * Create a policy that evaluates on every n-th call.
+     *
+     * @param n the n, at least 1
+     * @return the policy
+     */
+    public static InvariantPolicy everyNthCall(final int n) {
+        Check.argumentGreaterEquals(1, n, "n");
+
+        return new InvariantPolicy(Kind.EVERY_NTH_CALL, n);
+    }
+
+    /**
+     * Create a policy that evaluates at most once per interval.
+     *
+     * @param intervalMillis the interval in milliseconds, at least 1
+     * @return the policy
+     */
+    public static InvariantPolicy interval(final long intervalMillis) {
+        Check.argumentGreaterEquals(1, intervalMillis, "intervalMillis");
+
+        return new InvariantPolicy(Kind.INTERVAL, intervalMillis * 1000000L);
+    }
+
+    /**
+     * Gets the kind.
+     *
+     * @return the kind
+     */
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Gets the n of {@link Kind#EVERY_NTH_CALL} or the interval in nanoseconds of {@link Kind#INTERVAL}.
+     *
+     * @return the parameter, 0 for the other kinds
+     */
+    long getParameter() {
+        return this.parameter;
+    }
+
+    @Override
+    public String toString() {
+        switch (this.kind) {
+        case EVERY_NTH_CALL:
+            return "InvariantPolicy [every " + this.parameter + ". call]";
+        case INTERVAL:
+            return "InvariantPolicy [interval " + (this.parameter / 1000000L) + " ms]";
+        default:
+            return "InvariantPolicy [" + this.kind + "]";
+        }
+    }
+
+}
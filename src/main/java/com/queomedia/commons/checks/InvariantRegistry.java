@@ -0,0 +1,330 @@
+package com.queomedia.commons.checks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.queomedia.commons.exceptions.NotImplementedCaseExecption;
+
+/**
+ * Registry of the class invariants, that are evaluated by {@link #checkInvariants(Object)} according to the
+ * {@link InvariantPolicy} of their class - instead of hand written {@code checkInvariants()} methods that run either
+ * always or never.
+ *
+ * <pre>
+ * static {
+ *     InvariantRegistry.register(Order.class, InvariantPolicy.everyNthCall(100), new Invariant&lt;Order&gt;() {
+ *         ...
+ *     });
+ * }
+ *
+ * public void cancel() {
+ *     ...
+ *     InvariantRegistry.checkInvariants(this);
+ * }
+ * </pre>
+ *
+ * The invariants of a class are evaluated for the objects of its subclasses too (but not the invariants of
+ * interfaces). The registry counts the calls, evaluations and failures and measures the evaluation time per
+ * registered class, see {@link CheckMonitor}.
+ *
+ * This class is thread safe.
+ */
+public final class InvariantRegistry {
+
+    /** The registered invariants by class. */
+    private static final ConcurrentMap<Class<?>, ClassInvariants> REGISTRY =
+            new ConcurrentHashMap<Class<?>, ClassInvariants>();
+
+    /** True if the invariants with {@link InvariantPolicy#AUDIT} are evaluated. */
+    private static volatile boolean auditMode;
+
+    /**
+     * The invariants, policy and statistics of one class.
+     */
+    private static final class ClassInvariants {
+
+        /** The invariants. */
+        private final List<Invariant<Object>> invariants = new CopyOnWriteArrayList<Invariant<Object>>();
+
+        /** The policy. */
+        private volatile InvariantPolicy policy = InvariantPolicy.ALWAYS;
+
+        /** The number of calls. */
+        private final StripedCounter calls = new StripedCounter();
+
+        /** The number of evaluations. */
+        private final StripedCounter evaluations = new StripedCounter();
+
+        /** The number of failed evaluations. */
+        private final StripedCounter failures = new StripedCounter();
+
+        /** The sum of the evaluation times in nanoseconds. */
+        private final StripedCounter nanos = new StripedCounter();
+
+        /** The {@code System.nanoTime()} of the last evaluation with {@link InvariantPolicy.Kind#INTERVAL}. */
+        private final AtomicLong lastEvaluation = new AtomicLong();
+
+        /**
+         * Sets the policy.
+         *
+         * @param policy the new policy
+         */
+        void setPolicy(final InvariantPolicy policy) {
+            /* the first call after the change of the policy is evaluated */
+            this.lastEvaluation.set(System.nanoTime() - policy.getParameter());
+            this.policy = policy;
+        }
+
+        /**
+         * Decide whether this call is evaluated.
+         *
+         * @return true, if the invariants are evaluated
+         */
+        private boolean evaluateCall() {
+            long call = this.calls.increment();
+            InvariantPolicy currentPolicy = this.policy;
+            switch (currentPolicy.getKind()) {
+            case ALWAYS:
+                return true;
+            case EVERY_NTH_CALL:
+                return call % currentPolicy.getParameter() == 0;
+            case INTERVAL:
+                long now = System.nanoTime();
+                long last = this.lastEvaluation.get();
+                return (now - last >= currentPolicy.getParameter()) && this.lastEvaluation.compareAndSet(last, now);
+            case AUDIT:
+                return InvariantRegistry.auditMode;
+            default:
+                throw new NotImplementedCaseExecption("kind " + currentPolicy.getKind() + " is not implemented");
+            }
+        }
+
+        /**
+         * Evaluate the invariants, if the policy requires it.
+         *
+         * @param object the checked object
+         */
+        void check(final Object object) {
+            if (!this.evaluateCall()) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            boolean passed = false;
+            try {
+                for (Invariant<Object> invariant : this.invariants) {
+                    invariant.check(object);
+                }
+                passed = true;
+            } finally {
+                this.nanos.add(System.nanoTime() - start);
+                this.evaluations.increment();
+                if (!passed) {
+                    this.failures.increment();
+                }
+            }
+        }
+
+        /**
+         * Reset the statistics.
+         */
+        void reset() {
+            this.calls.reset();
+            this.evaluations.reset();
+            this.failures.reset();
+            this.nanos.reset();
+        }
+    }
+
+    /**
+     * Util classes need no constructor.
+     */
+    private InvariantRegistry() {
+        super();
+    }
+
+    /**
+     * Register an invariant of the class. The invariants of a class are evaluated in the order of their
+     * registration.
+     *
+     * @param <T> the class type
+     * @param type the class
+     * @param invariant the invariant
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void register(final Class<T> type, final Invariant<? super T> invariant) {
+        Check.notNullArgument(type, "type");
+        Check.notNullArgument(invariant, "invariant");
+
+        InvariantRegistry.classInvariants(type).invariants.add((Invariant<Object>) invariant);
+    }
+
+    /**
+     * Register an invariant of the class and set the policy of the class.
+     *
+     * @param <T> the class type
+     * @param type the class
+     * @param policy the policy for all invariants of the class
+     * @param invariant the invariant
+     */
+    public static <T> void register(final Class<T> type, final InvariantPolicy policy,
+            final Invariant<? super T> invariant) {
+        Check.notNullArgument(policy, "policy");
+
+        InvariantRegistry.register(type, invariant);
+        InvariantRegistry.setPolicy(type, policy);
+    }
+
+    /**
+     * Sets the policy of the invariants of the class - the default is {@link InvariantPolicy#ALWAYS}.
+     *
+     * @param type the class
+     * @param policy the policy
+     */
+    public static void setPolicy(final Class<?> type, final InvariantPolicy policy) {
+        Check.notNullArgument(type, "type");
+        Check.notNullArgument(policy, "policy");
+
+        InvariantRegistry.classInvariants(type).setPolicy(policy);
+    }
+
+    /**
+     * Gets the policy of the invariants of the class.
+     *
+     * @param type the class
+     * @return the policy, {@code null} if no invariant is registered for the class
+     */
+    public static InvariantPolicy getPolicy(final Class<?> type) {
+        Check.notNullArgument(type, "type");
+
+        ClassInvariants classInvariants = REGISTRY.get(type);
+        return classInvariants != null ? classInvariants.policy : null;
+    }
+
+    /**
+     * Remove all invariants of the class.
+     *
+     * @param type the class
+     */
+    public static void unregister(final Class<?> type) {
+        Check.notNullArgument(type, "type");
+
+        REGISTRY.remove(type);
+    }
+
+    /**
+     * Return the invariants of the class, create them if there are none.
+     *
+     * @param type the class
+     * @return the class invariants
+     */
+    private static ClassInvariants classInvariants(final Class<?> type) {
+        ClassInvariants classInvariants = REGISTRY.get(type);
+        if (classInvariants == null) {
+            ClassInvariants created = new ClassInvariants();
+            classInvariants = REGISTRY.putIfAbsent(type, created);
+            if (classInvariants == null) {
+                classInvariants = created;
+            }
+        }
+        return classInvariants;
+    }
+
+    /**
+     * Checks if the invariants with {@link InvariantPolicy#AUDIT} are evaluated.
+     *
+     * @return true, if in audit mode
+     */
+    public static boolean isAuditMode() {
+        return InvariantRegistry.auditMode;
+    }
+
+    /**
+     * Enable or disable the audit mode, that evaluates the invariants with {@link InvariantPolicy#AUDIT}.
+     *
+     * @param auditMode the new audit mode
+     */
+    public static void setAuditMode(final boolean auditMode) {
+        InvariantRegistry.auditMode = auditMode;
+    }
+
+    /**
+     * Evaluate the invariants of the class of the object and of its super classes, according to their policies.
+     * A violated invariant throws the exception of the failed check.
+     *
+     * @param object the object
+     */
+    public static void checkInvariants(final Object object) {
+        Check.notNullArgument(object, "object");
+
+        if (REGISTRY.isEmpty()) {
+            return;
+        }
+        for (Class<?> type = object.getClass(); type != null; type = type.getSuperclass()) {
+            ClassInvariants classInvariants = REGISTRY.get(type);
+            if (classInvariants != null) {
+                classInvariants.check(object);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of evaluations by class name.
+     *
+     * @return the evaluation counts
+     */
+    public static Map<String, Long> getEvaluationCounts() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (Map.Entry<Class<?>, ClassInvariants> entry : REGISTRY.entrySet()) {
+            result.put(entry.getKey().getName(), entry.getValue().evaluations.sum());
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of failed evaluations by class name (only for classes with failures).
+     *
+     * @return the failure counts
+     */
+    public static Map<String, Long> getFailureCounts() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (Map.Entry<Class<?>, ClassInvariants> entry : REGISTRY.entrySet()) {
+            long count = entry.getValue().failures.sum();
+            if (count > 0) {
+                result.put(entry.getKey().getName(), count);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the average evaluation time in nanoseconds by class name (only for evaluated classes).
+     *
+     * @return the average time
+     */
+    public static Map<String, Long> getAverageNanos() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (Map.Entry<Class<?>, ClassInvariants> entry : REGISTRY.entrySet()) {
+            long count = entry.getValue().evaluations.sum();
+            if (count > 0) {
+                result.put(entry.getKey().getName(), entry.getValue().nanos.sum() / count);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reset the statistics of all classes.
+     */
+    public static void resetStatistics() {
+        for (ClassInvariants classInvariants : REGISTRY.values()) {
+            classInvariants.reset();
+        }
+    }
+
+}
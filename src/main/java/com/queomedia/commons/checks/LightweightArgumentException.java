@@ -0,0 +1,91 @@
+package com.queomedia.commons.checks;
+
+/**
+ * The exception of a failed argument check when {@link Check#setFailureStackTraces(boolean) failure stack traces}
+ * are disabled: it captures no stack trace, and its message is rendered from the {@link CheckResult} on the first
+ * call of {@link #getMessage()}.
+ *
+ * It is an {@link IllegalArgumentException}, so callers handle it like the exception of every other failed argument
+ * check. It is serialized as a plain {@link IllegalArgumentException} with the rendered message.
+ *
+ * Without a stack trace the failed check can not be located, so the exception has a {@link #getFailureKey() failure
+ * key} instead, that groups the failures for the statistics and the failure log.
+ */
+final class LightweightArgumentException extends IllegalArgumentException {
+
+    /** The Constant serialVersionUID. */
+    private static final long serialVersionUID = -6090237424418021283L;
+
+    /** The result that describes the failure, {@code null} if the message was given. */
+    private final transient CheckResult result;
+
+    /** The key that identifies the failed check: the id of the check site, or the failure code and argument name. */
+    private final transient String failureKey;
+
+    /** The message, {@code null} until it is rendered. */
+    private String message;
+
+    /**
+     * Instantiates a new exception of a failed check of the site.
+     *
+     * @param site the check site
+     * @param message the message
+     */
+    LightweightArgumentException(final CheckSite site, final String message) {
+        super(message);
+        this.result = null;
+        this.failureKey = site.getId();
+        this.message = message;
+    }
+
+    /**
+     * Instantiates a new exception, whose message is rendered from the result.
+     *
+     * @param result the failed result
+     */
+    LightweightArgumentException(final CheckResult result) {
+        super((String) null);
+        this.result = result;
+        this.failureKey = result.getCode() + "(" + result.getArgumentName() + ")";
+    }
+
+    /**
+     * Capture no stack trace - this is the expensive part of the construction of an exception.
+     *
+     * @return this exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    @Override
+    public String getMessage() {
+        if ((this.message == null) && (this.result != null)) {
+            this.message = this.result.getMessage();
+        }
+        return this.message;
+    }
+
+    /**
+     * Gets the key that identifies the failed check, in place of the missing stack trace: the id of the
+     * {@link CheckSite}, or the failure code with the argument name, e.g. {@code TOO_LARGE(size)}.
+     *
+     * @return the failure key
+     */
+    String getFailureKey() {
+        return this.failureKey;
+    }
+
+    /**
+     * Serialize a plain exception with the rendered message.
+     *
+     * @return the replacement
+     */
+    private Object writeReplace() {
+        IllegalArgumentException replacement = new IllegalArgumentException(this.getMessage());
+        replacement.setStackTrace(new StackTraceElement[0]);
+        return replacement;
+    }
+
+}
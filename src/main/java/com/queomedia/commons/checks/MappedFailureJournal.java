@@ -0,0 +1,423 @@
+package com.queomedia.commons.checks;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A {@link CheckFailureSink} that records the failures in a memory mapped file of fixed size, for a post mortem
+ * analysis.
+ *
+ * The file is a ring of fixed size slots, one record per slot, so the newest records overwrite the oldest ones.
+ * A record is written to the mapped memory only, without a system call, and the operating system writes it to the
+ * file - even if the JVM crashes. Strings that do not fit in the slot are truncated.
+ *
+ * The journal can be decoded offline by {@link #read(File)} or by the main method:
+ * {@code java com.queomedia.commons.checks.MappedFailureJournal <file>}.
+ *
+ * <pre>
+ * file   := header slot*
+ * header := magic(int) version(int) slotSize(int) slotCount(int) nextSequence(long)
+ * slot   := sequence(long) timestamp(long) checkId(string) argumentName(string) message(string)
+ * string := length(unsigned short) utf8Bytes
+ * </pre>
+ *
+ * A slot with sequence 0 is empty. The sequence is written after the other fields of a record, so a record that was
+ * not completely written when the process died, is not decoded. Neither is a damaged slot, whose string lengths
+ * exceed the slot.
+ *
+ * This class is thread safe.
+ */
+public final class MappedFailureJournal implements CheckFailureSink, Closeable {
+
+    /** The magic number at the begin of the file ("QCFJ"). */
+    private static final int MAGIC = 0x5143464A;
+
+    /** The version of the file format. */
+    private static final int VERSION = 1;
+
+    /** The size of the file header in bytes. */
+    private static final int HEADER_SIZE = 24;
+
+    /** The position of the next sequence in the header. */
+    private static final int NEXT_SEQUENCE_POSITION = 16;
+
+    /** The size of the fixed slot fields (sequence, timestamp and three string lengths). */
+    private static final int SLOT_FIELDS_SIZE = 8 + 8 + 2 + 2 + 2;
+
+    /** The maximal number of bytes for the check id. */
+    private static final int MAX_CHECK_ID_BYTES = 128;
+
+    /** The maximal number of bytes for the argument name. */
+    private static final int MAX_ARGUMENT_NAME_BYTES = 64;
+
+    /** The maximal number of bytes of a string, its length is stored as unsigned short. */
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    /** The maximal slot size in bytes, a larger slot could not be filled. */
+    public static final int MAX_SLOT_SIZE = SLOT_FIELDS_SIZE + MAX_CHECK_ID_BYTES + MAX_ARGUMENT_NAME_BYTES
+            + MAX_STRING_BYTES;
+
+    /** The default slot size in bytes. */
+    public static final int DEFAULT_SLOT_SIZE = 512;
+
+    /** The encoding of all strings. */
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /** The file. */
+    private final RandomAccessFile file;
+
+    /** The mapped file content. Guarded by {@code this}. */
+    private final MappedByteBuffer buffer;
+
+    /** The size of one slot in bytes. */
+    private final int slotSize;
+
+    /** The number of slots. */
+    private final int slotCount;
+
+    /** The sequence of the next record. Guarded by {@code this}. */
+    private long nextSequence;
+
+    /**
+     * Open (or create) a journal with the default slot size.
+     *
+     * @param file the journal file
+     * @param slotCount the number of records the journal can hold
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public MappedFailureJournal(final File file, final int slotCount) throws IOException {
+        this(file, DEFAULT_SLOT_SIZE, slotCount);
+    }
+
+    /**
+     * Open (or create) a journal. An existing journal with the same slot size and count is continued, an existing
+     * empty file is initialized.
+     *
+     * @param file the journal file
+     * @param slotSize the size of one record in bytes (at least 256 bytes, at most {@link #MAX_SLOT_SIZE})
+     * @param slotCount the number of records the journal can hold
+     * @throws IOException Signals that an I/O exception has occurred.
+     * @throws IllegalArgumentException if the file is not empty and not a journal of the same layout
+     */
+    public MappedFailureJournal(final File file, final int slotSize, final int slotCount) throws IOException {
+        Check.notNullArgument(file, "file");
+        Check.argumentBetween(slotSize, 256, MAX_SLOT_SIZE, "slotSize");
+        Check.notZeroOrNegativeArgument(slotCount, "slotCount");
+        Check.argumentLessEquals(Integer.MAX_VALUE, HEADER_SIZE + ((double) slotSize * slotCount), "fileSize");
+
+        this.slotSize = slotSize;
+        this.slotCount = slotCount;
+        int size = HEADER_SIZE + (slotSize * slotCount);
+
+        this.file = new RandomAccessFile(file, "rw");
+        try {
+            long existingLength = this.file.length();
+            if ((existingLength != 0) && (existingLength != size)) {
+                throw new IllegalArgumentException("file " + file + " has length " + existingLength
+                        + " but a journal with slotSize=" + slotSize + " and slotCount=" + slotCount + " has length "
+                        + size);
+            }
+            this.file.setLength(size);
+            this.buffer = this.file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+            if (existingLength == 0) {
+                this.buffer.putInt(0, MAGIC);
+                this.buffer.putInt(4, VERSION);
+                this.buffer.putInt(8, slotSize);
+                this.buffer.putInt(12, slotCount);
+                this.buffer.putLong(NEXT_SEQUENCE_POSITION, 1);
+            } else if ((this.buffer.getInt(0) != MAGIC) || (this.buffer.getInt(4) != VERSION)
+                    || (this.buffer.getInt(8) != slotSize) || (this.buffer.getInt(12) != slotCount)) {
+                throw new IllegalArgumentException(
+                        "file " + file + " is not a journal with slotSize=" + slotSize + " and slotCount=" + slotCount);
+            }
+            this.nextSequence = this.buffer.getLong(NEXT_SEQUENCE_POSITION);
+        } catch (IOException e) {
+            this.file.close();
+            throw e;
+        } catch (RuntimeException e) {
+            this.file.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void failure(final long timestampMillis, final String checkId, final String argumentName,
+            final String message) {
+        byte[] checkIdBytes = MappedFailureJournal.truncatedUtf8(checkId, MAX_CHECK_ID_BYTES);
+        byte[] argumentNameBytes = MappedFailureJournal.truncatedUtf8(argumentName, MAX_ARGUMENT_NAME_BYTES);
+        byte[] messageBytes = MappedFailureJournal.truncatedUtf8(message, Math.min(MAX_STRING_BYTES,
+                this.slotSize - SLOT_FIELDS_SIZE - checkIdBytes.length - argumentNameBytes.length));
+
+        synchronized (this) {
+            long sequence = this.nextSequence++;
+            int slotStart = HEADER_SIZE + (int) ((sequence - 1) % this.slotCount) * this.slotSize;
+
+            /* invalidate the slot first, so that a torn record is not decoded */
+            this.buffer.putLong(slotStart, 0);
+            this.buffer.position(slotStart + 8);
+            this.buffer.putLong(timestampMillis);
+            MappedFailureJournal.putString(this.buffer, checkIdBytes);
+            MappedFailureJournal.putString(this.buffer, argumentNameBytes);
+            MappedFailureJournal.putString(this.buffer, messageBytes);
+            this.buffer.putLong(slotStart, sequence);
+            this.buffer.putLong(NEXT_SEQUENCE_POSITION, this.nextSequence);
+        }
+    }
+
+    /**
+     * Write the mapped content to the storage device.
+     */
+    public synchronized void force() {
+        this.buffer.force();
+    }
+
+    /**
+     * Force the content to the storage device and close the file.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        this.buffer.force();
+        this.file.close();
+    }
+
+    /**
+     * Decode all records of a journal file, the oldest record first.
+     *
+     * @param file the journal file
+     * @return the records
+     * @throws IOException Signals that an I/O exception has occurred.
+     * @throws IllegalArgumentException if the file is not a journal
+     */
+    public static List<Record> read(final File file) throws IOException {
+        Check.notNullArgument(file, "file");
+
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            ByteBuffer buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0,
+                    randomAccessFile.length());
+            if ((buffer.capacity() < HEADER_SIZE) || (buffer.getInt(0) != MAGIC) || (buffer.getInt(4) != VERSION)) {
+                throw new IllegalArgumentException("file " + file + " is not a failure journal");
+            }
+            int slotSize = buffer.getInt(8);
+            int slotCount = buffer.getInt(12);
+
+            List<Record> records = new ArrayList<Record>();
+            for (int slot = 0; slot < slotCount; slot++) {
+                long slotStart = HEADER_SIZE + ((long) slot * slotSize);
+                if ((slotSize < SLOT_FIELDS_SIZE) || (slotStart + slotSize > buffer.capacity())) {
+                    /* a damaged header or a truncated file - the remaining slots are not valid data */
+                    break;
+                }
+                long sequence = buffer.getLong((int) slotStart);
+                if (sequence != 0) {
+                    buffer.limit((int) slotStart + slotSize);
+                    buffer.position((int) slotStart + 8);
+                    long timestamp = buffer.getLong();
+                    String checkId = MappedFailureJournal.getString(buffer);
+                    String argumentName = MappedFailureJournal.getString(buffer);
+                    String message = MappedFailureJournal.getString(buffer);
+                    buffer.limit(buffer.capacity());
+                    if ((checkId != null) && (argumentName != null) && (message != null)) {
+                        records.add(new Record(sequence, timestamp, checkId, argumentName, message));
+                    }
+                }
+            }
+            Collections.sort(records, new Comparator<Record>() {
+
+                @Override
+                public int compare(final Record o1, final Record o2) {
+                    return o1.getSequence() < o2.getSequence() ? -1 : (o1.getSequence() == o2.getSequence() ? 0 : 1);
+                }
+            });
+            return records;
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Print all records of a journal file to {@code System.out}.
+     *
+     * @param args the journal file
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("usage: java " + MappedFailureJournal.class.getName() + " <journal file>");
+            return;
+        }
+        for (Record record : MappedFailureJournal.read(new File(args[0]))) {
+            System.out.println(record);
+        }
+    }
+
+    /**
+     * Encode the string in UTF-8, truncated to the maximal number of bytes without splitting a character.
+     *
+     * @param string the string, {@code null} is encoded as empty string
+     * @param maxBytes the maximal number of bytes
+     * @return the bytes
+     */
+    private static byte[] truncatedUtf8(final String string, final int maxBytes) {
+        if (string == null) {
+            return new byte[0];
+        }
+        /* a char has at most 3 bytes, so long strings can be cut before the encoding - but not between the two
+         * chars of a surrogate pair, a lone high surrogate would be encoded as '?' */
+        String cut = string;
+        if (string.length() > maxBytes) {
+            int end = maxBytes;
+            if ((end > 0) && Character.isHighSurrogate(string.charAt(end - 1))) {
+                end--;
+            }
+            cut = string.substring(0, end);
+        }
+        byte[] bytes = cut.getBytes(UTF8);
+        if (bytes.length <= maxBytes) {
+            return bytes;
+        }
+        int length = maxBytes;
+        /* do not cut between the bytes of one character - continuation bytes are 10xxxxxx */
+        while ((length > 0) && ((bytes[length] & 0xC0) == 0x80)) {
+            length--;
+        }
+        byte[] truncated = new byte[length];
+        System.arraycopy(bytes, 0, truncated, 0, length);
+        return truncated;
+    }
+
+    /**
+     * Put the string bytes with their length at the current position.
+     *
+     * @param buffer the buffer
+     * @param bytes the string bytes
+     */
+    private static void putString(final ByteBuffer buffer, final byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Get a string from the current position.
+     *
+     * @param buffer the buffer, limited to the end of the slot
+     * @return the string, or {@code null} if the stored length exceeds the slot - the slot is damaged
+     */
+    private static String getString(final ByteBuffer buffer) {
+        if (buffer.remaining() < 2) {
+            return null;
+        }
+        int length = buffer.getShort() & 0xFFFF;
+        if (length > buffer.remaining()) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, UTF8);
+    }
+
+    /**
+     * One decoded failure record.
+     */
+    public static final class Record {
+
+        /** The sequence number, starting with 1. */
+        private final long sequence;
+
+        /** The time of the failure. */
+        private final long timestampMillis;
+
+        /** The check id. */
+        private final String checkId;
+
+        /** The argument name. */
+        private final String argumentName;
+
+        /** The (truncated) message. */
+        private final String message;
+
+        /**
+         * Instantiates a new record.
+         *
+         * @param sequence the sequence
+         * @param timestampMillis the timestamp
+         * @param checkId the check id
+         * @param argumentName the argument name
+         * @param message the message
+         */
+        Record(final long sequence, final long timestampMillis, final String checkId, final String argumentName,
+                final String message) {
+            this.sequence = sequence;
+            this.timestampMillis = timestampMillis;
+            this.checkId = checkId;
+            this.argumentName = argumentName;
+            this.message = message;
+        }
+
+        /**
+         * Gets the sequence number, starting with 1.
+         *
+         * @return the sequence number, starting with 1
+         */
+        public long getSequence() {
+            return this.sequence;
+        }
+
+        /**
+         * Gets the time of the failure.
+         *
+         * @return the time of the failure
+         */
+        public long getTimestampMillis() {
+            return this.timestampMillis;
+        }
+
+        /**
+         * Gets the check id.
+         *
+         * @return the check id
+         */
+        public String getCheckId() {
+            return this.checkId;
+        }
+
+        /**
+         * Gets the argument name.
+         *
+         * @return the argument name
+         */
+        public String getArgumentName() {
+            return this.argumentName;
+        }
+
+        /**
+         * Gets the (truncated) message.
+         *
+         * @return the (truncated) message
+         */
+        public String getMessage() {
+            return this.message;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + this.sequence + " " + new Date(this.timestampMillis) + " checkId=" + this.checkId
+                    + " argumentName=" + this.argumentName + " message=" + this.message;
+        }
+    }
+
+}
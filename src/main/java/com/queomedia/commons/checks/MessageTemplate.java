@@ -0,0 +1,220 @@
+package com.queomedia.commons.checks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message pattern that is parsed once into literal and argument segments, for the failure messages of the checks.
+ *
+ * The pattern references the arguments by their index: {@code "argument {0} must be less or equals {1}"}. A brace
+ * that is not part of such a reference is a literal - there is no quoting like in {@link java.text.MessageFormat},
+ * and the arguments are not formatted, they are rendered by {@link String#valueOf(Object)}.
+ *
+ * The message is rendered into a buffer that is sized for the literals and a short text per argument, so it rarely
+ * grows. The templates of the {@link CheckResult} messages have five arguments, they are rendered by
+ * {@link #render(Object, Object, Object, Object, Object)} without a varargs array.
+ *
+ * This class is immutable and thread safe.
+ */
+public final class MessageTemplate {
+
+    /** The estimated length of a rendered argument. */
+    private static final int ARGUMENT_LENGTH_ESTIMATE = 16;
+
+    /** The pattern. */
+    private final String pattern;
+
+    /** The literals before, between and after the argument references. */
+    private final String[] literals;
+
+    /** The indexes of the referenced arguments. */
+    private final int[] argumentIndexes;
+
+    /** The initial capacity of the buffer of {@link #render(Object...)}. */
+    private final int bufferCapacity;
+
+    /**
+     * Instantiates a new template.
+     *
+     * @param pattern the pattern
+     * @param literals the literals, one more than argument indexes
+     * @param argumentIndexes the argument indexes
+     */
+    private MessageTemplate(final String pattern, final String[] literals, final int[] argumentIndexes) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.bufferCapacity = literalLength + (argumentIndexes.length * ARGUMENT_LENGTH_ESTIMATE);
+    }
+
+    /**
+     * Parse the pattern.
+     *
+     * @param pattern the pattern
+     * @param argumentCount the number of arguments that are passed to {@link #render(Object...)}
+     * @return the template
+     * @throws IllegalArgumentException if the pattern references an argument index that is not less than the
+     *             argument count
+     */
+    public static MessageTemplate compile(final String pattern, final int argumentCount) {
+        Check.notNullArgument(pattern, "pattern");
+        Check.notNegativeArgument(argumentCount, "argumentCount");
+
+        List<String> literals = new ArrayList<String>();
+        List<Integer> argumentIndexes = new ArrayList<Integer>();
+        int literalStart = 0;
+        int position = 0;
+        while (position < pattern.length()) {
+            int end = MessageTemplate.referenceEnd(pattern, position);
+            if (end < 0) {
+                position++;
+                continue;
+            }
+            int index = Integer.parseInt(pattern.substring(position + 1, end - 1));
+            if (index >= argumentCount) {
+                throw new IllegalArgumentException("[Assertion failed] - the pattern \"" + pattern
+                        + "\" references the argument " + index + ", but there are only " + argumentCount
+                        + " arguments");
+            }
+            literals.add(pattern.substring(literalStart, position));
+            argumentIndexes.add(index);
+            literalStart = end;
+            position = end;
+        }
+        literals.add(pattern.substring(literalStart));
+
+        int[] indexes = new int[argumentIndexes.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = argumentIndexes.get(i);
+        }
+        return new MessageTemplate(pattern, literals.toArray(new String[literals.size()]), indexes);
+    }
+
+    /**
+     * Return the end of the argument reference at the position.
+     *
+     * @param pattern the pattern
+     * @param position the position
+     * @return the index after the closing brace, or -1 if there is no argument reference at the position
+     */
+    private static int referenceEnd(final String pattern, final int position) {
+        if (pattern.charAt(position) != '{') {
+            return -1;
+        }
+        int end = position + 1;
+        /* at most 4 digits, so the index does not overflow */
+        while ((end < pattern.length()) && (end - position <= 4) && Character.isDigit(pattern.charAt(end))) {
+            end++;
+        }
+        if ((end == position + 1) || (end >= pattern.length()) || (pattern.charAt(end) != '}')) {
+            return -1;
+        }
+        return end + 1;
+    }
+
+    /**
+     * Render the message.
+     *
+     * @param arguments the arguments, at least as many as the argument count of {@link #compile(String, int)}
+     * @return the message
+     */
+    public String render(final Object... arguments) {
+        return this.appendTo(new StringBuilder(this.bufferCapacity), arguments).toString();
+    }
+
+    /**
+     * Render the message of a template with at most five arguments, without a varargs array.
+     *
+     * @param argument0 the argument 0
+     * @param argument1 the argument 1
+     * @param argument2 the argument 2
+     * @param argument3 the argument 3
+     * @param argument4 the argument 4
+     * @return the message
+     * @throws IndexOutOfBoundsException if the pattern references an argument index greater than 4
+     */
+    public String render(final Object argument0, final Object argument1, final Object argument2,
+            final Object argument3, final Object argument4) {
+        StringBuilder buffer = new StringBuilder(this.bufferCapacity);
+        buffer.append(this.literals[0]);
+        for (int i = 0; i < this.argumentIndexes.length; i++) {
+            Object argument;
+            switch (this.argumentIndexes[i]) {
+            case 0:
+                argument = argument0;
+                break;
+            case 1:
+                argument = argument1;
+                break;
+            case 2:
+                argument = argument2;
+                break;
+            case 3:
+                argument = argument3;
+                break;
+            case 4:
+                argument = argument4;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("the pattern \"" + this.pattern + "\" references the argument "
+                        + this.argumentIndexes[i] + ", but there are only 5 arguments");
+            }
+            MessageTemplate.appendArgument(buffer, argument);
+            buffer.append(this.literals[i + 1]);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Append the message to the buffer.
+     *
+     * @param buffer the buffer
+     * @param arguments the arguments, at least as many as the argument count of {@link #compile(String, int)}
+     * @return the buffer
+     */
+    public StringBuilder appendTo(final StringBuilder buffer, final Object... arguments) {
+        buffer.append(this.literals[0]);
+        for (int i = 0; i < this.argumentIndexes.length; i++) {
+            MessageTemplate.appendArgument(buffer, arguments[this.argumentIndexes[i]]);
+            buffer.append(this.literals[i + 1]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Append the argument like {@link String#valueOf(Object)} - integral numbers are appended without creating
+     * their string.
+     *
+     * @param buffer the buffer
+     * @param argument the argument
+     */
+    private static void appendArgument(final StringBuilder buffer, final Object argument) {
+        if (argument instanceof Integer) {
+            buffer.append(((Integer) argument).intValue());
+        } else if (argument instanceof Long) {
+            buffer.append(((Long) argument).longValue());
+        } else {
+            buffer.append(String.valueOf(argument));
+        }
+    }
+
+    /**
+     * Gets the pattern.
+     *
+     * @return the pattern
+     */
+    public String getPattern() {
+        return this.pattern;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageTemplate[" + this.pattern + "]";
+    }
+
+}
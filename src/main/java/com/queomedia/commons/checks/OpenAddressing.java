@@ -0,0 +1,91 @@
+package com.queomedia.commons.checks;
+
+/**
+ * The sizing and slot computation of the open addressing (linear probing) hash tables {@link IntHashSet},
+ * {@link LongHashSet} and {@link IdentitySet}.
+ *
+ * The tables have a power of two length and are resized when they would become more than half full, so a table
+ * for n elements has at most 4n slots. The maximal table length is {@link #MAX_CAPACITY}, so a table holds at most
+ * {@link #MAX_EXPECTED_SIZE} elements.
+ */
+final class OpenAddressing {
+
+    /** The maximal table length. */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    /** The maximal number of elements of a table. */
+    static final int MAX_EXPECTED_SIZE = MAX_CAPACITY / 2;
+
+    /** The minimal table length. */
+    private static final int MIN_CAPACITY = 4;
+
+    /**
+     * Util classes need no constructor.
+     */
+    private OpenAddressing() {
+        super();
+    }
+
+    /**
+     * Return the table length for the expected number of elements: the least power of two that is at least twice
+     * the expected size.
+     *
+     * @param expectedSize the expected number of elements
+     * @return the table length
+     * @throws IllegalArgumentException if the expected size is negative or greater than {@link #MAX_EXPECTED_SIZE}
+     */
+    static int capacity(final int expectedSize) {
+        if ((expectedSize < 0) || (expectedSize > MAX_EXPECTED_SIZE)) {
+            throw new IllegalArgumentException("expectedSize " + expectedSize + " must be between 0 and "
+                    + MAX_EXPECTED_SIZE);
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity / 2 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Checks if a table must be resized before an element is added.
+     *
+     * @param size the number of elements in the table
+     * @param capacity the table length
+     * @return true, if the table would become more than half full
+     * @throws IllegalStateException if the table is full and can not grow any more
+     */
+    static boolean needsResize(final int size, final int capacity) {
+        if (size < capacity / 2) {
+            return false;
+        }
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("the table can not hold more than " + MAX_EXPECTED_SIZE + " elements");
+        }
+        return true;
+    }
+
+    /**
+     * Return the first slot of a hash code.
+     *
+     * @param hash the hash code
+     * @param mask the table length - 1
+     * @return the slot index
+     */
+    static int slot(final int hash, final int mask) {
+        int h = hash * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Return the first slot of a {@code long} value.
+     *
+     * @param value the value
+     * @param mask the table length - 1
+     * @return the slot index
+     */
+    static int slot(final long value, final int mask) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.queomedia.commons.checks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded cache of compiled regular expressions.
+ *
+ * The cache keeps the (approximately) least recently used patterns, so checks that are invoked with the same regular
+ * expression again and again, compile the expression only once.
+ * Hits and misses are counted, so the cache size can be adjusted to the number of used expressions.
+ *
+ * A lookup that finds its pattern takes no lock: the usage stamp of a pattern is only written on the first hit after
+ * a miss, and the least recently used pattern is searched only when a compiled pattern is added to a full cache.
+ *
+ * This class is thread safe.
+ */
+public final class PatternCache {
+
+    /** The maximal number of patterns in the cache. */
+    private final int maxSize;
+
+    /** The patterns by their regular expression. */
+    private final ConcurrentMap<String, Entry> patterns = new ConcurrentHashMap<String, Entry>();
+
+    /** Number of lookups that found a compiled pattern. */
+    private final StripedCounter hitCount = new StripedCounter();
+
+    /** Number of lookups that needed to compile the pattern, also the clock of the usage stamps. */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * A cached pattern and its usage stamp.
+     */
+    private static final class Entry {
+
+        /** The compiled pattern. */
+        private final Pattern pattern;
+
+        /**
+         * The usage stamp: 2 * miss count when the pattern was added, 2 * miss count + 1 when it was last found -
+         * the pattern with the least stamp is the least recently used one.
+         */
+        private volatile long stamp;
+
+        /**
+         * Instantiates a new entry.
+         *
+         * @param pattern the compiled pattern
+         * @param stamp the usage stamp
+         */
+        Entry(final Pattern pattern, final long stamp) {
+            this.pattern = pattern;
+            this.stamp = stamp;
+        }
+    }
+
+    /**
+     * Instantiates a new pattern cache.
+     *
+     * @param maxSize the maximal number of patterns in the cache
+     */
+    public PatternCache(final int maxSize) {
+        Check.notZeroOrNegativeArgument(maxSize, "maxSize");
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Return the compiled pattern for the regular expression. The pattern is compiled if it is not in the cache.
+     *
+     * @param regex the regular expression
+     * @return the compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the expression's syntax is invalid
+     */
+    public Pattern getPattern(final String regex) {
+        Check.notNullArgument(regex, "regex");
+
+        Entry entry = this.patterns.get(regex);
+        if (entry != null) {
+            this.hitCount.increment();
+            long stamp = 2 * this.missCount.get() + 1;
+            if (entry.stamp != stamp) {
+                entry.stamp = stamp;
+            }
+            return entry.pattern;
+        }
+
+        /* a concurrent compile of the same expression is harmless */
+        long misses = this.missCount.incrementAndGet();
+        Pattern pattern = Pattern.compile(regex);
+        this.patterns.put(regex, new Entry(pattern, 2 * misses));
+        if (this.patterns.size() > this.maxSize) {
+            this.evictLeastRecentlyUsed(regex);
+        }
+        return pattern;
+    }
+
+    /**
+     * Remove the least recently used pattern, but not the one that was just added.
+     *
+     * @param added the regular expression of the added pattern
+     */
+    private void evictLeastRecentlyUsed(final String added) {
+        Map.Entry<String, Entry> eldest = null;
+        for (Map.Entry<String, Entry> candidate : this.patterns.entrySet()) {
+            if (!candidate.getKey().equals(added)
+                    && ((eldest == null) || (candidate.getValue().stamp < eldest.getValue().stamp))) {
+                eldest = candidate;
+            }
+        }
+        if (eldest != null) {
+            this.patterns.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Remove all patterns from the cache. The counters are not reset.
+     */
+    public void clear() {
+        this.patterns.clear();
+    }
+
+    /**
+     * Gets the maximal number of patterns in the cache.
+     *
+     * @return the max size
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Gets the current number of patterns in the cache.
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return this.patterns.size();
+    }
+
+    /**
+     * Gets the number of lookups that found an already compiled pattern.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Gets the number of lookups that needed to compile the pattern.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "PatternCache [maxSize=" + this.maxSize + ", size=" + this.patterns.size() + ", hitCount="
+                + this.hitCount.sum() + ", missCount=" + this.missCount.get() + "]";
+    }
+
+}
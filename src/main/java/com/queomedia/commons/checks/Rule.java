@@ -0,0 +1,95 @@
+package com.queomedia.commons.checks;
+
+/**
+ * A composable argument check, created by the factory methods of {@link Rules} and combined by {@link #and(Rule)},
+ * {@link #or(Rule)} and {@link Rules#not(Rule)}.
+ *
+ * <pre>
+ * private static final Rule&lt;String&gt; NAME = Rules.&lt;String&gt; notNull().and(Rules.length(1, 40));
+ *
+ * public void rename(final String name) {
+ *     NAME.checkArgument(name, "name");
+ *     ...
+ * }
+ * </pre>
+ *
+ * The parameters of a rule (for example the bounds of a range) are validated once, when the rule is created - not
+ * on every check like by the {@code Check} methods. Combined rules are flattened: {@code a.and(b).and(c)} is one rule
+ * that evaluates {@code a}, {@code b} and {@code c} in one loop. A rule allocates nothing when the value passes.
+ *
+ * Rules are immutable and thread safe, so they are typically declared as constants.
+ *
+ * @param <T> the type of the checked values
+ */
+public abstract class Rule<T> {
+
+    /**
+     * Only the rules of this package.
+     */
+    Rule() {
+        super();
+    }
+
+    /**
+     * Evaluate the rule.
+     *
+     * @param value the value, can be {@code null}
+     * @param argumentName the argument name for the failure
+     * @return {@link CheckResult#OK} or the failure
+     */
+    abstract CheckResult evaluate(T value, String argumentName);
+
+    /**
+     * Validate the value without throwing an exception.
+     *
+     * @param value the value, can be {@code null}
+     * @param argumentName the argument name for the failure
+     * @return {@link CheckResult#OK} or the failure
+     */
+    public final CheckResult validate(final T value, final String argumentName) {
+        Check.notNullArgument(argumentName, "argumentName");
+
+        return this.evaluate(value, argumentName);
+    }
+
+    /**
+     * Check the argument: a violation is handled like every other failed argument check of {@link Check}.
+     *
+     * @param value the value, can be {@code null}
+     * @param argumentName the argument name
+     */
+    public final void checkArgument(final T value, final String argumentName) {
+        Check.notNullArgument(argumentName, "argumentName");
+
+        CheckResult result = this.evaluate(value, argumentName);
+        if (result != CheckResult.OK) {
+            Check.argumentResult(result);
+        }
+    }
+
+    /**
+     * Combine this rule with an other one: the value must satisfy both - the other rule is only evaluated if this
+     * rule is satisfied.
+     *
+     * @param other the other rule
+     * @return the combined rule
+     */
+    public Rule<T> and(final Rule<? super T> other) {
+        Check.notNullArgument(other, "other");
+
+        return Rules.and(this, other);
+    }
+
+    /**
+     * Combine this rule with an other one: the value must satisfy at least one of them.
+     *
+     * @param other the other rule
+     * @return the combined rule
+     */
+    public Rule<T> or(final Rule<? super T> other) {
+        Check.notNullArgument(other, "other");
+
+        return Rules.or(this, other);
+    }
+
+}
@@ -0,0 +1,519 @@
+package com.queomedia.commons.checks;
+
+import java.util.Collection;
+
+import com.queomedia.commons.checks.CheckResult.Code;
+
+/**
+ * Factory of the composable argument checks ({@link Rule}), with the semantics of the corresponding {@link Check}
+ * methods.
+ *
+ * <pre>
+ * Rule&lt;List&lt;String&gt;&gt; tags = Rules.&lt;List&lt;String&gt;&gt; size(1, 10)
+ *         .and(Rules.each(Rules.&lt;CharSequence&gt; notNull().and(Rules.length(1, 20))));
+ * </pre>
+ *
+ * All rules except {@link #not(Rule)} and {@link #or(Rule, Rule)} fail for a {@code null} value, with the same
+ * failure as {@link Check#notNullArgument(Object, String)}.
+ */
+public final class Rules {
+
+    /** The rule of {@link #notNull()}. */
+    private static final Rule<Object> NOT_NULL = new Rule<Object>() {
+
+        @Override
+        CheckResult evaluate(final Object value, final String argumentName) {
+            if (value == null) {
+                return CheckResult.nullArgument(argumentName);
+            }
+            return CheckResult.OK;
+        }
+
+        @Override
+        public String toString() {
+            return "notNull";
+        }
+    };
+
+    /**
+     * Util classes need no constructor.
+     */
+    private Rules() {
+        super();
+    }
+
+    /**
+     * The value must not be {@code null}, like {@link Check#notNullArgument(Object, String)}.
+     *
+     * @param <T> the type of the checked values
+     * @return the rule
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Rule<T> notNull() {
+        return (Rule<T>) NOT_NULL;
+    }
+
+    /**
+     * The value must be between min and max (both inclusive), like
+     * {@link Check#argumentBetween(int, int, int, String)}.
+     *
+     * @param <T> the type of the checked values
+     * @param min the minimum
+     * @param max the maximum, not less than min
+     * @return the rule
+     */
+    public static <T extends Comparable<? super T>> Rule<T> between(final T min, final T max) {
+        Check.notNullArgument(min, "min");
+        Check.notNullArgument(max, "max");
+        if (min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("min " + min + " > max " + max);
+        }
+
+        return new RangeRule<T>(min, max);
+    }
+
+    /**
+     * The length of the value must be between min and max (both inclusive), like
+     * {@link Check#minLengthArgument(String, int, String)} and {@link Check#maxLengthArgument(String, int, String)}.
+     *
+     * @param min the minimal length
+     * @param max the maximal length, not less than min
+     * @return the rule
+     */
+    public static Rule<CharSequence> length(final int min, final int max) {
+        Rules.checkRange(min, max);
+
+        return new LengthRule(min, max);
+    }
+
+    /**
+     * The size of the collection must be between min and max (both inclusive).
+     *
+     * @param <C> the collection type
+     * @param min the minimal size
+     * @param max the maximal size, not less than min
+     * @return the rule
+     */
+    @SuppressWarnings("unchecked")
+    public static <C extends Collection<?>> Rule<C> size(final int min, final int max) {
+        Rules.checkRange(min, max);
+
+        return (Rule<C>) new SizeRule(min, max);
+    }
+
+    /**
+     * Check the bounds of a length or size range. The bounds are checked unconditionally - also if the argument
+     * checks are not active - because an invalid range would create a rule that is never satisfied.
+     *
+     * @param min the minimum, not negative
+     * @param max the maximum, not less than min
+     */
+    private static void checkRange(final int min, final int max) {
+        if (min < 0) {
+            throw new IllegalArgumentException("min " + min + " < 0");
+        }
+        if (min > max) {
+            throw new IllegalArgumentException("min " + min + " > max " + max);
+        }
+    }
+
+    /**
+     * Every element of the iterable must satisfy the rule. A violation is reported for the element with the
+     * argument name {@code argumentName[index]}.
+     *
+     * @param <E> the element type
+     * @param elementRule the rule of the elements
+     * @return the rule
+     */
+    public static <E> Rule<Iterable<? extends E>> each(final Rule<? super E> elementRule) {
+        Check.notNullArgument(elementRule, "elementRule");
+
+        return new EachRule<E>(elementRule);
+    }
+
+    /**
+     * The value must violate the rule.
+     *
+     * @param <T> the type of the checked values
+     * @param rule the negated rule
+     * @return the rule
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Rule<T> not(final Rule<T> rule) {
+        Check.notNullArgument(rule, "rule");
+
+        if (rule instanceof NotRule) {
+            return ((NotRule<T>) rule).rule;
+        }
+        return new NotRule<T>(rule);
+    }
+
+    /**
+     * The value must satisfy both rules, see {@link Rule#and(Rule)}.
+     *
+     * @param <T> the type of the checked values
+     * @param first the first rule
+     * @param second the second rule
+     * @return the rule
+     */
+    public static <T> Rule<T> and(final Rule<T> first, final Rule<? super T> second) {
+        Check.notNullArgument(first, "first");
+        Check.notNullArgument(second, "second");
+
+        return new AndRule<T>(Rules.concat(AndRule.class, first, second));
+    }
+
+    /**
+     * The value must satisfy at least one of the rules, see {@link Rule#or(Rule)}.
+     *
+     * @param <T> the type of the checked values
+     * @param first the first rule
+     * @param second the second rule
+     * @return the rule
+     */
+    public static <T> Rule<T> or(final Rule<T> first, final Rule<? super T> second) {
+        Check.notNullArgument(first, "first");
+        Check.notNullArgument(second, "second");
+
+        return new OrRule<T>(Rules.concat(OrRule.class, first, second));
+    }
+
+    /**
+     * Concatenate the parts of two rules to one flat array: a rule of the combination type contributes its parts,
+     * every other rule itself.
+     *
+     * @param combination the type of the combined rule
+     * @param first the first rule
+     * @param second the second rule
+     * @return the parts
+     */
+    private static Rule<?>[] concat(final Class<?> combination, final Rule<?> first, final Rule<?> second) {
+        Rule<?>[] firstParts = Rules.parts(combination, first);
+        Rule<?>[] secondParts = Rules.parts(combination, second);
+        Rule<?>[] parts = new Rule<?>[firstParts.length + secondParts.length];
+        System.arraycopy(firstParts, 0, parts, 0, firstParts.length);
+        System.arraycopy(secondParts, 0, parts, firstParts.length, secondParts.length);
+        return parts;
+    }
+
+    /**
+     * Return the parts of the rule, if it is of the combination type, else the rule itself.
+     *
+     * @param combination the type of the combined rule
+     * @param rule the rule
+     * @return the parts
+     */
+    private static Rule<?>[] parts(final Class<?> combination, final Rule<?> rule) {
+        if (combination.isInstance(rule)) {
+            return ((CombinedRule<?>) rule).parts;
+        }
+        return new Rule<?>[] { rule };
+    }
+
+    /**
+     * Describe the combined rule.
+     *
+     * @param parts the parts
+     * @param operator the operator between the parts
+     * @return the description
+     */
+    private static String describe(final Rule<?>[] parts, final String operator) {
+        StringBuilder description = new StringBuilder("(");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                description.append(' ').append(operator).append(' ');
+            }
+            description.append(parts[i]);
+        }
+        return description.append(')').toString();
+    }
+
+    /**
+     * A rule that is combined of other rules.
+     *
+     * @param <T> the type of the checked values
+     */
+    private abstract static class CombinedRule<T> extends Rule<T> {
+
+        /** The parts, every part accepts the values of this rule. */
+        final Rule<Object>[] parts;
+
+        /**
+         * Instantiates a new combined rule.
+         *
+         * @param parts the parts
+         */
+        @SuppressWarnings("unchecked")
+        CombinedRule(final Rule<?>[] parts) {
+            this.parts = (Rule<Object>[]) parts;
+        }
+    }
+
+    /**
+     * All parts must be satisfied.
+     *
+     * @param <T> the type of the checked values
+     */
+    private static final class AndRule<T> extends CombinedRule<T> {
+
+        /**
+         * Instantiates a new and rule.
+         *
+         * @param parts the parts
+         */
+        AndRule(final Rule<?>[] parts) {
+            super(parts);
+        }
+
+        @Override
+        CheckResult evaluate(final T value, final String argumentName) {
+            for (Rule<Object> part : this.parts) {
+                CheckResult result = part.evaluate(value, argumentName);
+                if (result != CheckResult.OK) {
+                    return result;
+                }
+            }
+            return CheckResult.OK;
+        }
+
+        @Override
+        public String toString() {
+            return Rules.describe(this.parts, "and");
+        }
+    }
+
+    /**
+     * At least one part must be satisfied.
+     *
+     * @param <T> the type of the checked values
+     */
+    private static final class OrRule<T> extends CombinedRule<T> {
+
+        /**
+         * Instantiates a new or rule.
+         *
+         * @param parts the parts
+         */
+        OrRule(final Rule<?>[] parts) {
+            super(parts);
+        }
+
+        @Override
+        CheckResult evaluate(final T value, final String argumentName) {
+            for (Rule<Object> part : this.parts) {
+                if (part.evaluate(value, argumentName) == CheckResult.OK) {
+                    return CheckResult.OK;
+                }
+            }
+            return CheckResult.failure(Code.RULE_VIOLATED, argumentName, value, this);
+        }
+
+        @Override
+        public String toString() {
+            return Rules.describe(this.parts, "or");
+        }
+    }
+
+    /**
+     * The negation of a rule.
+     *
+     * @param <T> the type of the checked values
+     */
+    private static final class NotRule<T> extends Rule<T> {
+
+        /** The negated rule. */
+        private final Rule<T> rule;
+
+        /**
+         * Instantiates a new not rule.
+         *
+         * @param rule the negated rule
+         */
+        NotRule(final Rule<T> rule) {
+            this.rule = rule;
+        }
+
+        @Override
+        CheckResult evaluate(final T value, final String argumentName) {
+            if (this.rule.evaluate(value, argumentName) == CheckResult.OK) {
+                return CheckResult.failure(Code.RULE_VIOLATED, argumentName, value, this);
+            }
+            return CheckResult.OK;
+        }
+
+        @Override
+        public String toString() {
+            return "not(" + this.rule + ")";
+        }
+    }
+
+    /**
+     * The value must be between min and max.
+     *
+     * @param <T> the type of the checked values
+     */
+    private static final class RangeRule<T extends Comparable<? super T>> extends Rule<T> {
+
+        /** The minimum. */
+        private final T min;
+
+        /** The maximum. */
+        private final T max;
+
+        /**
+         * Instantiates a new range rule.
+         *
+         * @param min the minimum
+         * @param max the maximum
+         */
+        RangeRule(final T min, final T max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        CheckResult evaluate(final T value, final String argumentName) {
+            if (value == null) {
+                return CheckResult.nullArgument(argumentName);
+            }
+            if (value.compareTo(this.min) < 0) {
+                return CheckResult.failure(Code.TOO_SMALL, argumentName, value, this.min);
+            }
+            if (value.compareTo(this.max) > 0) {
+                return CheckResult.failure(Code.TOO_LARGE, argumentName, value, this.max);
+            }
+            return CheckResult.OK;
+        }
+
+        @Override
+        public String toString() {
+            return "between(" + this.min + ", " + this.max + ")";
+        }
+    }
+
+    /**
+     * The length of the value must be between min and max.
+     */
+    private static final class LengthRule extends Rule<CharSequence> {
+
+        /** The minimal length. */
+        private final int min;
+
+        /** The maximal length. */
+        private final int max;
+
+        /**
+         * Instantiates a new length rule.
+         *
+         * @param min the minimal length
+         * @param max the maximal length
+         */
+        LengthRule(final int min, final int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        CheckResult evaluate(final CharSequence value, final String argumentName) {
+            if (value == null) {
+                return CheckResult.nullArgument(argumentName);
+            }
+            int length = value.length();
+            if (length < this.min) {
+                return CheckResult.failure(Code.TOO_SHORT, argumentName, length, this.min);
+            }
+            if (length > this.max) {
+                return CheckResult.failure(Code.TOO_LONG, argumentName, length, this.max);
+            }
+            return CheckResult.OK;
+        }
+
+        @Override
+        public String toString() {
+            return "length(" + this.min + ", " + this.max + ")";
+        }
+    }
+
+    /**
+     * The size of the collection must be between min and max.
+     */
+    private static final class SizeRule extends Rule<Collection<?>> {
+
+        /** The minimal size. */
+        private final int min;
+
+        /** The maximal size. */
+        private final int max;
+
+        /**
+         * Instantiates a new size rule.
+         *
+         * @param min the minimal size
+         * @param max the maximal size
+         */
+        SizeRule(final int min, final int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        CheckResult evaluate(final Collection<?> value, final String argumentName) {
+            if (value == null) {
+                return CheckResult.nullArgument(argumentName);
+            }
+            int size = value.size();
+            if ((size < this.min) || (size > this.max)) {
+                return CheckResult.failure(Code.RULE_VIOLATED, argumentName, "of size " + size, this);
+            }
+            return CheckResult.OK;
+        }
+
+        @Override
+        public String toString() {
+            return "size(" + this.min + ", " + this.max + ")";
+        }
+    }
+
+    /**
+     * Every element must satisfy the element rule.
+     *
+     * @param <E> the element type
+     */
+    private static final class EachRule<E> extends Rule<Iterable<? extends E>> {
+
+        /** The rule of the elements. */
+        private final Rule<Object> elementRule;
+
+        /**
+         * Instantiates a new each rule.
+         *
+         * @param elementRule the rule of the elements
+         */
+        @SuppressWarnings("unchecked")
+        EachRule(final Rule<? super E> elementRule) {
+            this.elementRule = (Rule<Object>) elementRule;
+        }
+
+        @Override
+        CheckResult evaluate(final Iterable<? extends E> value, final String argumentName) {
+            if (value == null) {
+                return CheckResult.nullArgument(argumentName);
+            }
+            int index = 0;
+            for (E element : value) {
+                if (this.elementRule.evaluate(element, argumentName) != CheckResult.OK) {
+                    /* evaluate again, to name the element only in the failure */
+                    return this.elementRule.evaluate(element, argumentName + "[" + index + "]");
+                }
+                index++;
+            }
+            return CheckResult.OK;
+        }
+
+        @Override
+        public String toString() {
+            return "each(" + this.elementRule + ")";
+        }
+    }
+
+}
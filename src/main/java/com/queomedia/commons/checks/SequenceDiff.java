@@ -0,0 +1,315 @@
+package com.queomedia.commons.checks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.queomedia.commons.equals.EqualsChecker;
+
+/**
+ * The minimal edit script (insertions and deletions) that transforms the expected sequence into the found one, for
+ * the failure message of the {@code sameOrder} checks. One inserted element in a long list is reported as one
+ * insertion, instead of a difference at every following index.
+ *
+ * The script is computed by the greedy algorithm of Myers ("An O(ND) Difference Algorithm and Its Variations"),
+ * after the common prefix and suffix are skipped. It is only used when a check has already failed, and its cost is
+ * bounded: skipping the common prefix and suffix takes at most n element comparisons, then the search stops after
+ * {@link #MAX_EDITS} edits or {@link #MAX_COMPARISONS} further element comparisons. So the memory is
+ * O(MAX_EDITS^2) and the time is O(n + MAX_COMPARISONS).
+ */
+abstract class SequenceDiff {
+
+    /** The maximal number of insertions and deletions that are searched. */
+    static final int MAX_EDITS = 64;
+
+    /** The maximal number of element comparisons of the search. */
+    static final int MAX_COMPARISONS = 1 << 22;
+
+    /** The size of the expected sequence. */
+    private final int expectedSize;
+
+    /** The size of the found sequence. */
+    private final int foundSize;
+
+    /**
+     * Instantiates a new diff.
+     *
+     * @param expectedSize the size of the expected sequence
+     * @param foundSize the size of the found sequence
+     */
+    SequenceDiff(final int expectedSize, final int foundSize) {
+        this.expectedSize = expectedSize;
+        this.foundSize = foundSize;
+    }
+
+    /**
+     * Checks if the elements are equal.
+     *
+     * @param expectedIndex the index in the expected sequence
+     * @param foundIndex the index in the found sequence
+     * @return true, if equal
+     */
+    abstract boolean equal(int expectedIndex, int foundIndex);
+
+    /**
+     * Return the expected element as string.
+     *
+     * @param index the index in the expected sequence
+     * @return the element as string
+     */
+    abstract String expectedElement(int index);
+
+    /**
+     * Return the found element as string.
+     *
+     * @param index the index in the found sequence
+     * @return the element as string
+     */
+    abstract String foundElement(int index);
+
+    /**
+     * Create the diff of two lists.
+     *
+     * @param <T> the type of the expected elements
+     * @param <K> the type of the found elements
+     * @param expected the expected list
+     * @param found the found list
+     * @param equalsChecker the equals definition
+     * @return the diff
+     */
+    static <T, K> SequenceDiff of(final List<T> expected, final List<K> found,
+            final EqualsChecker<T, K> equalsChecker) {
+        final List<T> expectedElements = SequenceDiff.randomAccess(expected);
+        final List<K> foundElements = SequenceDiff.randomAccess(found);
+        return new SequenceDiff(expectedElements.size(), foundElements.size()) {
+
+            @Override
+            boolean equal(final int expectedIndex, final int foundIndex) {
+                return equalsChecker.equals(expectedElements.get(expectedIndex), foundElements.get(foundIndex));
+            }
+
+            @Override
+            String expectedElement(final int index) {
+                return String.valueOf(expectedElements.get(index));
+            }
+
+            @Override
+            String foundElement(final int index) {
+                return String.valueOf(foundElements.get(index));
+            }
+        };
+    }
+
+    /**
+     * Create the diff of two {@code int} arrays.
+     *
+     * @param expected the expected array
+     * @param found the found array
+     * @param equalsChecker the equals definition, {@code null} for {@code ==}
+     * @return the diff
+     */
+    static SequenceDiff of(final int[] expected, final int[] found, final IntEqualsChecker equalsChecker) {
+        return new SequenceDiff(expected.length, found.length) {
+
+            @Override
+            boolean equal(final int expectedIndex, final int foundIndex) {
+                if (equalsChecker == null) {
+                    return expected[expectedIndex] == found[foundIndex];
+                }
+                return equalsChecker.equals(expected[expectedIndex], found[foundIndex]);
+            }
+
+            @Override
+            String expectedElement(final int index) {
+                return String.valueOf(expected[index]);
+            }
+
+            @Override
+            String foundElement(final int index) {
+                return String.valueOf(found[index]);
+            }
+        };
+    }
+
+    /**
+     * Create the diff of two {@code long} arrays.
+     *
+     * @param expected the expected array
+     * @param found the found array
+     * @param equalsChecker the equals definition, {@code null} for {@code ==}
+     * @return the diff
+     */
+    static SequenceDiff of(final long[] expected, final long[] found, final LongEqualsChecker equalsChecker) {
+        return new SequenceDiff(expected.length, found.length) {
+
+            @Override
+            boolean equal(final int expectedIndex, final int foundIndex) {
+                if (equalsChecker == null) {
+                    return expected[expectedIndex] == found[foundIndex];
+                }
+                return equalsChecker.equals(expected[expectedIndex], found[foundIndex]);
+            }
+
+            @Override
+            String expectedElement(final int index) {
+                return String.valueOf(expected[index]);
+            }
+
+            @Override
+            String foundElement(final int index) {
+                return String.valueOf(found[index]);
+            }
+        };
+    }
+
+    /**
+     * Return the list itself if it supports fast random access, else a copy.
+     *
+     * @param <T> the element type
+     * @param list the list
+     * @return the list with fast random access
+     */
+    private static <T> List<T> randomAccess(final List<T> list) {
+        if (list instanceof RandomAccess) {
+            return list;
+        }
+        return new ArrayList<T>(list);
+    }
+
+    /**
+     * Describe the edit script, as end of a failure message.
+     *
+     * @return {@code " - minimal edit script (<n> edits): <edits>"}, or a notice if the script exceeds the limits
+     *         or the equals definition failed
+     */
+    String describe() {
+        List<String> edits;
+        try {
+            edits = this.editScript();
+        } catch (RuntimeException e) {
+            return " - no edit script, the equals definition failed: " + e;
+        }
+        if (edits == null) {
+            return " - no edit script within the limit of " + MAX_EDITS + " insertions and deletions";
+        }
+        StringBuilder description = new StringBuilder(" - minimal edit script (").append(edits.size())
+                .append(" edits): ");
+        for (int i = 0; i < edits.size(); i++) {
+            if (i > 0) {
+                description.append(", ");
+            }
+            description.append(edits.get(i));
+        }
+        return description.toString();
+    }
+
+    /**
+     * Compute the minimal edit script.
+     *
+     * @return the insertions and deletions in the order of the sequences, or {@code null} if the script exceeds the
+     *         limits
+     */
+    List<String> editScript() {
+        return this.editScript(MAX_COMPARISONS);
+    }
+
+    /**
+     * Compute the minimal edit script, with a budget for the element comparisons of the search.
+     *
+     * @param maxComparisons the maximal number of element comparisons after the common prefix and suffix
+     * @return the insertions and deletions in the order of the sequences, or {@code null} if the script exceeds the
+     *         limits
+     */
+    List<String> editScript(final long maxComparisons) {
+        /* skip the common prefix and suffix, they are part of every minimal script */
+        int prefix = 0;
+        int maxPrefix = Math.min(this.expectedSize, this.foundSize);
+        while ((prefix < maxPrefix) && this.equal(prefix, prefix)) {
+            prefix++;
+        }
+        int expectedEnd = this.expectedSize;
+        int foundEnd = this.foundSize;
+        while ((expectedEnd > prefix) && (foundEnd > prefix) && this.equal(expectedEnd - 1, foundEnd - 1)) {
+            expectedEnd--;
+            foundEnd--;
+        }
+        int n = expectedEnd - prefix;
+        int m = foundEnd - prefix;
+        if (Math.abs(n - m) > MAX_EDITS) {
+            /* the edit distance is at least the difference of the lengths */
+            return null;
+        }
+
+        /* v[offset + k] is the furthest x on diagonal k (y = x - k), trace[d] is v after step d */
+        int offset = MAX_EDITS + 1;
+        int[] v = new int[2 * MAX_EDITS + 3];
+        int[][] trace = new int[MAX_EDITS + 1][];
+        long comparisons = 0;
+        for (int d = 0; d <= MAX_EDITS; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if ((k == -d) || ((k != d) && (v[offset + k - 1] < v[offset + k + 1]))) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                while ((x < n) && (y < m)) {
+                    if (comparisons >= maxComparisons) {
+                        return null;
+                    }
+                    comparisons++;
+                    if (!this.equal(prefix + x, prefix + y)) {
+                        break;
+                    }
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if ((x >= n) && (y >= m)) {
+                    trace[d] = v.clone();
+                    return this.backtrack(trace, d, n, m, prefix);
+                }
+            }
+            trace[d] = v.clone();
+        }
+        return null;
+    }
+
+    /**
+     * Follow the trace back from the end point and collect the edits.
+     *
+     * @param trace the furthest points of every step
+     * @param editCount the number of edits
+     * @param n the length of the expected middle part
+     * @param m the length of the found middle part
+     * @param prefix the length of the common prefix
+     * @return the edits in the order of the sequences
+     */
+    private List<String> backtrack(final int[][] trace, final int editCount, final int n, final int m,
+            final int prefix) {
+        int offset = MAX_EDITS + 1;
+        String[] edits = new String[editCount];
+        int x = n;
+        int y = m;
+        for (int d = editCount; d > 0; d--) {
+            int[] previous = trace[d - 1];
+            int k = x - y;
+            boolean insertion = (k == -d) || ((k != d) && (previous[offset + k - 1] < previous[offset + k + 1]));
+            int previousK = insertion ? k + 1 : k - 1;
+            int previousX = previous[offset + previousK];
+            int previousY = previousX - previousK;
+            if (insertion) {
+                edits[d - 1] = "insert found[" + (prefix + previousY) + "]=" + this.foundElement(prefix + previousY);
+            } else {
+                edits[d - 1] = "delete expected[" + (prefix + previousX) + "]="
+                        + this.expectedElement(prefix + previousX);
+            }
+            x = previousX;
+            y = previousY;
+        }
+        return Arrays.asList(edits);
+    }
+
+}
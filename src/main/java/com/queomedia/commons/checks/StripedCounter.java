@@ -0,0 +1,71 @@
+package com.queomedia.commons.checks;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter that is updated by many threads without contention: every thread updates one of several cells (chosen
+ * by the thread id), and the value is the sum of all cells.
+ *
+ * The cells are padded, so that two cells are not in the same cache line.
+ */
+final class StripedCounter {
+
+    /** The number of cells, must be a power of two. */
+    private static final int CELLS = 16;
+
+    /** The distance between two cells in the array (8 longs = 64 bytes, one cache line). */
+    private static final int PADDING = 8;
+
+    /** The cells. */
+    private final AtomicLongArray cells = new AtomicLongArray(CELLS * PADDING);
+
+    /**
+     * Return the array index of the cell of the current thread.
+     *
+     * @return the index
+     */
+    private static int cellIndex() {
+        return ((int) Thread.currentThread().getId() & (CELLS - 1)) * PADDING;
+    }
+
+    /**
+     * Increment the counter.
+     *
+     * @return the new value of the cell of the current thread (not the sum)
+     */
+    long increment() {
+        return this.cells.incrementAndGet(StripedCounter.cellIndex());
+    }
+
+    /**
+     * Add a value to the counter.
+     *
+     * @param value the value
+     */
+    void add(final long value) {
+        this.cells.addAndGet(StripedCounter.cellIndex(), value);
+    }
+
+    /**
+     * Return the sum of all cells. The sum is not an atomic snapshot if the counter is updated concurrently.
+     *
+     * @return the sum
+     */
+    long sum() {
+        long sum = 0;
+        for (int i = 0; i < CELLS; i++) {
+            sum += this.cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    /**
+     * Reset all cells to zero.
+     */
+    void reset() {
+        for (int i = 0; i < CELLS; i++) {
+            this.cells.set(i * PADDING, 0);
+        }
+    }
+
+}
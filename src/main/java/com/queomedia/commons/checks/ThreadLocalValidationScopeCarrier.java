@@ -0,0 +1,36 @@
+package com.queomedia.commons.checks;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The default {@link ValidationScopeCarrier}, based on a {@code ThreadLocal}.
+ *
+ * The thread local value exists only while an action runs in a scope, and it is removed afterwards, so a thread
+ * that is not within a scope has no thread local entry at all.
+ */
+final class ThreadLocalValidationScopeCarrier implements ValidationScopeCarrier {
+
+    /** The scope of the current thread. */
+    private final ThreadLocal<ValidationScope> scope = new ThreadLocal<ValidationScope>();
+
+    @Override
+    public ValidationScope current() {
+        return this.scope.get();
+    }
+
+    @Override
+    public <T> T call(final ValidationScope scope, final Callable<T> action) throws Exception {
+        ValidationScope previous = this.scope.get();
+        this.scope.set(scope);
+        try {
+            return action.call();
+        } finally {
+            if (previous == null) {
+                this.scope.remove();
+            } else {
+                this.scope.set(previous);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,275 @@
+package com.queomedia.commons.checks;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An opt-in memo of immutable collection instances that already passed a linear or super linear check, so that
+ * checking the same instance again costs O(1).
+ *
+ * <pre>
+ * private static final List&lt;String&gt; LOCALES = ValidationMemo.markImmutable(
+ *         Collections.unmodifiableList(Arrays.asList("de", "en")));
+ * </pre>
+ *
+ * Only collections that are explicitly marked by {@link #markImmutable(Collection)} are memorized - the caller
+ * guarantees that the instance (and the state of its elements that matters for the checks) never changes.
+ * The memo is used by:
+ * <ul>
+ * <li>{@code notNullElementArgument}</li>
+ * <li>{@code uniqueElementsArgument} and {@code uniqueElements} with the native equals definition</li>
+ * <li>{@code containsExact} of two collections without equals checker, if both collections are marked</li>
+ * </ul>
+ *
+ * The instances are held by weak references and identified by {@code ==}, so the memo never prevents garbage
+ * collection and never invokes {@code equals} or {@code hashCode} of the collections. The size of the memo is
+ * bounded by its {@link #getCapacity() capacity}: when there is no free slot for a new mark, an older mark is
+ * evicted - the evicted collection is then simply checked again on every invocation.
+ *
+ * As long as no collection was marked, the checks do not access the memo at all. This class is thread safe; when
+ * two threads record a passed check at the same time, one record can get lost, which only means that the check is
+ * executed once more.
+ */
+public final class ValidationMemo {
+
+    /** The default number of slots. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Check kind: the collection does not contain {@code null}. */
+    static final int NOT_NULL_ELEMENTS = 1;
+
+    /** Check kind: the elements of the collection are unique with respect to their {@code equals}. */
+    static final int UNIQUE_ELEMENTS = 2;
+
+    /** The number of slots that are probed for one collection. */
+    private static final int PROBES = 8;
+
+    /** The maximal number of slots. */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** True as soon as a collection was marked - until then the checks skip the memo. */
+    private static volatile boolean active;
+
+    /** The slots, the length is a power of two. */
+    private static volatile AtomicReferenceArray<Entry> table = new AtomicReferenceArray<Entry>(DEFAULT_CAPACITY);
+
+    /** Counter to choose the evicted slot of a full probe window. */
+    private static final AtomicInteger EVICTIONS = new AtomicInteger();
+
+    /**
+     * The memo entry of one marked collection.
+     */
+    private static final class Entry extends WeakReference<Collection<?>> {
+
+        /** The bit set of the passed check kinds. */
+        private volatile int passedChecks;
+
+        /** The last expected collection of a passed {@code containsExact} check, with this collection as found. */
+        private volatile WeakReference<Collection<?>> containsExactExpected;
+
+        /**
+         * Instantiates a new entry.
+         *
+         * @param collection the marked collection
+         */
+        Entry(final Collection<?> collection) {
+            super(collection);
+        }
+    }
+
+    /**
+     * Util classes need no constructor.
+     */
+    private ValidationMemo() {
+        super();
+    }
+
+    /**
+     * Mark the collection as immutable, so that the checks can memorize that it passed them.
+     *
+     * @param <C> the collection type
+     * @param collection the collection - it must never change afterwards
+     * @return the collection
+     */
+    public static <C extends Collection<?>> C markImmutable(final C collection) {
+        Check.notNullArgument(collection, "collection");
+
+        AtomicReferenceArray<Entry> slots = ValidationMemo.table;
+        if (ValidationMemo.find(slots, collection) == null) {
+            ValidationMemo.insert(slots, new Entry(collection));
+        }
+        ValidationMemo.active = true;
+        return collection;
+    }
+
+    /**
+     * Checks if the collection is marked as immutable (and not evicted).
+     *
+     * @param collection the collection
+     * @return true, if marked
+     */
+    public static boolean isMarkedImmutable(final Collection<?> collection) {
+        return ValidationMemo.find(ValidationMemo.table, collection) != null;
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return the capacity
+     */
+    public static int getCapacity() {
+        return ValidationMemo.table.length();
+    }
+
+    /**
+     * Sets the number of slots - this removes all marks.
+     *
+     * @param capacity the capacity, is rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is less than 8 or greater than 2^30
+     */
+    public static void setCapacity(final int capacity) {
+        /* not by a check that the soft mode can skip - the rounding below would not end for larger capacities */
+        if ((capacity < PROBES) || (capacity > MAX_CAPACITY)) {
+            throw new IllegalArgumentException("capacity " + capacity + " must be between " + PROBES + " and "
+                    + MAX_CAPACITY);
+        }
+
+        int slots = PROBES;
+        while (slots < capacity) {
+            slots <<= 1;
+        }
+        ValidationMemo.table = new AtomicReferenceArray<Entry>(slots);
+    }
+
+    /**
+     * Remove all marks.
+     */
+    public static void clear() {
+        ValidationMemo.table = new AtomicReferenceArray<Entry>(ValidationMemo.table.length());
+    }
+
+    /**
+     * Checks if the marked collection already passed the check.
+     *
+     * @param collection the collection, can be {@code null}
+     * @param checkKind the check kind
+     * @return true, if the collection is marked and passed the check
+     */
+    static boolean passed(final Collection<?> collection, final int checkKind) {
+        if (!ValidationMemo.active) {
+            return false;
+        }
+        Entry entry = ValidationMemo.find(ValidationMemo.table, collection);
+        return (entry != null) && ((entry.passedChecks & checkKind) != 0);
+    }
+
+    /**
+     * Record that the collection passed the check, if it is marked.
+     *
+     * @param collection the collection
+     * @param checkKind the check kind
+     */
+    static void recordPassed(final Collection<?> collection, final int checkKind) {
+        if (!ValidationMemo.active) {
+            return;
+        }
+        Entry entry = ValidationMemo.find(ValidationMemo.table, collection);
+        if (entry != null) {
+            entry.passedChecks |= checkKind;
+        }
+    }
+
+    /**
+     * Checks if the marked collections already passed {@code containsExact}.
+     *
+     * @param expected the expected collection, can be {@code null}
+     * @param found the found collection, can be {@code null}
+     * @return true, if both collections are marked and passed the check together
+     */
+    static boolean passedContainsExact(final Collection<?> expected, final Collection<?> found) {
+        if (!ValidationMemo.active || (expected == null)) {
+            return false;
+        }
+        Entry entry = ValidationMemo.find(ValidationMemo.table, found);
+        if (entry == null) {
+            return false;
+        }
+        WeakReference<Collection<?>> passedExpected = entry.containsExactExpected;
+        return (passedExpected != null) && (passedExpected.get() == expected);
+    }
+
+    /**
+     * Record that the collections passed {@code containsExact}, if both are marked.
+     *
+     * @param expected the expected collection
+     * @param found the found collection
+     */
+    static void recordContainsExact(final Collection<?> expected, final Collection<?> found) {
+        if (!ValidationMemo.active) {
+            return;
+        }
+        AtomicReferenceArray<Entry> slots = ValidationMemo.table;
+        Entry entry = ValidationMemo.find(slots, found);
+        if ((entry != null) && (ValidationMemo.find(slots, expected) != null)) {
+            entry.containsExactExpected = new WeakReference<Collection<?>>(expected);
+        }
+    }
+
+    /**
+     * Return the first slot of the collection.
+     *
+     * @param collection the collection
+     * @param mask the slot count - 1
+     * @return the slot index
+     */
+    private static int slot(final Collection<?> collection, final int mask) {
+        int h = System.identityHashCode(collection) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Find the entry of the collection.
+     *
+     * @param slots the slots
+     * @param collection the collection, can be {@code null}
+     * @return the entry or {@code null} if the collection is not marked
+     */
+    private static Entry find(final AtomicReferenceArray<Entry> slots, final Collection<?> collection) {
+        if (collection == null) {
+            return null;
+        }
+        int mask = slots.length() - 1;
+        int start = ValidationMemo.slot(collection, mask);
+        for (int probe = 0; probe < PROBES; probe++) {
+            Entry entry = slots.get((start + probe) & mask);
+            if ((entry != null) && (entry.get() == collection)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Insert the entry into a free slot (or the slot of a collected collection) of its probe window, or evict an
+     * other entry of the window if there is none.
+     *
+     * @param slots the slots
+     * @param entry the new entry
+     */
+    private static void insert(final AtomicReferenceArray<Entry> slots, final Entry entry) {
+        int mask = slots.length() - 1;
+        int start = ValidationMemo.slot(entry.get(), mask);
+        for (int probe = 0; probe < PROBES; probe++) {
+            int index = (start + probe) & mask;
+            Entry current = slots.get(index);
+            if (((current == null) || (current.get() == null)) && slots.compareAndSet(index, current, entry)) {
+                return;
+            }
+        }
+        int victim = (start + (ValidationMemo.EVICTIONS.getAndIncrement() & (PROBES - 1))) & mask;
+        slots.set(victim, entry);
+    }
+
+}
@@ -0,0 +1,259 @@
+package com.queomedia.commons.checks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * A scope in which failed argument checks do not throw exceptions, but are collected or ignored - for example to
+ * validate one request completely and report all violations at once.
+ *
+ * <pre>
+ * ValidationScope scope = new ValidationScope(ValidationScope.Mode.COLLECT, 20);
+ * scope.run(new Runnable() {
+ *     public void run() {
+ *         validateRequest(request);
+ *     }
+ * });
+ * if (scope.hasViolations()) {
+ *     return badRequest(scope.getViolations());
+ * }
+ * </pre>
+ *
+ * The scope is bound to the executing thread only while the action runs, by the {@link ValidationScopeCarrier}, so
+ * there is no state left on the thread afterwards. The memory of a scope is bounded: only the first
+ * {@code maxRetainedViolations} messages are kept, all further violations are only counted.
+ *
+ * Only argument checks (the checks that throw an {@code IllegalArgumentException}) are affected by the scope, like
+ * by {@link Check#setActiveArgumentCheck(boolean)}. All other checks still throw a
+ * {@code ConstraintViolationException}. A check that can not continue after a failed precondition (for example a
+ * {@code null} argument) may still throw an other exception.
+ *
+ * The violations of one scope are recorded by one thread, so a scope must not be shared between threads that run at
+ * the same time.
+ */
+public final class ValidationScope {
+
+    /**
+     * What to do with the violations in the scope.
+     */
+    public enum Mode {
+
+        /** Count the violations and keep their messages. */
+        COLLECT,
+
+        /** Count the violations only. */
+        RELAX;
+    }
+
+    /** The carrier that binds the scopes to the threads. */
+    private static volatile ValidationScopeCarrier carrier = new ThreadLocalValidationScopeCarrier();
+
+    /** The mode. */
+    private final Mode mode;
+
+    /** The maximal number of retained messages. */
+    private final int maxRetainedViolations;
+
+    /** The retained messages, created on the first violation. */
+    private List<String> violations;
+
+    /** The number of all violations. */
+    private int violationCount;
+
+    /**
+     * Instantiates a new validation scope.
+     *
+     * @param mode the mode
+     * @param maxRetainedViolations the maximal number of violation messages that are kept (in {@link Mode#COLLECT})
+     */
+    public ValidationScope(final Mode mode, final int maxRetainedViolations) {
+        Check.notNullArgument(mode, "mode");
+        Check.notNegativeArgument(maxRetainedViolations, "maxRetainedViolations");
+
+        this.mode = mode;
+        this.maxRetainedViolations = maxRetainedViolations;
+    }
+
+    /**
+     * Gets the carrier that binds the scopes to the threads.
+     *
+     * @return the carrier
+     */
+    public static ValidationScopeCarrier getCarrier() {
+        return ValidationScope.carrier;
+    }
+
+    /**
+     * Sets the carrier that binds the scopes to the threads, for example one that is based on a {@code ScopedValue}.
+     * Should be set once at startup, when no scope is active.
+     *
+     * @param carrier the new carrier
+     */
+    public static void setCarrier(final ValidationScopeCarrier carrier) {
+        Check.notNullArgument(carrier, "carrier");
+
+        ValidationScope.carrier = carrier;
+    }
+
+    /**
+     * Return the scope of the current thread.
+     *
+     * @return the current scope or {@code null} if the thread does not run within a scope
+     */
+    public static ValidationScope current() {
+        return ValidationScope.carrier.current();
+    }
+
+    /**
+     * Run the action within this scope.
+     *
+     * @param action the action
+     */
+    public void run(final Runnable action) {
+        Check.notNullArgument(action, "action");
+
+        try {
+            ValidationScope.carrier.call(this, new Callable<Void>() {
+
+                @Override
+                public Void call() {
+                    action.run();
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            /* can not happen, Runnable throws only unchecked exceptions */
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Call the action within this scope.
+     *
+     * @param <T> the result type
+     * @param action the action
+     * @return the result of the action
+     * @throws Exception the exception thrown by the action
+     */
+    public <T> T call(final Callable<T> action) throws Exception {
+        Check.notNullArgument(action, "action");
+
+        return ValidationScope.carrier.call(this, action);
+    }
+
+    /**
+     * Record a violation.
+     *
+     * @param failure the exception that describes the violation
+     */
+    void violation(final Exception failure) {
+        if (this.countViolation()) {
+            this.violations.add(failure.getMessage());
+        }
+    }
+
+    /**
+     * Record a violation, the message is only rendered if it is retained.
+     *
+     * @param failure the result that describes the violation
+     */
+    void violation(final CheckResult failure) {
+        if (this.countViolation()) {
+            this.violations.add(failure.getMessage());
+        }
+    }
+
+    /**
+     * Record a violation.
+     *
+     * @param message the message of the violation
+     */
+    void violation(final String message) {
+        if (this.countViolation()) {
+            this.violations.add(message);
+        }
+    }
+
+    /**
+     * Record a violation whose message is not retained, see {@link #retainsNextViolation()}.
+     */
+    void violation() {
+        this.countViolation();
+    }
+
+    /**
+     * Checks if the message of the next violation is retained - if not, the violation can be recorded by
+     * {@link #violation()} without building its message.
+     *
+     * @return true, if the message of the next violation is retained
+     */
+    boolean retainsNextViolation() {
+        return (this.mode == Mode.COLLECT) && (this.violationCount < this.maxRetainedViolations);
+    }
+
+    /**
+     * Count a violation.
+     *
+     * @return true, if the message of the violation is retained
+     */
+    private boolean countViolation() {
+        this.violationCount++;
+        if ((this.mode == Mode.COLLECT) && (this.violationCount <= this.maxRetainedViolations)) {
+            if (this.violations == null) {
+                this.violations = new ArrayList<String>(Math.min(this.maxRetainedViolations, 16));
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the mode.
+     *
+     * @return the mode
+     */
+    public Mode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Checks for violations.
+     *
+     * @return true, if at least one check failed within the scope
+     */
+    public boolean hasViolations() {
+        return this.violationCount > 0;
+    }
+
+    /**
+     * Gets the number of all violations, including the ones whose message was not retained.
+     *
+     * @return the violation count
+     */
+    public int getViolationCount() {
+        return this.violationCount;
+    }
+
+    /**
+     * Gets the retained violation messages - at most {@code maxRetainedViolations}, only in {@link Mode#COLLECT}.
+     *
+     * @return the violation messages
+     */
+    public List<String> getViolations() {
+        if (this.violations == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(this.violations);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationScope [mode=" + this.mode + ", violationCount=" + this.violationCount + ", violations="
+                + this.getViolations() + "]";
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.queomedia.commons.checks;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Binds the current {@link ValidationScope} to the executing thread, for the time an action runs.
+ *
+ * The default carrier uses a {@code ThreadLocal} that is removed when the action is finished, so no state is left
+ * on (pooled or virtual) threads. On JDK 21+ a carrier can use a {@code ScopedValue} instead, for example:
+ *
+ * <pre>
+ * public final class ScopedValueCarrier implements ValidationScopeCarrier {
+ *     private static final ScopedValue&lt;ValidationScope&gt; SCOPE = ScopedValue.newInstance();
+ *
+ *     public ValidationScope current() {
+ *         return SCOPE.orElse(null);
+ *     }
+ *
+ *     public &lt;T&gt; T call(ValidationScope scope, Callable&lt;T&gt; action) throws Exception {
+ *         return ScopedValue.where(SCOPE, scope).call(action);
+ *     }
+ * }
+ * </pre>
+ *
+ * @see ValidationScope#setCarrier(ValidationScopeCarrier)
+ */
+public interface ValidationScopeCarrier {
+
+    /**
+     * Return the scope that is bound to the current thread.
+     *
+     * @return the current scope or {@code null} if there is none
+     */
+    ValidationScope current();
+
+    /**
+     * Run the action with the scope bound to the current thread. The previous scope (if any) must be restored when
+     * the action is finished.
+     *
+     * @param <T> the result type
+     * @param scope the scope
+     * @param action the action
+     * @return the result of the action
+     * @throws Exception the exception thrown by the action
+     */
+    <T> T call(ValidationScope scope, Callable<T> action) throws Exception;
+
+}
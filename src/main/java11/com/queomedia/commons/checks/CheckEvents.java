@@ -0,0 +1,87 @@
+package com.queomedia.commons.checks;
+
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.EventType;
+
+/**
+ * Emits Java Flight Recorder events for failed checks and for slow collection checks.
+ *
+ * This is the Java 11 version of the class, in the multi release jar. The events are
+ * {@link CheckFailureEvent com.queomedia.commons.checks.CheckFailure} and
+ * {@link SlowCollectionCheckEvent com.queomedia.commons.checks.SlowCollectionCheck}. A collection check is slow, if it
+ * takes at least the value of the system property {@code com.queomedia.commons.checks.slowCheckThresholdMillis}
+ * (default 10 ms).
+ */
+final class CheckEvents {
+
+    /** The type of the failure event. */
+    private static final EventType FAILURE = EventType.getEventType(CheckFailureEvent.class);
+
+    /** The type of the slow collection check event. */
+    private static final EventType COLLECTION_CHECK = EventType.getEventType(SlowCollectionCheckEvent.class);
+
+    /** The minimal duration of a slow collection check. */
+    private static final long SLOW_CHECK_THRESHOLD_NANOS = TimeUnit.MILLISECONDS
+            .toNanos(Long.getLong("com.queomedia.commons.checks.slowCheckThresholdMillis", 10));
+
+    /**
+     * Util classes need no constructor.
+     */
+    private CheckEvents() {
+        super();
+    }
+
+    /**
+     * Checks if the failure event is enabled.
+     *
+     * @return true, if enabled
+     */
+    static boolean isFailureEnabled() {
+        return FAILURE.isEnabled();
+    }
+
+    /**
+     * Checks if the slow collection check event is enabled.
+     *
+     * @return true, if enabled
+     */
+    static boolean isCollectionCheckEnabled() {
+        return COLLECTION_CHECK.isEnabled();
+    }
+
+    /**
+     * Emit a failure event.
+     *
+     * @param checkName the name of the check method
+     * @param argumentName the name of the checked argument, {@code null} for not argument checks
+     * @param failure the exception that describes the failure
+     */
+    static void failure(final String checkName, final String argumentName, final Throwable failure) {
+        CheckFailureEvent event = new CheckFailureEvent();
+        event.checkName = checkName;
+        event.argumentName = argumentName;
+        event.exceptionType = failure.getClass();
+        event.commit();
+    }
+
+    /**
+     * Emit a slow collection check event, if the check took longer than the threshold.
+     *
+     * @param checkName the name of the check method
+     * @param startNanos the {@link System#nanoTime()} when the check started
+     * @param size the size of the checked collection
+     */
+    static void collectionCheck(final String checkName, final long startNanos, final int size) {
+        long duration = System.nanoTime() - startNanos;
+        if (duration < SLOW_CHECK_THRESHOLD_NANOS) {
+            return;
+        }
+        SlowCollectionCheckEvent event = new SlowCollectionCheckEvent();
+        event.checkName = checkName;
+        event.checkDuration = duration;
+        event.size = size;
+        event.commit();
+    }
+
+}
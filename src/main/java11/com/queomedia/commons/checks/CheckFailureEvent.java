@@ -0,0 +1,29 @@
+package com.queomedia.commons.checks;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a failed check.
+ */
+@Name("com.queomedia.commons.checks.CheckFailure")
+@Label("Check Failure")
+@Category({ "Queo", "Checks" })
+@Description("A check of com.queomedia.commons.checks.Check failed")
+final class CheckFailureEvent extends jdk.jfr.Event {
+
+    /** The name of the check method. */
+    @Label("Check")
+    String checkName;
+
+    /** The name of the checked argument. */
+    @Label("Argument")
+    String argumentName;
+
+    /** The class of the exception that describes the failure. */
+    @Label("Exception Type")
+    Class<?> exceptionType;
+
+}
@@ -0,0 +1,31 @@
+package com.queomedia.commons.checks;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for a collection check that took longer than the threshold.
+ */
+@Name("com.queomedia.commons.checks.SlowCollectionCheck")
+@Label("Slow Collection Check")
+@Category({ "Queo", "Checks" })
+@Description("A collection check of com.queomedia.commons.checks.Check took longer than the threshold")
+final class SlowCollectionCheckEvent extends jdk.jfr.Event {
+
+    /** The name of the check method. */
+    @Label("Check")
+    String checkName;
+
+    /** The duration of the check. */
+    @Label("Check Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long checkDuration;
+
+    /** The size of the checked collection. */
+    @Label("Collection Size")
+    int size;
+
+}
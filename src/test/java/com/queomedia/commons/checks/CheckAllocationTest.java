@@ -0,0 +1,181 @@
+package com.queomedia.commons.checks;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Assert that the success paths of the most frequently used checks do not allocate memory, so that a boxing or
+ * varargs regression fails the build.
+ *
+ * The allocated bytes of the current thread are measured around a tight loop of each check. Measuring itself may
+ * allocate a few bytes, so the bytes of the same measurement around an empty loop are subtracted, and the test fails
+ * if the difference is one object - every allocated object is at least 16 bytes.
+ */
+public class CheckAllocationTest {
+
+    /** The number of invocations to warm up the jit compiler. */
+    private static final int WARM_UP = 20000;
+
+    /** The number of measured invocations. */
+    private static final int ITERATIONS = 100000;
+
+    /** The number of measured runs. */
+    private static final int MEASUREMENTS = 3;
+
+    /** The size of the smallest object in bytes. */
+    private static final int MIN_OBJECT_SIZE = 16;
+
+    /** The call site of the checks with a {@link CheckSite}. */
+    private static final CheckSite SITE = new CheckSite(CheckAllocationTest.class, "value");
+
+    /** The bean that measures the allocated bytes of the current thread. */
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    /** Values that are not compile time constants, so the checks can not be folded away. */
+    private final int[] values = new int[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+    @Before
+    public void setUp() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        this.threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(this.threadMXBean.isThreadAllocatedMemorySupported());
+        this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * A loop of one check.
+     */
+    private interface CheckLoop {
+
+        /**
+         * Run the check with different values.
+         *
+         * @param iterations the number of invocations
+         */
+        void run(int iterations);
+    }
+
+    /**
+     * Run the loop once to warm up, then measure the allocated bytes of the next runs - less the allocated bytes of
+     * the measurement itself.
+     *
+     * A recompilation within a run may allocate an object once (a deoptimization materializes the objects that
+     * escape analysis had eliminated), so the least allocation of {@link #MEASUREMENTS} runs is asserted - an
+     * allocation of the check itself happens in every run.
+     *
+     * @param loop the loop
+     */
+    private void assertNoAllocation(final CheckLoop loop) {
+        loop.run(WARM_UP);
+
+        long baseline = this.allocatedBytes(loop, 0);
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            allocated = Math.min(allocated, this.allocatedBytes(loop, ITERATIONS));
+        }
+
+        Assert.assertTrue("success path allocated " + allocated + " bytes in " + ITERATIONS + " invocations, the"
+                + " measurement itself " + baseline + " bytes", allocated - baseline < MIN_OBJECT_SIZE);
+    }
+
+    /**
+     * Measure the allocated bytes of one run of the loop.
+     *
+     * @param loop the loop
+     * @param iterations the number of invocations
+     * @return the allocated bytes of the current thread
+     */
+    private long allocatedBytes(final CheckLoop loop, final int iterations) {
+        long threadId = Thread.currentThread().getId();
+        long before = this.threadMXBean.getThreadAllocatedBytes(threadId);
+        loop.run(iterations);
+        return this.threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    @Test
+    public void testNotNullArgument() {
+        final Object argument = new Object();
+        assertNoAllocation(new CheckLoop() {
+
+            @Override
+            public void run(final int iterations) {
+                for (int i = 0; i < iterations; i++) {
+                    Check.notNullArgument(argument, "argument");
+                    Check.notNullArgument(argument, SITE);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testArgumentBetween() {
+        assertNoAllocation(new CheckLoop() {
+
+            @Override
+            public void run(final int iterations) {
+                int[] values = CheckAllocationTest.this.values;
+                for (int i = 0; i < iterations; i++) {
+                    int value = values[i & 7];
+                    Check.argumentBetween(value, 0, 10, "value");
+                    Check.argumentBetween(value, 0, 10, SITE);
+                    Check.argumentBetween((double) value, 0.0, 10.0, "value");
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testEqualArguments() {
+        assertNoAllocation(new CheckLoop() {
+
+            @Override
+            public void run(final int iterations) {
+                int[] values = CheckAllocationTest.this.values;
+                for (int i = 0; i < iterations; i++) {
+                    int value = values[i & 7];
+                    Check.equalArguments(value, value, "valueA", "valueB");
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testNotZeroArgument() {
+        assertNoAllocation(new CheckLoop() {
+
+            @Override
+            public void run(final int iterations) {
+                int[] values = CheckAllocationTest.this.values;
+                for (int i = 0; i < iterations; i++) {
+                    int value = values[i & 7];
+                    Check.notZeroArgument(value, "value");
+                    Check.notZeroArgument((long) value, "value");
+                    Check.notZeroArgument(value, SITE);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testRule() {
+        final Rule<String> name = Rules.<String> notNull().and(Rules.length(1, 10));
+        final Rule<Integer> percent = Rules.<Integer> notNull().and(Rules.between(0, 100));
+        final Integer[] boxedValues = new Integer[] { 0, 1, 2, 3, 4, 5, 6, 7 };
+        assertNoAllocation(new CheckLoop() {
+
+            @Override
+            public void run(final int iterations) {
+                for (int i = 0; i < iterations; i++) {
+                    name.checkArgument("name", "name");
+                    percent.checkArgument(boxedValues[i & 7], "percent");
+                }
+            }
+        });
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.queomedia.commons.checks;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.queomedia.commons.exceptions.ConstraintViolationException;
+
+public class CheckAuditorTest {
+
+    /** Collect the failures. */
+    private static final class CollectingHandler implements CheckAuditor.FailureHandler {
+
+        /** The failures. */
+        private final List<String> failures = new ArrayList<String>();
+
+        @Override
+        public synchronized void auditFailed(final String checkName, final RuntimeException failure) {
+            Assert.assertTrue(failure instanceof ConstraintViolationException);
+            this.failures.add(checkName);
+        }
+    }
+
+    @Test
+    public void testChecks() throws InterruptedException {
+        CollectingHandler handler = new CollectingHandler();
+        CheckAuditor auditor = new CheckAuditor(1, 10, 1000, handler);
+
+        Assert.assertTrue(auditor.uniqueElements(null, Arrays.asList(1, 2, 3)));
+        Assert.assertTrue(auditor.uniqueElements(null, Arrays.asList(1, 2, 1)));
+        Assert.assertTrue(auditor.containsExact(null, Arrays.asList(1, 2), Arrays.asList(2, 1)));
+        Assert.assertTrue(auditor.sameOrder(null, Arrays.asList(1, 2), Arrays.asList(2, 1)));
+        auditor.shutdown();
+        Assert.assertTrue(auditor.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assert.assertEquals(4, auditor.getSubmittedCount());
+        Assert.assertEquals(2, auditor.getFailureCount());
+        Assert.assertEquals(Arrays.asList("uniqueElements", "sameOrder"), handler.failures);
+        Assert.assertEquals(0, auditor.getQueuedElementCount());
+    }
+
+    @Test
+    public void testBackPressure() throws InterruptedException {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        CheckAuditor auditor = new CheckAuditor(1, 10, 5, new CollectingHandler());
+
+        /* block the only audit thread with a check on a list whose first element waits in equals */
+        Object blocker = new Object() {
+
+            @Override
+            public boolean equals(final Object obj) {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return false;
+            }
+
+            @Override
+            public int hashCode() {
+                return 0;
+            }
+        };
+        Assert.assertTrue(auditor.uniqueElements(null, Arrays.asList(blocker, 0)));
+        Assert.assertTrue(auditor.uniqueElements(null, Arrays.asList(1, 2, 3)));
+        /* 2 + 3 elements are queued, so there is no room for more */
+        Assert.assertFalse(auditor.uniqueElements(null, Arrays.asList(4)));
+        Assert.assertEquals(1, auditor.getDroppedCount());
+
+        blocked.countDown();
+        auditor.shutdown();
+        Assert.assertTrue(auditor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testBackPressure_noSnapshotOfDroppedCheck() {
+        CheckAuditor auditor = new CheckAuditor(1, 10, 5, new CollectingHandler());
+        List<Integer> tooLarge = new AbstractList<Integer>() {
+
+            @Override
+            public Integer get(final int index) {
+                throw new AssertionError("the elements of a dropped check must not be copied");
+            }
+
+            @Override
+            public Object[] toArray() {
+                throw new AssertionError("the elements of a dropped check must not be copied");
+            }
+
+            @Override
+            public int size() {
+                return 6;
+            }
+        };
+
+        Assert.assertFalse(auditor.uniqueElements(null, tooLarge));
+        Assert.assertFalse(auditor.sameOrder(null, Arrays.asList(1, 2, 3), tooLarge));
+        Assert.assertEquals(2, auditor.getDroppedCount());
+        Assert.assertEquals(0, auditor.getQueuedElementCount());
+        auditor.shutdown();
+    }
+
+}
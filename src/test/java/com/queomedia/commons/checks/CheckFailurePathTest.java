@@ -0,0 +1,268 @@
+package com.queomedia.commons.checks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.queomedia.commons.exceptions.ArgumentNullException;
+
+/**
+ * Benchmark of the failure path of the constant time argument checks ({@code argumentBetween},
+ * {@code notEmptyArgument} and {@code argumentInstanceOf}), like a service that rejects malformed requests.
+ *
+ * The cost of a rejection is measured by the allocated bytes of the current thread - unlike the time it is
+ * reproducible, and it is dominated by the same work: the stack trace and the message of the exception. The checks
+ * fail at a stack depth of {@link #DEPTH} frames, like in a request handler of a web container.
+ */
+public class CheckFailurePathTest {
+
+    /** The number of invocations to warm up the jit compiler. */
+    private static final int WARM_UP = 5000;
+
+    /** The number of measured rejections. */
+    private static final int ITERATIONS = 20000;
+
+    /** The stack depth of the failing checks. */
+    private static final int DEPTH = 40;
+
+    /** The call site of the checks with a {@link CheckSite}. */
+    private static final CheckSite SITE = new CheckSite(CheckFailurePathTest.class, "value");
+
+    @After
+    public void tearDown() {
+        Check.setFailureStackTraces(true);
+    }
+
+    /**
+     * Run the three failing checks.
+     *
+     * @param iterations the number of rejections of each check
+     * @return the number of caught exceptions
+     */
+    private static int reject(final int iterations) {
+        int caught = 0;
+        for (int i = 0; i < iterations; i++) {
+            try {
+                Check.argumentBetween(i + 11, 0, 10, "value");
+            } catch (IllegalArgumentException e) {
+                caught++;
+            }
+            try {
+                Check.argumentBetween(i + 11, 0, 10, SITE);
+            } catch (IllegalArgumentException e) {
+                caught++;
+            }
+            try {
+                Check.notEmptyArgument("", "name");
+            } catch (IllegalArgumentException e) {
+                caught++;
+            }
+            try {
+                Check.argumentInstanceOf(Integer.valueOf(i), String.class, "text");
+            } catch (IllegalArgumentException e) {
+                caught++;
+            }
+        }
+        return caught;
+    }
+
+    /**
+     * Run the rejections at the stack depth {@link #DEPTH}.
+     *
+     * @param depth the remaining depth
+     * @param iterations the number of rejections of each check
+     * @return the number of caught exceptions
+     */
+    private static int rejectAtDepth(final int depth, final int iterations) {
+        if (depth > 0) {
+            return CheckFailurePathTest.rejectAtDepth(depth - 1, iterations);
+        }
+        return CheckFailurePathTest.reject(iterations);
+    }
+
+    /**
+     * Measure the allocated bytes per rejection.
+     *
+     * @param scope the validation scope of the rejections, {@code null} for none
+     * @return the bytes per rejection
+     */
+    private static long allocatedBytesPerRejection(final ValidationScope scope) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        final long[] allocated = new long[1];
+        Runnable benchmark = new Runnable() {
+
+            @Override
+            public void run() {
+                CheckFailurePathTest.rejectAtDepth(DEPTH, WARM_UP);
+
+                long threadId = Thread.currentThread().getId();
+                long before = threadMXBean.getThreadAllocatedBytes(threadId);
+                CheckFailurePathTest.rejectAtDepth(DEPTH, ITERATIONS);
+                allocated[0] = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+            }
+        };
+        if (scope != null) {
+            scope.run(benchmark);
+        } else {
+            benchmark.run();
+        }
+        return allocated[0] / (4L * ITERATIONS);
+    }
+
+    @Test
+    public void testWithoutStackTracesAllocatesLess() {
+        long withStackTraces = CheckFailurePathTest.allocatedBytesPerRejection(null);
+        Check.setFailureStackTraces(false);
+        long withoutStackTraces = CheckFailurePathTest.allocatedBytesPerRejection(null);
+
+        Assert.assertTrue("with stack traces " + withStackTraces + " bytes, without " + withoutStackTraces + " bytes",
+                withoutStackTraces * 2 < withStackTraces);
+    }
+
+    @Test
+    public void testRelaxScopeCreatesNoException() {
+        long thrown = CheckFailurePathTest.allocatedBytesPerRejection(null);
+        ValidationScope scope = new ValidationScope(ValidationScope.Mode.RELAX, 0);
+        long counted = CheckFailurePathTest.allocatedBytesPerRejection(scope);
+
+        Assert.assertEquals(4 * (WARM_UP + ITERATIONS), scope.getViolationCount());
+        Assert.assertTrue("thrown " + thrown + " bytes, counted " + counted + " bytes", counted * 4 < thrown);
+    }
+
+    @Test
+    public void testRelaxScopeBuildsNoSiteMessage() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        final long[] allocated = new long[1];
+        ValidationScope scope = new ValidationScope(ValidationScope.Mode.RELAX, 0);
+        scope.run(new Runnable() {
+
+            @Override
+            public void run() {
+                for (int i = 0; i < WARM_UP + ITERATIONS; i++) {
+                    if (i == WARM_UP) {
+                        allocated[0] = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                    }
+                    Check.argumentBetween(i + 11, 0, 10, SITE);
+                }
+                allocated[0] = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocated[0];
+            }
+        });
+
+        Assert.assertEquals(WARM_UP + ITERATIONS, scope.getViolationCount());
+        /* the message of a site failure is about 100 bytes, so building it would allocate far more */
+        Assert.assertTrue("counted " + ITERATIONS + " site failures with " + allocated[0] + " bytes",
+                allocated[0] < ITERATIONS);
+    }
+
+    @Test
+    public void testCollectScopeRetainsMessages() {
+        ValidationScope scope = new ValidationScope(ValidationScope.Mode.COLLECT, 3);
+        scope.run(new Runnable() {
+
+            @Override
+            public void run() {
+                CheckFailurePathTest.reject(1);
+            }
+        });
+
+        Assert.assertEquals(4, scope.getViolationCount());
+        Assert.assertEquals(3, scope.getViolations().size());
+        Assert.assertEquals(CheckResults.argumentBetween(11, 0, 10, "value").getMessage(),
+                scope.getViolations().get(0));
+        Assert.assertEquals(SITE.getMessagePrefix() + " must be less or equals 10 but is 11",
+                scope.getViolations().get(1));
+    }
+
+    @Test
+    public void testWithoutStackTraceFailureKey() {
+        final List<String> checkIds = new ArrayList<String>();
+        Check.setFailureSink(new CheckFailureSink() {
+
+            @Override
+            public void failure(final long timestampMillis, final String checkId, final String argumentName,
+                    final String message) {
+                checkIds.add(checkId);
+            }
+        });
+        Check.setActiveArgumentCheck(false);
+        Check.setFailureStackTraces(false);
+        try {
+            Check.argumentBetween(11, 0, 10, "size");
+            Check.argumentBetween(11, 0, 10, "count");
+            Check.argumentBetween(11, 0, 10, SITE);
+        } finally {
+            Check.setActiveArgumentCheck(true);
+            Check.setFailureSink(null);
+        }
+
+        Assert.assertEquals(Arrays.asList("TOO_LARGE(size)", "TOO_LARGE(count)", SITE.getId()), checkIds);
+    }
+
+    @Test
+    public void testWithoutStackTraceSameTypeAndMessage() {
+        IllegalArgumentException withStackTrace = CheckFailurePathTest.argumentInstanceOfFailure();
+        Check.setFailureStackTraces(false);
+        IllegalArgumentException withoutStackTrace = CheckFailurePathTest.argumentInstanceOfFailure();
+
+        Assert.assertTrue(withStackTrace.getStackTrace().length > 0);
+        Assert.assertEquals(0, withoutStackTrace.getStackTrace().length);
+        Assert.assertEquals(withStackTrace.getMessage(), withoutStackTrace.getMessage());
+        Assert.assertEquals(withStackTrace.getMessage(), withoutStackTrace.getLocalizedMessage());
+    }
+
+    @Test(expected = ArgumentNullException.class)
+    public void testWithoutStackTraceNullArgument() {
+        Check.setFailureStackTraces(false);
+        Check.notEmptyArgument((String) null, "name");
+    }
+
+    @Test
+    public void testWithoutStackTraceSerializable() throws Exception {
+        Check.setFailureStackTraces(false);
+        IllegalArgumentException failure = CheckFailurePathTest.argumentInstanceOfFailure();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(failure);
+        out.close();
+        Object copy = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        Assert.assertEquals(IllegalArgumentException.class, copy.getClass());
+        Assert.assertEquals(failure.getMessage(), ((IllegalArgumentException) copy).getMessage());
+    }
+
+    /**
+     * Return the exception of a failed {@code argumentInstanceOf}.
+     *
+     * @return the exception
+     */
+    private static IllegalArgumentException argumentInstanceOfFailure() {
+        try {
+            Check.argumentInstanceOf(Integer.valueOf(1), String.class, "text");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+        throw new AssertionError("no failure");
+    }
+
+}
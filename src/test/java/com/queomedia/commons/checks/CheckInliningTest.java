@@ -0,0 +1,196 @@
+package com.queomedia.commons.checks;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Assert that the constant time argument checks are small enough to be inlined by the JIT at every call site.
+ *
+ * HotSpot inlines a method regardless of its invocation count if its bytecode is not longer than
+ * {@code -XX:MaxInlineSize} (35 bytes by default). So the bytecode length of the checks is read from the class file
+ * of {@link Check} and {@link CheckResults}: a check that gets an inline message construction again will fail this
+ * test.
+ */
+public class CheckInliningTest {
+
+    /** The default value of {@code -XX:MaxInlineSize}. */
+    private static final int MAX_INLINE_SIZE = 35;
+
+    /** The names of the checks of {@link Check} (all overloads) that must be inlineable. */
+    private static final Set<String> INLINED_CHECKS = new HashSet<String>(Arrays.asList("notNullArgument",
+            "notEmptyArgument",
+            "falseArgument",
+            "notZeroArgument",
+            "notZeroOrNegativeArgument",
+            "notNegativeArgument",
+            "argumentBetween",
+            "argumentGreaterEquals",
+            "argumentLessEquals",
+            "equalArguments",
+            "equalsArgument",
+            "argumentInstanceOf",
+            "maxLengthArgument",
+            "minLengthArgument",
+            "minOneElementArgument"));
+
+    /** The names of the checks of {@link CheckResults} (all overloads) that must be inlineable. */
+    private static final Set<String> INLINED_RESULT_CHECKS = new HashSet<String>(Arrays.asList("notNullArgument",
+            "falseArgument",
+            "notZeroArgument",
+            "notZeroOrNegativeArgument",
+            "notNegativeArgument",
+            "argumentBetween",
+            "argumentGreaterEquals",
+            "argumentLessEquals",
+            "equalArguments"));
+
+    @Test
+    public void testConstantTimeChecksAreInlineable() throws IOException {
+        CheckInliningTest.assertInlineable(Check.class, INLINED_CHECKS);
+    }
+
+    @Test
+    public void testConstantTimeResultChecksAreInlineable() throws IOException {
+        CheckInliningTest.assertInlineable(CheckResults.class, INLINED_RESULT_CHECKS);
+    }
+
+    /**
+     * Assert that all overloads of the methods are not longer than {@link #MAX_INLINE_SIZE}.
+     *
+     * @param clazz the class
+     * @param methodNames the method names
+     * @throws IOException if the class file can not be read
+     */
+    private static void assertInlineable(final Class<?> clazz, final Set<String> methodNames) throws IOException {
+        Map<String, Integer> codeLengths = CheckInliningTest.readCodeLengths(clazz);
+
+        List<String> tooLong = new ArrayList<String>();
+        int checked = 0;
+        for (Map.Entry<String, Integer> method : codeLengths.entrySet()) {
+            String name = method.getKey().substring(0, method.getKey().indexOf('('));
+            if (methodNames.contains(name)) {
+                checked++;
+                if (method.getValue() > MAX_INLINE_SIZE) {
+                    tooLong.add(method.getKey() + " = " + method.getValue() + " bytes");
+                }
+            }
+        }
+
+        Assert.assertTrue("no check found", checked >= methodNames.size());
+        Assert.assertTrue("checks longer than " + MAX_INLINE_SIZE + " bytes: " + tooLong, tooLong.isEmpty());
+    }
+
+    /**
+     * Read the bytecode length of all methods from the class file.
+     *
+     * @param clazz the class
+     * @return the code length by method name + descriptor
+     * @throws IOException if the class file can not be read
+     */
+    private static Map<String, Integer> readCodeLengths(final Class<?> clazz) throws IOException {
+        InputStream classFile = clazz.getResourceAsStream(clazz.getSimpleName() + ".class");
+        Assert.assertNotNull("class file of " + clazz, classFile);
+        DataInputStream in = new DataInputStream(classFile);
+        try {
+            in.readInt(); // magic
+            in.readUnsignedShort(); // minor version
+            in.readUnsignedShort(); // major version
+
+            int constantPoolCount = in.readUnsignedShort();
+            String[] utf8 = new String[constantPoolCount];
+            for (int i = 1; i < constantPoolCount; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.skipBytes(2);
+                    break;
+                case 15: // MethodHandle
+                    in.skipBytes(3);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.skipBytes(4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    in.skipBytes(8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("unknown constant pool tag " + tag);
+                }
+            }
+
+            in.skipBytes(6); // access flags, this class, super class
+            in.skipBytes(2 * in.readUnsignedShort()); // interfaces
+            int fieldCount = in.readUnsignedShort();
+            for (int i = 0; i < fieldCount; i++) {
+                in.skipBytes(6);
+                CheckInliningTest.skipAttributes(in);
+            }
+
+            Map<String, Integer> codeLengths = new HashMap<String, Integer>();
+            int methodCount = in.readUnsignedShort();
+            for (int i = 0; i < methodCount; i++) {
+                in.skipBytes(2); // access flags
+                String name = utf8[in.readUnsignedShort()];
+                String descriptor = utf8[in.readUnsignedShort()];
+                int attributeCount = in.readUnsignedShort();
+                for (int a = 0; a < attributeCount; a++) {
+                    String attributeName = utf8[in.readUnsignedShort()];
+                    int length = in.readInt();
+                    if ("Code".equals(attributeName)) {
+                        in.skipBytes(4); // max stack, max locals
+                        int codeLength = in.readInt();
+                        codeLengths.put(name + descriptor, codeLength);
+                        in.skipBytes(length - 8);
+                    } else {
+                        in.skipBytes(length);
+                    }
+                }
+            }
+            return codeLengths;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Skip the attributes of a field.
+     *
+     * @param in the class file
+     * @throws IOException if the class file can not be read
+     */
+    private static void skipAttributes(final DataInputStream in) throws IOException {
+        int attributeCount = in.readUnsignedShort();
+        for (int a = 0; a < attributeCount; a++) {
+            in.skipBytes(2);
+            in.skipBytes(in.readInt());
+        }
+    }
+
+}
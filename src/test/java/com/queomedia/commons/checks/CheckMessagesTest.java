@@ -0,0 +1,97 @@
+package com.queomedia.commons.checks;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckMessagesTest {
+
+    /**
+     * A bundle that overrides the message of {@link CheckResult.Code#TOO_LARGE}.
+     */
+    public static class TestMessages extends ListResourceBundle {
+
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] { { "TOO_LARGE", "{0} darf hoechstens {2} sein, ist aber {1}" } };
+        }
+    }
+
+    @After
+    public void tearDown() {
+        CheckMessages.setResourceBundle(null);
+    }
+
+    @Test
+    public void testDefaultMessage() {
+        Assert.assertEquals("[Assertion failed] - this String argument <code>size</code> must be less or equals 10 but"
+                + " is 11", CheckResults.argumentBetween(11, 0, 10, "size").getMessage());
+        Assert.assertEquals("[Assertion failed] - the arguments a and b are not equal, the firstone is 1 the second one"
+                + " is 2", CheckResults.equalArguments(1, 2, "a", "b").getMessage());
+    }
+
+    @Test
+    public void testDefaultPatterns_compile() {
+        for (CheckResult.Code code : CheckResult.Code.values()) {
+            if (code != CheckResult.Code.OK) {
+                Assert.assertEquals(CheckMessages.defaultPattern(code), CheckMessages.getPattern(code));
+            }
+        }
+    }
+
+    @Test
+    public void testSetResourceBundle() {
+        CheckMessages.setResourceBundle(new TestMessages());
+
+        Assert.assertEquals("size darf hoechstens 10 sein, ist aber 11",
+                CheckResults.argumentBetween(11, 0, 10, "size").getMessage());
+        /* codes without key keep the default message */
+        Assert.assertEquals("[Assertion failed] - argument name must not be null",
+                CheckResults.notNullArgument(null, "name").getMessage());
+    }
+
+    @Test
+    public void testUseResourceBundle() {
+        CheckMessages.useResourceBundle(TestMessages.class.getName(), Locale.GERMAN);
+
+        Assert.assertEquals("size darf hoechstens 10 sein, ist aber 11",
+                CheckResults.argumentBetween(11, 0, 10, "size").getMessage());
+    }
+
+    @Test
+    public void testSetResourceBundle_exceptionMessage() {
+        CheckMessages.setResourceBundle(new TestMessages());
+
+        try {
+            Check.argumentBetween(11, 0, 10, "size");
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("size darf hoechstens 10 sein, ist aber 11", e.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetPattern_okInRelaxScope() throws Exception {
+        new ValidationScope(ValidationScope.Mode.RELAX, 0).call(new Callable<String>() {
+
+            @Override
+            public String call() {
+                return CheckMessages.getPattern(CheckResult.Code.OK);
+            }
+        });
+    }
+
+    @Test
+    public void testSetResourceBundle_null() {
+        CheckMessages.setResourceBundle(new TestMessages());
+        CheckMessages.setResourceBundle(null);
+
+        Assert.assertEquals(CheckMessages.defaultPattern(CheckResult.Code.TOO_LARGE),
+                CheckMessages.getPattern(CheckResult.Code.TOO_LARGE));
+    }
+
+}
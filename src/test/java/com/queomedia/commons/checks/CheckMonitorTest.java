@@ -0,0 +1,183 @@
+package com.queomedia.commons.checks;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.queomedia.commons.exceptions.ConstraintViolationException;
+
+public class CheckMonitorTest {
+
+    private final CheckMonitor monitor = new CheckMonitor();
+
+    @Before
+    public void setUp() {
+        this.monitor.setSamplingRate(1);
+        this.monitor.resetStatistics();
+    }
+
+    @After
+    public void tearDown() {
+        this.monitor.setSamplingRate(0);
+        this.monitor.resetStatistics();
+        this.monitor.setLinearChecksEnabled(true);
+        this.monitor.setFailureStackTraces(true);
+    }
+
+    @Test
+    public void testInvocationCountsAndTime() {
+        Check.uniqueElements(Arrays.asList(1, 2, 3));
+        Check.uniqueElements(Arrays.asList(1, 2));
+
+        Assert.assertEquals(Long.valueOf(2), this.monitor.getInvocationCounts().get("uniqueElements"));
+        Assert.assertNotNull(this.monitor.getAverageNanos().get("uniqueElements"));
+    }
+
+    @Test
+    public void testInvocationCounts_instanceChecks() {
+        Object instance = new Object();
+        Check.containsInstance(instance, Arrays.asList(new Object(), instance));
+        Check.containsNotInstance(new Object(), Arrays.asList(instance));
+
+        Assert.assertEquals(Long.valueOf(1), this.monitor.getInvocationCounts().get("containsInstance"));
+        Assert.assertEquals(Long.valueOf(1), this.monitor.getInvocationCounts().get("containsNotInstance"));
+    }
+
+    @Test
+    public void testInvocationCounts_argumentChecks() {
+        Check.notNullArgument("value", "argument");
+        Check.notNullArgument("value", "argument");
+        Check.argumentBetween(5, 0, 10, "size");
+
+        Assert.assertEquals(Long.valueOf(2), this.monitor.getInvocationCounts().get("notNullArgument"));
+        Assert.assertEquals(Long.valueOf(1), this.monitor.getInvocationCounts().get("argumentBetween"));
+        Assert.assertNull(this.monitor.getAverageNanos().get("notNullArgument"));
+    }
+
+    @Test
+    public void testInvocationCounts_disabled() {
+        this.monitor.setSamplingRate(0);
+        this.monitor.resetStatistics();
+        CheckSite site = new CheckSite(CheckMonitorTest.class, "disabled");
+
+        Check.uniqueElements(Arrays.asList(1, 2, 3));
+        Check.notNullArgument("value", "argument");
+        Check.notNullArgument("value", site);
+
+        Assert.assertTrue(this.monitor.getInvocationCounts().isEmpty());
+        Assert.assertTrue(this.monitor.getSiteInvocationCounts().isEmpty());
+        Assert.assertEquals(0, site.getInvocationCount());
+    }
+
+    @Test
+    public void testSiteInvocationCounts() {
+        CheckSite site = new CheckSite(CheckMonitorTest.class, "invoked");
+        CheckSite collectionSite = new CheckSite(CheckMonitorTest.class, "invokedCollection");
+        Check.notNullArgument("value", site);
+        Check.argumentBetween(5, 0, 10, site);
+        Check.notNullElementArgument(Arrays.asList(1, 2), collectionSite);
+
+        Assert.assertEquals(Long.valueOf(2), this.monitor.getSiteInvocationCounts().get(site.getId()));
+        Assert.assertEquals(Long.valueOf(1), this.monitor.getSiteInvocationCounts().get(collectionSite.getId()));
+
+        this.monitor.resetStatistics();
+        Assert.assertEquals(0, site.getInvocationCount());
+        Assert.assertTrue(this.monitor.getSiteInvocationCounts().isEmpty());
+
+        Check.notNullArgument("value", site);
+        Assert.assertEquals(Long.valueOf(1), this.monitor.getSiteInvocationCounts().get(site.getId()));
+    }
+
+    @Test
+    public void testFailureCounts() {
+        try {
+            Check.sameOrder(Arrays.asList(1, 2), Arrays.asList(2, 1));
+            Assert.fail("expected ConstraintViolationException");
+        } catch (ConstraintViolationException e) {
+            /* expected */
+        }
+        try {
+            Check.notNullArgument(null, "argument");
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            /* expected */
+        }
+
+        Assert.assertEquals(Long.valueOf(1), this.monitor.getFailureCounts().get("sameOrder"));
+        Assert.assertEquals(Long.valueOf(1), this.monitor.getFailureCounts().get("notNullArgument"));
+    }
+
+    @Test
+    public void testFailureCounts_withoutStackTraces() {
+        CheckSite site = new CheckSite(CheckMonitorTest.class, "lightweight");
+        this.monitor.setFailureStackTraces(false);
+        try {
+            Check.argumentBetween(11, 0, 10, "size");
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            /* expected */
+        }
+        try {
+            Check.argumentBetween(11, 0, 10, site);
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            /* expected */
+        }
+
+        Assert.assertEquals(Long.valueOf(1), this.monitor.getFailureCounts().get("TOO_LARGE(size)"));
+        Assert.assertEquals(Long.valueOf(1), this.monitor.getFailureCounts().get(site.getId()));
+        Assert.assertNull(this.monitor.getFailureCounts().get("unknown"));
+    }
+
+    @Test
+    public void testSiteFailureCounts() {
+        CheckSite site = new CheckSite(CheckMonitorTest.class, "monitored");
+        try {
+            Check.notNullElementArgument(Collections.singleton(null), site);
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            /* expected */
+        }
+
+        Assert.assertEquals(Long.valueOf(1), this.monitor.getSiteFailureCounts().get(site.getId()));
+    }
+
+    @Test
+    public void testSetLinearChecksEnabled() {
+        this.monitor.setLinearChecksEnabled(false);
+
+        Assert.assertFalse(Check.isCostTierEnabled(CheckCost.LINEAR));
+    }
+
+    @Test
+    public void testSetFailureStackTraces() {
+        this.monitor.setFailureStackTraces(false);
+
+        Assert.assertFalse(Check.isFailureStackTraces());
+        Assert.assertFalse(this.monitor.isFailureStackTraces());
+    }
+
+    @Test
+    public void testRegister() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(CheckMonitor.OBJECT_NAME);
+
+        CheckMonitor.register();
+        try {
+            Assert.assertEquals(Integer.valueOf(1), server.getAttribute(name, "SamplingRate"));
+            Assert.assertEquals("NONE", server.getAttribute(name, "AlternativeFailureAction"));
+        } finally {
+            CheckMonitor.unregister();
+        }
+        Assert.assertFalse(server.isRegistered(name));
+    }
+
+}
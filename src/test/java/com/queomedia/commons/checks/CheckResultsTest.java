@@ -0,0 +1,231 @@
+package com.queomedia.commons.checks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.queomedia.commons.checks.CheckResult.Code;
+import com.queomedia.commons.exceptions.ArgumentNullException;
+
+public class CheckResultsTest {
+
+    private static final Comparator<Integer> INTEGER_ORDER = new Comparator<Integer>() {
+
+        @Override
+        public int compare(final Integer o1, final Integer o2) {
+            return o1.compareTo(o2);
+        }
+    };
+
+    @Test
+    public void testOk() {
+        Assert.assertSame(CheckResult.OK, CheckResults.notNullArgument("x", "argument"));
+        Assert.assertSame(CheckResult.OK, CheckResults.argumentBetween(5, 1, 10, "argument"));
+        Assert.assertSame(CheckResult.OK, CheckResults.maxLengthArgument("abc", 3, "argument"));
+        Assert.assertTrue(CheckResult.OK.isOk());
+        Assert.assertNull(CheckResult.OK.getMessage());
+    }
+
+    @Test
+    public void testFailure() {
+        CheckResult result = CheckResults.argumentBetween(11, 1, 10, "argument");
+
+        Assert.assertFalse(result.isOk());
+        Assert.assertEquals(Code.TOO_LARGE, result.getCode());
+        Assert.assertEquals("argument", result.getArgumentName());
+        Assert.assertEquals("[Assertion failed] - this String argument <code>argument</code> must be less or equals 10"
+                + " but is 11", result.getMessage());
+    }
+
+    @Test
+    public void testNullArgumentName() {
+        CheckResult result = CheckResults.notZeroArgument(1, null);
+
+        Assert.assertEquals(Code.NULL, result.getCode());
+        Assert.assertEquals("argumentName", result.getArgumentName());
+        Assert.assertTrue(result.toException() instanceof ArgumentNullException);
+    }
+
+    @Test
+    public void testEqualArguments() {
+        CheckResult result = CheckResults.equalArguments(1, 2, "a", "b");
+
+        Assert.assertEquals(Code.ARGUMENTS_NOT_EQUAL, result.getCode());
+        Assert.assertEquals("a, b", result.getArgumentName());
+    }
+
+    @Test
+    public void testAllowedCharacters() {
+        CheckResult result = CheckResults.allowedCharactersArgument("ab-c", "abc", "argument");
+
+        Assert.assertEquals(Code.NOT_ALLOWED_CHARACTER, result.getCode());
+        Assert.assertTrue(result.getMessage(), result.getMessage().endsWith("'-' at index 2"));
+    }
+
+    @Test
+    public void testDisabledCostTier() {
+        Check.setCostTierEnabled(CheckCost.LINEAR, false);
+        try {
+            Assert.assertSame(CheckResult.OK, CheckResults.matchesArgument("abc", Pattern.compile("x"), "argument"));
+        } finally {
+            Check.setCostTierEnabled(CheckCost.LINEAR, true);
+        }
+    }
+
+    @Test
+    public void testCollectionChecksOk() {
+        Map<String, Integer> map = new TreeMap<String, Integer>();
+        map.put("a", 1);
+
+        Assert.assertSame(CheckResult.OK, CheckResults.notNullElementArgument(Arrays.asList(1, 2), "argument"));
+        Assert.assertSame(CheckResult.OK, CheckResults.notNullEntriesArgument(map, "argument"));
+        Assert.assertSame(CheckResult.OK, CheckResults.valuesBetweenArgument(map, 0, 1, "argument"));
+        Assert.assertSame(CheckResult.OK, CheckResults.containsKeysArgument(map, Arrays.asList("a"), "argument"));
+        Assert.assertSame(CheckResult.OK,
+                CheckResults.sortedArgument(Arrays.asList(1, 1, 2), INTEGER_ORDER, "argument"));
+        Assert.assertSame(CheckResult.OK, CheckResults.uniqueElementsArgument(Arrays.asList(1, 2), "argument"));
+        Assert.assertSame(CheckResult.OK,
+                CheckResults.sameSizeArgument(Arrays.asList(1), Arrays.asList(2), "argumentA", "argumentB"));
+        Assert.assertSame(CheckResult.OK, CheckResults.argumentExactNotNullCount(1, "a, b", "x", null));
+    }
+
+    @Test
+    public void testNotNullElement() {
+        CheckResult result = CheckResults.notNullElementArgument(Arrays.asList(1, null), "argument");
+
+        Assert.assertEquals(Code.NULL_ELEMENT, result.getCode());
+        Assert.assertEquals("[Assertion failed] - collection argument should not contain a null element, but it has"
+                + " one or more - argument = [1, null]", result.getMessage());
+    }
+
+    @Test
+    public void testValuesBetween() {
+        Map<String, Integer> map = new TreeMap<String, Integer>();
+        map.put("a", 1);
+        map.put("b", 7);
+        CheckResult result = CheckResults.valuesBetweenArgument(map, 0, 5, "argument");
+
+        Assert.assertEquals(Code.VALUE_OUT_OF_RANGE, result.getCode());
+        Assert.assertEquals("[Assertion failed] - map argument must contain only not null keys with values between 0"
+                + " and 5 - but found entry b=7", result.getMessage());
+    }
+
+    @Test
+    public void testContainsKeys_nullRequiredKey() {
+        CheckResult result = CheckResults.containsKeysArgument(new TreeMap<String, Integer>(),
+                Arrays.asList((String) null), "argument");
+
+        Assert.assertEquals(Code.NULL, result.getCode());
+        Assert.assertEquals("requiredKey", result.getArgumentName());
+    }
+
+    @Test
+    public void testStrictlyIncreasing() {
+        CheckResult result = CheckResults.strictlyIncreasingArgument(new Integer[] { 1, 2, 2 }, INTEGER_ORDER,
+                "argument");
+
+        Assert.assertEquals(Code.NOT_STRICTLY_INCREASING, result.getCode());
+        Assert.assertEquals("[Assertion failed] - the elements of argument argument are not strictly increasing -"
+                + " element[1]: 2, element[2]: 2 - argument = [1, 2, 2]", result.getMessage());
+    }
+
+    @Test
+    public void testUniqueElements() {
+        CheckResult result = CheckResults.uniqueElementsArgument(Arrays.asList(1, 2, 1, 2), "argument");
+
+        Assert.assertEquals(Code.NOT_UNIQUE, result.getCode());
+        Assert.assertTrue(result.getMessage(),
+                result.getMessage().endsWith("equals element[0]: 1, equals element[2]: 1, collection=[1, 2, 1, 2]"));
+    }
+
+    @Test
+    public void testSameSize() {
+        CheckResult result = CheckResults.sameSizeArgument(new Integer[1], new Integer[2], "argumentA", "argumentB");
+
+        Assert.assertEquals(Code.DIFFERENT_LENGTH, result.getCode());
+        Assert.assertEquals("argumentA, argumentB", result.getArgumentName());
+        Assert.assertEquals("[Assertion failed] - arrays have different length: argumentA.length = 1 ,"
+                + " argumentB.length = 2\n argumentNameA = argumentA,\n argumentNameB = argumentA",
+                result.getMessage());
+    }
+
+    @Test
+    public void testDisabledCostTier_collectionChecks() {
+        Check.setCostTierEnabled(CheckCost.LINEAR, false);
+        Check.setCostTierEnabled(CheckCost.SUPER_LINEAR, false);
+        try {
+            Assert.assertSame(CheckResult.OK, CheckResults.notNullElementArgument(Arrays.asList(1, null), "argument"));
+            Assert.assertSame(CheckResult.OK,
+                    CheckResults.sortedArgument(Arrays.asList(2, 1), INTEGER_ORDER, "argument"));
+            Assert.assertSame(CheckResult.OK, CheckResults.uniqueElementsArgument(Arrays.asList(1, 1), "argument"));
+        } finally {
+            Check.setCostTierEnabled(CheckCost.LINEAR, true);
+            Check.setCostTierEnabled(CheckCost.SUPER_LINEAR, true);
+        }
+    }
+
+    /** The throwing checks throw the exception of the result, with the same message. */
+    @Test
+    public void testSameMessageAsCheck() {
+        assertSameMessage(CheckResults.notZeroArgument(0L, "argument"), new Runnable() {
+
+            @Override
+            public void run() {
+                Check.notZeroArgument(0L, "argument");
+            }
+        });
+        assertSameMessage(CheckResults.argumentGreaterEquals(1.5, 1.0, "argument"), new Runnable() {
+
+            @Override
+            public void run() {
+                Check.argumentGreaterEquals(1.5, 1.0, "argument");
+            }
+        });
+        assertSameMessage(CheckResults.minOneElementArgument(Collections.emptyList(), "argument"), new Runnable() {
+
+            @Override
+            public void run() {
+                Check.minOneElementArgument(Collections.emptyList(), "argument");
+            }
+        });
+        assertSameMessage(CheckResults.sizeBetweenArgument(Collections.emptyMap(), 1, 2, "argument"), new Runnable() {
+
+            @Override
+            public void run() {
+                Check.sizeBetweenArgument(Collections.emptyMap(), 1, 2, "argument");
+            }
+        });
+        assertSameMessage(CheckResults.sameSizeArgument(Arrays.asList(1), Arrays.asList(1, 2), "a", "b"),
+                new Runnable() {
+
+                    @Override
+                    public void run() {
+                        Check.sameSizeArgument(Arrays.asList(1), Arrays.asList(1, 2), "a", "b");
+                    }
+                });
+        assertSameMessage(CheckResults.sortedArgument(Arrays.asList(1, 3, 2), INTEGER_ORDER, "argument"),
+                new Runnable() {
+
+                    @Override
+                    public void run() {
+                        Check.sortedArgument(Arrays.asList(1, 3, 2), INTEGER_ORDER, "argument");
+                    }
+                });
+    }
+
+    private static void assertSameMessage(final CheckResult result, final Runnable check) {
+        try {
+            check.run();
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(result.getMessage(), e.getMessage());
+        }
+    }
+
+}
@@ -1,17 +1,45 @@
 package com.queomedia.commons.checks;
 
 import java.math.BigInteger;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.queomedia.commons.exceptions.ArgumentNullException;
 import com.queomedia.commons.exceptions.ConstraintViolationException;
 
 public class CheckTest {
 
+    /** The check site for the site based tests. */
+    private static final CheckSite ARGUMENT = new CheckSite(CheckTest.class, "argument");
+
+    /** Natural order of integers. */
+    private static final Comparator<Integer> INTEGER_ORDER = new Comparator<Integer>() {
+
+        @Override
+        public int compare(final Integer o1, final Integer o2) {
+            return o1.compareTo(o2);
+        }
+    };
+
     @Test
     public void testArgumentInstanceOf_normal() {
 
@@ -152,4 +180,514 @@ public class CheckTest {
     public void testUniqueElements_fail_NativeEquals() {
         Check.uniqueElements(Arrays.asList(1, 2, 3, 1));
     }
+
+    /** Equals definition for ints: equal modulo 10. */
+    private static final IntEqualsChecker MODULO_10 = new IntEqualsChecker() {
+
+        @Override
+        public boolean equals(final int valueT, final int valueK) {
+            return (valueT % 10) == (valueK % 10);
+        }
+    };
+
+    @Test
+    public void testUniqueElements_intArray() {
+        Check.uniqueElements(new int[] { 0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE });
+        Check.uniqueElements(new long[] { 0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE });
+        Check.uniqueElements(new int[] { 1, 2, 3 }, MODULO_10);
+    }
+
+    @Test
+    public void testUniqueElements_intArray_fail() {
+        try {
+            Check.uniqueElements(new int[] { 4, 0, 7, 0 });
+            Assert.fail("expected ConstraintViolationException");
+        } catch (ConstraintViolationException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("equals element[1]: 0, equals element[3]: 0"));
+        }
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testUniqueElements_longArray_fail() {
+        Check.uniqueElements(new long[] { 1L << 40, 3, 1L << 40 });
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testUniqueElements_intArray_equalsChecker_fail() {
+        Check.uniqueElements(new int[] { 1, 2, 11 }, MODULO_10);
+    }
+
+    @Test
+    public void testContainsExact_intArray() {
+        Check.containsExact(new int[] { 3, 0, 1 }, new int[] { 1, 3, 0 });
+        Check.containsExact(new long[] { 3, 0, 1 }, new long[] { 1, 3, 0 });
+        Check.containsExact(new int[] { 1, 2 }, new int[] { 12, 11 }, MODULO_10);
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testContainsExact_intArray_fail() {
+        Check.containsExact(new int[] { 3, 0, 1 }, new int[] { 1, 3, 2 });
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testContainsExact_longArray_failLength() {
+        Check.containsExact(new long[] { 3, 0 }, new long[] { 3, 0, 1 });
+    }
+
+    @Test
+    public void testSameOrder_intArray() {
+        Check.sameOrder(new int[] { 3, 0, 1 }, new int[] { 3, 0, 1 });
+        Check.sameOrder(new long[] { 3, 0, 1 }, new long[] { 3, 0, 1 });
+        Check.sameOrder(new int[] { 1, 2 }, new int[] { 11, 12 }, MODULO_10);
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testSameOrder_intArray_fail() {
+        Check.sameOrder(new int[] { 3, 0, 1 }, new int[] { 3, 1, 0 });
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testSameOrder_intArray_equalsChecker_fail() {
+        Check.sameOrder(new int[] { 1, 2 }, new int[] { 12, 11 }, MODULO_10);
+    }
+
+    @Test
+    public void testSameOrder_failWithEditScript() {
+        try {
+            Check.sameOrder(Arrays.asList(1, 2, 3, 4, 5), Arrays.asList(1, 2, 3, 9, 4, 5));
+            Assert.fail("expected ConstraintViolationException");
+        } catch (ConstraintViolationException e) {
+            Assert.assertTrue(e.getMessage(),
+                    e.getMessage().contains("minimal edit script (1 edits): insert found[3]=9"));
+        }
+    }
+
+    /**
+     * An entity whose equals, hashCode and toString must not be invoked.
+     */
+    private static final class Entity {
+
+        @Override
+        public boolean equals(final Object obj) {
+            throw new UnsupportedOperationException("equals");
+        }
+
+        @Override
+        public int hashCode() {
+            throw new UnsupportedOperationException("hashCode");
+        }
+
+        @Override
+        public String toString() {
+            throw new UnsupportedOperationException("toString");
+        }
+    }
+
+    @Test
+    public void testUniqueInstances() {
+        Check.uniqueInstances(Arrays.asList(new Entity(), new Entity(), null));
+        Check.uniqueInstances(Arrays.asList(new String("a"), new String("a")));
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testUniqueInstances_fail() {
+        Entity entity = new Entity();
+        Check.uniqueInstances(Arrays.asList(new Entity(), entity, new Entity(), entity));
+    }
+
+    @Test
+    public void testContainsInstance() {
+        Entity entity = new Entity();
+        Check.containsInstance(entity, Arrays.asList(new Entity(), entity));
+        Check.containsInstances(Arrays.asList(entity, null), Arrays.asList(new Entity(), null, entity));
+        Check.containsNotInstance(new Entity(), Arrays.asList(new Entity(), entity));
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testContainsInstance_fail() {
+        Check.containsInstance(new String("a"), Arrays.asList("a"));
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testContainsInstances_fail() {
+        Entity entity = new Entity();
+        Check.containsInstances(Arrays.asList(entity, new Entity()), Arrays.asList(entity));
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testContainsNotInstance_fail() {
+        Entity entity = new Entity();
+        Check.containsNotInstance(entity, Arrays.asList(new Entity(), entity));
+    }
+
+    @Test
+    public void testSortedArgument() {
+        Check.sortedArgument(Arrays.asList(1, 2, 2, 3), INTEGER_ORDER, "argumentName");
+        Check.sortedArgument(new Integer[] { 1, 2, 2, 3 }, INTEGER_ORDER, "argumentName");
+        Check.sortedArgument(new ArrayList<Integer>(), INTEGER_ORDER, "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSortedArgument_fail() {
+        Check.sortedArgument(Arrays.asList(1, 3, 2), INTEGER_ORDER, "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStrictlyIncreasingArgument_fail() {
+        Check.strictlyIncreasingArgument(new Integer[] { 1, 2, 2, 3 }, INTEGER_ORDER, "argumentName");
+    }
+
+    @Test
+    public void testSorted() {
+        Check.sorted(new LinkedList<Integer>(Arrays.asList(1, 2, 2, 3)), INTEGER_ORDER);
+        Check.strictlyIncreasing(Arrays.asList(1, 2, 3), INTEGER_ORDER);
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testSorted_fail() {
+        Check.sorted(new Integer[] { 2, 1 }, INTEGER_ORDER);
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testStrictlyIncreasing_fail() {
+        Check.strictlyIncreasing(Arrays.asList(1, 1), INTEGER_ORDER);
+    }
+
+    @Test
+    public void testContainsSorted() {
+        Check.containsSorted(3, Arrays.asList(1, 2, 3, 4), INTEGER_ORDER);
+        Check.containsSorted(Arrays.asList(4, 1), Arrays.asList(1, 2, 3, 4), INTEGER_ORDER);
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testContainsSorted_fail() {
+        Check.containsSorted(Arrays.asList(4, 5), Arrays.asList(1, 2, 3, 4), INTEGER_ORDER);
+    }
+
+    @Test
+    public void testContainsAtLeastSorted() {
+        Check.containsAtLeastSorted(Arrays.asList(1, 1, 3, 4), Arrays.asList(1, 2, 3, 4, 5), INTEGER_ORDER);
+        Check.containsAtLeastSorted(new ArrayList<Integer>(), new ArrayList<Integer>(), INTEGER_ORDER);
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testContainsAtLeastSorted_fail() {
+        Check.containsAtLeastSorted(Arrays.asList(1, 3, 6), Arrays.asList(1, 2, 3, 4, 5), INTEGER_ORDER);
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testContainsAtLeastSorted_failMissingInTheMiddle() {
+        Check.containsAtLeastSorted(Arrays.asList(1, 3), Arrays.asList(1, 2, 4), INTEGER_ORDER);
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testContainsAtLeastSorted_failNotSorted() {
+        Check.containsAtLeastSorted(Arrays.asList(3, 1), Arrays.asList(1, 2, 3), INTEGER_ORDER);
+    }
+
+    @Test
+    public void testNotNullEntriesArgument() {
+        Map<String, Integer> map = new ConcurrentHashMap<String, Integer>();
+        map.put("a", 1);
+        Check.notNullEntriesArgument(map, "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotNullEntriesArgument_fail() {
+        Map<String, Integer> map = new HashMap<String, Integer>();
+        map.put("a", null);
+        Check.notNullEntriesArgument(map, "argumentName");
+    }
+
+    @Test
+    public void testValuesBetweenArgument() {
+        Map<String, Integer> map = new ConcurrentHashMap<String, Integer>();
+        map.put("a", 1);
+        map.put("b", 5);
+        Check.valuesBetweenArgument(map, 1, 5, "argumentName");
+        Check.valuesBetweenArgument(map, 0.5, 5.0, "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesBetweenArgument_fail() {
+        Map<String, Integer> map = new HashMap<String, Integer>();
+        map.put("a", 1);
+        map.put("b", 6);
+        Check.valuesBetweenArgument(map, 1, 5, "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesBetweenArgument_failNaN() {
+        Map<String, Double> map = new HashMap<String, Double>();
+        map.put("a", Double.NaN);
+        Check.valuesBetweenArgument(map, 0.0, 1.0, "argumentName");
+    }
+
+    @Test
+    public void testContainsKeysArgument() {
+        Map<String, Integer> map = new ConcurrentHashMap<String, Integer>();
+        map.put("a", 1);
+        map.put("b", 2);
+        Check.containsKeysArgument(map, Arrays.asList("a", "b"), "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testContainsKeysArgument_fail() {
+        Map<String, Integer> map = new ConcurrentHashMap<String, Integer>();
+        map.put("a", 1);
+        Check.containsKeysArgument(map, Arrays.asList("a", "b"), "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSizeBetweenArgument_fail() {
+        Check.sizeBetweenArgument(new HashMap<String, Integer>(), 1, 2, "argumentName");
+    }
+
+    @Test
+    public void testNotNullElementArgument() {
+        Check.notNullElementArgument(Arrays.asList(1, 2), "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotNullElementArgument_fail() {
+        Check.notNullElementArgument(Arrays.asList(1, null), "argumentName");
+    }
+
+    @Test
+    public void testNotNullElementArgument_concurrentSkipListSet() {
+        Check.notNullElementArgument(new ConcurrentSkipListSet<Integer>(Arrays.asList(1, 2)), "argumentName");
+    }
+
+    /** {@code Collections.newSetFromMap} is not part of the concurrent package, but rejects {@code contains(null)}. */
+    @Test
+    public void testNotNullElementArgument_concurrentHashMapKeySet() {
+        Set<Integer> set = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+        set.add(1);
+        Check.notNullElementArgument(set, "argumentName");
+    }
+
+    /** Like the immutable lists of {@code List.of}: the null query throws, the check must not ask it. */
+    @Test
+    public void testNotNullElementArgument_nullHostileList() {
+        List<Integer> list = new AbstractList<Integer>() {
+
+            @Override
+            public Integer get(final int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return 3;
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                throw new NullPointerException();
+            }
+        };
+        Check.notNullElementArgument(list, "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotNullElementArgument_hashSet_fail() {
+        Check.notNullElementArgument(new HashSet<Integer>(Arrays.asList(1, null)), "argumentName");
+    }
+
+    @Test
+    public void testNotNullElementArgument_synchronizedList() {
+        final List<List<Integer>> wrapper = new ArrayList<List<Integer>>();
+        List<Integer> list = new AbstractList<Integer>() {
+
+            @Override
+            public Integer get(final int index) {
+                Assert.assertTrue("the lock of the wrapper is held", Thread.holdsLock(wrapper.get(0)));
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return 3;
+            }
+        };
+        wrapper.add(Collections.synchronizedList(list));
+
+        Check.notNullElementArgument(wrapper.get(0), "argumentName");
+    }
+
+    @Test
+    public void testNotNullElementArgument_nullHostileSynchronizedSet() {
+        Set<Integer> set = Collections.synchronizedSortedSet(new TreeSet<Integer>(Arrays.asList(1, 2, 3)));
+
+        Check.notNullElementArgument(set, "argumentName");
+        Check.notNullElementArgument(set, "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotNullElementArgument_keySet_fail() {
+        Map<Integer, String> map = new HashMap<Integer, String>();
+        map.put(1, "a");
+        map.put(null, "b");
+        Check.notNullElementArgument(map.keySet(), "argumentName");
+    }
+
+    @Test
+    public void testNotNullElementArgument_concurrentWriter() throws InterruptedException {
+        final Set<Integer> set = new ConcurrentSkipListSet<Integer>();
+        final AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread() {
+
+            @Override
+            public void run() {
+                int i = 0;
+                while (running.get()) {
+                    set.add(i % 1000);
+                    set.remove((i + 500) % 1000);
+                    i++;
+                }
+            }
+        };
+        writer.start();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                Check.notNullElementArgument(set, "argumentName");
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    public void testMaxLengthArgument() {
+        Check.maxLengthArgument("abc", 3, "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxLengthArgument_fail() {
+        Check.maxLengthArgument("abcd", 3, "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMinLengthArgument_fail() {
+        Check.minLengthArgument("ab", 3, "argumentName");
+    }
+
+    @Test
+    public void testAllowedCharactersArgument() {
+        Check.allowedCharactersArgument("cafe01", "0123456789abcdef", "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAllowedCharactersArgument_fail() {
+        Check.allowedCharactersArgument("cafe0x", "0123456789abcdef", "argumentName");
+    }
+
+    @Test
+    public void testMatchesArgument() {
+        Check.matchesArgument("AB-123", Pattern.compile("[A-Z]+-\\d+"), "argumentName");
+        Check.matchesArgument("AB-123", "[A-Z]+-\\d+", "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMatchesArgument_fail() {
+        Check.matchesArgument("AB-123x", "[A-Z]+-\\d+", "argumentName");
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testMatches_fail() {
+        Check.matches(Pattern.compile("\\d+"), "12a");
+    }
+
+    @Test
+    public void testEqualsWithoutWhitespace() {
+        Check.equalsWithoutWhitespace(" a b\tc\n", "abc");
+        Check.equalsWithoutWhitespace("a\u00A0b", "ab");
+        Check.equalsWithoutWhitespace(new StringBuilder("a b"), "ab ");
+        Check.equalsWithoutWhitespace("  ", "");
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testEqualsWithoutWhitespace_fail() {
+        Check.equalsWithoutWhitespace("a b", "a c");
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testEqualsWithoutWhitespace_failLonger() {
+        Check.equalsWithoutWhitespace("a b", "a b c");
+    }
+
+    @Test
+    public void testCheckSite() {
+        Check.notNullArgument("a", ARGUMENT);
+        Check.notEmptyArgument("a", ARGUMENT);
+        Check.notNullElementArgument(Arrays.asList(1), ARGUMENT);
+        Check.notZeroOrNegativeArgument(1L, ARGUMENT);
+        Check.argumentBetween(2, 1, 3, ARGUMENT);
+        Assert.assertSame(ARGUMENT, Check.argumentInstanceOf(ARGUMENT, CheckSite.class, ARGUMENT));
+    }
+
+    @Test
+    public void testCheckSite_fail() {
+        CheckSite site = new CheckSite(CheckTest.class, "value");
+        try {
+            Check.argumentBetween(4, 1, 3, site);
+            Assert.fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("[Assertion failed] - argument value (com.queomedia.commons.checks.CheckTest)"
+                    + " must be less or equals 3 but is 4", e.getMessage());
+        }
+        Assert.assertEquals(1, site.getFailureCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCheckSite_failNull() {
+        Check.notEmptyArgument((String) null, ARGUMENT);
+    }
+
+    @Test(expected = ArgumentNullException.class)
+    public void testCheckSite_nullOwner() {
+        new CheckSite((Class<?>) null, "value");
+    }
+
+    @Test
+    public void testSetCostTierEnabled() {
+        Check.setCostTierEnabled(CheckCost.SUPER_LINEAR, false);
+        try {
+            Assert.assertFalse(Check.isCostTierEnabled(CheckCost.SUPER_LINEAR));
+            Check.uniqueElements(Arrays.asList(1, 2, 1));
+            Check.notNullElementArgument(Arrays.asList(1), "argumentName");
+        } finally {
+            Check.setCostTierEnabled(CheckCost.SUPER_LINEAR, true);
+        }
+        Assert.assertTrue(Check.isCostTierEnabled(CheckCost.SUPER_LINEAR));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetCostTierEnabled_linear() {
+        Check.setCostTierEnabled(CheckCost.LINEAR, false);
+        try {
+            Check.sorted(Arrays.asList(2, 1), INTEGER_ORDER);
+        } finally {
+            Check.setCostTierEnabled(CheckCost.LINEAR, true);
+        }
+        Check.notNullElementArgument(Arrays.asList(1, null), "argumentName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetCostTierEnabled_constant() {
+        Check.setCostTierEnabled(CheckCost.CONSTANT, false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetCostTierEnabled_constantInRelaxScope() throws Exception {
+        new ValidationScope(ValidationScope.Mode.RELAX, 0).call(new Callable<Void>() {
+
+            @Override
+            public Void call() {
+                Check.setCostTierEnabled(CheckCost.CONSTANT, false);
+                return null;
+            }
+        });
+    }
 }
@@ -0,0 +1,190 @@
+package com.queomedia.commons.checks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CheckedCollectionsTest {
+
+    /**
+     * An element that counts the invocations of its {@code equals} and {@code hashCode}.
+     */
+    private static final class CountingElement {
+
+        /** The number of invocations of equals and hashCode of all instances. */
+        private static int invocations;
+
+        /** The value. */
+        private final int value;
+
+        /**
+         * Instantiates a new counting element.
+         *
+         * @param value the value
+         */
+        CountingElement(final int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            CountingElement.invocations++;
+            return this.value;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            CountingElement.invocations++;
+            return (obj instanceof CountingElement) && (((CountingElement) obj).value == this.value);
+        }
+    }
+
+    @Test
+    public void testCheckedList() {
+        List<String> list = CheckedCollections.checkedList(new ArrayList<String>(),
+                CollectionInvariant.NOT_NULL_ELEMENTS,
+                CollectionInvariant.UNIQUE_ELEMENTS);
+
+        list.add("a");
+        list.addAll(Arrays.asList("b", "c"));
+        list.set(0, "a");
+        list.set(0, "d");
+        list.remove("b");
+        list.add("a");
+
+        Assert.assertEquals(Arrays.asList("d", "c", "a"), list);
+        Assert.assertTrue(list.contains("a"));
+        Assert.assertFalse(list.contains("b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCheckedList_duplicate() {
+        List<String> list = CheckedCollections.checkedList(new ArrayList<String>(Arrays.asList("a", "b")),
+                CollectionInvariant.UNIQUE_ELEMENTS);
+        list.add("a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCheckedList_duplicateBySet() {
+        List<String> list = CheckedCollections.checkedList(new ArrayList<String>(Arrays.asList("a", "b")),
+                CollectionInvariant.UNIQUE_ELEMENTS);
+        list.set(1, "a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCheckedList_duplicateInitialContent() {
+        CheckedCollections.checkedList(new ArrayList<String>(Arrays.asList("a", "a")),
+                CollectionInvariant.UNIQUE_ELEMENTS);
+    }
+
+    @Test
+    public void testCheckedList_addAllIsAtomic() {
+        List<String> list = CheckedCollections.checkedList(new ArrayList<String>(Arrays.asList("a")),
+                CollectionInvariant.NOT_NULL_ELEMENTS,
+                CollectionInvariant.UNIQUE_ELEMENTS);
+        try {
+            list.addAll(Arrays.asList("b", "c", "b"));
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(Arrays.asList("a"), list);
+        }
+        try {
+            list.addAll(Arrays.asList("b", null));
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(Arrays.asList("a"), list);
+        }
+    }
+
+    @Test
+    public void testCheckedList_null() {
+        List<String> list = CheckedCollections.checkedList(new ArrayList<String>(),
+                CollectionInvariant.NOT_NULL_ELEMENTS);
+        try {
+            list.add(null);
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            /* the same exception as the one of notNullElementArgument */
+            Assert.assertEquals(IllegalArgumentException.class, e.getClass());
+            Assert.assertEquals(Check.nullElementException("element", Arrays.asList((String) null)).getMessage(),
+                    e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCheckedList_nullAllowed() {
+        List<String> list = CheckedCollections.checkedList(new ArrayList<String>(),
+                CollectionInvariant.UNIQUE_ELEMENTS);
+        list.add(null);
+        list.add("a");
+        try {
+            list.add(null);
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(2, list.size());
+        }
+    }
+
+    @Test
+    public void testCheckedList_subListClearUpdatesIndex() {
+        List<String> list = CheckedCollections.checkedList(new ArrayList<String>(Arrays.asList("a", "b")),
+                CollectionInvariant.UNIQUE_ELEMENTS);
+        list.subList(0, 1).clear();
+
+        list.add("a");
+        Assert.assertEquals(Arrays.asList("b", "a"), list);
+    }
+
+    /**
+     * Compares the incremental check with checking the whole list after each modification, by the number of
+     * {@code equals} and {@code hashCode} invocations: linear versus cubic.
+     */
+    @Test
+    public void testCheckedList_incrementalCost() {
+        final int size = 200;
+
+        CountingElement.invocations = 0;
+        List<CountingElement> checked = CheckedCollections.checkedList(new ArrayList<CountingElement>(),
+                CollectionInvariant.UNIQUE_ELEMENTS);
+        for (int i = 0; i < size; i++) {
+            checked.add(new CountingElement(i));
+        }
+        int incremental = CountingElement.invocations;
+
+        CountingElement.invocations = 0;
+        List<CountingElement> recheck = new ArrayList<CountingElement>();
+        for (int i = 0; i < size; i++) {
+            recheck.add(new CountingElement(i));
+            Check.uniqueElementsArgument(recheck, "recheck");
+        }
+        int recheckAll = CountingElement.invocations;
+
+        Assert.assertTrue("incremental: " + incremental, incremental <= 4 * size);
+        Assert.assertTrue("incremental: " + incremental + ", recheck all: " + recheckAll,
+                incremental * 100 < recheckAll);
+    }
+
+    @Test
+    public void testCheckedSet() {
+        Set<String> set = CheckedCollections.checkedSet(new HashSet<String>(),
+                CollectionInvariant.NOT_NULL_ELEMENTS);
+        set.add("a");
+        set.addAll(Arrays.asList("b", "c"));
+        set.remove("b");
+
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("a", "c")), set);
+        try {
+            set.addAll(Arrays.asList("d", null));
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(IllegalArgumentException.class, e.getClass());
+            Assert.assertEquals(2, set.size());
+        }
+    }
+
+}
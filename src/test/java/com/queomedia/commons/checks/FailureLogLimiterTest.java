@@ -0,0 +1,72 @@
+package com.queomedia.commons.checks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FailureLogLimiterTest {
+
+    @Test
+    public void testLog_burstAndRefill() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FailureLogLimiter limiter = new FailureLogLimiter(10, 2, 1000, 60000, new PrintStream(out, true));
+
+        Assert.assertTrue(limiter.log("site", "failure 1", 0));
+        Assert.assertTrue(limiter.log("site", "failure 2", 10));
+        Assert.assertFalse(limiter.log("site", "failure 3", 20));
+        Assert.assertFalse(limiter.log("site", "failure 4", 30));
+        Assert.assertTrue(limiter.log("other", "failure 5", 40));
+        Assert.assertEquals(2, limiter.getSuppressedCount());
+
+        /* one token after one second, the suppressed failures are reported before the next line */
+        Assert.assertTrue(limiter.log("site", "failure 6", 1000));
+        Assert.assertEquals("Check failure - message=failure 1\n" //
+                + "Check failure - message=failure 2\n" //
+                + "Check failure - message=failure 5\n" //
+                + "Check failure - suppressed 2 identical failures - site=site\n" //
+                + "Check failure - message=failure 6\n", out.toString().replace("\r", ""));
+    }
+
+    @Test
+    public void testLog_evict() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FailureLogLimiter limiter = new FailureLogLimiter(2, 1, 1000, 60000, new PrintStream(out, true));
+
+        limiter.log("a", "a", 0);
+        limiter.log("a", "a", 0);
+        limiter.log("b", "b", 0);
+        limiter.log("c", "c", 0);
+
+        Assert.assertEquals(2, limiter.getSiteCount());
+        Assert.assertTrue(out.toString().contains("suppressed 1 identical failures - site=a"));
+    }
+
+    /** Sites that used a token, but are quiet since then, are removed by the summary run. */
+    @Test
+    public void testLog_removeQuietSites() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FailureLogLimiter limiter = new FailureLogLimiter(10, 2, 1000, 60000, new PrintStream(out, true));
+
+        limiter.log("a", "a", 0);
+        limiter.log("b", "b", 0);
+        Assert.assertEquals(2, limiter.getSiteCount());
+
+        limiter.log("c", "c", 60000);
+        Assert.assertEquals(1, limiter.getSiteCount());
+    }
+
+    @Test
+    public void testFlushSummaries() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FailureLogLimiter limiter = new FailureLogLimiter(2, 1, 1000, 60000, new PrintStream(out, true));
+
+        limiter.log("a", "a", 0);
+        limiter.log("a", "a", 0);
+        limiter.flushSummaries();
+
+        Assert.assertTrue(out.toString().contains("suppressed 1 identical failures - site=a"));
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.queomedia.commons.checks;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IdentitySetTest {
+
+    @Test
+    public void testAddAndContains() {
+        IdentitySet set = new IdentitySet(2);
+        String a = new String("a");
+        String equalA = new String("a");
+
+        Assert.assertTrue(set.add(a));
+        Assert.assertFalse(set.add(a));
+        Assert.assertTrue(set.add(equalA));
+        Assert.assertFalse(set.contains(null));
+        Assert.assertTrue(set.add(null));
+        Assert.assertFalse(set.add(null));
+        Assert.assertTrue(set.contains(null));
+
+        /* more elements than expected, the set has to grow */
+        Object[] elements = new Object[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new Object();
+            Assert.assertTrue(set.add(elements[i]));
+        }
+        for (Object element : elements) {
+            Assert.assertTrue(set.contains(element));
+        }
+        Assert.assertFalse(set.contains(new String("a")));
+    }
+
+    @Test
+    public void testDescribe() {
+        Assert.assertEquals("null", IdentitySet.describe(null));
+        Assert.assertTrue(IdentitySet.describe(new Object()).startsWith("java.lang.Object@"));
+    }
+
+    /** A too large size must be rejected, not overflow into an endless loop. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLarge() {
+        new IdentitySet(Integer.MAX_VALUE);
+    }
+
+}
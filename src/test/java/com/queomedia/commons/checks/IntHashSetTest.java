@@ -0,0 +1,64 @@
+package com.queomedia.commons.checks;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntHashSetTest {
+
+    @Test
+    public void testAddAndContains() {
+        IntHashSet set = new IntHashSet(2);
+
+        Assert.assertTrue(set.add(0));
+        Assert.assertFalse(set.add(0));
+        Assert.assertTrue(set.contains(0));
+        Assert.assertFalse(set.contains(1));
+
+        /* more values than expected, the set has to grow */
+        for (int i = 1; i <= 1000; i++) {
+            Assert.assertTrue(set.add(i * 1024));
+        }
+        for (int i = 1; i <= 1000; i++) {
+            Assert.assertFalse(set.add(i * 1024));
+            Assert.assertTrue(set.contains(i * 1024));
+            Assert.assertFalse(set.contains(i * 1024 + 1));
+        }
+    }
+
+    @Test
+    public void testLongHashSet() {
+        LongHashSet set = new LongHashSet(4);
+
+        Assert.assertTrue(set.add(Long.MIN_VALUE));
+        Assert.assertTrue(set.add(1L << 32));
+        Assert.assertTrue(set.add(1L));
+        Assert.assertFalse(set.add(1L << 32));
+        Assert.assertTrue(set.contains(Long.MIN_VALUE));
+        Assert.assertFalse(set.contains(0L));
+    }
+
+    @Test
+    public void testCapacity() {
+        Assert.assertEquals(4, OpenAddressing.capacity(0));
+        Assert.assertEquals(4, OpenAddressing.capacity(2));
+        Assert.assertEquals(8, OpenAddressing.capacity(3));
+        Assert.assertEquals(OpenAddressing.MAX_CAPACITY, OpenAddressing.capacity(OpenAddressing.MAX_EXPECTED_SIZE));
+    }
+
+    /** A too large size must be rejected, not overflow into an endless loop. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacity_tooLarge() {
+        OpenAddressing.capacity(OpenAddressing.MAX_EXPECTED_SIZE + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIntHashSet_tooLarge() {
+        new IntHashSet(Integer.MAX_VALUE);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNeedsResize_maxCapacity() {
+        OpenAddressing.needsResize(OpenAddressing.MAX_EXPECTED_SIZE, OpenAddressing.MAX_CAPACITY);
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.queomedia.commons.checks;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.queomedia.commons.exceptions.ConstraintViolationException;
+
+public class InvariantRegistryTest {
+
+    /**
+     * A domain class with the invariant: {@code value >= 0}.
+     */
+    private static class Account {
+
+        /** The value. */
+        private int value;
+
+        /**
+         * Instantiates a new account.
+         *
+         * @param value the value
+         */
+        Account(final int value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * A subclass of the domain class.
+     */
+    private static final class SavingsAccount extends Account {
+
+        /**
+         * Instantiates a new savings account.
+         *
+         * @param value the value
+         */
+        SavingsAccount(final int value) {
+            super(value);
+        }
+    }
+
+    /** The invariant of {@link Account}, counts its evaluations. */
+    private static final class NotNegative implements Invariant<Account> {
+
+        /** The number of evaluations. */
+        private int evaluations;
+
+        @Override
+        public void check(final Account account) {
+            this.evaluations++;
+            if (account.value < 0) {
+                Check.fail("negative value " + account.value);
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        InvariantRegistry.unregister(Account.class);
+        InvariantRegistry.setAuditMode(false);
+    }
+
+    @Test
+    public void testCheckInvariants_always() {
+        NotNegative invariant = new NotNegative();
+        InvariantRegistry.register(Account.class, invariant);
+
+        InvariantRegistry.checkInvariants(new Account(1));
+        InvariantRegistry.checkInvariants(new SavingsAccount(1));
+        Assert.assertEquals(2, invariant.evaluations);
+        Assert.assertEquals(Long.valueOf(2), InvariantRegistry.getEvaluationCounts().get(Account.class.getName()));
+    }
+
+    @Test
+    public void testCheckInvariants_failure() {
+        InvariantRegistry.register(Account.class, new NotNegative());
+
+        try {
+            InvariantRegistry.checkInvariants(new SavingsAccount(-1));
+            Assert.fail("expected ConstraintViolationException");
+        } catch (ConstraintViolationException e) {
+            Assert.assertEquals(Long.valueOf(1), InvariantRegistry.getFailureCounts().get(Account.class.getName()));
+        }
+    }
+
+    @Test
+    public void testCheckInvariants_everyNthCall() {
+        NotNegative invariant = new NotNegative();
+        InvariantRegistry.register(Account.class, InvariantPolicy.everyNthCall(10), invariant);
+
+        for (int i = 0; i < 100; i++) {
+            InvariantRegistry.checkInvariants(new Account(1));
+        }
+        Assert.assertEquals(10, invariant.evaluations);
+    }
+
+    @Test
+    public void testCheckInvariants_interval() {
+        NotNegative invariant = new NotNegative();
+        InvariantRegistry.register(Account.class, InvariantPolicy.interval(60000), invariant);
+
+        for (int i = 0; i < 100; i++) {
+            InvariantRegistry.checkInvariants(new Account(1));
+        }
+        Assert.assertEquals(1, invariant.evaluations);
+    }
+
+    @Test
+    public void testCheckInvariants_audit() {
+        NotNegative invariant = new NotNegative();
+        InvariantRegistry.register(Account.class, InvariantPolicy.AUDIT, invariant);
+
+        InvariantRegistry.checkInvariants(new Account(-1));
+        Assert.assertEquals(0, invariant.evaluations);
+
+        InvariantRegistry.setAuditMode(true);
+        InvariantRegistry.checkInvariants(new Account(1));
+        Assert.assertEquals(1, invariant.evaluations);
+        Assert.assertEquals(InvariantPolicy.AUDIT, InvariantRegistry.getPolicy(Account.class));
+    }
+
+}
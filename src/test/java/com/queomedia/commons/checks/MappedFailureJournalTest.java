@@ -0,0 +1,151 @@
+package com.queomedia.commons.checks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MappedFailureJournalTest {
+
+    @Test
+    public void testFailureAndRead() throws IOException {
+        File file = File.createTempFile("journal", ".bin");
+        file.deleteOnExit();
+        file.delete();
+
+        MappedFailureJournal journal = new MappedFailureJournal(file, 256, 3);
+        for (int i = 1; i <= 5; i++) {
+            journal.failure(1000 + i, "check" + i, "argument" + i, "message" + i);
+        }
+        journal.close();
+
+        /* the ring holds the three newest records */
+        List<MappedFailureJournal.Record> records = MappedFailureJournal.read(file);
+        Assert.assertEquals(3, records.size());
+        Assert.assertEquals(3, records.get(0).getSequence());
+        Assert.assertEquals(1003, records.get(0).getTimestampMillis());
+        Assert.assertEquals("check3", records.get(0).getCheckId());
+        Assert.assertEquals("argument3", records.get(0).getArgumentName());
+        Assert.assertEquals("message5", records.get(2).getMessage());
+
+        /* an existing journal is continued */
+        journal = new MappedFailureJournal(file, 256, 3);
+        journal.failure(2000, "check6", "argument6", "message6");
+        journal.close();
+        Assert.assertEquals("check6", MappedFailureJournal.read(file).get(2).getCheckId());
+    }
+
+    @Test
+    public void testFailure_truncate() throws IOException {
+        File file = File.createTempFile("journal", ".bin");
+        file.deleteOnExit();
+        file.delete();
+
+        StringBuilder longMessage = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            longMessage.append('\u00E4');
+        }
+        MappedFailureJournal journal = new MappedFailureJournal(file, 256, 1);
+        journal.failure(1, "check", null, longMessage.toString());
+        journal.close();
+
+        MappedFailureJournal.Record record = MappedFailureJournal.read(file).get(0);
+        Assert.assertEquals("", record.getArgumentName());
+        Assert.assertTrue(longMessage.toString().startsWith(record.getMessage()));
+    }
+
+    @Test
+    public void testFailure_truncateSurrogatePair() throws IOException {
+        File file = File.createTempFile("journal", ".bin");
+        file.deleteOnExit();
+        file.delete();
+
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < 63; i++) {
+            prefix.append('a');
+        }
+        /* the 64 byte limit of the argument name ends between the two chars of the surrogate pair */
+        MappedFailureJournal journal = new MappedFailureJournal(file, 256, 1);
+        journal.failure(1, "check", prefix + "\uD83D\uDE00", "message");
+        journal.close();
+
+        Assert.assertEquals(prefix.toString(), MappedFailureJournal.read(file).get(0).getArgumentName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSlotSize_tooLarge() throws IOException {
+        File file = File.createTempFile("journal", ".bin");
+        file.deleteOnExit();
+        file.delete();
+
+        new MappedFailureJournal(file, MappedFailureJournal.MAX_SLOT_SIZE + 1, 1);
+    }
+
+    @Test
+    public void testFailure_maxSlotSize() throws IOException {
+        File file = File.createTempFile("journal", ".bin");
+        file.deleteOnExit();
+        file.delete();
+
+        StringBuilder longMessage = new StringBuilder();
+        for (int i = 0; i < 70000; i++) {
+            longMessage.append('x');
+        }
+        MappedFailureJournal journal = new MappedFailureJournal(file, MappedFailureJournal.MAX_SLOT_SIZE, 1);
+        journal.failure(1, "check", "argument", longMessage.toString());
+        journal.close();
+
+        Assert.assertEquals(0xFFFF, MappedFailureJournal.read(file).get(0).getMessage().length());
+    }
+
+    @Test
+    public void testRead_damagedSlot() throws IOException {
+        File file = File.createTempFile("journal", ".bin");
+        file.deleteOnExit();
+        file.delete();
+
+        MappedFailureJournal journal = new MappedFailureJournal(file, 256, 2);
+        journal.failure(1, "check1", "argument1", "message1");
+        journal.failure(2, "check2", "argument2", "message2");
+        journal.close();
+
+        /* the check id length of the first slot (after the header, sequence and timestamp) exceeds the slot */
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            randomAccessFile.seek(24 + 8 + 8);
+            randomAccessFile.writeShort(0xFFFF);
+        } finally {
+            randomAccessFile.close();
+        }
+
+        List<MappedFailureJournal.Record> records = MappedFailureJournal.read(file);
+        Assert.assertEquals(1, records.size());
+        Assert.assertEquals("check2", records.get(0).getCheckId());
+    }
+
+    @Test
+    public void testCheckFailureSink() throws IOException {
+        File file = File.createTempFile("journal", ".bin");
+        file.deleteOnExit();
+        file.delete();
+
+        MappedFailureJournal journal = new MappedFailureJournal(file, 10);
+        Check.setFailureSink(journal);
+        Check.setActiveArgumentCheck(false);
+        try {
+            Check.notNullArgument(null, "someArgument");
+        } finally {
+            Check.setActiveArgumentCheck(true);
+            Check.setFailureSink(null);
+            journal.close();
+        }
+
+        MappedFailureJournal.Record record = MappedFailureJournal.read(file).get(0);
+        Assert.assertEquals("someArgument", record.getArgumentName());
+        Assert.assertTrue(record.getCheckId().startsWith(MappedFailureJournalTest.class.getName()));
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.queomedia.commons.checks;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MessageTemplateTest {
+
+    @Test
+    public void testRender() {
+        MessageTemplate template = MessageTemplate.compile("argument {0} must be less or equals {2} but is {1}", 3);
+
+        Assert.assertEquals("argument size must be less or equals 10 but is 11", template.render("size", 11, 10));
+    }
+
+    @Test
+    public void testRender_sameAsConcatenation() {
+        MessageTemplate template = MessageTemplate.compile("{1}{0}-{1} {0}", 2);
+
+        Assert.assertEquals("ba-b a", template.render("a", "b"));
+        Assert.assertEquals("nullnull-null null", template.render(null, null));
+    }
+
+    @Test
+    public void testRender_literalBraces() {
+        MessageTemplate template = MessageTemplate.compile("{ {a} {} {0 {0}} {12345} {", 1);
+
+        Assert.assertEquals("{ {a} {} {0 x} {12345} {", template.render("x"));
+    }
+
+    @Test
+    public void testRender_noArguments() {
+        Assert.assertEquals("plain", MessageTemplate.compile("plain", 0).render());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCompile_unknownArgument() {
+        MessageTemplate.compile("{0} {2}", 2);
+    }
+
+    @Test
+    public void testRender_fiveArguments() {
+        MessageTemplate template = MessageTemplate.compile("{4}{3}{2}{1}{0}", 5);
+
+        Assert.assertEquals("43210", template.render(0, 1, 2, 3, 4));
+        Assert.assertEquals(template.render(new Object[] { 0, 1, 2, 3, 4 }), template.render(0, 1, 2, 3, 4));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRender_fiveArguments_unknownArgument() {
+        MessageTemplate.compile("{5}", 6).render(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testRender_nested() {
+        final MessageTemplate inner = MessageTemplate.compile("<{0}>", 1);
+        Object argument = new Object() {
+
+            @Override
+            public String toString() {
+                return inner.render("inner");
+            }
+        };
+
+        Assert.assertEquals("[<inner>]", MessageTemplate.compile("[{0}]", 1).render(argument));
+        Assert.assertEquals("<again>", inner.render("again"));
+    }
+
+    @Test
+    public void testRender_largeMessage() {
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            large.append('x');
+        }
+        MessageTemplate template = MessageTemplate.compile("{0}!", 1);
+
+        Assert.assertEquals(large + "!", template.render(large));
+        Assert.assertEquals("y!", template.render("y"));
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.queomedia.commons.checks;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PatternCacheTest {
+
+    @Test
+    public void testGetPattern_hitAndMiss() {
+        PatternCache cache = new PatternCache(2);
+
+        Assert.assertSame(cache.getPattern("a+"), cache.getPattern("a+"));
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testGetPattern_evictLeastRecentlyUsed() {
+        PatternCache cache = new PatternCache(2);
+
+        cache.getPattern("a+");
+        cache.getPattern("b+");
+        cache.getPattern("a+");
+        cache.getPattern("c+");
+        Assert.assertEquals(2, cache.getSize());
+
+        /* b+ was the least recently used one and must be compiled again */
+        cache.getPattern("a+");
+        Assert.assertEquals(2, cache.getHitCount());
+        cache.getPattern("b+");
+        Assert.assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void testGetPattern_concurrentHits() throws InterruptedException {
+        final PatternCache cache = new PatternCache(4);
+        cache.getPattern("a+");
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread() {
+
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        cache.getPattern("a+");
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(40000, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+    }
+
+}
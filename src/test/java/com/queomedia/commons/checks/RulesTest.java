@@ -0,0 +1,145 @@
+package com.queomedia.commons.checks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.queomedia.commons.checks.CheckResult.Code;
+import com.queomedia.commons.exceptions.ArgumentNullException;
+
+public class RulesTest {
+
+    /** Not null and between 1 and 10 characters. */
+    private static final Rule<String> NAME = Rules.<String> notNull().and(Rules.length(1, 10));
+
+    /** One to three tags, every tag is a name. */
+    private static final Rule<List<String>> TAGS = Rules.<List<String>> size(1, 3)
+            .and(Rules.each(Rules.<CharSequence> notNull().and(Rules.length(1, 10))));
+
+    @Test
+    public void testNotNull() {
+        Assert.assertSame(CheckResult.OK, Rules.notNull().validate("a", "arg"));
+        Assert.assertEquals(Code.NULL, Rules.notNull().validate(null, "arg").getCode());
+    }
+
+    @Test
+    public void testBetween() {
+        Rule<Integer> percent = Rules.between(0, 100);
+
+        Assert.assertSame(CheckResult.OK, percent.validate(0, "percent"));
+        Assert.assertSame(CheckResult.OK, percent.validate(100, "percent"));
+        Assert.assertEquals(Code.TOO_SMALL, percent.validate(-1, "percent").getCode());
+        Assert.assertEquals(Code.TOO_LARGE, percent.validate(101, "percent").getCode());
+        Assert.assertEquals(Code.NULL, percent.validate(null, "percent").getCode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBetween_invalidBounds() {
+        Rules.between(2, 1);
+    }
+
+    @Test
+    public void testInvalidBounds_inactiveArgumentChecks() {
+        Check.setActiveArgumentCheck(false);
+        try {
+            Assert.assertEquals("min 2 > max 1", RulesTest.invalidBoundsMessage(2, 1));
+        } finally {
+            Check.setActiveArgumentCheck(true);
+        }
+    }
+
+    /**
+     * Return the message of the exceptions of the range rule factories for the bounds.
+     *
+     * @param min the minimum
+     * @param max the maximum
+     * @return the message, the same for all factories
+     */
+    private static String invalidBoundsMessage(final int min, final int max) {
+        String message = null;
+        try {
+            Rules.between(min, max);
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            message = e.getMessage();
+        }
+        try {
+            Rules.length(min, max);
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(message, e.getMessage());
+        }
+        try {
+            Rules.size(min, max);
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(message, e.getMessage());
+        }
+        return message;
+    }
+
+    @Test
+    public void testAnd() {
+        Assert.assertSame(CheckResult.OK, NAME.validate("name", "name"));
+        Assert.assertEquals(Code.NULL, NAME.validate(null, "name").getCode());
+        Assert.assertEquals(Code.TOO_SHORT, NAME.validate("", "name").getCode());
+        Assert.assertEquals(Code.TOO_LONG, NAME.validate("a very long name", "name").getCode());
+        Assert.assertEquals("(notNull and length(1, 10))", NAME.toString());
+    }
+
+    @Test
+    public void testAnd_flattened() {
+        Rule<Integer> rule = Rules.<Integer> notNull().and(Rules.between(0, 10)).and(Rules.between(5, 20));
+
+        Assert.assertEquals("(notNull and between(0, 10) and between(5, 20))", rule.toString());
+        Assert.assertSame(CheckResult.OK, rule.validate(7, "value"));
+        Assert.assertEquals(Code.TOO_SMALL, rule.validate(3, "value").getCode());
+    }
+
+    @Test
+    public void testOrAndNot() {
+        Rule<Integer> outside = Rules.between(0, 10).or(Rules.between(20, 30));
+
+        Assert.assertSame(CheckResult.OK, outside.validate(25, "value"));
+        CheckResult result = outside.validate(15, "value");
+        Assert.assertEquals(Code.RULE_VIOLATED, result.getCode());
+        Assert.assertEquals("[Assertion failed] - argument value violates the rule "
+                + "(between(0, 10) or between(20, 30)) - it is 15", result.getMessage());
+
+        Rule<Integer> notOutside = Rules.not(outside);
+        Assert.assertSame(CheckResult.OK, notOutside.validate(15, "value"));
+        Assert.assertEquals(Code.RULE_VIOLATED, notOutside.validate(5, "value").getCode());
+        Assert.assertSame(outside, Rules.not(notOutside));
+    }
+
+    @Test
+    public void testEach() {
+        Assert.assertSame(CheckResult.OK, TAGS.validate(Arrays.asList("a", "b"), "tags"));
+        Assert.assertEquals(Code.RULE_VIOLATED, TAGS.validate(Collections.<String> emptyList(), "tags").getCode());
+
+        CheckResult result = TAGS.validate(Arrays.asList("a", null), "tags");
+        Assert.assertEquals(Code.NULL, result.getCode());
+        Assert.assertEquals("tags[1]", result.getArgumentName());
+    }
+
+    @Test
+    public void testCheckArgument() {
+        NAME.checkArgument("name", "name");
+        try {
+            NAME.checkArgument(null, "name");
+            Assert.fail("expected ArgumentNullException");
+        } catch (ArgumentNullException e) {
+            Assert.assertEquals(new ArgumentNullException("name").getMessage(), e.getMessage());
+        }
+        try {
+            NAME.checkArgument("", "name");
+            Assert.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(CheckResults.minLengthArgument("", 1, "name").getMessage(), e.getMessage());
+        }
+    }
+
+}
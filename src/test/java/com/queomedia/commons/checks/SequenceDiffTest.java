@@ -0,0 +1,102 @@
+package com.queomedia.commons.checks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.queomedia.commons.equals.NativeEqualsChecker;
+
+public class SequenceDiffTest {
+
+    @Test
+    public void testEditScript_equal() {
+        Assert.assertEquals(Arrays.<String> asList(),
+                SequenceDiff.of(new int[] { 1, 2, 3 }, new int[] { 1, 2, 3 }, null).editScript());
+    }
+
+    @Test
+    public void testEditScript_insertionInLongList() {
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            expected.add(i);
+        }
+        List<Integer> found = new LinkedList<Integer>(expected);
+        found.add(3, -1);
+
+        Assert.assertEquals(Arrays.asList("insert found[3]=-1"),
+                SequenceDiff.of(expected, found, NativeEqualsChecker.<Integer> getInstance()).editScript());
+    }
+
+    @Test
+    public void testEditScript_minimal() {
+        /* the example of the paper of Myers: ABCABBA to CBABAC needs 5 edits */
+        List<String> edits = SequenceDiff.of(Arrays.asList("A", "B", "C", "A", "B", "B", "A"),
+                Arrays.asList("C", "B", "A", "B", "A", "C"),
+                NativeEqualsChecker.<String> getInstance()).editScript();
+
+        Assert.assertEquals(5, edits.size());
+    }
+
+    @Test
+    public void testEditScript_replacementAndDeletion() {
+        Assert.assertEquals(Arrays.asList("delete expected[1]=2", "insert found[1]=7", "delete expected[3]=4"),
+                SequenceDiff.of(new long[] { 1, 2, 3, 4, 5 }, new long[] { 1, 7, 3, 5 }, null).editScript());
+    }
+
+    @Test
+    public void testEditScript_limit() {
+        int[] expected = new int[1000];
+        int[] found = new int[1000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i;
+            found[i] = -i - 1;
+        }
+
+        Assert.assertNull(SequenceDiff.of(expected, found, null).editScript());
+        Assert.assertEquals(" - no edit script within the limit of 64 insertions and deletions",
+                SequenceDiff.of(expected, found, null).describe());
+    }
+
+    @Test
+    public void testEditScript_comparisonBudget() {
+        /* an alphabet of two values gives long snakes, first and last elements differ so the prefix and suffix
+         * scans cost one comparison each */
+        final int[] expected = new int[20000];
+        final int[] found = new int[20000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (i * 7 / 3) & 1;
+            found[i] = (i * 5 / 2) & 1;
+        }
+        expected[0] = 0;
+        found[0] = 1;
+        expected[expected.length - 1] = 0;
+        found[found.length - 1] = 1;
+        final int[] comparisons = new int[1];
+        SequenceDiff diff = new SequenceDiff(expected.length, found.length) {
+
+            @Override
+            boolean equal(final int expectedIndex, final int foundIndex) {
+                comparisons[0]++;
+                return expected[expectedIndex] == found[foundIndex];
+            }
+
+            @Override
+            String expectedElement(final int index) {
+                return String.valueOf(expected[index]);
+            }
+
+            @Override
+            String foundElement(final int index) {
+                return String.valueOf(found[index]);
+            }
+        };
+
+        Assert.assertNull(diff.editScript(1000));
+        Assert.assertEquals(2 + 1000, comparisons[0]);
+    }
+
+}
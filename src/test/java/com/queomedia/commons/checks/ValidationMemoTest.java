@@ -0,0 +1,117 @@
+package com.queomedia.commons.checks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.queomedia.commons.exceptions.ConstraintViolationException;
+
+public class ValidationMemoTest {
+
+    @After
+    public void tearDown() {
+        ValidationMemo.setCapacity(ValidationMemo.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * The tests modify marked collections after the first check (which is not allowed), to see that the second check
+     * is answered by the memo.
+     */
+    @Test
+    public void testNotNullElementArgument_memorized() {
+        List<String> marked = ValidationMemo.markImmutable(new ArrayList<String>(Arrays.asList("a", "b")));
+        Check.notNullElementArgument(marked, "marked");
+
+        marked.add(null);
+        Check.notNullElementArgument(marked, "marked");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotNullElementArgument_notMarked() {
+        List<String> notMarked = new ArrayList<String>(Arrays.asList("a", "b"));
+        Check.notNullElementArgument(notMarked, "notMarked");
+
+        notMarked.add(null);
+        Check.notNullElementArgument(notMarked, "notMarked");
+    }
+
+    @Test
+    public void testUniqueElements_memorized() {
+        List<String> marked = ValidationMemo.markImmutable(new ArrayList<String>(Arrays.asList("a", "b")));
+        Check.uniqueElements(marked);
+
+        marked.add("a");
+        Check.uniqueElements(marked);
+        Check.uniqueElementsArgument(marked, "marked");
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testUniqueElements_memorizedOnlyForNativeEquals() {
+        List<Integer> marked = ValidationMemo.markImmutable(new ArrayList<Integer>(Arrays.asList(1, 2)));
+        Check.uniqueElements(marked, IntegerEqualsChecker.INSTANCHE);
+
+        marked.add(1);
+        Check.uniqueElements(marked, IntegerEqualsChecker.INSTANCHE);
+    }
+
+    @Test
+    public void testContainsExact_memorized() {
+        List<String> expected = ValidationMemo.markImmutable(new ArrayList<String>(Arrays.asList("a", "b")));
+        List<String> found = ValidationMemo.markImmutable(new ArrayList<String>(Arrays.asList("b", "a")));
+        Check.containsExact(expected, found);
+
+        found.set(0, "c");
+        Check.containsExact(expected, found);
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testContainsExact_otherExpected() {
+        List<String> expected = ValidationMemo.markImmutable(new ArrayList<String>(Arrays.asList("a", "b")));
+        List<String> found = ValidationMemo.markImmutable(new ArrayList<String>(Arrays.asList("b", "a")));
+        Check.containsExact(expected, found);
+
+        Check.containsExact(Arrays.asList("a", "c"), found);
+    }
+
+    @Test
+    public void testCapacity_bounded() {
+        ValidationMemo.setCapacity(10);
+        Assert.assertEquals(16, ValidationMemo.getCapacity());
+
+        List<List<String>> collections = new ArrayList<List<String>>();
+        for (int i = 0; i < 100; i++) {
+            collections.add(ValidationMemo.markImmutable(new ArrayList<String>()));
+        }
+        int marked = 0;
+        for (List<String> collection : collections) {
+            if (ValidationMemo.isMarkedImmutable(collection)) {
+                marked++;
+            }
+        }
+        Assert.assertTrue("marked: " + marked, (marked > 0) && (marked <= 16));
+        Assert.assertTrue(ValidationMemo.isMarkedImmutable(collections.get(99)));
+
+        ValidationMemo.clear();
+        Assert.assertFalse(ValidationMemo.isMarkedImmutable(collections.get(99)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetCapacity_tooLarge() {
+        ValidationMemo.setCapacity(Integer.MAX_VALUE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetCapacity_tooLargeInactiveArgumentChecks() {
+        Check.setActiveArgumentCheck(false);
+        try {
+            ValidationMemo.setCapacity((1 << 30) + 1);
+        } finally {
+            Check.setActiveArgumentCheck(true);
+        }
+    }
+
+}
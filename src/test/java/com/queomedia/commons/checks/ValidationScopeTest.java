@@ -0,0 +1,76 @@
+package com.queomedia.commons.checks;
+
+import java.util.concurrent.Callable;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ValidationScopeTest {
+
+    @Test
+    public void testRun_collect() {
+        ValidationScope scope = new ValidationScope(ValidationScope.Mode.COLLECT, 2);
+        scope.run(new Runnable() {
+
+            @Override
+            public void run() {
+                Check.notNullArgument(null, "a");
+                Check.notZeroArgument(0, "b");
+                Check.notNegativeArgument(-1, "c");
+                Check.notNegativeArgument(1, "d");
+            }
+        });
+
+        Assert.assertEquals(3, scope.getViolationCount());
+        Assert.assertEquals(2, scope.getViolations().size());
+        Assert.assertNull(ValidationScope.current());
+    }
+
+    @Test
+    public void testRun_relax() {
+        ValidationScope scope = new ValidationScope(ValidationScope.Mode.RELAX, 10);
+        scope.run(new Runnable() {
+
+            @Override
+            public void run() {
+                Check.notZeroArgument(0, "a");
+            }
+        });
+
+        Assert.assertTrue(scope.hasViolations());
+        Assert.assertTrue(scope.getViolations().isEmpty());
+    }
+
+    @Test
+    public void testCall_nested() throws Exception {
+        final ValidationScope outer = new ValidationScope(ValidationScope.Mode.COLLECT, 10);
+        final ValidationScope inner = new ValidationScope(ValidationScope.Mode.COLLECT, 10);
+        outer.call(new Callable<Void>() {
+
+            @Override
+            public Void call() throws Exception {
+                inner.call(new Callable<Void>() {
+
+                    @Override
+                    public Void call() {
+                        Check.notZeroArgument(0, "a");
+                        return null;
+                    }
+                });
+                Assert.assertSame(outer, ValidationScope.current());
+                Check.notZeroArgument(0, "b");
+                return null;
+            }
+        });
+
+        Assert.assertEquals(1, inner.getViolationCount());
+        Assert.assertEquals(1, outer.getViolationCount());
+        Assert.assertNull(ValidationScope.current());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOutsideScope() {
+        Check.notZeroArgument(0, "a");
+    }
+
+}